@@ -0,0 +1,24 @@
+#!/bin/sh
+# Prepara o primário para a réplica de streaming (docker-compose --profile replica).
+# Roda sozinho na criação do volume (docker-entrypoint-initdb.d); num volume
+# existente: docker-compose exec postgres sh /docker-entrypoint-initdb.d/10-replicacao.sh
+set -e
+
+REPLICA_USER="${REPLICA_USER:-replicador}"
+REPLICA_PASSWORD="${REPLICA_PASSWORD:-replicador}"
+
+psql -v ON_ERROR_STOP=1 --username "$POSTGRES_USER" --dbname "$POSTGRES_DB" <<EOSQL
+DO \$\$
+BEGIN
+    IF NOT EXISTS (SELECT FROM pg_roles WHERE rolname = '${REPLICA_USER}') THEN
+        CREATE ROLE "${REPLICA_USER}" WITH REPLICATION LOGIN PASSWORD '${REPLICA_PASSWORD}';
+    END IF;
+END
+\$\$;
+EOSQL
+
+if ! grep -q "replication ${REPLICA_USER}" "$PGDATA/pg_hba.conf"; then
+    echo "host replication ${REPLICA_USER} all scram-sha-256" >> "$PGDATA/pg_hba.conf"
+fi
+
+psql --username "$POSTGRES_USER" --dbname "$POSTGRES_DB" -c "SELECT pg_reload_conf();" > /dev/null
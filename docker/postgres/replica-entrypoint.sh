@@ -0,0 +1,19 @@
+#!/bin/sh
+# Réplica de streaming do serviço postgres (docker-compose --profile replica).
+# Na primeira subida copia o primário com pg_basebackup -R (gera
+# standby.signal e primary_conninfo); depois apenas inicia em hot standby.
+set -e
+
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+    echo "Copiando o primário (${PRIMARIO_HOST:-postgres})..."
+    until PGPASSWORD="${REPLICA_PASSWORD:-replicador}" pg_basebackup \
+            -h "${PRIMARIO_HOST:-postgres}" -p 5432 -U "${REPLICA_USER:-replicador}" \
+            -D "$PGDATA" -X stream -R -c fast; do
+        echo "Primário indisponível, nova tentativa em 2s"
+        rm -rf "${PGDATA:?}"/*
+        sleep 2
+    done
+    chmod 0700 "$PGDATA"
+fi
+
+exec postgres -c hot_standby=on
@@ -0,0 +1,230 @@
+package com.barbearia.carga;
+
+import com.barbearia.carga.GeradorMassaDados.BarbeariaGerada;
+import com.barbearia.carga.GeradorMassaDados.MassaDados;
+import com.barbearia.carga.GeradorMassaDados.ProfissionalGerado;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mix de tráfego executado por cada usuário virtual.
+ *
+ * Três jornadas, sorteadas a cada iteração:
+ * - 60% fluxo do cliente: busca/catálogo → disponibilidade → agendamento →
+ *   cancelamento (40% dos agendamentos criados)
+ * - 25% dashboards: painel do profissional e métricas da barbearia
+ * - 15% relatórios financeiros e de comissões
+ *
+ * Cada usuário virtual usa um cliente próprio e um gerador aleatório derivado
+ * da semente, então a sequência de requisições é reproduzível (apenas a
+ * intercalação entre usuários varia).
+ */
+final class CenariosCarga {
+
+    static final String ENDPOINT_AGENDAR = "POST /api/agendamentos";
+    static final String ENDPOINT_AGENDAMENTO_REJEITADO = "POST /api/agendamentos [horário ocupado]";
+    static final String HEADER_CONSULTAS_SQL = "X-Sql-Consultas";
+
+    private final String urlBase;
+    private final MassaDados massa;
+    private final ConfiguracaoCarga configuracao;
+    private final RegistroLatencias registro;
+    private final HttpClient http;
+    private final ObjectMapper json = new ObjectMapper();
+    private final Map<Long, String> tokensBarbearia = new ConcurrentHashMap<>();
+
+    CenariosCarga(String urlBase, MassaDados massa, ConfiguracaoCarga configuracao, RegistroLatencias registro) {
+        this.urlBase = urlBase;
+        this.massa = massa;
+        this.configuracao = configuracao;
+        this.registro = registro;
+        this.http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * Laço de um usuário virtual; termina quando a thread é interrompida.
+     */
+    void executarUsuario(int numero) {
+        Random aleatorio = new Random(configuracao.semente() * 31 + numero);
+        String emailCliente = ConfiguracaoCarga.emailCliente(1 + numero % massa.clientes());
+        String tokenCliente = login("POST /api/auth/cliente/login", "/api/auth/cliente/login", emailCliente);
+        if (tokenCliente == null) {
+            System.err.println("Login do usuário virtual " + numero + " falhou; usuário descartado");
+            return;
+        }
+
+        while (!Thread.currentThread().isInterrupted()) {
+            BarbeariaGerada barbearia = massa.barbearias().get(aleatorio.nextInt(massa.barbearias().size()));
+            int jornada = aleatorio.nextInt(100);
+            if (jornada < 60) {
+                fluxoCliente(barbearia, tokenCliente, aleatorio);
+            } else if (jornada < 85) {
+                dashboards(barbearia, aleatorio);
+            } else {
+                relatorios(barbearia, aleatorio);
+            }
+        }
+    }
+
+    private void fluxoCliente(BarbeariaGerada barbearia, String tokenCliente, Random aleatorio) {
+        if (aleatorio.nextInt(100) < 30) {
+            get("GET /api/clientes/barbearias/busca", String.format(Locale.ROOT,
+                    "/api/clientes/barbearias/busca?texto=carga&latitude=%.4f&longitude=%.4f&raioKm=15",
+                    -23.55 + (aleatorio.nextDouble() - 0.5) * 0.2, -46.63 + (aleatorio.nextDouble() - 0.5) * 0.2),
+                    tokenCliente);
+            pausar(aleatorio);
+        }
+
+        get("GET /api/barbearias/{id}/catalogo", "/api/barbearias/" + barbearia.id() + "/catalogo", tokenCliente);
+        pausar(aleatorio);
+
+        Long servicoId = barbearia.servicoIds().get(aleatorio.nextInt(barbearia.servicoIds().size()));
+        LocalDate data = proximoDiaUtil(LocalDate.now().plusDays(1 + aleatorio.nextInt(7)));
+        JsonNode horarios = get("GET /api/barbearias/{id}/servicos/{id}/horarios-disponiveis",
+                "/api/barbearias/" + barbearia.id() + "/servicos/" + servicoId
+                        + "/horarios-disponiveis?data=" + data, tokenCliente);
+        pausar(aleatorio);
+
+        if (horarios == null || !horarios.isArray() || horarios.isEmpty()) {
+            return;
+        }
+        JsonNode horario = horarios.get(aleatorio.nextInt(horarios.size()));
+        String corpo = String.format("{\"servicoId\":%d,\"funcionarioId\":%d,\"dataHora\":\"%sT%s\"}",
+                servicoId, horario.get("funcionarioId").asLong(), horario.get("data").asText(),
+                horario.get("horarioInicio").asText());
+
+        HttpResponse<String> resposta = enviar(ENDPOINT_AGENDAR, requisicao("/api/agendamentos", tokenCliente)
+                .POST(HttpRequest.BodyPublishers.ofString(corpo)).build(), true);
+        if (resposta == null || resposta.statusCode() != 201) {
+            return;
+        }
+        pausar(aleatorio);
+
+        if (aleatorio.nextInt(100) < 40) {
+            long agendamentoId = ler(resposta).get("id").asLong();
+            enviar("POST /api/agendamentos/{id}/cancelar",
+                    requisicao("/api/agendamentos/" + agendamentoId + "/cancelar", tokenCliente)
+                            .POST(HttpRequest.BodyPublishers.noBody()).build(), false);
+        }
+    }
+
+    private void dashboards(BarbeariaGerada barbearia, Random aleatorio) {
+        ProfissionalGerado profissional = barbearia.profissionais()
+                .get(aleatorio.nextInt(barbearia.profissionais().size()));
+        get("GET /api/profissional/{token}", "/api/profissional/" + profissional.accessToken(), null);
+        pausar(aleatorio);
+        get("GET /api/profissional/{token}/agendamentos",
+                "/api/profissional/" + profissional.accessToken() + "/agendamentos", null);
+        pausar(aleatorio);
+        get("GET /api/financeiro/dashboard/metricas", "/api/financeiro/dashboard/metricas", tokenBarbearia(barbearia));
+        pausar(aleatorio);
+    }
+
+    private void relatorios(BarbeariaGerada barbearia, Random aleatorio) {
+        String token = tokenBarbearia(barbearia);
+        get("GET /api/financeiro/relatorios/geral", "/api/financeiro/relatorios/geral?periodo=MES", token);
+        pausar(aleatorio);
+        LocalDate hoje = LocalDate.now();
+        get("GET /api/financeiro/relatorios/comissoes", "/api/financeiro/relatorios/comissoes?dataInicio="
+                + hoje.minusDays(30) + "&dataFim=" + hoje, token);
+        pausar(aleatorio);
+    }
+
+    private String tokenBarbearia(BarbeariaGerada barbearia) {
+        return tokensBarbearia.computeIfAbsent(barbearia.id(),
+                id -> login("POST /api/auth/barbearia/login", "/api/auth/barbearia/login", barbearia.email()));
+    }
+
+    private String login(String endpoint, String caminho, String email) {
+        String corpo = String.format("{\"email\":\"%s\",\"senha\":\"%s\"}", email, ConfiguracaoCarga.SENHA_PADRAO);
+        HttpResponse<String> resposta = enviar(endpoint, requisicao(caminho, null)
+                .POST(HttpRequest.BodyPublishers.ofString(corpo)).build(), false);
+        if (resposta == null || resposta.statusCode() != 200) {
+            return null;
+        }
+        return ler(resposta).get("token").asText();
+    }
+
+    private JsonNode get(String endpoint, String caminho, String token) {
+        HttpResponse<String> resposta = enviar(endpoint, requisicao(caminho, token).GET().build(), false);
+        return resposta != null && resposta.statusCode() == 200 ? ler(resposta) : null;
+    }
+
+    private HttpRequest.Builder requisicao(String caminho, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(urlBase + caminho))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    /**
+     * Envia a requisição e registra sua latência. No agendamento, a recusa
+     * por horário já ocupado (concorrência entre usuários) é um resultado
+     * esperado e vai para uma linha própria do relatório.
+     *
+     * As consultas SQL vêm do header X-Sql-Consultas devolvido pela própria
+     * aplicação (contagem por requisição, válida também sob concorrência).
+     */
+    private HttpResponse<String> enviar(String endpoint, HttpRequest requisicao, boolean agendamento) {
+        long inicio = System.nanoTime();
+        try {
+            HttpResponse<String> resposta = http.send(requisicao, HttpResponse.BodyHandlers.ofString());
+            long duracao = System.nanoTime() - inicio;
+            int status = resposta.statusCode();
+            boolean rejeitado = agendamento && (status == 400 || status == 409);
+            String linha = rejeitado ? ENDPOINT_AGENDAMENTO_REJEITADO : endpoint;
+            registro.registrar(linha, duracao, rejeitado || (status >= 200 && status < 300));
+            resposta.headers().firstValueAsLong(HEADER_CONSULTAS_SQL)
+                    .ifPresent(quantidade -> registro.registrarConsultas(linha, quantidade));
+            return resposta;
+        } catch (IOException e) {
+            registro.registrar(endpoint, System.nanoTime() - inicio, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private JsonNode ler(HttpResponse<String> resposta) {
+        try {
+            return json.readTree(resposta.body());
+        } catch (IOException e) {
+            throw new IllegalStateException("Resposta inválida: " + resposta.body(), e);
+        }
+    }
+
+    private void pausar(Random aleatorio) {
+        if (configuracao.pausaMs() <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(configuracao.pausaMs() / 2 + aleatorio.nextInt(configuracao.pausaMs()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static LocalDate proximoDiaUtil(LocalDate data) {
+        return data.getDayOfWeek() == DayOfWeek.SUNDAY ? data.plusDays(1) : data;
+    }
+}
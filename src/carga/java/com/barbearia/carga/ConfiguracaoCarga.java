@@ -0,0 +1,75 @@
+package com.barbearia.carga;
+
+import java.nio.file.Path;
+
+/**
+ * Parâmetros de um teste de carga.
+ *
+ * Todos os valores podem ser sobrescritos por propriedades de sistema
+ * (-Dcarga.barbearias=50, por exemplo). A massa de dados depende apenas dos
+ * parâmetros de volume e da semente, então a mesma configuração sempre gera
+ * o mesmo banco.
+ *
+ * @param barbearias                Quantidade de barbearias geradas
+ * @param profissionaisPorBarbearia Profissionais ativos em cada barbearia
+ * @param servicosPorBarbearia      Serviços no catálogo de cada barbearia
+ * @param clientes                  Clientes cadastrados (compartilhados entre as barbearias)
+ * @param agendamentosPorDia        Agendamentos por profissional em cada dia útil do histórico
+ * @param diasHistorico             Dias de histórico de agendamentos (um ano por padrão)
+ * @param semente                   Semente da geração de dados e do tráfego
+ * @param usuariosVirtuais          Usuários simultâneos durante a medição
+ * @param aquecimentoSegundos       Duração do aquecimento (não entra no relatório)
+ * @param duracaoSegundos           Duração da medição
+ * @param pausaMs                   Pausa média entre passos de um mesmo usuário
+ * @param twilioLatenciaMs          Latência simulada do envio de WhatsApp
+ * @param threadsVirtuais           Modo de execução da aplicação (threads virtuais ou de plataforma)
+ * @param saida                     Diretório dos relatórios
+ */
+record ConfiguracaoCarga(
+        int barbearias,
+        int profissionaisPorBarbearia,
+        int servicosPorBarbearia,
+        int clientes,
+        int agendamentosPorDia,
+        int diasHistorico,
+        long semente,
+        int usuariosVirtuais,
+        int aquecimentoSegundos,
+        int duracaoSegundos,
+        int pausaMs,
+        int twilioLatenciaMs,
+        boolean threadsVirtuais,
+        Path saida) {
+
+    static final String SENHA_PADRAO = "carga123";
+
+    static ConfiguracaoCarga doSistema() {
+        return new ConfiguracaoCarga(
+                inteiro("carga.barbearias", 20),
+                inteiro("carga.profissionais-por-barbearia", 5),
+                inteiro("carga.servicos-por-barbearia", 6),
+                inteiro("carga.clientes", 2000),
+                inteiro("carga.agendamentos-por-dia", 8),
+                inteiro("carga.dias-historico", 365),
+                Long.getLong("carga.semente", 42L),
+                inteiro("carga.usuarios-virtuais", 50),
+                inteiro("carga.aquecimento-segundos", 15),
+                inteiro("carga.duracao-segundos", 120),
+                inteiro("carga.pausa-ms", 100),
+                inteiro("carga.twilio.latencia-ms", 150),
+                Boolean.parseBoolean(System.getProperty("carga.threads-virtuais", "true")),
+                Path.of(System.getProperty("carga.saida", "target/carga")));
+    }
+
+    static String emailBarbearia(int indice) {
+        return "barbearia" + indice + "@carga.local";
+    }
+
+    static String emailCliente(int indice) {
+        return "cliente" + indice + "@carga.local";
+    }
+
+    private static int inteiro(String propriedade, int padrao) {
+        return Integer.getInteger(propriedade, padrao);
+    }
+}
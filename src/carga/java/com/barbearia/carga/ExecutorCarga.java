@@ -0,0 +1,77 @@
+package com.barbearia.carga;
+
+import com.barbearia.SuaBarbeariaApplication;
+import com.barbearia.carga.GeradorMassaDados.MassaDados;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ponto de entrada dos testes de carga (perfil Maven "carga").
+ *
+ * Etapas:
+ * 1. Sobe a aplicação completa com o perfil Spring "carga" (Twilio simulado),
+ *    com threads virtuais ou de plataforma (carga.threads-virtuais)
+ * 2. Gera a massa de dados, se o banco ainda não a possui
+ * 3. Executa o mix de tráfego com N usuários virtuais (aquecimento + medição)
+ * 4. Imprime p50/p95/p99 e consultas SQL médias por endpoint e grava o CSV
+ *    em carga.saida, junto com throughput, heap e threads da execução
+ *    (comparacao.csv acumula uma linha por execução)
+ *
+ * Uso: mvn -P carga test-compile exec:exec@carga
+ *      mvn -P carga test-compile exec:exec@carga -Dcarga.threads-virtuais=false
+ */
+public final class ExecutorCarga {
+
+    private ExecutorCarga() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        ConfiguracaoCarga configuracao = ConfiguracaoCarga.doSistema();
+
+        try (ConfigurableApplicationContext contexto = new SpringApplicationBuilder(SuaBarbeariaApplication.class)
+                .properties("spring.config.name=carga",
+                        "spring.threads.virtual.enabled=" + configuracao.threadsVirtuais())
+                .run(args)) {
+
+            int porta = contexto.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            MassaDados massa = new GeradorMassaDados(configuracao, contexto).prepararMassa();
+
+            RegistroLatencias registro = new RegistroLatencias();
+            MonitorRecursos recursos = new MonitorRecursos();
+            CenariosCarga cenarios = new CenariosCarga("http://localhost:" + porta, massa, configuracao, registro);
+
+            System.out.printf("Executando %d usuários virtuais: %d s de aquecimento + %d s de medição%n",
+                    configuracao.usuariosVirtuais(), configuracao.aquecimentoSegundos(),
+                    configuracao.duracaoSegundos());
+
+            double segundosMedidos;
+            ExecutorService usuarios = Executors.newVirtualThreadPerTaskExecutor();
+            try {
+                for (int numero = 0; numero < configuracao.usuariosVirtuais(); numero++) {
+                    int usuario = numero;
+                    usuarios.submit(() -> cenarios.executarUsuario(usuario));
+                }
+
+                Thread.sleep(TimeUnit.SECONDS.toMillis(configuracao.aquecimentoSegundos()));
+                registro.reiniciar();
+                recursos.iniciar();
+                long inicio = System.nanoTime();
+                Thread.sleep(TimeUnit.SECONDS.toMillis(configuracao.duracaoSegundos()));
+                registro.encerrar();
+                recursos.encerrar();
+                segundosMedidos = (System.nanoTime() - inicio) / 1_000_000_000.0;
+            } finally {
+                usuarios.shutdownNow();
+                usuarios.awaitTermination(30, TimeUnit.SECONDS);
+            }
+
+            registro.relatar(configuracao.saida(), segundosMedidos,
+                    contexto.getBean(TwilioSimulado.class).mensagensEnviadas());
+            recursos.relatar(configuracao.saida(), configuracao, registro.totalRequisicoes(), segundosMedidos);
+        }
+    }
+}
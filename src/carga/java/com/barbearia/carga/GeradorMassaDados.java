@@ -0,0 +1,298 @@
+package com.barbearia.carga;
+
+import com.barbearia.adapters.mappers.AgendamentoMapper;
+import com.barbearia.adapters.mappers.BarbeariaMapper;
+import com.barbearia.adapters.mappers.ClienteMapper;
+import com.barbearia.application.dto.BarbeariaRequestDto;
+import com.barbearia.application.factories.AgendamentoFactory;
+import com.barbearia.application.factories.JpaServicoFactory;
+import com.barbearia.application.factories.UsuarioFactory;
+import com.barbearia.domain.enums.StatusAgendamento;
+import com.barbearia.domain.enums.TipoDocumento;
+import com.barbearia.domain.enums.TipoPerfil;
+import com.barbearia.infrastructure.persistence.entities.JpaAgendamento;
+import com.barbearia.infrastructure.persistence.entities.JpaBarbearia;
+import com.barbearia.infrastructure.persistence.entities.JpaCliente;
+import com.barbearia.infrastructure.persistence.entities.JpaFuncionario;
+import com.barbearia.infrastructure.persistence.entities.JpaHorarioBloqueado;
+import com.barbearia.infrastructure.persistence.entities.JpaHorarioFuncionamento;
+import com.barbearia.infrastructure.persistence.entities.JpaProfissionalServico;
+import com.barbearia.infrastructure.persistence.entities.JpaServico;
+import com.barbearia.infrastructure.persistence.repositories.AgendamentoRepository;
+import com.barbearia.infrastructure.persistence.repositories.BarbeariaRepository;
+import com.barbearia.infrastructure.persistence.repositories.ClienteRepository;
+import com.barbearia.infrastructure.persistence.repositories.FuncionarioRepository;
+import com.barbearia.infrastructure.persistence.repositories.HorarioBloqueadoRepository;
+import com.barbearia.infrastructure.persistence.repositories.HorarioFuncionamentoRepository;
+import com.barbearia.infrastructure.persistence.repositories.ProfissionalServicoRepository;
+import com.barbearia.infrastructure.persistence.repositories.ServicoRepository;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Gera a massa de dados dos testes de carga diretamente pelos repositórios.
+ *
+ * Usa as mesmas factories e mappers da aplicação (UsuarioFactory,
+ * JpaServicoFactory, AgendamentoFactory), de modo que os registros passam
+ * pelas validações de domínio. Toda escolha aleatória vem da semente da
+ * configuração: a mesma configuração gera sempre o mesmo banco.
+ *
+ * Se a massa já existe (primeira barbearia encontrada), a geração é pulada e
+ * apenas os identificadores são carregados.
+ */
+final class GeradorMassaDados {
+
+    private static final String[] TIPOS_SERVICO = {
+            "CORTE", "BARBA", "MANICURE", "SOBRANCELHA", "COLORACAO", "TRATAMENTO_CAPILAR"
+    };
+    private static final LocalTime ABERTURA = LocalTime.of(9, 0);
+    private static final int HORARIOS_POR_DIA = 10;
+    private static final int DIAS_FUTUROS = 14;
+    private static final int DIAS_BLOQUEIOS = 30;
+    private static final int TAMANHO_LOTE = 1000;
+
+    private final ConfiguracaoCarga configuracao;
+    private final BarbeariaRepository barbeariaRepository;
+    private final ServicoRepository servicoRepository;
+    private final FuncionarioRepository funcionarioRepository;
+    private final ProfissionalServicoRepository profissionalServicoRepository;
+    private final HorarioFuncionamentoRepository horarioFuncionamentoRepository;
+    private final HorarioBloqueadoRepository horarioBloqueadoRepository;
+    private final ClienteRepository clienteRepository;
+    private final AgendamentoRepository agendamentoRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    GeradorMassaDados(ConfiguracaoCarga configuracao, ApplicationContext contexto) {
+        this.configuracao = configuracao;
+        this.barbeariaRepository = contexto.getBean(BarbeariaRepository.class);
+        this.servicoRepository = contexto.getBean(ServicoRepository.class);
+        this.funcionarioRepository = contexto.getBean(FuncionarioRepository.class);
+        this.profissionalServicoRepository = contexto.getBean(ProfissionalServicoRepository.class);
+        this.horarioFuncionamentoRepository = contexto.getBean(HorarioFuncionamentoRepository.class);
+        this.horarioBloqueadoRepository = contexto.getBean(HorarioBloqueadoRepository.class);
+        this.clienteRepository = contexto.getBean(ClienteRepository.class);
+        this.agendamentoRepository = contexto.getBean(AgendamentoRepository.class);
+        this.passwordEncoder = contexto.getBean(PasswordEncoder.class);
+    }
+
+    /**
+     * Massa de dados disponível para o tráfego.
+     */
+    record MassaDados(List<BarbeariaGerada> barbearias, int clientes) {
+    }
+
+    record BarbeariaGerada(Long id, String email, List<Long> servicoIds, List<ProfissionalGerado> profissionais) {
+    }
+
+    record ProfissionalGerado(Long id, String accessToken) {
+    }
+
+    /**
+     * Gera a massa (quando ainda não existe) e devolve seus identificadores.
+     */
+    MassaDados prepararMassa() {
+        if (barbeariaRepository.findByEmail(ConfiguracaoCarga.emailBarbearia(1)).isPresent()) {
+            System.out.println("Massa de dados encontrada no banco, geração ignorada");
+            return carregarMassa();
+        }
+
+        long inicio = System.nanoTime();
+        Random aleatorio = new Random(configuracao.semente());
+        String senhaHash = passwordEncoder.encode(ConfiguracaoCarga.SENHA_PADRAO);
+
+        List<Long> clienteIds = gerarClientes(senhaHash);
+        long totalAgendamentos = 0;
+        for (int indice = 1; indice <= configuracao.barbearias(); indice++) {
+            totalAgendamentos += gerarBarbearia(indice, senhaHash, clienteIds, aleatorio);
+        }
+
+        System.out.printf("Massa gerada: %d barbearias, %d clientes, %d agendamentos em %d s%n",
+                configuracao.barbearias(), clienteIds.size(), totalAgendamentos,
+                (System.nanoTime() - inicio) / 1_000_000_000L);
+        return carregarMassa();
+    }
+
+    private List<Long> gerarClientes(String senhaHash) {
+        List<Long> ids = new ArrayList<>(configuracao.clientes());
+        List<JpaCliente> lote = new ArrayList<>(TAMANHO_LOTE);
+        for (int indice = 1; indice <= configuracao.clientes(); indice++) {
+            lote.add(ClienteMapper.toJpaEntity(UsuarioFactory.criarCliente(
+                    "Cliente Carga " + indice,
+                    ConfiguracaoCarga.emailCliente(indice),
+                    senhaHash,
+                    String.format("119%08d", indice))));
+            if (lote.size() == TAMANHO_LOTE) {
+                clienteRepository.saveAll(lote).forEach(cliente -> ids.add(cliente.getId()));
+                lote.clear();
+            }
+        }
+        clienteRepository.saveAll(lote).forEach(cliente -> ids.add(cliente.getId()));
+        return ids;
+    }
+
+    private long gerarBarbearia(int indice, String senhaHash, List<Long> clienteIds, Random aleatorio) {
+        BarbeariaRequestDto dto = new BarbeariaRequestDto();
+        dto.setNome("Responsável " + indice);
+        dto.setEmail(ConfiguracaoCarga.emailBarbearia(indice));
+        dto.setTelefone(String.format("118%08d", indice));
+        dto.setNomeFantasia("Barbearia Carga " + indice);
+        dto.setTipoDocumento(TipoDocumento.CNPJ);
+        dto.setDocumento(String.format("%014d", indice));
+        dto.setEndereco("Rua da Carga, " + indice + " - São Paulo/SP");
+
+        JpaBarbearia barbearia = BarbeariaMapper.toJpaEntity(UsuarioFactory.criarBarbearia(dto, senhaHash));
+        barbearia.setLatitude(-23.55 + (aleatorio.nextDouble() - 0.5) * 0.4);
+        barbearia.setLongitude(-46.63 + (aleatorio.nextDouble() - 0.5) * 0.4);
+        Long barbeariaId = barbeariaRepository.save(barbearia).getId();
+
+        List<JpaServico> servicos = new ArrayList<>();
+        for (int s = 0; s < configuracao.servicosPorBarbearia(); s++) {
+            String tipo = TIPOS_SERVICO[s % TIPOS_SERVICO.length];
+            JpaServico servico = JpaServicoFactory.criar(tipo);
+            servico.setBarbeariaId(barbeariaId);
+            servico.setNome(tipo.charAt(0) + tipo.substring(1).toLowerCase() + " " + (s + 1));
+            servico.setPreco(BigDecimal.valueOf(30 + aleatorio.nextInt(90)));
+            servico.setDuracao(aleatorio.nextBoolean() ? 30 : 60);
+            servico.setAtivo(true);
+            servicos.add(servico);
+        }
+        servicos = servicoRepository.saveAll(servicos);
+
+        List<JpaHorarioFuncionamento> horarios = new ArrayList<>();
+        for (int dia = 1; dia <= 6; dia++) {
+            horarios.add(new JpaHorarioFuncionamento(barbeariaId, dia, ABERTURA,
+                    ABERTURA.plusHours(HORARIOS_POR_DIA)));
+        }
+        horarioFuncionamentoRepository.saveAll(horarios);
+
+        TipoPerfil[] perfis = TipoPerfil.values();
+        List<JpaFuncionario> funcionarios = new ArrayList<>();
+        for (int p = 1; p <= configuracao.profissionaisPorBarbearia(); p++) {
+            JpaFuncionario funcionario = new JpaFuncionario();
+            funcionario.setBarbeariaId(barbeariaId);
+            funcionario.setNome("Profissional " + indice + "." + p);
+            funcionario.setEmail("profissional" + indice + "." + p + "@carga.local");
+            funcionario.setTelefone(String.format("117%05d%03d", indice, p));
+            funcionario.setPerfilType(perfis[p % perfis.length]);
+            funcionario.setAtivo(true);
+            funcionario.setAccessToken(new UUID(aleatorio.nextLong(), aleatorio.nextLong()).toString());
+            funcionario.setTokenAtivo(true);
+            funcionario.setTokenGeradoEm(LocalDateTime.now());
+            funcionarios.add(funcionario);
+        }
+        funcionarios = funcionarioRepository.saveAll(funcionarios);
+
+        List<JpaProfissionalServico> vinculos = new ArrayList<>();
+        List<JpaHorarioBloqueado> bloqueios = new ArrayList<>();
+        LocalDate hoje = LocalDate.now();
+        for (JpaFuncionario funcionario : funcionarios) {
+            for (JpaServico servico : servicos) {
+                JpaProfissionalServico vinculo = new JpaProfissionalServico(funcionario.getId(), servico.getId());
+                vinculo.setAtivo(true);
+                vinculos.add(vinculo);
+            }
+            for (int d = 0; d < DIAS_BLOQUEIOS; d++) {
+                bloqueios.add(new JpaHorarioBloqueado(funcionario.getId(), hoje.plusDays(d),
+                        LocalTime.of(12, 0), LocalTime.of(13, 0), "Almoço", "PROFISSIONAL"));
+            }
+        }
+        profissionalServicoRepository.saveAll(vinculos);
+        horarioBloqueadoRepository.saveAll(bloqueios);
+
+        return gerarAgendamentos(barbeariaId, servicos, funcionarios, clienteIds, aleatorio);
+    }
+
+    /**
+     * Um ano de histórico (concluídos, cancelados e faltas) mais as próximas
+     * duas semanas com ocupação parcial, para que a disponibilidade tenha
+     * lacunas reais a calcular.
+     */
+    private long gerarAgendamentos(Long barbeariaId, List<JpaServico> servicos, List<JpaFuncionario> funcionarios,
+            List<Long> clienteIds, Random aleatorio) {
+        List<Integer> horariosDoDia = new ArrayList<>();
+        for (int h = 0; h < HORARIOS_POR_DIA; h++) {
+            horariosDoDia.add(h);
+        }
+
+        List<JpaAgendamento> lote = new ArrayList<>(TAMANHO_LOTE);
+        long total = 0;
+        LocalDate hoje = LocalDate.now();
+        for (int d = -configuracao.diasHistorico(); d <= DIAS_FUTUROS; d++) {
+            LocalDate data = hoje.plusDays(d);
+            if (data.getDayOfWeek() == DayOfWeek.SUNDAY || d == 0) {
+                continue;
+            }
+            boolean futuro = d > 0;
+            int porDia = Math.min(HORARIOS_POR_DIA,
+                    futuro ? Math.max(1, configuracao.agendamentosPorDia() / 2) : configuracao.agendamentosPorDia());
+
+            for (JpaFuncionario funcionario : funcionarios) {
+                Collections.shuffle(horariosDoDia, aleatorio);
+                for (int i = 0; i < porDia; i++) {
+                    int hora = horariosDoDia.get(i);
+                    if (futuro && hora == 3) {
+                        continue; // 12:00 está bloqueado para almoço
+                    }
+                    LocalDateTime dataHora = LocalDateTime.of(data, ABERTURA.plusHours(hora));
+                    lote.add(AgendamentoMapper.toJpa(AgendamentoFactory.criarAgendamentoHistorico(
+                            clienteIds.get(aleatorio.nextInt(clienteIds.size())),
+                            barbeariaId,
+                            servicos.get(aleatorio.nextInt(servicos.size())).getId(),
+                            funcionario.getId(),
+                            dataHora,
+                            sortearStatus(futuro, aleatorio),
+                            dataHora.minusDays(1 + aleatorio.nextInt(10)))));
+                    if (lote.size() == TAMANHO_LOTE) {
+                        agendamentoRepository.saveAll(lote);
+                        total += lote.size();
+                        lote.clear();
+                    }
+                }
+            }
+        }
+        agendamentoRepository.saveAll(lote);
+        return total + lote.size();
+    }
+
+    private StatusAgendamento sortearStatus(boolean futuro, Random aleatorio) {
+        int sorteio = aleatorio.nextInt(100);
+        if (futuro) {
+            return sorteio < 70 ? StatusAgendamento.CONFIRMADO : StatusAgendamento.PENDENTE;
+        }
+        if (sorteio < 85) {
+            return StatusAgendamento.CONCLUIDO;
+        }
+        return sorteio < 95 ? StatusAgendamento.CANCELADO : StatusAgendamento.FALTOU;
+    }
+
+    private MassaDados carregarMassa() {
+        List<BarbeariaGerada> barbearias = new ArrayList<>();
+        for (int indice = 1; indice <= configuracao.barbearias(); indice++) {
+            String email = ConfiguracaoCarga.emailBarbearia(indice);
+            JpaBarbearia barbearia = barbeariaRepository.findByEmail(email)
+                    .orElseThrow(() -> new IllegalStateException(
+                            "Massa de dados incompleta: " + email + " não encontrada. Recrie o banco de carga."));
+
+            List<Long> servicoIds = servicoRepository.findByBarbeariaIdAndAtivoTrue(barbearia.getId()).stream()
+                    .map(JpaServico::getId)
+                    .toList();
+            List<ProfissionalGerado> profissionais = funcionarioRepository
+                    .findByBarbeariaIdAndAtivoTrue(barbearia.getId()).stream()
+                    .map(funcionario -> new ProfissionalGerado(funcionario.getId(), funcionario.getAccessToken()))
+                    .toList();
+            barbearias.add(new BarbeariaGerada(barbearia.getId(), email, servicoIds, profissionais));
+        }
+        return new MassaDados(barbearias, configuracao.clientes());
+    }
+}
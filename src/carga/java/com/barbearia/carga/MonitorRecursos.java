@@ -0,0 +1,98 @@
+package com.barbearia.carga;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Amostra memória e threads da JVM durante a medição, para comparar o modo
+ * de threads virtuais com o de threads de plataforma.
+ *
+ * A aplicação e o gerador de carga dividem a mesma JVM; o gerador é igual
+ * nos dois modos, então a diferença entre execuções vem da aplicação.
+ */
+final class MonitorRecursos {
+
+    private static final long INTERVALO_MS = 500;
+
+    private final MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    private volatile boolean ativo;
+    private Thread amostrador;
+
+    private long amostras;
+    private long somaHeapBytes;
+    private long maximoHeapBytes;
+    private int maximoThreadsPlataforma;
+
+    /**
+     * Começa a amostragem (descarta amostras anteriores).
+     */
+    synchronized void iniciar() {
+        amostras = 0;
+        somaHeapBytes = 0;
+        maximoHeapBytes = 0;
+        maximoThreadsPlataforma = 0;
+        ativo = true;
+        amostrador = Thread.ofPlatform().daemon().name("carga-monitor-recursos").start(() -> {
+            while (ativo) {
+                amostrar();
+                try {
+                    Thread.sleep(INTERVALO_MS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+    }
+
+    void encerrar() throws InterruptedException {
+        ativo = false;
+        if (amostrador != null) {
+            amostrador.interrupt();
+            amostrador.join();
+        }
+    }
+
+    private synchronized void amostrar() {
+        long heap = memoria.getHeapMemoryUsage().getUsed();
+        amostras++;
+        somaHeapBytes += heap;
+        maximoHeapBytes = Math.max(maximoHeapBytes, heap);
+        // ThreadMXBean conta apenas threads de plataforma
+        maximoThreadsPlataforma = Math.max(maximoThreadsPlataforma, threads.getThreadCount());
+    }
+
+    /**
+     * Imprime o resumo e acrescenta uma linha em saida/comparacao.csv (uma
+     * linha por execução, para comparar os modos).
+     */
+    synchronized void relatar(Path saida, ConfiguracaoCarga configuracao, long requisicoes, double duracaoSegundos)
+            throws IOException {
+        String modo = configuracao.threadsVirtuais() ? "virtuais" : "plataforma";
+        double reqPorSegundo = requisicoes / duracaoSegundos;
+        double heapMedioMb = amostras == 0 ? 0 : somaHeapBytes / (double) amostras / (1024 * 1024);
+        double heapMaximoMb = maximoHeapBytes / (1024.0 * 1024);
+
+        System.out.printf(Locale.ROOT,
+                "Threads %s: %.1f req/s, heap médio %.0f MB, heap máximo %.0f MB, pico de %d threads de plataforma%n",
+                modo, reqPorSegundo, heapMedioMb, heapMaximoMb, maximoThreadsPlataforma);
+
+        Files.createDirectories(saida);
+        Path arquivo = saida.resolve("comparacao.csv");
+        if (Files.notExists(arquivo)) {
+            Files.write(arquivo, List.of("threads,usuarios_virtuais,req_s,heap_medio_mb,heap_maximo_mb,threads_plataforma"));
+        }
+        Files.write(arquivo, List.of(String.format(Locale.ROOT, "%s,%d,%.1f,%.0f,%.0f,%d",
+                modo, configuracao.usuariosVirtuais(), reqPorSegundo, heapMedioMb, heapMaximoMb,
+                maximoThreadsPlataforma)), StandardOpenOption.APPEND);
+        System.out.println("Comparação acrescentada em " + arquivo.toAbsolutePath());
+    }
+}
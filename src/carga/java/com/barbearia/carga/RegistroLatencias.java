@@ -0,0 +1,145 @@
+package com.barbearia.carga;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Acumula as latências por endpoint e gera o relatório final.
+ *
+ * Os endpoints são identificados pelo padrão da rota (ex.:
+ * "GET /api/barbearias/{id}/catalogo"), nunca pela URL concreta, para que
+ * todas as barbearias caiam na mesma linha do relatório.
+ */
+final class RegistroLatencias {
+
+    private final Map<String, Amostras> porEndpoint = new ConcurrentHashMap<>();
+    private final Map<String, long[]> consultas = new ConcurrentHashMap<>();
+    private volatile boolean ativo = true;
+
+    void registrar(String endpoint, long duracaoNanos, boolean sucesso) {
+        if (ativo) {
+            porEndpoint.computeIfAbsent(endpoint, e -> new Amostras()).adicionar(duracaoNanos, sucesso);
+        }
+    }
+
+    /**
+     * Registra as consultas SQL de uma requisição (header X-Sql-Consultas).
+     */
+    void registrarConsultas(String endpoint, long quantidade) {
+        if (!ativo) {
+            return;
+        }
+        consultas.compute(endpoint, (e, total) -> total == null
+                ? new long[] {quantidade, 1}
+                : new long[] {total[0] + quantidade, total[1] + 1});
+    }
+
+    /**
+     * Descarta o que foi medido até agora (fim do aquecimento).
+     */
+    void reiniciar() {
+        porEndpoint.clear();
+        consultas.clear();
+    }
+
+    void encerrar() {
+        ativo = false;
+    }
+
+    /**
+     * Total de requisições medidas, somando todos os endpoints.
+     */
+    long totalRequisicoes() {
+        return porEndpoint.values().stream().mapToLong(Amostras::quantidade).sum();
+    }
+
+    /**
+     * Imprime o relatório e grava o CSV em saida/resultado.csv.
+     */
+    void relatar(Path saida, double duracaoSegundos, long mensagensWhatsApp) throws IOException {
+        List<String> linhasCsv = new ArrayList<>();
+        linhasCsv.add("endpoint,requisicoes,erros,req_s,p50_ms,p95_ms,p99_ms,max_ms,consultas_sql");
+
+        String formato = "%-62s %8s %6s %8s %8s %8s %8s %8s %8s%n";
+        System.out.printf(formato, "endpoint", "req", "erros", "req/s", "p50 ms", "p95 ms", "p99 ms", "máx ms", "SQL/req");
+
+        Map<String, Amostras> ordenado = new TreeMap<>(porEndpoint);
+        ordenado.forEach((endpoint, amostras) -> {
+            long[] duracoes = amostras.ordenadas();
+            long[] totalConsultas = consultas.get(endpoint);
+            String consultasPorRequisicao = totalConsultas != null
+                    ? String.format(Locale.ROOT, "%.1f", (double) totalConsultas[0] / totalConsultas[1])
+                    : "-";
+            String[] colunas = {
+                    String.valueOf(duracoes.length),
+                    String.valueOf(amostras.erros()),
+                    String.format(Locale.ROOT, "%.1f", duracoes.length / duracaoSegundos),
+                    milissegundos(percentil(duracoes, 0.50)),
+                    milissegundos(percentil(duracoes, 0.95)),
+                    milissegundos(percentil(duracoes, 0.99)),
+                    milissegundos(duracoes.length == 0 ? 0 : duracoes[duracoes.length - 1]),
+                    consultasPorRequisicao
+            };
+            System.out.printf(formato, endpoint, colunas[0], colunas[1], colunas[2], colunas[3], colunas[4],
+                    colunas[5], colunas[6], colunas[7]);
+            linhasCsv.add("\"" + endpoint + "\"," + String.join(",", colunas));
+        });
+        System.out.printf("Mensagens WhatsApp simuladas: %d%n", mensagensWhatsApp);
+
+        Files.createDirectories(saida);
+        Path arquivo = saida.resolve("resultado.csv");
+        Files.write(arquivo, linhasCsv);
+        System.out.println("Relatório gravado em " + arquivo.toAbsolutePath());
+    }
+
+    private static long percentil(long[] ordenadas, double percentil) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int posicao = (int) Math.ceil(percentil * ordenadas.length) - 1;
+        return ordenadas[Math.max(0, Math.min(posicao, ordenadas.length - 1))];
+    }
+
+    private static String milissegundos(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+
+    private static final class Amostras {
+
+        private long[] duracoes = new long[1024];
+        private int quantidade;
+        private long erros;
+
+        synchronized void adicionar(long duracaoNanos, boolean sucesso) {
+            if (quantidade == duracoes.length) {
+                duracoes = Arrays.copyOf(duracoes, quantidade * 2);
+            }
+            duracoes[quantidade++] = duracaoNanos;
+            if (!sucesso) {
+                erros++;
+            }
+        }
+
+        synchronized long[] ordenadas() {
+            long[] copia = Arrays.copyOf(duracoes, quantidade);
+            Arrays.sort(copia);
+            return copia;
+        }
+
+        synchronized long erros() {
+            return erros;
+        }
+
+        synchronized long quantidade() {
+            return quantidade;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.barbearia.carga;
+
+import com.barbearia.application.ports.NotificacaoService;
+import com.barbearia.infrastructure.config.ExecucaoConfig;
+import com.barbearia.infrastructure.config.LimitadorConcorrencia;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Substituto local do Twilio durante os testes de carga.
+ *
+ * Nenhuma mensagem sai da máquina: cada envio apenas espera a latência
+ * configurada (simulando a chamada HTTP à API do Twilio) e é contabilizado
+ * para o relatório final. Como no TwilioNotificacaoService, a espera roda em
+ * notificacaoExecutor e dentro de limitadorTwilio, então o custo do envio
+ * aparece na comparação entre threads virtuais e de plataforma.
+ */
+@Component
+@Primary
+@Profile("carga")
+public class TwilioSimulado implements NotificacaoService {
+
+    private final long latenciaMs;
+    private final LimitadorConcorrencia limitadorTwilio;
+    private final AtomicLong mensagensEnviadas = new AtomicLong();
+
+    public TwilioSimulado(@Value("${carga.twilio.latencia-ms:150}") long latenciaMs,
+            LimitadorConcorrencia limitadorTwilio) {
+        this.latenciaMs = latenciaMs;
+        this.limitadorTwilio = limitadorTwilio;
+    }
+
+    @Override
+    @Async(ExecucaoConfig.NOTIFICACAO_EXECUTOR)
+    public CompletableFuture<Void> enviarMensagemWhatsApp(String numeroDestino, String mensagem) {
+        try {
+            limitadorTwilio.executar(() -> {
+                Thread.sleep(latenciaMs);
+                return null;
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        mensagensEnviadas.incrementAndGet();
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public boolean isDisponivel() {
+        return true;
+    }
+
+    long mensagensEnviadas() {
+        return mensagensEnviadas.get();
+    }
+}
@@ -0,0 +1,123 @@
+package com.barbearia.benchmarks;
+
+import com.barbearia.domain.enums.StatusAgendamento;
+import com.barbearia.domain.enums.TipoPerfil;
+import com.barbearia.infrastructure.persistence.entities.JpaAgendamento;
+import com.barbearia.infrastructure.persistence.entities.JpaBarbearia;
+import com.barbearia.infrastructure.persistence.entities.JpaFuncionario;
+import com.barbearia.infrastructure.persistence.entities.JpaHorarioFuncionamento;
+import com.barbearia.infrastructure.persistence.entities.JpaProfissionalServico;
+import com.barbearia.infrastructure.persistence.entities.JpaServico;
+import com.barbearia.infrastructure.persistence.entities.JpaServicoCorte;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Dados sintéticos de uma barbearia para os benchmarks.
+ *
+ * A geração usa semente fixa, então execuções diferentes medem exatamente
+ * o mesmo cenário.
+ */
+final class BarbeariaSintetica {
+
+    static final Long BARBEARIA_ID = 1L;
+    static final Long SERVICO_ID = 1L;
+
+    final JpaBarbearia barbearia;
+    final List<JpaServico> servicos = new ArrayList<>();
+    final List<JpaFuncionario> funcionarios = new ArrayList<>();
+    final List<JpaProfissionalServico> vinculos = new ArrayList<>();
+    final List<JpaHorarioFuncionamento> horariosBarbearia = new ArrayList<>();
+    final List<JpaAgendamento> agendamentos = new ArrayList<>();
+
+    /**
+     * @param profissionais          Quantidade de profissionais ativos
+     * @param servicosNoCatalogo     Quantidade de serviços
+     * @param agendamentosPorDia     Agendamentos por profissional e dia
+     * @param dias                   Dias com agendamentos a partir de dataInicial
+     * @param dataInicial            Primeiro dia com agendamentos
+     */
+    BarbeariaSintetica(int profissionais, int servicosNoCatalogo, int agendamentosPorDia, int dias,
+            LocalDate dataInicial) {
+        Random aleatorio = new Random(42);
+
+        barbearia = new JpaBarbearia();
+        barbearia.setId(BARBEARIA_ID);
+        barbearia.setNome("Barbearia Benchmark");
+        barbearia.setAtivo(true);
+
+        for (long id = 1; id <= servicosNoCatalogo; id++) {
+            JpaServico servico = new JpaServicoCorte();
+            servico.setId(id);
+            servico.setBarbeariaId(BARBEARIA_ID);
+            servico.setNome("Serviço " + id);
+            servico.setPreco(BigDecimal.valueOf(30 + aleatorio.nextInt(90)));
+            servico.setDuracao(30 + 15 * aleatorio.nextInt(3));
+            servico.setAtivo(true);
+            servicos.add(servico);
+        }
+
+        TipoPerfil[] perfis = TipoPerfil.values();
+        for (long id = 1; id <= profissionais; id++) {
+            JpaFuncionario funcionario = new JpaFuncionario();
+            funcionario.setId(id);
+            funcionario.setBarbeariaId(BARBEARIA_ID);
+            funcionario.setNome("Profissional " + id);
+            funcionario.setEmail("profissional" + id + "@benchmark.com");
+            funcionario.setPerfilType(perfis[(int) (id % perfis.length)]);
+            funcionario.setAtivo(true);
+            funcionarios.add(funcionario);
+
+            JpaProfissionalServico vinculo = new JpaProfissionalServico(id, SERVICO_ID);
+            vinculo.setAtivo(true);
+            vinculos.add(vinculo);
+        }
+
+        // Aberta todos os dias das 08:00 às 20:00 (0 e 7 representam domingo)
+        for (int dia = 0; dia <= 7; dia++) {
+            JpaHorarioFuncionamento horario = new JpaHorarioFuncionamento(BARBEARIA_ID, dia,
+                    LocalTime.of(8, 0), LocalTime.of(20, 0));
+            horario.setAtivo(true);
+            horariosBarbearia.add(horario);
+        }
+
+        long agendamentoId = 1;
+        for (int d = 0; d < dias; d++) {
+            LocalDate data = dataInicial.plusDays(d);
+            for (JpaFuncionario funcionario : funcionarios) {
+                for (int i = 0; i < agendamentosPorDia; i++) {
+                    JpaAgendamento agendamento = new JpaAgendamento();
+                    agendamento.setId(agendamentoId++);
+                    agendamento.setBarbeariaId(BARBEARIA_ID);
+                    agendamento.setBarbeiroId(funcionario.getId());
+                    agendamento.setClienteId(1L + aleatorio.nextInt(500));
+                    agendamento.setServicoId(servicos.get(aleatorio.nextInt(servicos.size())).getId());
+                    agendamento.setDataHora(LocalDateTime.of(data, LocalTime.of(8, 0).plusMinutes(30L * aleatorio.nextInt(24))));
+                    agendamento.setStatus(StatusAgendamento.CONCLUIDO);
+                    agendamento.setObservacoes("Observação " + agendamentoId);
+                    agendamento.setDataCriacao(LocalDateTime.of(data, LocalTime.MIDNIGHT));
+                    agendamento.setDataAtualizacao(LocalDateTime.of(data, LocalTime.MIDNIGHT));
+                    agendamentos.add(agendamento);
+                }
+            }
+        }
+    }
+
+    JpaServico servico(Long id) {
+        return id >= 1 && id <= servicos.size() ? servicos.get((int) (id - 1)) : null;
+    }
+
+    JpaFuncionario funcionario(Long id) {
+        return id >= 1 && id <= funcionarios.size() ? funcionarios.get((int) (id - 1)) : null;
+    }
+
+    JpaHorarioFuncionamento horarioBarbearia(int diaSemana) {
+        return horariosBarbearia.get(diaSemana);
+    }
+}
@@ -0,0 +1,71 @@
+package com.barbearia.benchmarks;
+
+import com.barbearia.application.dto.RelatorioComissoesDto;
+import com.barbearia.application.services.ComissaoService;
+import com.barbearia.infrastructure.persistence.repositories.AgendamentoRepository;
+import com.barbearia.infrastructure.persistence.repositories.BarbeariaRepository;
+import com.barbearia.infrastructure.persistence.repositories.FuncionarioRepository;
+import com.barbearia.infrastructure.persistence.repositories.ServicoRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agregação do relatório de comissões de um mês para barbearias com
+ * quantidades diferentes de profissionais.
+ *
+ * As consultas são respondidas em memória; o que se mede é o agrupamento e
+ * o cálculo das comissões por perfil.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComissaoServiceBenchmark {
+
+    private static final LocalDate INICIO = LocalDate.of(2025, 1, 1);
+    private static final LocalDate FIM = LocalDate.of(2025, 1, 31);
+
+    @Param({ "5", "20" })
+    public int profissionais;
+
+    private ComissaoService comissaoService;
+
+    @Setup
+    public void preparar() {
+        // 8 atendimentos por profissional em cada dia do mês
+        BarbeariaSintetica barbearia = new BarbeariaSintetica(profissionais, 12, 8, 31, INICIO);
+
+        AgendamentoRepository agendamentoRepository = RepositorioEmMemoria.criar(AgendamentoRepository.class, Map.of(
+                "findByBarbeariaIdAndDataHoraBetweenAndStatus", args -> barbearia.agendamentos));
+        FuncionarioRepository funcionarioRepository = RepositorioEmMemoria.criar(FuncionarioRepository.class, Map.of(
+                "findById", args -> Optional.ofNullable(barbearia.funcionario((Long) args[0]))));
+        ServicoRepository servicoRepository = RepositorioEmMemoria.criar(ServicoRepository.class, Map.of(
+                "findById", args -> Optional.ofNullable(barbearia.servico((Long) args[0]))));
+        BarbeariaRepository barbeariaRepository = RepositorioEmMemoria.criar(BarbeariaRepository.class, Map.of(
+                "findById", args -> Optional.of(barbearia.barbearia)));
+
+        comissaoService = new ComissaoService(agendamentoRepository, funcionarioRepository, servicoRepository,
+                barbeariaRepository);
+    }
+
+    @Benchmark
+    public RelatorioComissoesDto gerarRelatorioMensal() {
+        return comissaoService.gerarRelatorioComissoes(BarbeariaSintetica.BARBEARIA_ID, INICIO, FIM);
+    }
+}
@@ -0,0 +1,40 @@
+package com.barbearia.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Executa os benchmarks JMH e grava o resultado em JSON.
+ *
+ * Uso (via perfil Maven "benchmark"):
+ * mvn -P benchmark test-compile exec:exec@benchmarks [-Dbenchmark.filtro=Regex]
+ *
+ * Argumentos: [filtro (regex dos benchmarks)] [arquivo de resultado]
+ */
+public final class ExecutorBenchmarks {
+
+    private ExecutorBenchmarks() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        String filtro = args.length > 0 ? args[0] : ".*";
+        Path resultado = Path.of(args.length > 1 ? args[1] : "target/jmh/resultado.json");
+        Files.createDirectories(resultado.toAbsolutePath().getParent());
+
+        Options opcoes = new OptionsBuilder()
+                .include(ExecutorBenchmarks.class.getPackageName() + ".*" + filtro)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultado.toString())
+                .build();
+
+        new Runner(opcoes).run();
+        System.out.println("Resultado gravado em " + resultado.toAbsolutePath());
+    }
+}
@@ -0,0 +1,128 @@
+package com.barbearia.benchmarks;
+
+import com.barbearia.application.dto.HorarioDisponivelDto;
+import com.barbearia.application.services.HorarioBloqueioService;
+import com.barbearia.application.services.HorarioService;
+import com.barbearia.infrastructure.metrics.MetricasNegocio;
+import com.barbearia.infrastructure.persistence.entities.JpaAgendamento;
+import com.barbearia.infrastructure.persistence.repositories.AgendamentoRepository;
+import com.barbearia.infrastructure.persistence.repositories.FuncionarioRepository;
+import com.barbearia.infrastructure.persistence.repositories.HorarioBloqueadoRepository;
+import com.barbearia.infrastructure.persistence.repositories.HorarioExcecaoRepository;
+import com.barbearia.infrastructure.persistence.repositories.HorarioFuncionamentoRepository;
+import com.barbearia.infrastructure.persistence.repositories.ProfissionalServicoRepository;
+import com.barbearia.infrastructure.persistence.repositories.ServicoRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Cálculo de horários disponíveis em barbearias sintéticas de tamanhos
+ * diferentes: disponibilidade de um dia e busca dos próximos horários.
+ *
+ * Os repositories são substituídos por implementações em memória; o que se
+ * mede é apenas a lógica de agenda do HorarioService.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HorarioServiceBenchmark {
+
+    @Param({ "2", "10", "40" })
+    public int profissionais;
+
+    private HorarioService horarioService;
+    private LocalDate amanha;
+
+    @Setup
+    public void preparar() {
+        amanha = LocalDate.now().plusDays(1);
+        BarbeariaSintetica barbearia = new BarbeariaSintetica(profissionais, 12, 8, 14, amanha);
+
+        Map<LocalDate, List<JpaAgendamento>> agendamentosPorDia = barbearia.agendamentos.stream()
+                .collect(Collectors.groupingBy(a -> a.getDataHora().toLocalDate()));
+
+        ServicoRepository servicoRepository = RepositorioEmMemoria.criar(ServicoRepository.class, Map.of(
+                "findById", args -> Optional.ofNullable(barbearia.servico((Long) args[0]))));
+
+        ProfissionalServicoRepository profissionalServicoRepository = RepositorioEmMemoria.criar(
+                ProfissionalServicoRepository.class, Map.of(
+                        "findFuncionariosByServicoIdAtivo", args -> barbearia.vinculos));
+
+        FuncionarioRepository funcionarioRepository = RepositorioEmMemoria.criar(FuncionarioRepository.class, Map.of(
+                "findByIdAtivo", args -> Optional.ofNullable(barbearia.funcionario((Long) args[0])),
+                "findByIdInAtivo", args -> ((Collection<?>) args[0]).stream()
+                        .map(id -> barbearia.funcionario((Long) id))
+                        .toList()));
+
+        HorarioFuncionamentoRepository horarioFuncionamentoRepository = RepositorioEmMemoria.criar(
+                HorarioFuncionamentoRepository.class, Map.of(
+                        "findByFuncionarioIdAndDiaSemanaAtivo", args -> Optional.empty(),
+                        "findByBarbeariaIdAndDiaSemanaAtivo",
+                        args -> Optional.of(barbearia.horarioBarbearia((Integer) args[1])),
+                        "findByFuncionarioIdInAtivo", args -> List.of(),
+                        "findPadraoByBarbeariaIdAtivo", args -> barbearia.horariosBarbearia));
+
+        HorarioExcecaoRepository horarioExcecaoRepository = RepositorioEmMemoria.criar(
+                HorarioExcecaoRepository.class, Map.of(
+                        "findByFuncionarioIdAndData", args -> Optional.empty(),
+                        "findByFuncionarioIdInAndPeriodo", args -> List.of()));
+
+        HorarioBloqueadoRepository horarioBloqueadoRepository = RepositorioEmMemoria.criar(
+                HorarioBloqueadoRepository.class, Map.of(
+                        "findByFuncionarioIdAndData", args -> List.of(),
+                        "findByFuncionarioIdInAndPeriodo", args -> List.of()));
+
+        AgendamentoRepository agendamentoRepository = RepositorioEmMemoria.criar(AgendamentoRepository.class, Map.of(
+                "findByBarbeariaIdAndPeriodo", args -> agendamentosPorDia.getOrDefault(
+                        ((LocalDateTime) args[1]).toLocalDate(), List.of()),
+                "findNaoCanceladosByBarbeiroIdInAndPeriodo", args -> barbearia.agendamentos.stream()
+                        .filter(a -> !a.getDataHora().isBefore((LocalDateTime) args[1])
+                                && a.getDataHora().isBefore((LocalDateTime) args[2]))
+                        .toList()));
+
+        HorarioBloqueioService horarioBloqueioService = new HorarioBloqueioService(horarioBloqueadoRepository,
+                funcionarioRepository, horarioFuncionamentoRepository);
+
+        horarioService = new HorarioService(funcionarioRepository, profissionalServicoRepository,
+                horarioFuncionamentoRepository, agendamentoRepository, servicoRepository, horarioBloqueioService,
+                horarioExcecaoRepository, MetricasNegocio.desligadas());
+
+        // Garante que o cenário gera horários (e não um atalho de lista vazia)
+        if (obterHorariosDoDia().isEmpty()) {
+            throw new IllegalStateException("Cenário sintético sem horários disponíveis");
+        }
+    }
+
+    @Benchmark
+    public List<HorarioDisponivelDto> obterHorariosDoDia() {
+        return horarioService.obterHorariosDisponiveis(BarbeariaSintetica.BARBEARIA_ID,
+                BarbeariaSintetica.SERVICO_ID, amanha);
+    }
+
+    @Benchmark
+    public List<HorarioDisponivelDto> buscarProximosHorarios() {
+        return horarioService.buscarProximosHorariosDisponiveis(BarbeariaSintetica.BARBEARIA_ID,
+                BarbeariaSintetica.SERVICO_ID, 20, 14, null);
+    }
+}
@@ -0,0 +1,58 @@
+package com.barbearia.benchmarks;
+
+import com.barbearia.infrastructure.config.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Geração e validação de tokens JWT pelo JwtUtil.
+ *
+ * validarComoFiltro reproduz as chamadas feitas pelo JwtAuthenticationFilter
+ * em cada requisição autenticada.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String EMAIL = "cliente@benchmark.com";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void preparar() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "chave-secreta-de-benchmark-com-pelo-menos-256-bits");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3_600_000L);
+        token = gerar();
+    }
+
+    @Benchmark
+    public String gerar() {
+        return jwtUtil.generateToken(Map.of("role", "CLIENTE", "userId", 42L), EMAIL);
+    }
+
+    @Benchmark
+    public boolean validarComoFiltro() {
+        String email = jwtUtil.extractSubject(token);
+        boolean valido = jwtUtil.isTokenValid(token, email);
+        Object role = jwtUtil.extractClaim(token, "role");
+        return valido && role != null;
+    }
+}
@@ -0,0 +1,71 @@
+package com.barbearia.benchmarks;
+
+import com.barbearia.adapters.mappers.AgendamentoMapper;
+import com.barbearia.application.dto.AgendamentoBriefDto;
+import com.barbearia.application.dto.AgendamentoResponseDto;
+import com.barbearia.infrastructure.persistence.entities.JpaAgendamento;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão do mapeamento de agendamentos (entidade JPA para DTO e para o
+ * domínio), usado em todas as listagens de agenda e histórico.
+ *
+ * Cada operação mapeia uma lista de 1000 agendamentos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapeamentoBenchmark {
+
+    private List<JpaAgendamento> agendamentos;
+
+    @Setup
+    public void preparar() {
+        // 10 profissionais x 10 agendamentos x 10 dias
+        agendamentos = new BarbeariaSintetica(10, 12, 10, 10, LocalDate.of(2025, 1, 6)).agendamentos;
+    }
+
+    @Benchmark
+    public List<AgendamentoResponseDto> paraResponseDto() {
+        List<AgendamentoResponseDto> dtos = new ArrayList<>(agendamentos.size());
+        for (JpaAgendamento agendamento : agendamentos) {
+            dtos.add(AgendamentoMapper.toResponseDto(agendamento));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<AgendamentoBriefDto> paraBriefDto() {
+        List<AgendamentoBriefDto> dtos = new ArrayList<>(agendamentos.size());
+        for (JpaAgendamento agendamento : agendamentos) {
+            dtos.add(AgendamentoMapper.toBriefDto(agendamento));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<JpaAgendamento> idaEVoltaDominio() {
+        List<JpaAgendamento> resultado = new ArrayList<>(agendamentos.size());
+        for (JpaAgendamento agendamento : agendamentos) {
+            resultado.add(AgendamentoMapper.toJpa(AgendamentoMapper.toDomain(agendamento)));
+        }
+        return resultado;
+    }
+}
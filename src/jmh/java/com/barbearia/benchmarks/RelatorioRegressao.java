@@ -0,0 +1,94 @@
+package com.barbearia.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compara um resultado JMH com o baseline versionado e aponta regressões.
+ *
+ * Para benchmarks de tempo médio (avgt) valores maiores são piores; para
+ * vazão (thrpt) valores menores são piores. Uma diferença acima da
+ * tolerância conta como regressão e o processo termina com código 1.
+ *
+ * Uso (via perfil Maven "benchmark"):
+ * mvn -P benchmark test-compile exec:exec@regressao [-Dbenchmark.tolerancia=0.20]
+ *
+ * Argumentos: [baseline] [resultado] [tolerância]
+ */
+public final class RelatorioRegressao {
+
+    private RelatorioRegressao() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path baseline = Path.of(args.length > 0 ? args[0] : "src/jmh/resources/jmh-baseline.json");
+        Path resultado = Path.of(args.length > 1 ? args[1] : "target/jmh/resultado.json");
+        double tolerancia = args.length > 2 ? Double.parseDouble(args[2]) : 0.20;
+
+        Map<String, Medicao> referencia = ler(baseline);
+        Map<String, Medicao> atual = ler(resultado);
+
+        System.out.printf("%-75s %14s %14s %9s  %s%n", "Benchmark", "Baseline", "Atual", "Variação", "Situação");
+        int regressoes = 0;
+        for (Map.Entry<String, Medicao> entrada : atual.entrySet()) {
+            Medicao medida = entrada.getValue();
+            Medicao base = referencia.get(entrada.getKey());
+            if (base == null) {
+                System.out.printf("%-75s %14s %14.3f %9s  %s%n", entrada.getKey(), "-", medida.score(), "-", "NOVO");
+                continue;
+            }
+
+            double variacao = (medida.score() - base.score()) / base.score();
+            // Em vazão, queda é piora; em tempo, aumento é piora
+            double piora = "thrpt".equals(medida.modo()) ? -variacao : variacao;
+            String situacao = piora > tolerancia ? "REGRESSÃO" : piora < -tolerancia ? "MELHORA" : "ok";
+            if (piora > tolerancia) {
+                regressoes++;
+            }
+            System.out.printf("%-75s %14.3f %14.3f %+8.1f%%  %s (%s)%n", entrada.getKey(), base.score(),
+                    medida.score(), variacao * 100, situacao, medida.unidade());
+        }
+
+        System.out.printf("%nTolerância: %.0f%% | Regressões: %d%n", tolerancia * 100, regressoes);
+        if (regressoes > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Medicao> ler(Path arquivo) throws IOException {
+        JsonNode raiz = new ObjectMapper().readTree(arquivo.toFile());
+        Map<String, Medicao> medicoes = new LinkedHashMap<>();
+        for (JsonNode benchmark : raiz) {
+            String nome = benchmark.get("benchmark").asText()
+                    .replace(RelatorioRegressao.class.getPackageName() + ".", "");
+            medicoes.put(nome + parametros(benchmark.get("params")), new Medicao(
+                    benchmark.get("mode").asText(),
+                    benchmark.get("primaryMetric").get("score").asDouble(),
+                    benchmark.get("primaryMetric").get("scoreUnit").asText()));
+        }
+        return medicoes;
+    }
+
+    private static String parametros(JsonNode params) {
+        if (params == null || params.isEmpty()) {
+            return "";
+        }
+        Map<String, String> ordenados = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> campos = params.fields();
+        while (campos.hasNext()) {
+            Map.Entry<String, JsonNode> campo = campos.next();
+            ordenados.put(campo.getKey(), campo.getValue().asText());
+        }
+        return ordenados.toString();
+    }
+
+    private record Medicao(String modo, double score, String unidade) {
+    }
+}
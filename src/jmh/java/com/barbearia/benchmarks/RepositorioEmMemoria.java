@@ -0,0 +1,36 @@
+package com.barbearia.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Cria implementações em memória das interfaces de repository para os
+ * benchmarks, sem banco e sem Mockito (que distorceria as medições).
+ *
+ * Cada método usado pelo código medido recebe uma resposta; qualquer outro
+ * método lança UnsupportedOperationException, o que deixa explícito quando
+ * o caminho medido passa a depender de uma nova consulta.
+ */
+final class RepositorioEmMemoria {
+
+    private RepositorioEmMemoria() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T criar(Class<T> tipo, Map<String, Function<Object[], Object>> respostas) {
+        return (T) Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[] { tipo }, (proxy, metodo, args) -> {
+            Function<Object[], Object> resposta = respostas.get(metodo.getName());
+            if (resposta != null) {
+                return resposta.apply(args);
+            }
+            return switch (metodo.getName()) {
+                case "toString" -> tipo.getSimpleName() + "EmMemoria";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(
+                        tipo.getSimpleName() + "." + metodo.getName() + " não disponível no benchmark");
+            };
+        });
+    }
+}
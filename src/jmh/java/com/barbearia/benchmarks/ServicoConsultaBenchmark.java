@@ -0,0 +1,157 @@
+package com.barbearia.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consulta de serviços com o mapeamento de herança antigo (JOINED: tabela
+ * base + seis subtabelas) e o atual (SINGLE_TABLE), em um catálogo de
+ * 2000 barbearias com 12 serviços cada.
+ *
+ * As consultas reproduzem o SQL gerado pelo Hibernate para
+ * findByBarbeariaIdAndAtivoTrue e findById em cada estratégia. Roda em H2
+ * em memória: os números absolutos diferem do PostgreSQL, mas a diferença
+ * entre os dois formatos de consulta é o que interessa.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServicoConsultaBenchmark {
+
+    private static final int BARBEARIAS = 2000;
+    private static final int SERVICOS_POR_BARBEARIA = 12;
+    private static final String[] TIPOS = { "CORTE", "BARBA", "SOBRANCELHA", "COLORACAO", "MANICURE",
+            "TRATAMENTO_CAPILAR" };
+
+    private static final String COLUNAS = "s.id, s.nome, s.descricao, s.preco, s.duracao, s.barbearia_id, "
+            + "s.ativo, s.data_criacao, s.data_atualizacao, s.tipo_servico";
+
+    private static final String JUNCOES_JOINED = """
+             LEFT JOIN servicos_corte c ON c.id = s.id
+             LEFT JOIN servicos_barba b ON b.id = s.id
+             LEFT JOIN servicos_sobrancelha so ON so.id = s.id
+             LEFT JOIN servicos_coloracao co ON co.id = s.id
+             LEFT JOIN servicos_manicure m ON m.id = s.id
+             LEFT JOIN servicos_tratamento_capilar t ON t.id = s.id
+            """;
+
+    private static final String CLASSE_JOINED = ", CASE WHEN c.id IS NOT NULL THEN 1 WHEN b.id IS NOT NULL THEN 2 "
+            + "WHEN so.id IS NOT NULL THEN 3 WHEN co.id IS NOT NULL THEN 4 WHEN m.id IS NOT NULL THEN 5 "
+            + "WHEN t.id IS NOT NULL THEN 6 END AS clazz_";
+
+    private Connection conexao;
+    private PreparedStatement porBarbeariaJoined;
+    private PreparedStatement porBarbeariaSingleTable;
+    private PreparedStatement porIdJoined;
+    private PreparedStatement porIdSingleTable;
+    private final Random aleatorio = new Random(42);
+
+    @Setup(Level.Trial)
+    public void preparar() throws SQLException {
+        conexao = DriverManager.getConnection("jdbc:h2:mem:servicos_benchmark;DB_CLOSE_DELAY=-1");
+        try (Statement ddl = conexao.createStatement()) {
+            ddl.execute("""
+                    CREATE TABLE servicos (
+                        id BIGINT PRIMARY KEY, barbearia_id BIGINT NOT NULL, nome VARCHAR(100) NOT NULL,
+                        descricao VARCHAR(500), preco DECIMAL(10, 2) NOT NULL, duracao INTEGER NOT NULL,
+                        tipo_servico VARCHAR(50) NOT NULL, ativo BOOLEAN NOT NULL,
+                        data_criacao TIMESTAMP NOT NULL, data_atualizacao TIMESTAMP NOT NULL)
+                    """);
+            ddl.execute("CREATE INDEX idx_servicos_barbearia_ativo ON servicos(barbearia_id, ativo)");
+            for (String tipo : TIPOS) {
+                ddl.execute("CREATE TABLE servicos_" + tipo.toLowerCase() + " (id BIGINT PRIMARY KEY)");
+            }
+        }
+
+        try (PreparedStatement insert = conexao.prepareStatement(
+                "INSERT INTO servicos VALUES (?, ?, ?, ?, ?, ?, ?, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)")) {
+            long id = 1;
+            for (int barbearia = 1; barbearia <= BARBEARIAS; barbearia++) {
+                for (int i = 0; i < SERVICOS_POR_BARBEARIA; i++, id++) {
+                    String tipo = TIPOS[i % TIPOS.length];
+                    insert.setLong(1, id);
+                    insert.setLong(2, barbearia);
+                    insert.setString(3, "Serviço " + id);
+                    insert.setString(4, "Descrição do serviço " + id);
+                    insert.setBigDecimal(5, java.math.BigDecimal.valueOf(30 + i * 5));
+                    insert.setInt(6, 30);
+                    insert.setString(7, tipo);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+        try (Statement dml = conexao.createStatement()) {
+            for (String tipo : TIPOS) {
+                dml.execute("INSERT INTO servicos_" + tipo.toLowerCase()
+                        + " SELECT id FROM servicos WHERE tipo_servico = '" + tipo + "'");
+            }
+        }
+
+        porBarbeariaJoined = conexao.prepareStatement("SELECT " + COLUNAS + CLASSE_JOINED + " FROM servicos s"
+                + JUNCOES_JOINED + " WHERE s.barbearia_id = ? AND s.ativo = TRUE");
+        porBarbeariaSingleTable = conexao.prepareStatement(
+                "SELECT " + COLUNAS + " FROM servicos s WHERE s.barbearia_id = ? AND s.ativo = TRUE");
+        porIdJoined = conexao.prepareStatement("SELECT " + COLUNAS + CLASSE_JOINED + " FROM servicos s"
+                + JUNCOES_JOINED + " WHERE s.id = ?");
+        porIdSingleTable = conexao.prepareStatement("SELECT " + COLUNAS + " FROM servicos s WHERE s.id = ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() throws SQLException {
+        conexao.close();
+    }
+
+    @Benchmark
+    public int porBarbeariaJoined() throws SQLException {
+        return consultar(porBarbeariaJoined, 1 + aleatorio.nextInt(BARBEARIAS));
+    }
+
+    @Benchmark
+    public int porBarbeariaSingleTable() throws SQLException {
+        return consultar(porBarbeariaSingleTable, 1 + aleatorio.nextInt(BARBEARIAS));
+    }
+
+    @Benchmark
+    public int porIdJoined() throws SQLException {
+        return consultar(porIdJoined, 1 + aleatorio.nextInt(BARBEARIAS * SERVICOS_POR_BARBEARIA));
+    }
+
+    @Benchmark
+    public int porIdSingleTable() throws SQLException {
+        return consultar(porIdSingleTable, 1 + aleatorio.nextInt(BARBEARIAS * SERVICOS_POR_BARBEARIA));
+    }
+
+    private int consultar(PreparedStatement consulta, long parametro) throws SQLException {
+        consulta.setLong(1, parametro);
+        int linhas = 0;
+        try (ResultSet resultado = consulta.executeQuery()) {
+            while (resultado.next()) {
+                linhas += resultado.getInt(5);
+            }
+        }
+        return linhas;
+    }
+}
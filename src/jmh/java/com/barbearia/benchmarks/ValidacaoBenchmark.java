@@ -0,0 +1,112 @@
+package com.barbearia.benchmarks;
+
+import com.barbearia.application.dto.AgendamentoRequestDto;
+import com.barbearia.application.services.AgendamentoService;
+import com.barbearia.domain.exceptions.ValidacaoException;
+import com.barbearia.infrastructure.metrics.MetricasNegocio;
+import com.barbearia.infrastructure.persistence.repositories.AgendamentoRepository;
+import com.barbearia.infrastructure.persistence.repositories.ClienteRepository;
+import com.barbearia.infrastructure.persistence.repositories.FuncionarioRepository;
+import com.barbearia.infrastructure.persistence.repositories.ProfissionalServicoRepository;
+import com.barbearia.infrastructure.persistence.repositories.ServicoRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Vazão de requisições de agendamento rejeitadas.
+ *
+ * Compara a rejeição antiga (IllegalArgumentException, que preenche a stack
+ * trace) com a ValidacaoException sem stack trace, ambas lançadas a
+ * PROFUNDIDADE quadros da base da pilha, a profundidade aproximada de um
+ * controller dentro do Spring MVC e da cadeia de filtros. Também mede o
+ * AgendamentoService.criarAgendamento recusando dados inválidos: campos
+ * ausentes (sem ir ao banco) e serviço/funcionário inexistentes (repositories
+ * em memória).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidacaoBenchmark {
+
+    private static final int PROFUNDIDADE = 120;
+    private static final List<String> ERROS = List.of(
+            "ID do serviço não pode ser nulo",
+            "Data/hora do agendamento não pode ser nula");
+
+    private AgendamentoService agendamentoService;
+    private AgendamentoRequestDto camposInvalidos;
+    private AgendamentoRequestDto inexistentes;
+
+    @Setup
+    public void preparar() {
+        ServicoRepository servicoRepository = RepositorioEmMemoria.criar(ServicoRepository.class, Map.of(
+                "findById", args -> Optional.empty()));
+        FuncionarioRepository funcionarioRepository = RepositorioEmMemoria.criar(FuncionarioRepository.class,
+                Map.of("findById", args -> Optional.empty()));
+
+        agendamentoService = new AgendamentoService(
+                RepositorioEmMemoria.criar(AgendamentoRepository.class, Map.of()),
+                funcionarioRepository,
+                servicoRepository,
+                RepositorioEmMemoria.criar(ClienteRepository.class, Map.of()),
+                RepositorioEmMemoria.criar(ProfissionalServicoRepository.class, Map.of()),
+                null, null, MetricasNegocio.desligadas(), null);
+
+        camposInvalidos = new AgendamentoRequestDto(null, 1L, null);
+        inexistentes = new AgendamentoRequestDto(998L, 999L, LocalDateTime.now().plusYears(1));
+    }
+
+    @Benchmark
+    public Object rejeitarComIllegalArgumentException() {
+        return rejeitar(() -> {
+            throw new IllegalArgumentException(String.join("; ", ERROS));
+        });
+    }
+
+    @Benchmark
+    public Object rejeitarComValidacaoException() {
+        return rejeitar(() -> {
+            throw new ValidacaoException(ERROS);
+        });
+    }
+
+    @Benchmark
+    public Object criarAgendamentoComCamposInvalidos() {
+        return rejeitar(() -> agendamentoService.criarAgendamento(1L, camposInvalidos));
+    }
+
+    @Benchmark
+    public Object criarAgendamentoComServicoEFuncionarioInexistentes() {
+        return rejeitar(() -> agendamentoService.criarAgendamento(1L, inexistentes));
+    }
+
+    private static Object rejeitar(Supplier<?> operacao) {
+        try {
+            return descer(PROFUNDIDADE, operacao);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    private static Object descer(int quadros, Supplier<?> operacao) {
+        return quadros == 0 ? operacao.get() : descer(quadros - 1, operacao);
+    }
+}
@@ -10,11 +10,21 @@ import com.barbearia.application.dto.AgendamentoReagendamentoDto;
 import com.barbearia.application.dto.ClienteAtendidoDto;
 import com.barbearia.application.dto.ClienteDetalhesDto;
 import com.barbearia.application.dto.HorarioDisponivelDto;
+import com.barbearia.application.dto.GradeAgendaDiaDto;
+import com.barbearia.application.dto.CatalogoBarbeariaDto;
 import com.barbearia.application.services.BarbeariaService;
 import com.barbearia.application.services.FuncionarioService;
 import com.barbearia.application.services.AgendamentoService;
 import com.barbearia.application.services.ClienteGestaoService;
 import com.barbearia.application.services.HorarioService;
+import com.barbearia.application.services.GradeAgendaService;
+import com.barbearia.application.services.ExportacaoService;
+import com.barbearia.application.services.ImportacaoService;
+import com.barbearia.application.dto.ResultadoImportacaoDto;
+import com.barbearia.domain.enums.FormatoExportacao;
+import com.barbearia.domain.enums.FormatoImportacao;
+import com.barbearia.domain.exceptions.ValidacaoException;
+import com.barbearia.adapters.observers.AgendaStreamHub;
 import com.barbearia.application.security.JwtService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -28,18 +38,25 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.barbearia.application.dto.HorarioExcecaoRequestDto;
 import com.barbearia.application.dto.HorarioExcecaoResponseDto;
 import com.barbearia.application.services.HorarioGestaoService;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Gestão de Barbearias.
@@ -50,12 +67,21 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class BarbeariaController {
 
+        // Erros do agendamento direto respondidos com 422
+        private static final Set<String> ERROS_DE_PROPRIEDADE = Set.of(
+                        AgendamentoService.FUNCIONARIO_DE_OUTRA_BARBEARIA,
+                        AgendamentoService.SERVICO_DE_OUTRA_BARBEARIA);
+
         private final BarbeariaService barbeariaService;
         private final FuncionarioService funcionarioService;
         private final AgendamentoService agendamentoService;
         private final ClienteGestaoService clienteGestaoService;
         private final HorarioService horarioService;
         private final HorarioGestaoService horarioGestaoService;
+        private final GradeAgendaService gradeAgendaService;
+        private final AgendaStreamHub agendaStreamHub;
+        private final ExportacaoService exportacaoService;
+        private final ImportacaoService importacaoService;
         private final JwtService jwtService;
 
         public BarbeariaController(
@@ -65,6 +91,10 @@ public class BarbeariaController {
                         ClienteGestaoService clienteGestaoService,
                         HorarioService horarioService,
                         HorarioGestaoService horarioGestaoService,
+                        GradeAgendaService gradeAgendaService,
+                        AgendaStreamHub agendaStreamHub,
+                        ExportacaoService exportacaoService,
+                        ImportacaoService importacaoService,
                         JwtService jwtService) {
                 this.barbeariaService = barbeariaService;
                 this.funcionarioService = funcionarioService;
@@ -72,6 +102,10 @@ public class BarbeariaController {
                 this.clienteGestaoService = clienteGestaoService;
                 this.horarioService = horarioService;
                 this.horarioGestaoService = horarioGestaoService;
+                this.gradeAgendaService = gradeAgendaService;
+                this.agendaStreamHub = agendaStreamHub;
+                this.exportacaoService = exportacaoService;
+                this.importacaoService = importacaoService;
                 this.jwtService = jwtService;
         }
 
@@ -146,6 +180,36 @@ public class BarbeariaController {
                 return ResponseEntity.ok(datas);
         }
 
+        @Operation(summary = "Próximos horários disponíveis", description = "Retorna os primeiros horários livres a partir de agora, considerando todos os profissionais qualificados e os próximos dias (\"agendar o mais cedo possível\")")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Lista de horários retornada com sucesso", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = HorarioDisponivelDto.class)), examples = @ExampleObject(name = "Próximos Horários", value = """
+                                        [
+                                          {
+                                            "funcionarioId": 5,
+                                            "funcionarioNome": "Carlos Barbeiro",
+                                            "profissao": "BARBEIRO",
+                                            "data": "2025-11-25",
+                                            "horarioInicio": "15:30:00",
+                                            "horarioFim": "16:00:00"
+                                          }
+                                        ]
+                                        """))),
+                        @ApiResponse(responseCode = "401", description = "Token JWT ausente ou inválido", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorDto.class)))
+        })
+        @GetMapping("/{barbeariaId}/servicos/{servicoId}/proximos-horarios")
+        public ResponseEntity<List<HorarioDisponivelDto>> buscarProximosHorariosDisponiveis(
+                        @Parameter(description = "ID da barbearia", required = true) @PathVariable Long barbeariaId,
+                        @Parameter(description = "ID do serviço", required = true) @PathVariable Long servicoId,
+                        @Parameter(description = "Quantidade de horários (padrão 5, máximo 20)") @RequestParam(required = false) Integer quantidade,
+                        @Parameter(description = "Horizonte de busca em dias (padrão 14, máximo 60)") @RequestParam(required = false) Integer dias,
+                        @Parameter(description = "ID do funcionário (opcional)") @RequestParam(required = false) Long funcionarioId) {
+
+                List<HorarioDisponivelDto> horarios = horarioService.buscarProximosHorariosDisponiveis(
+                                barbeariaId, servicoId, quantidade, dias, funcionarioId);
+
+                return ResponseEntity.ok(horarios);
+        }
+
         @Operation(summary = "Listar serviços de uma barbearia", description = "Retorna todos os serviços ativos de uma barbearia específica. Endpoint público.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Lista de serviços retornada com sucesso", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = ServicoDto.class)), examples = @ExampleObject(name = "Serviços da Barbearia", value = "[{\"id\":1,\"nome\":\"Corte Masculino\",\"descricao\":\"Corte clássico\",\"preco\":30.0,\"duracao\":30,\"ativo\":true},{\"id\":2,\"nome\":\"Barba\",\"descricao\":\"Aparar e modelar\",\"preco\":25.0,\"duracao\":20,\"ativo\":true}]"))),
@@ -186,6 +250,27 @@ public class BarbeariaController {
                 }
         }
 
+        @Operation(summary = "Catálogo público da barbearia", description = "Retorna serviços, profissionais e horários de funcionamento da barbearia. A resposta traz ETag: envie If-None-Match para receber 304 quando o catálogo não mudou.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Catálogo retornado com sucesso", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CatalogoBarbeariaDto.class))),
+                        @ApiResponse(responseCode = "304", description = "Catálogo não foi alterado desde o ETag informado"),
+                        @ApiResponse(responseCode = "400", description = "Barbearia inativa", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorDto.class))),
+                        @ApiResponse(responseCode = "404", description = "Barbearia não encontrada", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorDto.class)))
+        })
+        @GetMapping("/{id}/catalogo")
+        public ResponseEntity<?> obterCatalogo(
+                        @Parameter(description = "ID da barbearia", required = true, example = "1") @PathVariable Long id) {
+                try {
+                        CatalogoBarbeariaDto catalogo = barbeariaService.obterCatalogo(id);
+                        return ResponseEntity.ok(catalogo);
+                } catch (IllegalArgumentException e) {
+                        if (e.getMessage().contains("não encontrada")) {
+                                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+                        }
+                        return ResponseEntity.badRequest().body(e.getMessage());
+                }
+        }
+
         /**
          * Cria ou atualiza um horário de funcionamento para a barbearia autenticada.
          * 
@@ -552,6 +637,48 @@ public class BarbeariaController {
                 return ResponseEntity.ok(agendamentos);
         }
 
+        @Operation(summary = "Exportar agendamentos", description = "Baixa os agendamentos do período (padrão: últimos 12 meses) em CSV ou XLSX. O arquivo é gerado em streaming direto do banco; CSV é comprimido com gzip se o cliente enviar Accept-Encoding: gzip.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Arquivo gerado", content = {
+                                        @Content(mediaType = "text/csv"),
+                                        @Content(mediaType = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet") }),
+                        @ApiResponse(responseCode = "400", description = "Datas inválidas", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorDto.class))),
+                        @ApiResponse(responseCode = "401", description = "Token JWT ausente ou inválido", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorDto.class)))
+        })
+        @GetMapping("/agendamentos/exportar")
+        @PreAuthorize("hasRole('BARBEARIA')")
+        public ResponseEntity<StreamingResponseBody> exportarAgendamentos(
+                        @Parameter(description = "Formato do arquivo") @RequestParam(defaultValue = "CSV") FormatoExportacao formato,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+                        HttpServletRequest request) {
+                Long barbeariaId = extrairBarbeariaId(request);
+                LocalDate fim = dataFim != null ? dataFim : LocalDate.now();
+                LocalDate inicio = dataInicio != null ? dataInicio : fim.minusYears(1).plusDays(1);
+                exportacaoService.validarPeriodo(barbeariaId, inicio, fim);
+                return RespostaExportacao.criar(request, formato, "agendamentos_" + inicio + "_" + fim, "Agendamentos",
+                                escritor -> exportacaoService.exportarAgendamentos(barbeariaId, inicio, fim, escritor));
+        }
+
+        @Operation(summary = "Importar agendamentos históricos", description = "Importa agendamentos de uma planilha ou de outro sistema (corpo da requisição em CSV ou NDJSON, opcionalmente com Content-Encoding: gzip). Colunas: data_hora, cliente_nome, cliente_telefone, cliente_email, servico (ID ou nome), profissional (ID, nome ou email), status e observacoes. Clientes são encontrados pelo telefone ou criados; nenhuma notificação é enviada. Com simulacao=true o arquivo é apenas validado.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Importação processada; linhas recusadas listadas no resultado", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResultadoImportacaoDto.class))),
+                        @ApiResponse(responseCode = "400", description = "Parâmetros inválidos", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorDto.class))),
+                        @ApiResponse(responseCode = "401", description = "Token JWT ausente ou inválido", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorDto.class)))
+        })
+        @PostMapping("/agendamentos/importar")
+        @PreAuthorize("hasRole('BARBEARIA')")
+        public ResponseEntity<ResultadoImportacaoDto> importarAgendamentos(
+                        @Parameter(description = "Formato do arquivo") @RequestParam(defaultValue = "CSV") FormatoImportacao formato,
+                        @Parameter(description = "Apenas valida, sem gravar") @RequestParam(defaultValue = "false") boolean simulacao,
+                        HttpServletRequest request) throws IOException {
+                Long barbeariaId = extrairBarbeariaId(request);
+                try (InputStream entrada = CorpoImportacao.abrir(request)) {
+                        return ResponseEntity.ok(importacaoService.importarAgendamentos(barbeariaId, formato, entrada,
+                                        simulacao));
+                }
+        }
+
         @Operation(summary = "Listar agenda do profissional", description = "Retorna a agenda de agendamentos de um profissional específico. Pode filtrar por data.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Agenda retornada com sucesso", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = AgendamentoBarbeariaDto.class)), examples = @ExampleObject(name = "Agenda do Profissional", value = """
@@ -645,6 +772,56 @@ public class BarbeariaController {
                 return ResponseEntity.ok(agendamentos);
         }
 
+        @Operation(summary = "Grade do dia da barbearia", description = "Retorna, em uma única chamada, o expediente, os agendamentos, os bloqueios e os intervalos livres de todos os profissionais ativos na data. "
+                        +
+                        "Suporta GET condicional: envie o ETag recebido em If-None-Match para receber 304 quando nada mudou.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Grade retornada com sucesso", content = @Content(mediaType = "application/json", schema = @Schema(implementation = GradeAgendaDiaDto.class))),
+                        @ApiResponse(responseCode = "304", description = "Grade não mudou desde o ETag informado"),
+                        @ApiResponse(responseCode = "401", description = "Token JWT ausente ou inválido", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorDto.class))),
+                        @ApiResponse(responseCode = "403", description = "Usuário não possui role BARBEARIA", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorDto.class)))
+        })
+        @GetMapping("/agenda-do-dia")
+        @PreAuthorize("hasRole('BARBEARIA')")
+        public ResponseEntity<?> obterGradeDoDia(
+                        @Parameter(description = "Data (YYYY-MM-DD). Padrão: hoje") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate data,
+                        @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch,
+                        HttpServletRequest request) {
+                Long barbeariaId = extrairBarbeariaId(request);
+                LocalDate dataGrade = data != null ? data : LocalDate.now();
+
+                String etag = gradeAgendaService.calcularEtagGrade(barbeariaId, dataGrade);
+                if (ifNoneMatch != null && ifNoneMatch.contains(etag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                        .eTag(etag)
+                                        .cacheControl(CacheControl.noCache())
+                                        .build();
+                }
+
+                GradeAgendaDiaDto grade = gradeAgendaService.montarGradeDia(barbeariaId, dataGrade);
+                return ResponseEntity.ok()
+                                .eTag(etag)
+                                .cacheControl(CacheControl.noCache())
+                                .body(grade);
+        }
+
+        @Operation(summary = "Stream dos agendamentos da barbearia", description = "Abre um stream SSE com criação, reagendamento, cancelamento, confirmação e conclusão de agendamentos de todos os profissionais. "
+                        +
+                        "Envie o cabeçalho Last-Event-ID ao reconectar para receber os eventos perdidos.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Stream aberto", content = @Content(mediaType = "text/event-stream")),
+                        @ApiResponse(responseCode = "401", description = "Token JWT ausente ou inválido", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorDto.class))),
+                        @ApiResponse(responseCode = "403", description = "Usuário não possui role BARBEARIA", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorDto.class)))
+        })
+        @GetMapping(value = "/agendamentos/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        @PreAuthorize("hasRole('BARBEARIA')")
+        public SseEmitter streamAgendamentos(
+                        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                        HttpServletRequest request) {
+                Long barbeariaId = extrairBarbeariaId(request);
+                return agendaStreamHub.inscreverBarbearia(barbeariaId, lastEventId);
+        }
+
         @Operation(summary = "Listar meus clientes", description = "Retorna todos os clientes que possuem pelo menos um agendamento com a barbearia. "
                         +
                         "Clientes anonimizados (LGPD) não aparecem na listagem.")
@@ -814,8 +991,8 @@ public class BarbeariaController {
                                         """))))
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "201", description = "Agendamento criado", content = @Content(schema = @Schema(implementation = AgendamentoResponseDto.class))),
-                        @ApiResponse(responseCode = "400", description = "Dados inválidos ou horário indisponível"),
-                        @ApiResponse(responseCode = "422", description = "Funcionário não pertence à barbearia"),
+                        @ApiResponse(responseCode = "400", description = "Dados inválidos ou horário indisponível (todos os problemas em erros)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorDto.class))),
+                        @ApiResponse(responseCode = "422", description = "Funcionário ou serviço não pertence à barbearia", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorDto.class))),
                         @ApiResponse(responseCode = "401", description = "Token inválido")
         })
         @PostMapping("/agendamentos-diretos")
@@ -836,10 +1013,16 @@ public class BarbeariaController {
 
                         return ResponseEntity.status(201).body(agendamento);
 
+                } catch (ValidacaoException e) {
+                        // 422 só quando todos os problemas são de propriedade; os demais são 400
+                        HttpStatus status = ERROS_DE_PROPRIEDADE.containsAll(e.getErros())
+                                        ? HttpStatus.UNPROCESSABLE_ENTITY
+                                        : HttpStatus.BAD_REQUEST;
+                        return ResponseEntity.status(status)
+                                        .body(new ApiErrorDto(LocalDateTime.now(), status.value(),
+                                                        status.getReasonPhrase(), e.getMessage(),
+                                                        request.getRequestURI(), e.getErros()));
                 } catch (IllegalArgumentException e) {
-                        if (e.getMessage().contains("não pertence")) {
-                                return ResponseEntity.status(422).body(e.getMessage());
-                        }
                         return ResponseEntity.badRequest().body(e.getMessage());
                 } catch (Exception e) {
                         return ResponseEntity.internalServerError()
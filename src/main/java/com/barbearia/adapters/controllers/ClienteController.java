@@ -3,13 +3,17 @@ package com.barbearia.adapters.controllers;
 import com.barbearia.application.dto.AgendamentoBriefDto;
 import com.barbearia.application.dto.ClienteProfileDto;
 import com.barbearia.application.dto.ClienteUpdateDto;
+import com.barbearia.application.dto.LinhaDoTempoClienteDto;
 import com.barbearia.application.security.JwtService;
 import com.barbearia.application.services.AgendamentoService;
 import com.barbearia.application.services.BarbeariaService;
 import com.barbearia.application.services.ClienteService;
+import com.barbearia.application.services.LinhaDoTempoClienteService;
 import com.barbearia.application.dto.BarbeariaListItemDto;
+import com.barbearia.application.dto.BuscaBarbeariasDto;
 import com.barbearia.application.dto.ApiErrorDto;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -19,9 +23,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -37,18 +44,63 @@ public class ClienteController {
     private final JwtService jwtService;
     private final ClienteService clienteService;
     private final BarbeariaService barbeariaService;
+    private final LinhaDoTempoClienteService linhaDoTempoClienteService;
 
     public ClienteController(AgendamentoService agendamentoService,
             JwtService jwtService,
             ClienteService clienteService,
-            BarbeariaService barbeariaService) {
+            BarbeariaService barbeariaService,
+            LinhaDoTempoClienteService linhaDoTempoClienteService) {
         this.agendamentoService = agendamentoService;
         this.jwtService = jwtService;
         this.clienteService = clienteService;
         this.barbeariaService = barbeariaService;
+        this.linhaDoTempoClienteService = linhaDoTempoClienteService;
     }
 
-    @Operation(summary = "Histórico de agendamentos", description = "Retorna todos os agendamentos do cliente (passados e futuros)", security = @SecurityRequirement(name = "Bearer"))
+    @Operation(summary = "Linha do tempo de agendamentos", description = "Retorna, em uma única chamada, os próximos agendamentos e o histórico mais recente, com nomes de serviço, barbearia e profissional. "
+            +
+            "O histórico é paginado por cursor: envie o proximoCursor recebido para a página seguinte. "
+            +
+            "Suporta GET condicional: envie o ETag recebido em If-None-Match para receber 304 quando nada mudou.", security = @SecurityRequirement(name = "Bearer"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Linha do tempo retornada", content = @Content(mediaType = "application/json", schema = @Schema(implementation = LinhaDoTempoClienteDto.class))),
+            @ApiResponse(responseCode = "304", description = "Linha do tempo não mudou desde o ETag informado"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorDto.class))),
+            @ApiResponse(responseCode = "401", description = "Token JWT inválido", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorDto.class)))
+    })
+    @GetMapping("/meus-agendamentos/linha-do-tempo")
+    public ResponseEntity<?> obterLinhaDoTempo(
+            @Parameter(description = "proximoCursor da página anterior. Ausente na primeira página") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página do histórico (máximo 100)") @RequestParam(defaultValue = "20") int limite,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch,
+            HttpServletRequest request) {
+        Long clienteId = extrairClienteIdDoToken(request);
+        if (clienteId == null) {
+            return ResponseEntity.status(401).body(new ApiErrorDto(
+                    java.time.LocalDateTime.now(),
+                    401,
+                    "Unauthorized",
+                    "Token inválido ou ausente",
+                    request.getRequestURI()));
+        }
+
+        String etag = linhaDoTempoClienteService.calcularEtag(clienteId, cursor, limite);
+        if (ifNoneMatch != null && ifNoneMatch.contains(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .build();
+        }
+
+        LinhaDoTempoClienteDto linhaDoTempo = linhaDoTempoClienteService.montar(clienteId, cursor, limite);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(linhaDoTempo);
+    }
+
+    @Operation(summary = "Histórico de agendamentos", description = "Retorna todos os agendamentos do cliente (passados e futuros). Substituído por /meus-agendamentos/linha-do-tempo", deprecated = true, security = @SecurityRequirement(name = "Bearer"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Histórico retornado", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = AgendamentoBriefDto.class)))),
             @ApiResponse(responseCode = "401", description = "Token JWT inválido", content = @Content(mediaType = "application/json", schema = @Schema(implementation = com.barbearia.application.dto.ApiErrorDto.class))),
@@ -69,7 +121,7 @@ public class ClienteController {
         return ResponseEntity.ok(historico);
     }
 
-    @Operation(summary = "Agendamentos recentes", description = "Retorna agendamentos recentes (futuros ou recém-concluídos)", security = @SecurityRequirement(name = "Bearer"))
+    @Operation(summary = "Agendamentos recentes", description = "Retorna agendamentos recentes (futuros ou recém-concluídos). Substituído por /meus-agendamentos/linha-do-tempo", deprecated = true, security = @SecurityRequirement(name = "Bearer"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista retornada", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = AgendamentoBriefDto.class)))),
             @ApiResponse(responseCode = "401", description = "Token JWT inválido", content = @Content(mediaType = "application/json", schema = @Schema(implementation = com.barbearia.application.dto.ApiErrorDto.class))),
@@ -149,6 +201,30 @@ public class ClienteController {
         }
     }
 
+    @Operation(summary = "Buscar barbearias", description = "Busca paginada de barbearias ativas por texto (nome ou bairro), proximidade de um ponto, nota mínima e disponibilidade hoje. Todos os filtros são opcionais.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de resultados", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BuscaBarbeariasDto.class))),
+            @ApiResponse(responseCode = "400", description = "Filtros inválidos", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorDto.class)))
+    })
+    @GetMapping("/barbearias/busca")
+    public ResponseEntity<?> buscarBarbearias(
+            @Parameter(description = "Nome ou bairro", example = "centro") @RequestParam(required = false) String texto,
+            @Parameter(description = "Latitude do ponto de referência", example = "-23.5505") @RequestParam(required = false) Double latitude,
+            @Parameter(description = "Longitude do ponto de referência", example = "-46.6333") @RequestParam(required = false) Double longitude,
+            @Parameter(description = "Raio em km (padrão 10, máximo 100)", example = "5") @RequestParam(required = false) Double raioKm,
+            @Parameter(description = "Média mínima das avaliações (1 a 5)", example = "4") @RequestParam(required = false) BigDecimal notaMinima,
+            @Parameter(description = "Apenas barbearias abertas agora") @RequestParam(defaultValue = "false") boolean disponivelHoje,
+            @Parameter(description = "Página (começa em 0)") @RequestParam(defaultValue = "0") int pagina,
+            @Parameter(description = "Tamanho da página (máximo 50)") @RequestParam(defaultValue = "20") int tamanho) {
+        try {
+            BuscaBarbeariasDto resultado = barbeariaService.buscarBarbearias(texto, latitude, longitude, raioKm,
+                    notaMinima, disponivelHoje, pagina, tamanho);
+            return ResponseEntity.ok(resultado);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @Operation(summary = "Atualizar perfil", description = "Atualiza dados do cliente (nome, email, telefone)", security = @SecurityRequirement(name = "Bearer"))
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Perfil atualizado", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ClienteProfileDto.class))),
@@ -0,0 +1,26 @@
+package com.barbearia.adapters.controllers;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Corpo da requisição das importações, lido em streaming. Aceita o arquivo
+ * comprimido com gzip (Content-Encoding: gzip).
+ */
+final class CorpoImportacao {
+
+    private CorpoImportacao() {
+    }
+
+    static InputStream abrir(HttpServletRequest request) throws IOException {
+        String codificacao = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+        if (codificacao != null && codificacao.toLowerCase().contains("gzip")) {
+            return new GZIPInputStream(request.getInputStream(), 8 * 1024);
+        }
+        return request.getInputStream();
+    }
+}
@@ -2,9 +2,14 @@ package com.barbearia.adapters.controllers;
 
 import com.barbearia.application.dto.*;
 import com.barbearia.application.services.ComissaoService;
+import com.barbearia.application.services.ExportacaoService;
 import com.barbearia.application.services.FinanceiroService;
+import com.barbearia.application.services.ImportacaoService;
+import com.barbearia.application.services.LivroRazaoService;
 import com.barbearia.application.services.RelatorioService;
 import com.barbearia.application.security.JwtService;
+import com.barbearia.domain.enums.FormatoExportacao;
+import com.barbearia.domain.enums.FormatoImportacao;
 import com.barbearia.domain.enums.PeriodoRelatorio;
 import com.barbearia.infrastructure.persistence.entities.JpaDespesa;
 import com.barbearia.infrastructure.persistence.entities.JpaReceita;
@@ -23,7 +28,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -36,6 +44,7 @@ import java.util.List;
  * - Gestão de despesas
  * - Relatórios de comissões
  * - Métricas do dashboard
+ * - Exportação dos lançamentos financeiros
  * </p>
  */
 @Tag(name = "Financeiro", description = "Gestão financeira completa: receitas, despesas, relatórios e comissões")
@@ -47,15 +56,24 @@ public class FinanceiroController {
         private final FinanceiroService financeiroService;
         private final ComissaoService comissaoService;
         private final RelatorioService relatorioService;
+        private final LivroRazaoService livroRazaoService;
+        private final ExportacaoService exportacaoService;
+        private final ImportacaoService importacaoService;
         private final JwtService jwtService;
 
         public FinanceiroController(FinanceiroService financeiroService,
                         ComissaoService comissaoService,
                         RelatorioService relatorioService,
+                        LivroRazaoService livroRazaoService,
+                        ExportacaoService exportacaoService,
+                        ImportacaoService importacaoService,
                         JwtService jwtService) {
                 this.financeiroService = financeiroService;
                 this.comissaoService = comissaoService;
                 this.relatorioService = relatorioService;
+                this.livroRazaoService = livroRazaoService;
+                this.exportacaoService = exportacaoService;
+                this.importacaoService = importacaoService;
                 this.jwtService = jwtService;
         }
 
@@ -76,6 +94,64 @@ public class FinanceiroController {
                 return ResponseEntity.ok(financeiroService.gerarRelatorioFinanceiro(barbeariaId, periodo));
         }
 
+        @Operation(summary = "Demonstrativo de resultado", description = "Receitas de serviços, receitas extras, despesas e resultado do período (datas inclusivas), a partir do livro-razão financeiro.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Demonstrativo gerado com sucesso", content = @Content(mediaType = "application/json", schema = @Schema(implementation = DemonstrativoResultadoDto.class))),
+                        @ApiResponse(responseCode = "400", description = "Datas inválidas", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorDto.class))),
+                        @ApiResponse(responseCode = "401", description = "Não autorizado", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorDto.class)))
+        })
+        @GetMapping("/relatorios/resultado")
+        @PreAuthorize("hasRole('BARBEARIA')")
+        public ResponseEntity<DemonstrativoResultadoDto> obterDemonstrativoResultado(
+                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+                        HttpServletRequest request) {
+                Long barbeariaId = extrairBarbeariaId(request);
+                return ResponseEntity.ok(livroRazaoService.calcularResultado(barbeariaId, dataInicio, dataFim));
+        }
+
+        @Operation(summary = "Exportar lançamentos financeiros", description = "Baixa os lançamentos do livro-razão do período (padrão: últimos 12 meses) em CSV ou XLSX, gerado em streaming direto do banco. CSV é comprimido com gzip se o cliente enviar Accept-Encoding: gzip.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Arquivo gerado", content = {
+                                        @Content(mediaType = "text/csv"),
+                                        @Content(mediaType = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet") }),
+                        @ApiResponse(responseCode = "400", description = "Datas inválidas", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorDto.class))),
+                        @ApiResponse(responseCode = "401", description = "Não autorizado", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorDto.class)))
+        })
+        @GetMapping("/lancamentos/exportar")
+        @PreAuthorize("hasRole('BARBEARIA')")
+        public ResponseEntity<StreamingResponseBody> exportarLancamentos(
+                        @Parameter(description = "Formato do arquivo") @RequestParam(defaultValue = "CSV") FormatoExportacao formato,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+                        HttpServletRequest request) {
+                Long barbeariaId = extrairBarbeariaId(request);
+                LocalDate fim = dataFim != null ? dataFim : LocalDate.now();
+                LocalDate inicio = dataInicio != null ? dataInicio : fim.minusYears(1).plusDays(1);
+                exportacaoService.validarPeriodo(barbeariaId, inicio, fim);
+                return RespostaExportacao.criar(request, formato, "lancamentos_" + inicio + "_" + fim, "Lançamentos",
+                                escritor -> exportacaoService.exportarLancamentos(barbeariaId, inicio, fim, escritor));
+        }
+
+        @Operation(summary = "Importar despesas e receitas históricas", description = "Importa despesas e receitas extras de uma planilha ou de outro sistema (corpo da requisição em CSV ou NDJSON, opcionalmente com Content-Encoding: gzip). Colunas: tipo (DESPESA ou RECEITA), valor, categoria, descricao e data. Cada transação gera seu lançamento no livro-razão. Com simulacao=true o arquivo é apenas validado.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Importação processada; linhas recusadas listadas no resultado", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResultadoImportacaoDto.class))),
+                        @ApiResponse(responseCode = "400", description = "Parâmetros inválidos", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorDto.class))),
+                        @ApiResponse(responseCode = "401", description = "Não autorizado", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorDto.class)))
+        })
+        @PostMapping("/transacoes/importar")
+        @PreAuthorize("hasRole('BARBEARIA')")
+        public ResponseEntity<ResultadoImportacaoDto> importarTransacoes(
+                        @Parameter(description = "Formato do arquivo") @RequestParam(defaultValue = "CSV") FormatoImportacao formato,
+                        @Parameter(description = "Apenas valida, sem gravar") @RequestParam(defaultValue = "false") boolean simulacao,
+                        HttpServletRequest request) throws IOException {
+                Long barbeariaId = extrairBarbeariaId(request);
+                try (InputStream entrada = CorpoImportacao.abrir(request)) {
+                        return ResponseEntity.ok(importacaoService.importarTransacoes(barbeariaId, formato, entrada,
+                                        simulacao));
+                }
+        }
+
         @Operation(summary = "Gerar relatório de comissões", description = "Gera relatório detalhado de comissões dos profissionais.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Relatório gerado com sucesso", content = @Content(mediaType = "application/json", schema = @Schema(implementation = RelatorioComissoesDto.class))),
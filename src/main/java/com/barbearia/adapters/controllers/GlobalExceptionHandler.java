@@ -3,6 +3,7 @@ package com.barbearia.adapters.controllers;
 import com.barbearia.application.dto.ApiErrorDto;
 import com.barbearia.domain.exceptions.AcessoNegadoException;
 import com.barbearia.domain.exceptions.AgendamentoNaoEncontradoException;
+import com.barbearia.domain.exceptions.ValidacaoException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -23,6 +25,12 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, "Dados Inválidos", ex.getMessage(), request);
     }
 
+    @ExceptionHandler(ValidacaoException.class)
+    public ResponseEntity<ApiErrorDto> handleValidacaoException(ValidacaoException ex, HttpServletRequest request) {
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Dados Inválidos", ex.getMessage(), ex.getErros(),
+                request);
+    }
+
     @ExceptionHandler(AgendamentoNaoEncontradoException.class)
     public ResponseEntity<ApiErrorDto> handleAgendamentoNaoEncontradoException(AgendamentoNaoEncontradoException ex,
             HttpServletRequest request) {
@@ -43,11 +51,12 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiErrorDto> handleValidationExceptions(MethodArgumentNotValidException ex,
             HttpServletRequest request) {
-        String errorMessage = ex.getBindingResult().getFieldErrors().stream()
+        List<String> erros = ex.getBindingResult().getFieldErrors().stream()
                 .map(error -> error.getField() + ": " + error.getDefaultMessage())
-                .reduce("", (acc, curr) -> acc.isEmpty() ? curr : acc + "; " + curr);
+                .toList();
 
-        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Erro de Validação", errorMessage, request);
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Erro de Validação", String.join("; ", erros), erros,
+                request);
     }
 
     @ExceptionHandler(Exception.class)
@@ -58,12 +67,18 @@ public class GlobalExceptionHandler {
 
     private ResponseEntity<ApiErrorDto> buildErrorResponse(HttpStatus status, String error, String message,
             HttpServletRequest request) {
+        return buildErrorResponse(status, error, message, null, request);
+    }
+
+    private ResponseEntity<ApiErrorDto> buildErrorResponse(HttpStatus status, String error, String message,
+            List<String> erros, HttpServletRequest request) {
         ApiErrorDto apiError = ApiErrorDto.builder()
                 .timestamp(LocalDateTime.now())
                 .status(status.value())
                 .error(error)
                 .message(message)
                 .path(request.getRequestURI())
+                .erros(erros)
                 .build();
         return ResponseEntity.status(status).body(apiError);
     }
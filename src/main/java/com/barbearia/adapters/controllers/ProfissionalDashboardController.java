@@ -2,6 +2,7 @@ package com.barbearia.adapters.controllers;
 
 import com.barbearia.application.dto.*;
 import com.barbearia.application.services.*;
+import com.barbearia.adapters.observers.AgendaStreamHub;
 import com.barbearia.infrastructure.persistence.entities.JpaFuncionario;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,8 +15,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import jakarta.servlet.http.HttpServletRequest;
 
 import com.barbearia.domain.enums.StatusAgendamento;
@@ -38,16 +41,19 @@ public class ProfissionalDashboardController {
         private final HorarioBloqueioService horarioBloqueioService;
         private final HorarioGestaoService horarioGestaoService;
         private final AgendamentoService agendamentoService;
+        private final AgendaStreamHub agendaStreamHub;
 
         public ProfissionalDashboardController(
                         ProfissionalLinkService profissionalLinkService,
                         HorarioBloqueioService horarioBloqueioService,
                         HorarioGestaoService horarioGestaoService,
-                        AgendamentoService agendamentoService) {
+                        AgendamentoService agendamentoService,
+                        AgendaStreamHub agendaStreamHub) {
                 this.profissionalLinkService = profissionalLinkService;
                 this.horarioBloqueioService = horarioBloqueioService;
                 this.horarioGestaoService = horarioGestaoService;
                 this.agendamentoService = agendamentoService;
+                this.agendaStreamHub = agendaStreamHub;
         }
 
         /**
@@ -123,6 +129,25 @@ public class ProfissionalDashboardController {
                 return ResponseEntity.ok(agendamentos);
         }
 
+        /**
+         * Stream em tempo real das alterações na agenda do profissional.
+         */
+        @Operation(summary = "Stream da agenda", description = "Abre um stream SSE com criação, reagendamento, cancelamento, confirmação e conclusão de agendamentos do profissional. "
+                        +
+                        "Envie o cabeçalho Last-Event-ID ao reconectar para receber os eventos perdidos.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Stream aberto", content = @Content(mediaType = "text/event-stream")),
+                        @ApiResponse(responseCode = "401", description = "Link inválido", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorDto.class)))
+        })
+        @GetMapping(value = "/{accessToken}/agendamentos/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        public SseEmitter streamAgendamentos(
+                        @PathVariable String accessToken,
+                        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+                // Token validado apenas na abertura do stream
+                JpaFuncionario funcionario = profissionalLinkService.validarToken(accessToken);
+                return agendaStreamHub.inscreverProfissional(funcionario.getId(), lastEventId);
+        }
+
         /**
          * Obtém informações de comissões do profissional.
          */
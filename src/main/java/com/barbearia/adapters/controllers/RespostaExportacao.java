@@ -0,0 +1,64 @@
+package com.barbearia.adapters.controllers;
+
+import com.barbearia.domain.enums.FormatoExportacao;
+import com.barbearia.infrastructure.exportacao.EscritorPlanilha;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Monta a resposta de download das exportações (arquivo gravado em streaming
+ * no corpo da resposta).
+ *
+ * CSV é comprimido com gzip quando o cliente envia Accept-Encoding: gzip;
+ * XLSX já é um zip e segue sem compressão.
+ */
+final class RespostaExportacao {
+
+    @FunctionalInterface
+    interface Exportador {
+        void exportar(EscritorPlanilha escritor) throws IOException;
+    }
+
+    private RespostaExportacao() {
+    }
+
+    /**
+     * @param nomeArquivo  nome do arquivo baixado, sem extensão
+     * @param nomePlanilha nome da aba no XLSX (até 31 caracteres)
+     */
+    static ResponseEntity<StreamingResponseBody> criar(HttpServletRequest request, FormatoExportacao formato,
+            String nomeArquivo, String nomePlanilha, Exportador exportador) {
+        String aceita = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = formato == FormatoExportacao.CSV && aceita != null && aceita.toLowerCase().contains("gzip");
+
+        StreamingResponseBody corpo = saida -> {
+            OutputStream destino = gzip ? new GZIPOutputStream(saida, 8 * 1024) : saida;
+            exportador.exportar(EscritorPlanilha.para(formato, destino, nomePlanilha));
+            if (destino instanceof GZIPOutputStream compactado) {
+                compactado.finish();
+            }
+        };
+
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(formato.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(nomeArquivo + "." + formato.getExtensao(), StandardCharsets.UTF_8)
+                        .build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .cacheControl(CacheControl.noStore());
+        if (gzip) {
+            resposta.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return resposta.body(corpo);
+    }
+}
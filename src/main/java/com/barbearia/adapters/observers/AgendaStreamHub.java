@@ -0,0 +1,316 @@
+package com.barbearia.adapters.observers;
+
+import com.barbearia.application.events.AgendamentoAlteradoEvento;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hub em memória que distribui alterações de agendamentos via Server-Sent Events.
+ *
+ * Cada profissional e cada barbearia possuem um canal próprio. As conexões são
+ * SseEmitter assíncronos e cada uma tem sua fila limitada, esvaziada por uma
+ * thread virtual própria: quem publica só enfileira, então um cliente lento ou
+ * travado não atrasa os demais. A ordem dos eventos por conexão é a ordem da
+ * fila; uma conexão cuja fila enche é encerrada e o cliente, ao reconectar com
+ * Last-Event-ID, recebe o que perdeu (ou um "reset"). Os últimos eventos ficam
+ * em um histórico circular para essas reconexões.
+ */
+@Slf4j
+@Component
+public class AgendaStreamHub {
+
+    private static final String CANAL_PROFISSIONAL = "profissional:";
+    private static final String CANAL_BARBEARIA = "barbearia:";
+    private static final String NOME_EVENTO = "agendamento";
+    private static final String NOME_EVENTO_RESET = "reset";
+
+    private final Map<String, Set<Conexao>> inscricoes = new ConcurrentHashMap<>();
+    private final Deque<EventoRegistrado> historico = new ArrayDeque<>();
+    private final AtomicLong sequencia = new AtomicLong();
+    private final ScheduledExecutorService heartbeat;
+
+    private final long timeoutMs;
+    private final int historicoMaximo;
+    private final int filaMaxima;
+
+    public AgendaStreamHub(
+            @Value("${agenda.stream.timeout-ms:1800000}") long timeoutMs,
+            @Value("${agenda.stream.historico-maximo:1000}") int historicoMaximo,
+            @Value("${agenda.stream.heartbeat-segundos:25}") long heartbeatSegundos,
+            @Value("${agenda.stream.fila-maxima:256}") int filaMaxima) {
+        this.timeoutMs = timeoutMs;
+        this.historicoMaximo = historicoMaximo;
+        this.filaMaxima = filaMaxima;
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofVirtual().name("agenda-stream-heartbeat").factory());
+        this.heartbeat.scheduleAtFixedRate(this::enviarHeartbeat,
+                heartbeatSegundos, heartbeatSegundos, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Abre um stream com as alterações da agenda de um profissional.
+     *
+     * @param funcionarioId ID do profissional
+     * @param lastEventId   Último evento recebido pelo cliente (opcional)
+     * @return Emitter SSE registrado
+     */
+    public SseEmitter inscreverProfissional(Long funcionarioId, String lastEventId) {
+        return inscrever(CANAL_PROFISSIONAL + funcionarioId, lastEventId);
+    }
+
+    /**
+     * Abre um stream com as alterações de todos os agendamentos de uma barbearia.
+     *
+     * @param barbeariaId ID da barbearia
+     * @param lastEventId Último evento recebido pelo cliente (opcional)
+     * @return Emitter SSE registrado
+     */
+    public SseEmitter inscreverBarbearia(Long barbeariaId, String lastEventId) {
+        return inscrever(CANAL_BARBEARIA + barbeariaId, lastEventId);
+    }
+
+    /**
+     * Recebe a alteração após o commit da transação e a enfileira nas conexões
+     * do profissional e da barbearia.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAgendamentoAlterado(AgendamentoAlteradoEvento evento) {
+        // Registrar e enfileirar sob o mesmo lock da inscrição: uma conexão nova
+        // recebe o evento pelo histórico ou pela fila, nunca pelos dois
+        synchronized (historico) {
+            EventoRegistrado registrado = registrar(evento);
+            if (evento.funcionarioId() != null) {
+                entregar(CANAL_PROFISSIONAL + evento.funcionarioId(), registrado);
+            }
+            if (evento.barbeariaId() != null) {
+                entregar(CANAL_BARBEARIA + evento.barbeariaId(), registrado);
+            }
+        }
+    }
+
+    /**
+     * Quantidade de conexões abertas (todas as inscrições).
+     */
+    public int totalConexoes() {
+        return inscricoes.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        heartbeat.shutdownNow();
+        inscricoes.values().forEach(conexoes -> conexoes.forEach(Conexao::fechar));
+        inscricoes.clear();
+    }
+
+    /**
+     * Cria o emitter de uma nova conexão (sobrescrito nos testes).
+     */
+    SseEmitter criarEmitter(long timeout) {
+        return new SseEmitter(timeout);
+    }
+
+    private SseEmitter inscrever(String canal, String lastEventId) {
+        SseEmitter emitter = criarEmitter(timeoutMs);
+        Conexao conexao = new Conexao(canal, emitter);
+
+        Runnable remover = () -> removerConexao(conexao);
+        emitter.onCompletion(remover);
+        emitter.onTimeout(remover);
+        emitter.onError(erro -> remover.run());
+
+        Long ultimoId = converterLastEventId(lastEventId);
+        synchronized (historico) {
+            enfileirarPerdidos(conexao, ultimoId);
+            // Perdidos acima da fila: a conexão já nasce encerrada e o cliente reconecta
+            if (!conexao.aberta.get()) {
+                conexao.iniciar();
+                return emitter;
+            }
+            inscricoes.computeIfAbsent(canal, c -> new CopyOnWriteArraySet<>()).add(conexao);
+        }
+        conexao.iniciar();
+        return emitter;
+    }
+
+    /**
+     * Enfileira a confirmação de conexão e, em reconexões, os eventos perdidos.
+     * Se o cliente está atrás do histórico disponível, enfileira um evento
+     * "reset" para que recarregue a agenda completa. Chamado com o lock do
+     * histórico.
+     */
+    private void enfileirarPerdidos(Conexao conexao, Long ultimoId) {
+        conexao.enfileirar(SseEmitter.event().reconnectTime(3000).comment("conectado"));
+        if (ultimoId == null) {
+            return;
+        }
+
+        EventoRegistrado maisAntigo = historico.peekFirst();
+        // ID maior que a sequência atual indica que a aplicação foi reiniciada
+        boolean historicoInsuficiente = ultimoId > sequencia.get()
+                || (maisAntigo != null && maisAntigo.id() > ultimoId + 1);
+        if (historicoInsuficiente) {
+            conexao.enfileirar(SseEmitter.event().id(String.valueOf(sequencia.get())).name(NOME_EVENTO_RESET).data(""));
+            return;
+        }
+        for (EventoRegistrado registrado : historico) {
+            if (registrado.id() > ultimoId && pertenceAoCanal(conexao.canal, registrado.evento())
+                    && !conexao.enfileirar(montarEvento(registrado))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Chamado com o lock do histórico.
+     */
+    private EventoRegistrado registrar(AgendamentoAlteradoEvento evento) {
+        EventoRegistrado registrado = new EventoRegistrado(sequencia.incrementAndGet(), evento);
+        historico.addLast(registrado);
+        while (historico.size() > historicoMaximo) {
+            historico.removeFirst();
+        }
+        return registrado;
+    }
+
+    private void entregar(String canal, EventoRegistrado registrado) {
+        Set<Conexao> conexoes = inscricoes.get(canal);
+        if (conexoes == null) {
+            return;
+        }
+        SseEventBuilder evento = montarEvento(registrado);
+        for (Conexao conexao : conexoes) {
+            conexao.enfileirar(evento);
+        }
+    }
+
+    private SseEventBuilder montarEvento(EventoRegistrado registrado) {
+        return SseEmitter.event()
+                .id(String.valueOf(registrado.id()))
+                .name(NOME_EVENTO)
+                .data(registrado.evento(), MediaType.APPLICATION_JSON);
+    }
+
+    private void enviarHeartbeat() {
+        inscricoes.values().forEach(conexoes -> conexoes.forEach(
+                conexao -> conexao.enfileirar(SseEmitter.event().comment("ping"))));
+    }
+
+    private void removerConexao(Conexao conexao) {
+        conexao.fechar();
+        inscricoes.computeIfPresent(conexao.canal, (c, conexoes) -> {
+            conexoes.remove(conexao);
+            return conexoes.isEmpty() ? null : conexoes;
+        });
+    }
+
+    private boolean pertenceAoCanal(String canal, AgendamentoAlteradoEvento evento) {
+        return canal.equals(CANAL_PROFISSIONAL + evento.funcionarioId())
+                || canal.equals(CANAL_BARBEARIA + evento.barbeariaId());
+    }
+
+    private Long converterLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            log.debug("Last-Event-ID inválido ignorado: {}", lastEventId);
+            return null;
+        }
+    }
+
+    /**
+     * Uma conexão SSE com fila própria e a thread virtual que a esvazia.
+     *
+     * Só a thread da conexão escreve no emitter; quem enfileira nunca bloqueia.
+     * Fila cheia significa cliente que não acompanha: a conexão é encerrada.
+     */
+    private final class Conexao {
+
+        private final String canal;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEventBuilder> fila = new LinkedBlockingQueue<>(filaMaxima);
+        private final AtomicBoolean aberta = new AtomicBoolean(true);
+        private volatile Thread escritor;
+
+        Conexao(String canal, SseEmitter emitter) {
+            this.canal = canal;
+            this.emitter = emitter;
+        }
+
+        void iniciar() {
+            escritor = Thread.ofVirtual().name("agenda-stream-" + canal).start(this::escrever);
+            if (!aberta.get()) {
+                escritor.interrupt();
+            }
+        }
+
+        /**
+         * @return false se a conexão está fechada ou acabou de ser encerrada
+         *         por atraso
+         */
+        boolean enfileirar(SseEventBuilder evento) {
+            if (!aberta.get()) {
+                return false;
+            }
+            if (fila.offer(evento)) {
+                return true;
+            }
+            log.debug("Conexão SSE do canal {} atrasada ({} eventos na fila); encerrando", canal, filaMaxima);
+            removerConexao(this);
+            return false;
+        }
+
+        void fechar() {
+            if (aberta.compareAndSet(true, false) && escritor != null) {
+                escritor.interrupt();
+            }
+        }
+
+        private void escrever() {
+            try {
+                while (aberta.get()) {
+                    emitter.send(fila.take());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                removerConexao(this);
+                return;
+            }
+            // Encerrada pelo hub (atraso ou desligamento): finaliza a resposta
+            try {
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                log.debug("Conexão SSE do canal {} já finalizada", canal);
+            }
+        }
+    }
+
+    private record EventoRegistrado(long id, AgendamentoAlteradoEvento evento) {
+    }
+}
@@ -0,0 +1,153 @@
+package com.barbearia.adapters.observers;
+
+import com.barbearia.application.events.AgendamentoAlteradoEvento;
+import com.barbearia.application.events.AgendamentoAlteradoEvento.Detalhes;
+import com.barbearia.application.events.AgendamentoAlteradoEvento.TipoAlteracao;
+import com.barbearia.application.observers.AgendamentoEventObserver;
+import com.barbearia.application.observers.AgendamentoObserver;
+import com.barbearia.infrastructure.config.ExecucaoConfig;
+import com.barbearia.infrastructure.metrics.MetricasNegocio;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Barramento de eventos do ciclo de vida dos agendamentos.
+ *
+ * Recebe cada AgendamentoAlteradoEvento depois do commit da transação que o
+ * publicou (eventos de uma transação desfeita nunca saem) e repassa aos
+ * AgendamentoObserver (onStatusChanged a cada mudança de status) e aos
+ * AgendamentoEventObserver (criado, confirmado, cancelado e reagendado).
+ *
+ * A entrega é assíncrona, em notificacaoExecutor, e ordenada por
+ * agendamento: os eventos de um mesmo agendamento chegam aos observers na
+ * ordem das transações, enquanto agendamentos diferentes são entregues em
+ * paralelo. Os observers recebem os dados de exibição no próprio evento e
+ * não consultam o banco. A quantidade de eventos aguardando entrega é
+ * publicada em barbearia.eventos.fila.
+ */
+@Slf4j
+@Component
+public class BarramentoEventosAgendamento {
+
+    private static final String FILA = "agendamento";
+    private static final DateTimeFormatter DATA_HORA = DateTimeFormatter.ofPattern("dd/MM/yyyy 'às' HH:mm");
+    private static final String BARBEARIA_PADRAO = "Sua Barbearia";
+
+    private final List<AgendamentoObserver> observers;
+    private final List<AgendamentoEventObserver> eventObservers;
+    private final Executor executor;
+    private final MetricasNegocio metricas;
+    private final Map<Long, CompletableFuture<Void>> entregasPorAgendamento = new ConcurrentHashMap<>();
+    private final AtomicInteger pendentes = new AtomicInteger();
+
+    public BarramentoEventosAgendamento(List<AgendamentoObserver> observers,
+            List<AgendamentoEventObserver> eventObservers,
+            @Qualifier(ExecucaoConfig.NOTIFICACAO_EXECUTOR) Executor executor,
+            MetricasNegocio metricas) {
+        this.observers = observers != null ? observers : List.of();
+        this.eventObservers = eventObservers != null ? eventObservers : List.of();
+        this.executor = executor;
+        this.metricas = metricas != null ? metricas : MetricasNegocio.desligadas();
+        this.metricas.monitorarFilaEventos(FILA, pendentes::get);
+    }
+
+    /**
+     * Enfileira o evento atrás dos eventos anteriores do mesmo agendamento.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAgendamentoAlterado(AgendamentoAlteradoEvento evento) {
+        Long chave = evento.agendamentoId() != null ? evento.agendamentoId() : 0L;
+        pendentes.incrementAndGet();
+        CompletableFuture<Void> entrega = entregasPorAgendamento.compute(chave, (id, anterior) ->
+                (anterior != null ? anterior : CompletableFuture.<Void>completedFuture(null))
+                        .handleAsync((resultado, erro) -> {
+                            entregar(evento);
+                            return null;
+                        }, executor));
+        entrega.whenComplete((resultado, erro) -> {
+            pendentes.decrementAndGet();
+            entregasPorAgendamento.remove(chave, entrega);
+            if (erro != null) {
+                // Executor recusou a tarefa
+                metricas.registrarFalhaEvento(FILA);
+                log.error("Evento {} do agendamento {} não entregue: {}", evento.tipo(), chave, erro.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Eventos aguardando entrega.
+     */
+    public int pendentes() {
+        return pendentes.get();
+    }
+
+    void entregar(AgendamentoAlteradoEvento evento) {
+        if (evento.tipo() != TipoAlteracao.CRIADO && evento.status() != evento.statusAnterior()) {
+            for (AgendamentoObserver observer : observers) {
+                executarObserver(evento, () -> observer.onStatusChanged(evento.agendamentoId(),
+                        evento.statusAnterior(), evento.status(), evento.clienteId(), evento.barbeariaId()));
+            }
+        }
+
+        if (eventObservers.isEmpty()) {
+            return;
+        }
+        Detalhes detalhes = evento.detalhes() != null ? evento.detalhes() : Detalhes.VAZIO;
+        if (detalhes.clienteTelefone() == null) {
+            log.debug("Evento {} do agendamento {} sem telefone do cliente; observers detalhados ignorados",
+                    evento.tipo(), evento.agendamentoId());
+            return;
+        }
+        String dataHora = formatar(evento.dataHora());
+        String barbearia = detalhes.barbeariaNome() != null ? detalhes.barbeariaNome() : BARBEARIA_PADRAO;
+        for (AgendamentoEventObserver observer : eventObservers) {
+            executarObserver(evento, () -> {
+                switch (evento.tipo()) {
+                    case CRIADO -> observer.onAgendamentoCriado(evento.agendamentoId(), detalhes.clienteNome(),
+                            detalhes.clienteTelefone(), detalhes.servicoNome(), dataHora, barbearia);
+                    case CONFIRMADO -> observer.onAgendamentoConfirmado(evento.agendamentoId(),
+                            detalhes.clienteNome(), detalhes.clienteTelefone(), detalhes.servicoNome(), dataHora,
+                            barbearia);
+                    case CANCELADO -> observer.onAgendamentoCancelado(evento.agendamentoId(),
+                            detalhes.clienteNome(), detalhes.clienteTelefone(), detalhes.servicoNome(), dataHora,
+                            barbearia, null);
+                    case REAGENDADO -> observer.onAgendamentoReagendado(evento.agendamentoId(),
+                            detalhes.clienteNome(), detalhes.clienteTelefone(), detalhes.servicoNome(),
+                            formatar(evento.dataHoraAnterior()), dataHora, barbearia);
+                    case CONCLUIDO, FALTOU -> {
+                        // Sem evento detalhado; coberto por onStatusChanged
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Falha de um observer não impede a entrega aos demais.
+     */
+    private void executarObserver(AgendamentoAlteradoEvento evento, Runnable chamada) {
+        try {
+            chamada.run();
+        } catch (RuntimeException e) {
+            metricas.registrarFalhaEvento(FILA);
+            log.error("Erro ao entregar evento {} do agendamento {}: {}",
+                    evento.tipo(), evento.agendamentoId(), e.getMessage(), e);
+        }
+    }
+
+    private String formatar(LocalDateTime dataHora) {
+        return dataHora != null ? dataHora.format(DATA_HORA) : "";
+    }
+}
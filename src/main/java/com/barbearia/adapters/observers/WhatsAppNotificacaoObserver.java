@@ -6,12 +6,13 @@ import com.barbearia.application.ports.NotificacaoService;
 import com.barbearia.domain.enums.StatusAgendamento;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 /**
  * Observer que envia notificações WhatsApp para eventos de agendamento.
  * Implementa tanto a interface genérica quanto a específica para eventos detalhados.
+ * Os eventos chegam por BarramentoEventosAgendamento, já em
+ * notificacaoExecutor, após o commit e na ordem de cada agendamento.
  */
 @Slf4j
 @Component
@@ -21,7 +22,6 @@ public class WhatsAppNotificacaoObserver implements AgendamentoObserver, Agendam
     private final NotificacaoService notificacaoService;
 
     @Override
-    @Async
     public void onStatusChanged(Long agendamentoId, StatusAgendamento statusAnterior,
                               StatusAgendamento statusNovo, Long clienteId, Long barbeariaId) {
         log.info("Mudança de status detectada - Agendamento: {}, De: {} Para: {}",
@@ -43,7 +43,6 @@ public class WhatsAppNotificacaoObserver implements AgendamentoObserver, Agendam
     }
 
     @Override
-    @Async
     public void onAgendamentoCriado(Long agendamentoId, String clienteNome, String clienteTelefone,
                                   String servicoNome, String dataHora, String barbeariaNome) {
         String mensagem = criarMensagemAgendamentoCriado(clienteNome, servicoNome, dataHora, barbeariaNome);
@@ -59,7 +58,6 @@ public class WhatsAppNotificacaoObserver implements AgendamentoObserver, Agendam
     }
 
     @Override
-    @Async
     public void onAgendamentoConfirmado(Long agendamentoId, String clienteNome, String clienteTelefone,
                                       String servicoNome, String dataHora, String barbeariaNome) {
         String mensagem = criarMensagemAgendamentoConfirmado(clienteNome, servicoNome, dataHora, barbeariaNome);
@@ -75,7 +73,6 @@ public class WhatsAppNotificacaoObserver implements AgendamentoObserver, Agendam
     }
 
     @Override
-    @Async
     public void onAgendamentoCancelado(Long agendamentoId, String clienteNome, String clienteTelefone,
                                      String servicoNome, String dataHora, String barbeariaNome,
                                      String motivoCancelamento) {
@@ -93,7 +90,6 @@ public class WhatsAppNotificacaoObserver implements AgendamentoObserver, Agendam
     }
 
     @Override
-    @Async
     public void onAgendamentoReagendado(Long agendamentoId, String clienteNome, String clienteTelefone,
                                       String servicoNome, String dataHoraAntiga, String dataHoraNova,
                                       String barbeariaNome) {
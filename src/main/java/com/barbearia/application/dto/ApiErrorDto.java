@@ -1,5 +1,6 @@
 package com.barbearia.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -7,6 +8,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @Builder
@@ -29,4 +31,12 @@ public class ApiErrorDto {
 
     @Schema(description = "Caminho da requisição", example = "/api/agendamentos")
     private String path;
+
+    @Schema(description = "Todos os problemas de validação encontrados (ausente nos demais erros)", example = "[\"ID do serviço não pode ser nulo\", \"Data/hora do agendamento não pode ser nula\"]")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> erros;
+
+    public ApiErrorDto(LocalDateTime timestamp, int status, String error, String message, String path) {
+        this(timestamp, status, error, message, path, null);
+    }
 }
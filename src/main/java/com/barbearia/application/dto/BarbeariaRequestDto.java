@@ -1,6 +1,8 @@
 package com.barbearia.application.dto;
 
 import com.barbearia.domain.enums.TipoDocumento;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -67,6 +69,17 @@ public class BarbeariaRequestDto {
     @Size(min = 5, max = 200, message = "Endereço deve ter entre 5 e 200 caracteres")
     private String endereco;
     
+    /**
+     * Localização opcional, usada na busca por proximidade
+     */
+    @DecimalMin(value = "-90.0", message = "Latitude deve estar entre -90 e 90")
+    @DecimalMax(value = "90.0", message = "Latitude deve estar entre -90 e 90")
+    private Double latitude;
+    
+    @DecimalMin(value = "-180.0", message = "Longitude deve estar entre -180 e 180")
+    @DecimalMax(value = "180.0", message = "Longitude deve estar entre -180 e 180")
+    private Double longitude;
+    
     /**
      * Construtor padrão
      */
@@ -173,6 +186,22 @@ public class BarbeariaRequestDto {
         this.endereco = endereco;
     }
     
+    public Double getLatitude() {
+        return latitude;
+    }
+    
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+    
+    public Double getLongitude() {
+        return longitude;
+    }
+    
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+    
     @Override
     public String toString() {
         return "BarbeariaRequestDto{" +
@@ -0,0 +1,49 @@
+package com.barbearia.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO com uma página de resultados da busca de barbearias do marketplace.
+ *
+ * A paginação não calcula o total de registros: temMais indica se existe
+ * uma próxima página.
+ *
+ * @param itens   Barbearias da página
+ * @param pagina  Número da página (começa em 0)
+ * @param tamanho Tamanho da página
+ * @param temMais true se existem mais resultados
+ *
+ * @author Sua Barbearia Team
+ */
+public record BuscaBarbeariasDto(
+    List<ItemDto> itens,
+    int pagina,
+    int tamanho,
+    boolean temMais
+) {
+
+    /**
+     * Barbearia encontrada na busca (apenas os campos exibidos na listagem).
+     *
+     * @param id              ID da barbearia
+     * @param nomeFantasia    Nome fantasia
+     * @param endereco        Endereço
+     * @param latitude        Latitude (quando cadastrada)
+     * @param longitude       Longitude (quando cadastrada)
+     * @param distanciaKm     Distância até o ponto informado (quando houver)
+     * @param mediaAvaliacoes Média das avaliações (null se não houver)
+     * @param totalAvaliacoes Quantidade de avaliações
+     */
+    public record ItemDto(
+        Long id,
+        String nomeFantasia,
+        String endereco,
+        Double latitude,
+        Double longitude,
+        Double distanciaKm,
+        BigDecimal mediaAvaliacoes,
+        long totalAvaliacoes
+    ) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.barbearia.application.dto;
+
+import com.barbearia.domain.enums.TipoPerfil;
+
+import java.util.List;
+
+/**
+ * DTO com o catálogo público de uma barbearia: serviços ativos, profissionais
+ * ativos e horários de funcionamento padrão.
+ *
+ * Montado uma única vez por versão do catálogo e servido a partir de memória.
+ *
+ * @param barbeariaId   ID da barbearia
+ * @param servicos      Serviços ativos
+ * @param profissionais Profissionais ativos
+ * @param horarios      Horários de funcionamento padrão da barbearia
+ *
+ * @author Sua Barbearia Team
+ */
+public record CatalogoBarbeariaDto(
+    Long barbeariaId,
+    List<ServicoDto> servicos,
+    List<ProfissionalCatalogoDto> profissionais,
+    List<HorarioFuncionamentoResponseDto> horarios
+) {
+
+    /**
+     * Dados públicos de um profissional no catálogo.
+     *
+     * @param id     ID do profissional
+     * @param nome   Nome do profissional
+     * @param perfil Perfil (barbeiro, manicure, ...)
+     */
+    public record ProfissionalCatalogoDto(Long id, String nome, TipoPerfil perfil) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.barbearia.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO do demonstrativo de resultado (receitas, despesas e lucro) de um
+ * período, calculado a partir do livro-razão financeiro.
+ */
+@Schema(description = "Demonstrativo de resultado do período")
+public record DemonstrativoResultadoDto(
+        @Schema(description = "Período consultado") PeriodoDto periodo,
+
+        @Schema(description = "Receitas de agendamentos concluídos", example = "12450.00") BigDecimal receitasServicos,
+
+        @Schema(description = "Receitas extras", example = "830.00") BigDecimal receitasExtras,
+
+        @Schema(description = "Receita total", example = "13280.00") BigDecimal receitaTotal,
+
+        @Schema(description = "Despesas", example = "5420.00") BigDecimal despesas,
+
+        @Schema(description = "Resultado (receita total - despesas)", example = "7860.00") BigDecimal resultado) {
+}
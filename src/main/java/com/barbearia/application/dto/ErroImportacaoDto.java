@@ -0,0 +1,13 @@
+package com.barbearia.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Linha recusada em uma importação.
+ */
+@Schema(description = "Linha recusada na importação")
+public record ErroImportacaoDto(
+        @Schema(description = "Linha do arquivo (o cabeçalho do CSV é a linha 1)", example = "42") long linha,
+
+        @Schema(description = "Motivo da recusa", example = "Serviço não encontrado: Barba completa") String mensagem) {
+}
@@ -0,0 +1,84 @@
+package com.barbearia.application.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * DTO que representa a grade do dia de uma barbearia (tela da recepção).
+ *
+ * <p>Reúne, para cada profissional ativo, o expediente efetivo do dia,
+ * os agendamentos, os bloqueios e os intervalos livres.</p>
+ *
+ * @param barbeariaId ID da barbearia
+ * @param data Data da grade
+ * @param ultimaAtualizacao Última atualização entre os agendamentos do dia
+ * @param profissionais Grade de cada profissional ativo
+ *
+ * @author Sua Barbearia Team
+ */
+public record GradeAgendaDiaDto(
+    Long barbeariaId,
+    LocalDate data,
+    LocalDateTime ultimaAtualizacao,
+    List<ProfissionalGradeDto> profissionais
+) {
+
+    /**
+     * Grade de um profissional no dia.
+     *
+     * @param funcionarioId ID do profissional
+     * @param nome Nome do profissional
+     * @param profissao Perfil do profissional
+     * @param horaAbertura Início do expediente (null se não trabalha no dia)
+     * @param horaFechamento Fim do expediente (null se não trabalha no dia)
+     * @param agendamentos Agendamentos não cancelados do dia
+     * @param bloqueios Bloqueios do dia
+     * @param livres Intervalos livres dentro do expediente
+     */
+    public record ProfissionalGradeDto(
+        Long funcionarioId,
+        String nome,
+        String profissao,
+        LocalTime horaAbertura,
+        LocalTime horaFechamento,
+        List<AgendamentoGradeDto> agendamentos,
+        List<IntervaloDto> bloqueios,
+        List<IntervaloDto> livres
+    ) {}
+
+    /**
+     * Agendamento exibido na grade.
+     *
+     * @param id ID do agendamento
+     * @param inicio Hora de início
+     * @param fim Hora de término (início + duração do serviço)
+     * @param status Status do agendamento
+     * @param clienteNome Nome do cliente
+     * @param servicoNome Nome do serviço
+     * @param duracao Duração do serviço em minutos
+     */
+    public record AgendamentoGradeDto(
+        Long id,
+        LocalTime inicio,
+        LocalTime fim,
+        String status,
+        String clienteNome,
+        String servicoNome,
+        Integer duracao
+    ) {}
+
+    /**
+     * Intervalo de tempo dentro do dia (bloqueio ou horário livre).
+     *
+     * @param inicio Hora de início
+     * @param fim Hora de término
+     * @param motivo Motivo (apenas para bloqueios)
+     */
+    public record IntervaloDto(
+        LocalTime inicio,
+        LocalTime fim,
+        String motivo
+    ) {}
+}
@@ -0,0 +1,17 @@
+package com.barbearia.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Linha do tempo do cliente: próximos agendamentos e histórico paginado.
+ */
+@Schema(description = "Próximos agendamentos e histórico do cliente")
+public record LinhaDoTempoClienteDto(
+        @Schema(description = "Próximos agendamentos, do mais próximo ao mais distante (apenas na primeira página)") List<AgendamentoBriefDto> proximos,
+
+        @Schema(description = "Agendamentos anteriores, do mais recente ao mais antigo") List<AgendamentoBriefDto> anteriores,
+
+        @Schema(description = "Cursor da próxima página do histórico (nulo quando não há mais)", example = "MjAyNS0xMC0yOFQxNDozMHw0Mg") String proximoCursor) {
+}
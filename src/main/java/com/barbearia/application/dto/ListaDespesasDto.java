@@ -16,7 +16,13 @@ public record ListaDespesasDto(
 
                 @Schema(description = "Período consultado") PeriodoDto periodo,
 
-                @Schema(description = "Lista de despesas") List<TransacaoFinanceiraDto> despesas,
+                @Schema(description = "Despesas da página (os totais cobrem o período inteiro)") List<TransacaoFinanceiraDto> despesas,
 
-                @Schema(description = "Resumo por categoria") List<CategoriaResumoDto> resumoPorCategoria) {
+                @Schema(description = "Resumo por categoria") List<CategoriaResumoDto> resumoPorCategoria,
+
+                @Schema(description = "Página retornada (começa em 0)", example = "0") Integer pagina,
+
+                @Schema(description = "Tamanho da página", example = "50") Integer tamanhoPagina,
+
+                @Schema(description = "Total de páginas", example = "3") Integer totalPaginas) {
 }
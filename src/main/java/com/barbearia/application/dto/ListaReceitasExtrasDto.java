@@ -16,7 +16,13 @@ public record ListaReceitasExtrasDto(
 
         @Schema(description = "Período consultado") PeriodoDto periodo,
 
-        @Schema(description = "Lista de receitas") List<TransacaoFinanceiraDto> receitas,
+        @Schema(description = "Receitas da página (os totais cobrem o período inteiro)") List<TransacaoFinanceiraDto> receitas,
 
-        @Schema(description = "Resumo por categoria") List<CategoriaResumoDto> resumoPorCategoria) {
+        @Schema(description = "Resumo por categoria") List<CategoriaResumoDto> resumoPorCategoria,
+
+        @Schema(description = "Página retornada (começa em 0)", example = "0") Integer pagina,
+
+        @Schema(description = "Tamanho da página", example = "50") Integer tamanhoPagina,
+
+        @Schema(description = "Total de páginas", example = "3") Integer totalPaginas) {
 }
@@ -0,0 +1,23 @@
+package com.barbearia.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Resultado de uma importação de dados históricos.
+ */
+@Schema(description = "Resultado da importação")
+public record ResultadoImportacaoDto(
+        @Schema(description = "Registros lidos do arquivo", example = "1200") long registrosLidos,
+
+        @Schema(description = "Registros gravados (ou válidos, na simulação)", example = "1195") long importados,
+
+        @Schema(description = "Registros recusados", example = "5") long recusados,
+
+        @Schema(description = "Apenas validação, sem gravar nada") boolean simulacao,
+
+        @Schema(description = "Linhas recusadas e motivos") List<ErroImportacaoDto> erros,
+
+        @Schema(description = "Indica que havia mais erros do que os listados") boolean errosTruncados) {
+}
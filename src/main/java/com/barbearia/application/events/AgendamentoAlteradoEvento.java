@@ -0,0 +1,81 @@
+package com.barbearia.application.events;
+
+import com.barbearia.domain.enums.StatusAgendamento;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Evento publicado pelo AgendamentoService a cada alteração no ciclo de vida
+ * de um agendamento (criação, reagendamento e mudanças de status).
+ *
+ * Carrega os identificadores necessários para rotear o evento ao profissional
+ * e à barbearia e, em detalhes, os dados de exibição (cliente, serviço,
+ * profissional e barbearia), para que os consumidores não precisem consultar
+ * o banco.
+ *
+ * @param tipo             Tipo da alteração
+ * @param agendamentoId    ID do agendamento
+ * @param barbeariaId      ID da barbearia
+ * @param funcionarioId    ID do profissional
+ * @param clienteId        ID do cliente
+ * @param servicoId        ID do serviço
+ * @param status           Status após a alteração
+ * @param statusAnterior   Status antes da alteração (nulo na criação)
+ * @param dataHora         Data e hora do agendamento após a alteração
+ * @param dataHoraAnterior Data e hora anterior (apenas em reagendamentos)
+ * @param ocorridoEm       Momento da alteração
+ * @param detalhes         Dados de exibição no momento da alteração
+ *
+ * @author Sua Barbearia Team
+ */
+public record AgendamentoAlteradoEvento(
+    TipoAlteracao tipo,
+    Long agendamentoId,
+    Long barbeariaId,
+    Long funcionarioId,
+    Long clienteId,
+    Long servicoId,
+    StatusAgendamento status,
+    StatusAgendamento statusAnterior,
+    LocalDateTime dataHora,
+    LocalDateTime dataHoraAnterior,
+    LocalDateTime ocorridoEm,
+    Detalhes detalhes
+) {
+
+    /**
+     * Dados de exibição do agendamento (campos nulos quando o registro
+     * relacionado não existe).
+     *
+     * @param clienteNome     Nome do cliente
+     * @param clienteTelefone Telefone do cliente
+     * @param servicoNome     Nome do serviço
+     * @param servicoPreco    Preço do serviço
+     * @param funcionarioNome Nome do profissional
+     * @param barbeariaNome   Nome fantasia da barbearia
+     */
+    public record Detalhes(
+        String clienteNome,
+        String clienteTelefone,
+        String servicoNome,
+        BigDecimal servicoPreco,
+        String funcionarioNome,
+        String barbeariaNome
+    ) {
+
+        public static final Detalhes VAZIO = new Detalhes(null, null, null, null, null, null);
+    }
+
+    /**
+     * Tipos de alteração do ciclo de vida de um agendamento.
+     */
+    public enum TipoAlteracao {
+        CRIADO,
+        REAGENDADO,
+        CANCELADO,
+        CONFIRMADO,
+        CONCLUIDO,
+        FALTOU
+    }
+}
@@ -0,0 +1,15 @@
+package com.barbearia.application.events;
+
+/**
+ * Evento publicado sempre que o catálogo público de uma barbearia muda
+ * (serviços, profissionais ou horários de funcionamento).
+ *
+ * Consumido após o commit pelo BarbeariaService, que descarta o snapshot
+ * em memória e incrementa a versão do catálogo.
+ *
+ * @param barbeariaId ID da barbearia cujo catálogo foi alterado
+ *
+ * @author Sua Barbearia Team
+ */
+public record CatalogoAlteradoEvento(Long barbeariaId) {
+}
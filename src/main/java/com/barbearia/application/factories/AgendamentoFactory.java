@@ -0,0 +1,70 @@
+package com.barbearia.application.factories;
+
+import com.barbearia.domain.entities.Agendamento;
+import com.barbearia.domain.enums.StatusAgendamento;
+
+import java.time.LocalDateTime;
+
+/**
+ * Factory (Fábrica) para criação de objetos Agendamento.
+ *
+ * Centraliza a montagem de agendamentos fora do fluxo HTTP (importações,
+ * massas de dados e migrações), garantindo as mesmas validações de domínio.
+ *
+ * @author Sua Barbearia Team
+ */
+public class AgendamentoFactory {
+
+    /**
+     * Cria um novo agendamento PENDENTE já atribuído a um profissional.
+     *
+     * @param clienteId ID do cliente
+     * @param barbeariaId ID da barbearia
+     * @param servicoId ID do serviço
+     * @param funcionarioId ID do profissional
+     * @param dataHora Data e hora do atendimento
+     * @param observacoes Observações (opcional)
+     * @return Nova instância de Agendamento
+     * @throws IllegalArgumentException se os dados forem inválidos
+     */
+    public static Agendamento criarAgendamento(Long clienteId, Long barbeariaId, Long servicoId,
+                                               Long funcionarioId, LocalDateTime dataHora,
+                                               String observacoes) {
+        if (funcionarioId == null) {
+            throw new IllegalArgumentException("Profissional é obrigatório");
+        }
+
+        Agendamento agendamento = new Agendamento(clienteId, barbeariaId, servicoId, dataHora, observacoes);
+        agendamento.atribuirBarbeiro(funcionarioId);
+        return agendamento;
+    }
+
+    /**
+     * Cria um agendamento com status e datas já definidos (para histórico
+     * importado ou massas de dados).
+     *
+     * @param clienteId ID do cliente
+     * @param barbeariaId ID da barbearia
+     * @param servicoId ID do serviço
+     * @param funcionarioId ID do profissional
+     * @param dataHora Data e hora do atendimento
+     * @param status Status do agendamento
+     * @param dataCriacao Data em que o agendamento foi feito
+     * @return Nova instância de Agendamento
+     * @throws IllegalArgumentException se os dados forem inválidos
+     */
+    public static Agendamento criarAgendamentoHistorico(Long clienteId, Long barbeariaId, Long servicoId,
+                                                        Long funcionarioId, LocalDateTime dataHora,
+                                                        StatusAgendamento status, LocalDateTime dataCriacao) {
+        if (clienteId == null || barbeariaId == null || servicoId == null || funcionarioId == null) {
+            throw new IllegalArgumentException("Cliente, barbearia, serviço e profissional são obrigatórios");
+        }
+
+        if (dataHora == null || status == null || dataCriacao == null) {
+            throw new IllegalArgumentException("Data/hora, status e data de criação são obrigatórios");
+        }
+
+        return new Agendamento(null, clienteId, barbeariaId, funcionarioId, servicoId, dataHora,
+                status, null, dataCriacao, dataCriacao, false);
+    }
+}
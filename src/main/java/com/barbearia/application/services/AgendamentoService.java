@@ -6,10 +6,15 @@ import com.barbearia.application.dto.AgendamentoBriefDto;
 import com.barbearia.application.dto.AgendamentoRequestDto;
 import com.barbearia.application.dto.AgendamentoResponseDto;
 import com.barbearia.application.dto.AgendamentoProfissionalDto;
-import com.barbearia.application.observers.AgendamentoEventObserver;
+import com.barbearia.application.events.AgendamentoAlteradoEvento;
+import com.barbearia.application.events.AgendamentoAlteradoEvento.TipoAlteracao;
+import com.barbearia.application.utils.ErrosValidacao;
+import com.barbearia.domain.enums.NaturezaLancamento;
+import com.barbearia.domain.enums.OrigemLancamento;
 import com.barbearia.domain.enums.StatusAgendamento;
 import com.barbearia.domain.exceptions.AcessoNegadoException;
 import com.barbearia.domain.exceptions.AgendamentoNaoEncontradoException;
+import com.barbearia.domain.exceptions.ValidacaoException;
 import com.barbearia.infrastructure.persistence.entities.JpaAgendamento;
 import com.barbearia.infrastructure.persistence.entities.JpaCliente;
 import com.barbearia.infrastructure.persistence.entities.JpaFuncionario;
@@ -19,13 +24,17 @@ import com.barbearia.infrastructure.persistence.repositories.ClienteRepository;
 import com.barbearia.infrastructure.persistence.repositories.FuncionarioRepository;
 import com.barbearia.infrastructure.persistence.repositories.ProfissionalServicoRepository;
 import com.barbearia.infrastructure.persistence.repositories.ServicoRepository;
+import com.barbearia.infrastructure.metrics.MetricasNegocio;
+import com.barbearia.infrastructure.metrics.MetricasNegocio.ResultadoAgendamento;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -38,7 +47,9 @@ import java.util.stream.Collectors;
  * - Buscar agendamentos futuros de um cliente
  * - Criar novos agendamentos
  * - Buscar agendamento por ID com verificação de autorização
- * - Atualizar status de agendamentos (futuro)
+ * - Atualizar status de agendamentos (confirmar, concluir, cancelar,
+ *   reagendar, marcar falta)
+ * - Publicar um AgendamentoAlteradoEvento a cada transição do ciclo de vida
  * 
  * Regras de negócio:
  * - Cliente só pode ver seus próprios agendamentos
@@ -50,12 +61,18 @@ import java.util.stream.Collectors;
 @Service
 public class AgendamentoService {
 
+    // Erros de propriedade do agendamento direto (o controller responde 422)
+    public static final String FUNCIONARIO_DE_OUTRA_BARBEARIA = "Funcionário não pertence a esta barbearia";
+    public static final String SERVICO_DE_OUTRA_BARBEARIA = "Serviço não pertence a esta barbearia";
+
     private final AgendamentoRepository agendamentoRepository;
     private final FuncionarioRepository funcionarioRepository;
     private final ServicoRepository servicoRepository;
     private final ClienteRepository clienteRepository;
     private final ProfissionalServicoRepository profissionalServicoRepository;
-    private final List<AgendamentoEventObserver> eventObservers;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MetricasNegocio metricas;
+    private final LivroRazaoService livroRazaoService;
 
     public AgendamentoService(AgendamentoRepository agendamentoRepository,
             FuncionarioRepository funcionarioRepository,
@@ -63,13 +80,18 @@ public class AgendamentoService {
             ClienteRepository clienteRepository,
             ProfissionalServicoRepository profissionalServicoRepository,
             ProfissionalLinkService profissionalLinkService,
-            List<AgendamentoEventObserver> eventObservers) {
+            ApplicationEventPublisher eventPublisher,
+            MetricasNegocio metricas,
+            LivroRazaoService livroRazaoService) {
         this.agendamentoRepository = agendamentoRepository;
         this.funcionarioRepository = funcionarioRepository;
         this.servicoRepository = servicoRepository;
         this.clienteRepository = clienteRepository;
         this.profissionalServicoRepository = profissionalServicoRepository;
-        this.eventObservers = eventObservers != null ? eventObservers : new ArrayList<>();
+        this.eventPublisher = eventPublisher != null ? eventPublisher : evento -> {
+        };
+        this.metricas = metricas != null ? metricas : MetricasNegocio.desligadas();
+        this.livroRazaoService = livroRazaoService;
     }
 
     /**
@@ -410,92 +432,96 @@ public class AgendamentoService {
      * - Não deve haver conflito de horário
      * - Data/hora não pode ser no passado
      * 
+     * Tempo e resultado (criado, conflito, rejeitado, erro) são publicados em
+     * MetricasNegocio.
+     * 
      * @param clienteId  ID do cliente (proprietário do agendamento)
      * @param requestDto Dados de requisição (servicoId, funcionarioId, dataHora,
      *                   observacoes)
      * @return DTO de resposta com os dados do agendamento criado
-     * @throws IllegalArgumentException se validações falharem
+     * @throws ValidacaoException com todos os problemas dos dados enviados
      */
     public AgendamentoResponseDto criarAgendamento(Long clienteId, AgendamentoRequestDto requestDto) {
-        // Validação básica
-        if (clienteId == null) {
-            throw new IllegalArgumentException("ID do cliente não pode ser nulo");
-        }
-
-        if (requestDto == null) {
-            throw new IllegalArgumentException("Dados do agendamento não podem ser nulos");
-        }
-
-        if (requestDto.getServicoId() == null) {
-            throw new IllegalArgumentException("ID do serviço não pode ser nulo");
-        }
-
-        if (requestDto.getFuncionarioId() == null) {
-            throw new IllegalArgumentException("ID do funcionário não pode ser nulo");
-        }
-
-        if (requestDto.getDataHora() == null) {
-            throw new IllegalArgumentException("Data/hora do agendamento não pode ser nula");
-        }
-
-        // Validação: data/hora não pode ser no passado
-        if (requestDto.getDataHora().isBefore(LocalDateTime.now())) {
-            throw new IllegalArgumentException("Data/hora do agendamento não pode ser no passado");
-        }
-
-        // Busca o serviço
-        @SuppressWarnings("null")
-        Optional<JpaServico> servicoOpt = servicoRepository.findById(requestDto.getServicoId());
-        if (servicoOpt.isEmpty()) {
-            throw new IllegalArgumentException("Serviço com ID " + requestDto.getServicoId() + " não existe");
-        }
+        Timer.Sample amostra = metricas.iniciar();
+        Long barbeariaId = null;
+        ResultadoAgendamento resultado = ResultadoAgendamento.ERRO;
+        try {
+            // Validação dos campos: todos os problemas voltam juntos, sem ir ao banco
+            ErrosValidacao erros = new ErrosValidacao()
+                    .exigir(clienteId != null, "ID do cliente não pode ser nulo")
+                    .exigir(requestDto != null, "Dados do agendamento não podem ser nulos");
+            if (requestDto != null) {
+                erros.exigir(requestDto.getServicoId() != null, "ID do serviço não pode ser nulo")
+                        .exigir(requestDto.getFuncionarioId() != null, "ID do funcionário não pode ser nulo")
+                        .exigir(requestDto.getDataHora() != null, "Data/hora do agendamento não pode ser nula");
+                if (requestDto.getDataHora() != null) {
+                    erros.exigir(!requestDto.getDataHora().isBefore(LocalDateTime.now()),
+                            "Data/hora do agendamento não pode ser no passado");
+                }
+            }
+            erros.lancarSeHouver();
 
-        // Valida que o serviço existe (apenas verifica, não usa a referência)
-        servicoOpt.get();
+            // Serviço e funcionário são buscados juntos para reportar ambos
+            @SuppressWarnings("null")
+            Optional<JpaServico> servicoOpt = servicoRepository.findById(requestDto.getServicoId());
+            @SuppressWarnings("null")
+            Optional<JpaFuncionario> funcionarioOpt = funcionarioRepository.findById(requestDto.getFuncionarioId());
+            if (servicoOpt.isEmpty()) {
+                erros.adicionar("Serviço com ID " + requestDto.getServicoId() + " não existe");
+            }
+            if (funcionarioOpt.isEmpty()) {
+                erros.adicionar("Funcionário com ID " + requestDto.getFuncionarioId() + " não existe");
+            }
+            erros.lancarSeHouver();
 
-        // Busca o funcionário
-        @SuppressWarnings("null")
-        Optional<JpaFuncionario> funcionarioOpt = funcionarioRepository.findById(requestDto.getFuncionarioId());
-        if (funcionarioOpt.isEmpty()) {
-            throw new IllegalArgumentException("Funcionário com ID " + requestDto.getFuncionarioId() + " não existe");
-        }
+            JpaFuncionario funcionario = funcionarioOpt.get();
+            barbeariaId = funcionario.getBarbeariaId();
 
-        JpaFuncionario funcionario = funcionarioOpt.get();
+            // Validação: funcionário deve executar o serviço
+            if (!profissionalServicoRepository.canPrestarServico(
+                    requestDto.getFuncionarioId(),
+                    requestDto.getServicoId())) {
+                throw new ValidacaoException("Funcionário não executa este serviço");
+            }
 
-        // Validação: funcionário deve executar o serviço
-        if (!profissionalServicoRepository.canPrestarServico(
-                requestDto.getFuncionarioId(),
-                requestDto.getServicoId())) {
-            throw new IllegalArgumentException("Funcionário não executa este serviço");
-        }
+            // Validação: verificar conflito de horário
+            if (agendamentoRepository.existsConflictByBarbeiroIdAndDataHora(
+                    requestDto.getFuncionarioId(),
+                    requestDto.getDataHora())) {
+                resultado = ResultadoAgendamento.CONFLITO;
+                metricas.registrarConflito(barbeariaId, "cliente");
+                throw new ValidacaoException("Horário não disponível para este funcionário");
+            }
 
-        // Validação: verificar conflito de horário
-        if (agendamentoRepository.existsConflictByBarbeiroIdAndDataHora(
-                requestDto.getFuncionarioId(),
-                requestDto.getDataHora())) {
-            throw new IllegalArgumentException("Horário não disponível para este funcionário");
+            // Cria novo agendamento
+            JpaAgendamento novoAgendamento = new JpaAgendamento();
+            novoAgendamento.setClienteId(clienteId);
+            novoAgendamento.setServicoId(requestDto.getServicoId());
+            novoAgendamento.setBarbeiroId(requestDto.getFuncionarioId());
+            novoAgendamento.setBarbeariaId(barbeariaId);
+            novoAgendamento.setDataHora(requestDto.getDataHora());
+            novoAgendamento.setObservacoes(requestDto.getObservacoes() != null ? requestDto.getObservacoes() : "");
+            novoAgendamento.setStatus(StatusAgendamento.PENDENTE);
+            novoAgendamento.setDataCriacao(LocalDateTime.now());
+            novoAgendamento.setDataAtualizacao(LocalDateTime.now());
+
+            // Salva no banco de dados
+            JpaAgendamento agendamentoSalvo = agendamentoRepository.save(novoAgendamento);
+
+            // Observers (ex.: WhatsApp) recebem o evento após o commit
+            publicarAlteracao(TipoAlteracao.CRIADO, agendamentoSalvo, null, null);
+
+            // Retorna DTO de resposta
+            resultado = ResultadoAgendamento.CRIADO;
+            return AgendamentoMapper.toResponseDto(agendamentoSalvo);
+        } catch (IllegalArgumentException e) {
+            if (resultado != ResultadoAgendamento.CONFLITO) {
+                resultado = ResultadoAgendamento.REJEITADO;
+            }
+            throw e;
+        } finally {
+            metricas.registrarAgendamento(amostra, barbeariaId, resultado);
         }
-
-        // Cria novo agendamento
-        JpaAgendamento novoAgendamento = new JpaAgendamento();
-        novoAgendamento.setClienteId(clienteId);
-        novoAgendamento.setServicoId(requestDto.getServicoId());
-        novoAgendamento.setBarbeiroId(requestDto.getFuncionarioId());
-        novoAgendamento.setBarbeariaId(funcionario.getBarbeariaId());
-        novoAgendamento.setDataHora(requestDto.getDataHora());
-        novoAgendamento.setObservacoes(requestDto.getObservacoes() != null ? requestDto.getObservacoes() : "");
-        novoAgendamento.setStatus(StatusAgendamento.PENDENTE);
-        novoAgendamento.setDataCriacao(LocalDateTime.now());
-        novoAgendamento.setDataAtualizacao(LocalDateTime.now());
-
-        // Salva no banco de dados
-        JpaAgendamento agendamentoSalvo = agendamentoRepository.save(novoAgendamento);
-
-        // Notificar criação do agendamento
-        notificarCriacaoAgendamento(agendamentoSalvo, clienteId, requestDto.getServicoId(), funcionario);
-
-        // Retorna DTO de resposta
-        return AgendamentoMapper.toResponseDto(agendamentoSalvo);
     }
 
     /**
@@ -520,12 +546,11 @@ public class AgendamentoService {
             String tipoUsuario) {
 
         // Validar parâmetros
-        if (agendamentoOriginalId == null) {
-            throw new IllegalArgumentException("ID do agendamento não pode ser nulo");
-        }
-        if (usuarioId == null) {
-            throw new IllegalArgumentException("ID do usuário não pode ser nulo");
-        }
+        new ErrosValidacao()
+                .exigir(agendamentoOriginalId != null, "ID do agendamento não pode ser nulo")
+                .exigir(usuarioId != null, "ID do usuário não pode ser nulo")
+                .exigir(novaDataHora != null, "Nova data/hora não pode ser nula")
+                .lancarSeHouver();
 
         // Buscar agendamento original
         JpaAgendamento original = agendamentoRepository.findById(agendamentoOriginalId)
@@ -537,22 +562,20 @@ public class AgendamentoService {
             throw new AcessoNegadoException("Sem permissão para repetir este agendamento");
         }
 
-        // Validar que está concluído
+        // Validar status e nova data
+        ErrosValidacao erros = new ErrosValidacao();
         if (original.getStatus() != StatusAgendamento.CONCLUIDO) {
-            throw new IllegalArgumentException(
-                    "Apenas agendamentos concluídos podem ser repetidos. " +
-                            "Status atual: " + original.getStatus());
-        }
-
-        // Validar nova data
-        if (novaDataHora.isBefore(LocalDateTime.now())) {
-            throw new IllegalArgumentException("Nova data/hora não pode ser no passado");
+            erros.adicionar("Apenas agendamentos concluídos podem ser repetidos. " +
+                    "Status atual: " + original.getStatus());
         }
+        erros.exigir(!novaDataHora.isBefore(LocalDateTime.now()), "Nova data/hora não pode ser no passado")
+                .lancarSeHouver();
 
         // Verificar conflito de horário
         if (agendamentoRepository.existsConflictByBarbeiroIdAndDataHora(
                 original.getBarbeiroId(), novaDataHora)) {
-            throw new IllegalArgumentException("Horário não disponível para este funcionário");
+            metricas.registrarConflito(original.getBarbeariaId(), "repeticao");
+            throw new ValidacaoException("Horário não disponível para este funcionário");
         }
 
         // CRIAR NOVO AGENDAMENTO (não modificar o original)
@@ -568,6 +591,7 @@ public class AgendamentoService {
         novoAgendamento.setDataAtualizacao(LocalDateTime.now());
 
         JpaAgendamento salvo = agendamentoRepository.save(novoAgendamento);
+        publicarAlteracao(TipoAlteracao.CRIADO, salvo, null, null);
 
         return AgendamentoMapper.toResponseDto(salvo);
     }
@@ -585,55 +609,49 @@ public class AgendamentoService {
             Long barbeariaId,
             com.barbearia.application.dto.AgendamentoDiretoRequestDto dto) {
 
-        // Validações básicas
-        if (barbeariaId == null) {
-            throw new IllegalArgumentException("ID da barbearia não pode ser nulo");
-        }
-        if (dto == null) {
-            throw new IllegalArgumentException("Dados do agendamento não podem ser nulos");
-        }
-        if (dto.getDataHora() == null) {
-            throw new IllegalArgumentException("Data/hora não pode ser nula");
-        }
-        if (dto.getDataHora().isBefore(LocalDateTime.now())) {
-            throw new IllegalArgumentException("Data/hora não pode ser no passado");
-        }
-        if (dto.getFuncionarioId() == null) {
-            throw new IllegalArgumentException("ID do funcionário não pode ser nulo");
-        }
-        if (dto.getServicoId() == null) {
-            throw new IllegalArgumentException("ID do serviço não pode ser nulo");
+        // Validações básicas: todos os problemas voltam juntos, sem ir ao banco
+        ErrosValidacao erros = new ErrosValidacao()
+                .exigir(barbeariaId != null, "ID da barbearia não pode ser nulo")
+                .exigir(dto != null, "Dados do agendamento não podem ser nulos");
+        if (dto != null) {
+            erros.exigir(dto.getDataHora() != null, "Data/hora não pode ser nula");
+            if (dto.getDataHora() != null) {
+                erros.exigir(!dto.getDataHora().isBefore(LocalDateTime.now()), "Data/hora não pode ser no passado");
+            }
+            erros.exigir(dto.getFuncionarioId() != null, "ID do funcionário não pode ser nulo")
+                    .exigir(dto.getServicoId() != null, "ID do serviço não pode ser nulo");
         }
+        erros.lancarSeHouver();
 
-        // Verificar que funcionário pertence à barbearia
         // Objects.requireNonNull garante ao compilador que não é null
         Long funcionarioId = java.util.Objects.requireNonNull(dto.getFuncionarioId());
         Long servicoId = java.util.Objects.requireNonNull(dto.getServicoId());
 
-        JpaFuncionario funcionario = funcionarioRepository.findById(funcionarioId)
-                .orElseThrow(() -> new IllegalArgumentException("Funcionário não encontrado"));
-
-        if (!funcionario.getBarbeariaId().equals(barbeariaId)) {
-            throw new IllegalArgumentException("Funcionário não pertence a esta barbearia");
+        // Verificar que funcionário e serviço existem e pertencem à barbearia
+        Optional<JpaFuncionario> funcionario = funcionarioRepository.findById(funcionarioId);
+        Optional<JpaServico> servico = servicoRepository.findById(servicoId);
+        if (funcionario.isEmpty()) {
+            erros.adicionar("Funcionário não encontrado");
+        } else if (!funcionario.get().getBarbeariaId().equals(barbeariaId)) {
+            erros.adicionar(FUNCIONARIO_DE_OUTRA_BARBEARIA);
         }
-
-        // Verificar que serviço existe e pertence à barbearia
-        JpaServico servico = servicoRepository.findById(servicoId)
-                .orElseThrow(() -> new IllegalArgumentException("Serviço não encontrado"));
-
-        if (!servico.getBarbeariaId().equals(barbeariaId)) {
-            throw new IllegalArgumentException("Serviço não pertence a esta barbearia");
+        if (servico.isEmpty()) {
+            erros.adicionar("Serviço não encontrado");
+        } else if (!servico.get().getBarbeariaId().equals(barbeariaId)) {
+            erros.adicionar(SERVICO_DE_OUTRA_BARBEARIA);
         }
+        erros.lancarSeHouver();
 
         // Verificar que funcionário pode fazer o serviço
         if (!profissionalServicoRepository.canPrestarServico(funcionarioId, servicoId)) {
-            throw new IllegalArgumentException("Profissional não executa este serviço");
+            throw new ValidacaoException("Profissional não executa este serviço");
         }
 
         // Verificar conflito de horário
         if (agendamentoRepository.existsConflictByBarbeiroIdAndDataHora(
                 dto.getFuncionarioId(), dto.getDataHora())) {
-            throw new IllegalArgumentException("Horário não disponível para este profissional");
+            metricas.registrarConflito(barbeariaId, "direto");
+            throw new ValidacaoException("Horário não disponível para este profissional");
         }
 
         // Buscar ou criar cliente
@@ -679,6 +697,7 @@ public class AgendamentoService {
         agendamento.setDataAtualizacao(LocalDateTime.now());
 
         JpaAgendamento salvo = agendamentoRepository.save(agendamento);
+        publicarAlteracao(TipoAlteracao.CRIADO, salvo, null, null);
 
         return AgendamentoMapper.toResponseDto(salvo);
     }
@@ -769,158 +788,91 @@ public class AgendamentoService {
     }
 
     /**
-     * statusNovo,
-     * agendamento.getClienteId(),
-     * barbeariaId);
-     * 
-     * // Notificar eventos específicos se houver mudança para status relevante
-     * if (statusNovo == StatusAgendamento.CONFIRMADO && statusAnterior !=
-     * StatusAgendamento.CONFIRMADO) {
-     * notificarEventoEspecifico(agendamentoAtualizado, "confirmado", null);
-     * } else if (statusNovo == StatusAgendamento.CANCELADO && statusAnterior !=
-     * StatusAgendamento.CANCELADO) {
-     * notificarEventoEspecifico(agendamentoAtualizado, "cancelado", null);
-     * }
-     * 
-     * return AgendamentoMapper.toResponseDto(agendamentoAtualizado);
-     * }
-     * 
-     * /**
-     * cliente.getNome(),
-     * cliente.getTelefone(),
-     * servico.getNome(),
-     * dataHora,
-     * barbeariaNome,
-     * motivoCancelamento);
-     * break;
-     * default:
-     * System.err.println("Tipo de evento desconhecido: " + tipoEvento);
-     * }
-     * 
-     * } catch (Exception e) {
-     * System.err.println("Erro ao preparar notificação de evento específico: " +
-     * e.getMessage());
-     * }
-     * }
-     * 
-     * /**
-     * Método auxiliar para notificar a criação de um agendamento.
-     * 
-     * @param agendamento Agendamento JPA salvo
-     * @param clienteId   ID do cliente
-     * @param servicoId   ID do serviço
-     * @param funcionario Funcionário JPA
+     * Mantém a receita do agendamento no livro-razão: lança o preço do serviço
+     * quando o agendamento passa a CONCLUIDO e estorna quando deixa de estar
+     * concluído ou muda de data (a receita é reconhecida na data do
+     * atendimento). Roda na transação da alteração de status.
+     *
+     * @param agendamento      Agendamento já salvo
+     * @param statusAnterior   Status antes da alteração
+     * @param dataHoraAnterior Data e hora antes da alteração
      */
-    private void notificarCriacaoAgendamento(JpaAgendamento agendamento, Long clienteId, Long servicoId,
-            JpaFuncionario funcionario) {
-        try {
-            // Buscar dados do cliente
-            @SuppressWarnings("null")
-            JpaCliente cliente = clienteRepository.findById(clienteId).orElse(null);
-            if (cliente == null) {
-                System.err.println("Cliente não encontrado para agendamento: " + agendamento.getId());
-                return;
-            }
-
-            // Buscar dados do serviço
-            @SuppressWarnings("null")
-            JpaServico servico = servicoRepository.findById(servicoId).orElse(null);
-            if (servico == null) {
-                System.err.println("Serviço não encontrado para agendamento: " + agendamento.getId());
-                return;
+    private void atualizarLivroRazao(JpaAgendamento agendamento, StatusAgendamento statusAnterior,
+            LocalDateTime dataHoraAnterior) {
+        if (livroRazaoService == null) {
+            return;
+        }
+        boolean estavaConcluido = statusAnterior == StatusAgendamento.CONCLUIDO;
+        boolean estaConcluido = agendamento.getStatus() == StatusAgendamento.CONCLUIDO;
+        boolean mudouData = !agendamento.getDataHora().toLocalDate().equals(dataHoraAnterior.toLocalDate());
+
+        if (estavaConcluido && (!estaConcluido || mudouData)) {
+            livroRazaoService.estornar(OrigemLancamento.AGENDAMENTO, agendamento.getId(),
+                    agendamento.getBarbeariaId());
+        }
+        if (estaConcluido && (!estavaConcluido || mudouData)) {
+            Long servicoId = agendamento.getServicoId();
+            JpaServico servico = servicoId != null ? servicoRepository.findById(servicoId).orElse(null) : null;
+            if (servico == null || servico.getPreco() == null) {
+                throw new IllegalStateException("Serviço do agendamento " + agendamento.getId() + " não encontrado");
             }
-
-            // Nome da barbearia (placeholder por enquanto)
-            String barbeariaNome = "Sua Barbearia";
-
-            // Formatar data/hora
-            String dataHora = agendamento.getDataHora()
-                    .format(java.time.format.DateTimeFormatter.ofPattern("dd/MM/yyyy 'às' HH:mm"));
-
-            // Notificar criação
-            notificarAgendamentoCriado(
-                    agendamento.getId(),
-                    cliente.getNome(),
-                    cliente.getTelefone(),
-                    servico.getNome(),
-                    dataHora,
-                    barbeariaNome);
-
-        } catch (Exception e) {
-            System.err.println("Erro ao preparar notificação de criação de agendamento: " + e.getMessage());
+            livroRazaoService.lancar(NaturezaLancamento.RECEITA_SERVICO, OrigemLancamento.AGENDAMENTO,
+                    agendamento.getId(), agendamento.getBarbeariaId(), servico.getPreco(),
+                    LivroRazaoService.CATEGORIA_SERVICO, servico.getNome(), agendamento.getDataHora().toLocalDate());
         }
     }
 
     /**
-     * Notifica todos os event observers sobre a criação de um agendamento.
+     * Publica o evento de alteração do agendamento para os ouvintes da aplicação
+     * (observers via BarramentoEventosAgendamento, feed em tempo real da
+     * agenda, lembretes). Ouvintes transacionais recebem o evento apenas após
+     * o commit.
      * 
-     * @param agendamentoId   ID do agendamento criado
-     * @param clienteNome     Nome do cliente
-     * @param clienteTelefone Telefone do cliente
-     * @param servicoNome     Nome do serviço
-     * @param dataHora        Data e hora do agendamento
-     * @param barbeariaNome   Nome da barbearia
+     * @param tipo             Tipo da alteração
+     * @param agendamento      Agendamento já salvo
+     * @param statusAnterior   Status antes da alteração (nulo na criação)
+     * @param dataHoraAnterior Data e hora anterior (apenas em reagendamentos)
      */
-    private void notificarAgendamentoCriado(
-            Long agendamentoId,
-            String clienteNome,
-            String clienteTelefone,
-            String servicoNome,
-            String dataHora,
-            String barbeariaNome) {
-
-        for (AgendamentoEventObserver observer : eventObservers) {
-            try {
-                observer.onAgendamentoCriado(
-                        agendamentoId,
-                        clienteNome,
-                        clienteTelefone,
-                        servicoNome,
-                        dataHora,
-                        barbeariaNome);
-            } catch (Exception e) {
-                // Log erro mas não interrompe o fluxo
-                System.err.println("Erro ao notificar event observer sobre criação: " + e.getMessage());
-            }
+    private void publicarAlteracao(TipoAlteracao tipo, JpaAgendamento agendamento, StatusAgendamento statusAnterior,
+            LocalDateTime dataHoraAnterior) {
+        try {
+            eventPublisher.publishEvent(new AgendamentoAlteradoEvento(
+                    tipo,
+                    agendamento.getId(),
+                    agendamento.getBarbeariaId(),
+                    agendamento.getBarbeiroId(),
+                    agendamento.getClienteId(),
+                    agendamento.getServicoId(),
+                    agendamento.getStatus(),
+                    statusAnterior,
+                    agendamento.getDataHora(),
+                    dataHoraAnterior,
+                    LocalDateTime.now(),
+                    buscarDetalhesEvento(agendamento.getId())));
+        } catch (Exception e) {
+            // Log erro mas não interrompe o fluxo
+            System.err.println("Erro ao publicar alteração de agendamento: " + e.getMessage());
         }
     }
 
     /**
-     * Notifica todos os event observers sobre o reagendamento de um agendamento.
-     * 
-     * @param agendamentoId   ID do agendamento reagendado
-     * @param clienteNome     Nome do cliente
-     * @param clienteTelefone Telefone do cliente
-     * @param servicoNome     Nome do serviço
-     * @param dataHoraAntiga  Data e hora antiga
-     * @param dataHoraNova    Data e hora nova
-     * @param barbeariaNome   Nome da barbearia
+     * Dados de exibição do evento (cliente, serviço, profissional e barbearia)
+     * em uma consulta, para que os observers não voltem ao banco.
      */
-    @SuppressWarnings("unused")
-    private void notificarAgendamentoReagendado(
-            Long agendamentoId,
-            String clienteNome,
-            String clienteTelefone,
-            String servicoNome,
-            String dataHoraAntiga,
-            String dataHoraNova,
-            String barbeariaNome) {
-
-        for (AgendamentoEventObserver observer : eventObservers) {
-            try {
-                observer.onAgendamentoReagendado(
-                        agendamentoId,
-                        clienteNome,
-                        clienteTelefone,
-                        servicoNome,
-                        dataHoraAntiga,
-                        dataHoraNova,
-                        barbeariaNome);
-            } catch (Exception e) {
-                // Log erro mas não interrompe o fluxo
-                System.err.println("Erro ao notificar event observer sobre reagendamento: " + e.getMessage());
-            }
-        }
+    private AgendamentoAlteradoEvento.Detalhes buscarDetalhesEvento(Long agendamentoId) {
+        List<Object[]> linhas = agendamentoRepository.buscarDetalhesEvento(agendamentoId);
+        if (linhas == null || linhas.isEmpty()) {
+            return AgendamentoAlteradoEvento.Detalhes.VAZIO;
+        }
+        Object[] linha = linhas.get(0);
+        return new AgendamentoAlteradoEvento.Detalhes(
+                (String) linha[0],
+                (String) linha[1],
+                (String) linha[2],
+                linha[3] instanceof BigDecimal preco ? preco
+                        : linha[3] instanceof Number numero ? new BigDecimal(numero.toString()) : null,
+                (String) linha[4],
+                (String) linha[5]);
     }
 
     /**
@@ -994,9 +946,12 @@ public class AgendamentoService {
             throw new IllegalArgumentException("Não é possível cancelar agendamentos passados");
         }
 
+        StatusAgendamento statusAnterior = agendamento.getStatus();
         agendamento.setStatus(StatusAgendamento.CANCELADO);
         agendamento.setDataAtualizacao(LocalDateTime.now());
         agendamentoRepository.save(agendamento);
+        atualizarLivroRazao(agendamento, statusAnterior, agendamento.getDataHora());
+        publicarAlteracao(TipoAlteracao.CANCELADO, agendamento, statusAnterior, null);
     }
 
     /**
@@ -1012,17 +967,21 @@ public class AgendamentoService {
     @SuppressWarnings("null")
     public AgendamentoResponseDto reagendarAgendamento(Long agendamentoId, LocalDateTime novaDataHora, Long usuarioId,
             String tipoUsuario) {
+        // Nova data ausente ou no passado é recusada antes de ir ao banco
+        ErrosValidacao erros = new ErrosValidacao()
+                .exigir(novaDataHora != null, "Nova data/hora não pode ser nula");
+        if (novaDataHora != null) {
+            erros.exigir(!novaDataHora.isBefore(LocalDateTime.now()), "Nova data/hora não pode ser no passado");
+        }
+        erros.lancarSeHouver();
+
         // Busca com validação de permissão
         buscarAgendamentoPorId(agendamentoId, usuarioId, tipoUsuario);
 
         JpaAgendamento agendamento = agendamentoRepository.findById(agendamentoId).orElseThrow();
 
         if (agendamento.getStatus() == StatusAgendamento.CANCELADO) {
-            throw new IllegalArgumentException("Não é possível reagendar um agendamento cancelado");
-        }
-
-        if (novaDataHora.isBefore(LocalDateTime.now())) {
-            throw new IllegalArgumentException("Nova data/hora não pode ser no passado");
+            throw new ValidacaoException("Não é possível reagendar um agendamento cancelado");
         }
 
         // Verificar conflito de horário (excluindo o próprio agendamento se for o mesmo
@@ -1030,9 +989,11 @@ public class AgendamentoService {
         if (agendamentoRepository.existsConflictByBarbeiroIdAndDataHora(
                 agendamento.getBarbeiroId(),
                 novaDataHora)) {
-            throw new IllegalArgumentException("Horário não disponível para este funcionário");
+            metricas.registrarConflito(agendamento.getBarbeariaId(), "reagendamento");
+            throw new ValidacaoException("Horário não disponível para este funcionário");
         }
 
+        LocalDateTime dataHoraAnterior = agendamento.getDataHora();
         agendamento.setDataHora(novaDataHora);
         agendamento.setDataAtualizacao(LocalDateTime.now());
         // Se estava confirmado, talvez devesse voltar para pendente?
@@ -1041,6 +1002,9 @@ public class AgendamentoService {
         // O usuário pediu "Reagendar e cancelar", assumindo fluxo simples.
 
         JpaAgendamento agendamentoSalvo = agendamentoRepository.save(agendamento);
+        atualizarLivroRazao(agendamentoSalvo, agendamentoSalvo.getStatus(), dataHoraAnterior);
+        publicarAlteracao(TipoAlteracao.REAGENDADO, agendamentoSalvo, agendamentoSalvo.getStatus(),
+                dataHoraAnterior);
 
         return AgendamentoMapper.toResponseDto(agendamentoSalvo);
     }
@@ -1068,9 +1032,12 @@ public class AgendamentoService {
             throw new AcessoNegadoException("Clientes não podem confirmar agendamentos");
         }
 
+        StatusAgendamento statusAnterior = agendamento.getStatus();
         agendamento.setStatus(StatusAgendamento.CONFIRMADO);
         agendamento.setDataAtualizacao(LocalDateTime.now());
         agendamentoRepository.save(agendamento);
+        atualizarLivroRazao(agendamento, statusAnterior, agendamento.getDataHora());
+        publicarAlteracao(TipoAlteracao.CONFIRMADO, agendamento, statusAnterior, null);
     }
 
     /**
@@ -1096,9 +1063,12 @@ public class AgendamentoService {
             throw new AcessoNegadoException("Clientes não podem concluir agendamentos");
         }
 
+        StatusAgendamento statusAnterior = agendamento.getStatus();
         agendamento.setStatus(StatusAgendamento.CONCLUIDO);
         agendamento.setDataAtualizacao(LocalDateTime.now());
         agendamentoRepository.save(agendamento);
+        atualizarLivroRazao(agendamento, statusAnterior, agendamento.getDataHora());
+        publicarAlteracao(TipoAlteracao.CONCLUIDO, agendamento, statusAnterior, null);
     }
 
     /**
@@ -1132,9 +1102,11 @@ public class AgendamentoService {
                             + agendamento.getStatus());
         }
 
+        StatusAgendamento statusAnterior = agendamento.getStatus();
         agendamento.setStatus(StatusAgendamento.FALTOU);
         agendamento.setDataAtualizacao(LocalDateTime.now());
         agendamentoRepository.save(agendamento);
+        publicarAlteracao(TipoAlteracao.FALTOU, agendamento, statusAnterior, null);
     }
 
     /**
@@ -6,9 +6,13 @@ import com.barbearia.adapters.mappers.HorarioFuncionamentoMapper;
 import com.barbearia.application.dto.BarbeariaRequestDto;
 import com.barbearia.application.dto.BarbeariaResponseDto;
 import com.barbearia.application.dto.BarbeariaListItemDto;
+import com.barbearia.application.dto.BuscaBarbeariasDto;
+import com.barbearia.application.dto.CatalogoBarbeariaDto;
+import com.barbearia.application.dto.CatalogoBarbeariaDto.ProfissionalCatalogoDto;
 import com.barbearia.application.dto.ServicoDto;
 import com.barbearia.application.dto.HorarioFuncionamentoRequestDto;
 import com.barbearia.application.dto.HorarioFuncionamentoResponseDto;
+import com.barbearia.application.events.CatalogoAlteradoEvento;
 import com.barbearia.application.factories.UsuarioFactory;
 import com.barbearia.application.factories.JpaServicoFactory;
 import com.barbearia.application.utils.DocumentoValidator;
@@ -19,12 +23,25 @@ import com.barbearia.infrastructure.persistence.entities.JpaHorarioFuncionamento
 import com.barbearia.infrastructure.persistence.repositories.BarbeariaRepository;
 import com.barbearia.infrastructure.persistence.repositories.ServicoRepository;
 import com.barbearia.infrastructure.persistence.repositories.HorarioFuncionamentoRepository;
+import com.barbearia.infrastructure.persistence.repositories.FuncionarioRepository;
+import com.barbearia.infrastructure.metrics.MetricasNegocio;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Service responsável pela lógica de negócio de Barbearia.
@@ -66,6 +83,63 @@ public class BarbeariaService {
      */
     private final HorarioFuncionamentoRepository horarioFuncionamentoRepository;
 
+    /**
+     * Repository para acesso a dados de funcionários (catálogo público)
+     */
+    private final FuncionarioRepository funcionarioRepository;
+
+    /**
+     * Publicador dos eventos de alteração do catálogo
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Métricas de acerto dos snapshots em memória
+     */
+    private final MetricasNegocio metricas;
+
+    /**
+     * Tempo máximo de vida de um snapshot do catálogo. Limita a defasagem
+     * quando a alteração acontece em outra instância da aplicação.
+     */
+    private static final Duration VALIDADE_SNAPSHOT = Duration.ofMinutes(5);
+
+    /**
+     * Versão do catálogo de cada barbearia, incrementada a cada alteração.
+     * A versão global (listagem de barbearias) usa a chave 0.
+     */
+    private final Map<Long, AtomicLong> versoesCatalogo = new ConcurrentHashMap<>();
+
+    /**
+     * Snapshots em memória dos serviços e do catálogo completo por barbearia.
+     * São montados a partir do primário, nunca da réplica de leitura: uma
+     * réplica atrasada guardaria dados antigos sob a versão nova.
+     */
+    private final Map<Long, Snapshot<List<ServicoDto>>> servicosEmCache = new ConcurrentHashMap<>();
+    private final Map<Long, Snapshot<CatalogoBarbeariaDto>> catalogosEmCache = new ConcurrentHashMap<>();
+
+    /**
+     * Snapshot da listagem pública de barbearias ativas
+     */
+    private volatile Snapshot<List<BarbeariaListItemDto>> listagemEmCache;
+
+    private static final Long CHAVE_LISTAGEM = 0L;
+
+    /**
+     * Nomes dos snapshots nas métricas de cache
+     */
+    private static final String CACHE_LISTAGEM = "listagem_barbearias";
+    private static final String CACHE_SERVICOS = "servicos";
+    private static final String CACHE_CATALOGO = "catalogo";
+
+    /**
+     * Limites da busca de barbearias do marketplace
+     */
+    private static final double RAIO_PADRAO_KM = 10.0;
+    private static final double RAIO_MAXIMO_KM = 100.0;
+    private static final int TAMANHO_MAXIMO_PAGINA = 50;
+    private static final double KM_POR_GRAU_LATITUDE = 111.045;
+
     /**
      * Encoder para fazer hash de senhas usando BCrypt
      * BCrypt é um algoritmo robusto e recomendado para senhas
@@ -79,13 +153,23 @@ public class BarbeariaService {
      * @param barbeariaRepository            Repository de barbearias
      * @param servicoRepository              Repository de serviços
      * @param horarioFuncionamentoRepository Repository de horários de funcionamento
+     * @param funcionarioRepository          Repository de funcionários
+     * @param eventPublisher                 Publicador de eventos do catálogo
+     * @param metricas                       Métricas de negócio (acertos de cache)
      */
     public BarbeariaService(BarbeariaRepository barbeariaRepository,
             ServicoRepository servicoRepository,
-            HorarioFuncionamentoRepository horarioFuncionamentoRepository) {
+            HorarioFuncionamentoRepository horarioFuncionamentoRepository,
+            FuncionarioRepository funcionarioRepository,
+            ApplicationEventPublisher eventPublisher,
+            MetricasNegocio metricas) {
         this.barbeariaRepository = barbeariaRepository;
         this.servicoRepository = servicoRepository;
         this.horarioFuncionamentoRepository = horarioFuncionamentoRepository;
+        this.funcionarioRepository = funcionarioRepository;
+        this.eventPublisher = eventPublisher != null ? eventPublisher : evento -> {
+        };
+        this.metricas = metricas != null ? metricas : MetricasNegocio.desligadas();
         this.passwordEncoder = new BCryptPasswordEncoder();
     }
 
@@ -129,10 +213,13 @@ public class BarbeariaService {
 
         // 7. Converte barbearia de domínio para entidade JPA
         JpaBarbearia jpaBarbearia = BarbeariaMapper.toJpaEntity(barbearia);
+        jpaBarbearia.setLatitude(requestDto.getLatitude());
+        jpaBarbearia.setLongitude(requestDto.getLongitude());
 
         // 8. Salva no banco de dados
         @SuppressWarnings("null")
         JpaBarbearia barbeariaSalva = barbeariaRepository.save(jpaBarbearia);
+        eventPublisher.publishEvent(new CatalogoAlteradoEvento(barbeariaSalva.getId()));
 
         // 9. Converte para DTO de resposta (sem senha) e retorna
         return BarbeariaMapper.toResponseDto(barbeariaSalva);
@@ -269,23 +356,237 @@ public class BarbeariaService {
     /**
      * Lista todas as barbearias ativas do sistema.
      * 
+     * A listagem é servida a partir de um snapshot em memória, descartado a
+     * cada cadastro de barbearia ou após VALIDADE_SNAPSHOT.
+     * 
      * @return Lista de DTOs com informações resumidas das barbearias
      */
     public List<BarbeariaListItemDto> listarBarbearias() {
+        Snapshot<List<BarbeariaListItemDto>> snapshot = listagemEmCache;
+        if (snapshot != null && snapshot.valido(versaoAtual(CHAVE_LISTAGEM))) {
+            metricas.registrarCache(CACHE_LISTAGEM, true);
+            return snapshot.conteudo();
+        }
+        metricas.registrarCache(CACHE_LISTAGEM, false);
+
+        long versao = versaoAtual(CHAVE_LISTAGEM);
         List<JpaBarbearia> barbearias = barbeariaRepository.findByAtivoTrue();
-        return barbearias.stream()
+        List<BarbeariaListItemDto> listagem = barbearias.stream()
                 .map(BarbeariaMapper::toListItemDto)
                 .toList();
+        if (versaoAtual(CHAVE_LISTAGEM) == versao) {
+            listagemEmCache = new Snapshot<>(versao, LocalDateTime.now(), listagem);
+        }
+        return listagem;
+    }
+
+    /**
+     * Busca barbearias ativas para o marketplace, com paginação e filtros
+     * opcionais.
+     * 
+     * - texto: nome fantasia ou bairro/endereço (busca de texto completo)
+     * - latitude/longitude + raioKm: apenas barbearias no raio, ordenadas por
+     *   distância
+     * - notaMinima: média mínima das avaliações (1 a 5)
+     * - disponivelHoje: apenas barbearias abertas agora com profissional ativo
+     * 
+     * Somente leitura: com a réplica habilitada a busca roda nela.
+     * 
+     * @param texto          Texto livre (opcional)
+     * @param latitude       Latitude do ponto de referência (opcional)
+     * @param longitude      Longitude do ponto de referência (opcional)
+     * @param raioKm         Raio em km (padrão RAIO_PADRAO_KM)
+     * @param notaMinima     Média mínima das avaliações (opcional)
+     * @param disponivelHoje Filtra barbearias abertas agora
+     * @param pagina         Página (começa em 0)
+     * @param tamanho        Tamanho da página (máximo TAMANHO_MAXIMO_PAGINA)
+     * @return Página de resultados projetados
+     * @throws IllegalArgumentException se os filtros forem inválidos
+     */
+    @Transactional(readOnly = true)
+    public BuscaBarbeariasDto buscarBarbearias(String texto, Double latitude, Double longitude, Double raioKm,
+            BigDecimal notaMinima, boolean disponivelHoje, int pagina, int tamanho) {
+        return buscarBarbearias(texto, latitude, longitude, raioKm, notaMinima, disponivelHoje, pagina, tamanho,
+                LocalDateTime.now());
+    }
+
+    /**
+     * Busca do marketplace considerando o momento informado para o filtro
+     * disponivelHoje.
+     */
+    BuscaBarbeariasDto buscarBarbearias(String texto, Double latitude, Double longitude, Double raioKm,
+            BigDecimal notaMinima, boolean disponivelHoje, int pagina, int tamanho, LocalDateTime agora) {
+        if ((latitude == null) != (longitude == null)) {
+            throw new IllegalArgumentException("Informe latitude e longitude juntas");
+        }
+        if (latitude != null && (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180)) {
+            throw new IllegalArgumentException("Coordenadas inválidas");
+        }
+        if (notaMinima != null && (notaMinima.compareTo(BigDecimal.ONE) < 0
+                || notaMinima.compareTo(BigDecimal.valueOf(5)) > 0)) {
+            throw new IllegalArgumentException("Nota mínima deve estar entre 1 e 5");
+        }
+        if (pagina < 0) {
+            throw new IllegalArgumentException("Página não pode ser negativa");
+        }
+        if (tamanho < 1 || tamanho > TAMANHO_MAXIMO_PAGINA) {
+            throw new IllegalArgumentException("Tamanho da página deve estar entre 1 e " + TAMANHO_MAXIMO_PAGINA);
+        }
+
+        double raio = raioKm != null ? raioKm : RAIO_PADRAO_KM;
+        if (raio <= 0 || raio > RAIO_MAXIMO_KM) {
+            throw new IllegalArgumentException("Raio deve estar entre 0 e " + (int) RAIO_MAXIMO_KM + " km");
+        }
+
+        String textoBusca = texto != null && !texto.isBlank() ? texto.trim() : null;
+
+        // Caixa delimitadora do raio: permite usar o índice (latitude, longitude)
+        // antes de calcular a distância exata
+        Double latitudeMin = null, latitudeMax = null, longitudeMin = null, longitudeMax = null;
+        if (latitude != null) {
+            double deltaLatitude = raio / KM_POR_GRAU_LATITUDE;
+            double cosseno = Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+            double deltaLongitude = raio / (KM_POR_GRAU_LATITUDE * cosseno);
+            latitudeMin = latitude - deltaLatitude;
+            latitudeMax = latitude + deltaLatitude;
+            longitudeMin = longitude - deltaLongitude;
+            longitudeMax = longitude + deltaLongitude;
+        }
+
+        Integer diaSemana = null;
+        LocalTime horaAtual = null;
+        if (disponivelHoje) {
+            // 1 = segunda ... 7 = domingo, como em horarios_funcionamento
+            diaSemana = agora.getDayOfWeek().getValue();
+            horaAtual = agora.toLocalTime();
+        }
+
+        // Busca um registro a mais para saber se existe próxima página
+        List<Object[]> linhas = barbeariaRepository.buscarParaMarketplace(textoBusca, latitude, longitude,
+                latitudeMin, latitudeMax, longitudeMin, longitudeMax, raio, notaMinima, diaSemana, horaAtual,
+                tamanho + 1, pagina * tamanho);
+
+        boolean temMais = linhas.size() > tamanho;
+        List<BuscaBarbeariasDto.ItemDto> itens = new ArrayList<>(Math.min(linhas.size(), tamanho));
+        for (Object[] linha : linhas.subList(0, Math.min(linhas.size(), tamanho))) {
+            itens.add(new BuscaBarbeariasDto.ItemDto(
+                    ((Number) linha[0]).longValue(),
+                    (String) linha[1],
+                    (String) linha[2],
+                    linha[3] != null ? ((Number) linha[3]).doubleValue() : null,
+                    linha[4] != null ? ((Number) linha[4]).doubleValue() : null,
+                    linha[5] != null ? Math.round(((Number) linha[5]).doubleValue() * 100) / 100.0 : null,
+                    linha[6] != null ? new BigDecimal(linha[6].toString()).setScale(2, RoundingMode.HALF_UP)
+                            : null,
+                    linha[7] != null ? ((Number) linha[7]).longValue() : 0L));
+        }
+
+        return new BuscaBarbeariasDto(itens, pagina, tamanho, temMais);
     }
 
     /**
      * Lista todos os serviços ativos de uma barbearia específica.
      * 
+     * Servido a partir do snapshot em memória do catálogo quando disponível.
+     * 
      * @param barbeariaId ID da barbearia
      * @return Lista de DTOs com serviços da barbearia
      * @throws IllegalArgumentException se barbearia não existe ou está inativa
      */
     public List<ServicoDto> listarServicosPorBarbearia(Long barbeariaId) {
+        Snapshot<List<ServicoDto>> snapshot = servicosEmCache.get(barbeariaId);
+        if (snapshot != null && snapshot.valido(versaoAtual(barbeariaId))) {
+            metricas.registrarCache(CACHE_SERVICOS, true);
+            return snapshot.conteudo();
+        }
+        metricas.registrarCache(CACHE_SERVICOS, false);
+
+        long versao = versaoAtual(barbeariaId);
+        validarBarbeariaAtiva(barbeariaId);
+
+        // Busca serviços ativos da barbearia
+        List<JpaServico> servicos = servicoRepository.findByBarbeariaIdAndAtivoTrue(barbeariaId);
+
+        List<ServicoDto> servicosDto = servicos.stream()
+                .map(ServicoMapper::toDto)
+                .toList();
+        guardarSnapshot(servicosEmCache, barbeariaId, versao, servicosDto);
+        return servicosDto;
+    }
+
+    /**
+     * Retorna o catálogo público de uma barbearia (serviços, profissionais e
+     * horários de funcionamento).
+     * 
+     * O catálogo é montado uma vez por versão e mantido em memória; a versão é
+     * incrementada sempre que serviços, profissionais ou horários mudam.
+     * 
+     * @param barbeariaId ID da barbearia
+     * @return Catálogo da barbearia
+     * @throws IllegalArgumentException se barbearia não existe ou está inativa
+     */
+    public CatalogoBarbeariaDto obterCatalogo(Long barbeariaId) {
+        Snapshot<CatalogoBarbeariaDto> snapshot = catalogosEmCache.get(barbeariaId);
+        if (snapshot != null && snapshot.valido(versaoAtual(barbeariaId))) {
+            metricas.registrarCache(CACHE_CATALOGO, true);
+            return snapshot.conteudo();
+        }
+        metricas.registrarCache(CACHE_CATALOGO, false);
+
+        long versao = versaoAtual(barbeariaId);
+        List<ServicoDto> servicos = listarServicosPorBarbearia(barbeariaId);
+
+        List<ProfissionalCatalogoDto> profissionais = funcionarioRepository.findByBarbeariaIdAtivo(barbeariaId)
+                .stream()
+                .map(f -> new ProfissionalCatalogoDto(f.getId(), f.getNome(), f.getPerfilType()))
+                .toList();
+
+        List<HorarioFuncionamentoResponseDto> horarios = horarioFuncionamentoRepository
+                .findPadraoByBarbeariaIdAtivo(barbeariaId)
+                .stream()
+                .map(HorarioFuncionamentoMapper::toResponseDto)
+                .toList();
+
+        CatalogoBarbeariaDto catalogo = new CatalogoBarbeariaDto(barbeariaId, servicos, profissionais, horarios);
+        guardarSnapshot(catalogosEmCache, barbeariaId, versao, catalogo);
+        return catalogo;
+    }
+
+    /**
+     * Descarta os snapshots da barbearia após o commit de uma alteração no
+     * catálogo, incrementando sua versão.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogoAlterado(CatalogoAlteradoEvento evento) {
+        if (evento.barbeariaId() == null) {
+            return;
+        }
+        // Incrementar antes de remover impede que uma leitura concorrente
+        // regrave o snapshot antigo com a versão nova
+        versoesCatalogo.computeIfAbsent(evento.barbeariaId(), id -> new AtomicLong()).incrementAndGet();
+        servicosEmCache.remove(evento.barbeariaId());
+        catalogosEmCache.remove(evento.barbeariaId());
+
+        versoesCatalogo.computeIfAbsent(CHAVE_LISTAGEM, id -> new AtomicLong()).incrementAndGet();
+        listagemEmCache = null;
+    }
+
+    private long versaoAtual(Long chave) {
+        AtomicLong versao = versoesCatalogo.get(chave);
+        return versao != null ? versao.get() : 0L;
+    }
+
+    /**
+     * Guarda o snapshot apenas se nenhuma alteração aconteceu durante a
+     * montagem; caso contrário a próxima leitura monta novamente.
+     */
+    private <T> void guardarSnapshot(Map<Long, Snapshot<T>> cache, Long barbeariaId, long versao, T conteudo) {
+        if (versaoAtual(barbeariaId) == versao) {
+            cache.put(barbeariaId, new Snapshot<>(versao, LocalDateTime.now(), conteudo));
+        }
+    }
+
+    private void validarBarbeariaAtiva(Long barbeariaId) {
         // Verifica se barbearia existe e está ativa
         @SuppressWarnings("null")
         JpaBarbearia barbearia = barbeariaRepository.findById(barbeariaId)
@@ -294,13 +595,16 @@ public class BarbeariaService {
         if (!barbearia.isAtivo()) {
             throw new IllegalArgumentException("Barbearia está inativa");
         }
+    }
 
-        // Busca serviços ativos da barbearia
-        List<JpaServico> servicos = servicoRepository.findByBarbeariaIdAndAtivoTrue(barbeariaId);
+    /**
+     * Conteúdo em memória associado à versão em que foi montado.
+     */
+    private record Snapshot<T>(long versao, LocalDateTime carregadoEm, T conteudo) {
 
-        return servicos.stream()
-                .map(ServicoMapper::toDto)
-                .toList();
+        boolean valido(long versaoAtual) {
+            return versao == versaoAtual && carregadoEm.plus(VALIDADE_SNAPSHOT).isAfter(LocalDateTime.now());
+        }
     }
 
     /**
@@ -352,6 +656,7 @@ public class BarbeariaService {
 
         // Salva no banco
         JpaServico servicoSalvo = servicoRepository.save(servico);
+        eventPublisher.publishEvent(new CatalogoAlteradoEvento(barbeariaId));
 
         // Retorna DTO
         return ServicoMapper.toDto(servicoSalvo);
@@ -424,6 +729,7 @@ public class BarbeariaService {
 
         // Salva no banco
         JpaHorarioFuncionamento horarioSalvo = horarioFuncionamentoRepository.save(horario);
+        eventPublisher.publishEvent(new CatalogoAlteradoEvento(barbeariaId));
 
         // Retorna DTO
         return HorarioFuncionamentoMapper.toResponseDto(horarioSalvo);
@@ -486,6 +792,7 @@ public class BarbeariaService {
 
         // Salva no banco
         JpaServico servicoAtualizado = servicoRepository.save(servico);
+        eventPublisher.publishEvent(new CatalogoAlteradoEvento(barbeariaId));
 
         // Retorna DTO
         return ServicoMapper.toDto(servicoAtualizado);
@@ -526,6 +833,7 @@ public class BarbeariaService {
         // Marca como inativo
         servico.setAtivo(false);
         servicoRepository.save(servico);
+        eventPublisher.publishEvent(new CatalogoAlteradoEvento(barbeariaId));
 
         return "Serviço desativado com sucesso. O histórico de agendamentos foi preservado.";
     }
@@ -0,0 +1,176 @@
+package com.barbearia.application.services;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.barbearia.infrastructure.exportacao.EscritorPlanilha;
+
+/**
+ * Exportação de agendamentos e lançamentos financeiros para planilhas.
+ *
+ * <p>
+ * As linhas são lidas por cursor JDBC (fetch size exportacao.tamanho-lote,
+ * dentro de uma transação somente leitura, exigência do driver do PostgreSQL
+ * para não carregar o resultado inteiro) e gravadas uma a uma no
+ * {@link EscritorPlanilha}. A memória usada não depende da quantidade de
+ * linhas, e nenhuma entidade passa pelo contexto de persistência.
+ * </p>
+ */
+@Service
+public class ExportacaoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportacaoService.class);
+
+    public static final List<String> COLUNAS_AGENDAMENTOS = List.of(
+            "ID", "Data/Hora", "Status", "Cliente", "Telefone do Cliente", "Serviço", "Preço", "Profissional",
+            "Observações", "Criado em");
+
+    public static final List<String> COLUNAS_LANCAMENTOS = List.of(
+            "ID", "Data", "Natureza", "Categoria", "Descrição", "Valor", "Origem", "ID de Origem", "Registrado em");
+
+    private static final String SQL_AGENDAMENTOS = "SELECT a.id, a.data_hora, a.status, c.nome AS cliente, "
+            + "c.telefone AS telefone_cliente, s.nome AS servico, s.preco, f.nome AS profissional, "
+            + "a.observacoes, a.data_criacao "
+            + "FROM agendamentos a "
+            + "LEFT JOIN clientes c ON c.id = a.cliente_id "
+            + "LEFT JOIN servicos s ON s.id = a.servico_id "
+            + "LEFT JOIN funcionarios f ON f.id = a.barbeiro_id "
+            + "WHERE a.barbearia_id = ? AND a.data_hora >= ? AND a.data_hora < ? "
+            + "ORDER BY a.data_hora, a.id";
+
+    private static final String SQL_LANCAMENTOS = "SELECT id, data_competencia, natureza, categoria, descricao, "
+            + "valor, origem, origem_id, data_criacao "
+            + "FROM lancamentos_financeiros "
+            + "WHERE barbearia_id = ? AND data_competencia BETWEEN ? AND ? "
+            + "ORDER BY data_competencia, id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ExportacaoService(DataSource dataSource,
+            @Value("${exportacao.tamanho-lote:500}") int tamanhoLote) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(Math.max(1, tamanhoLote));
+    }
+
+    /**
+     * Exporta os agendamentos da barbearia com data entre dataInicio e dataFim
+     * (inclusive), em ordem cronológica.
+     *
+     * @return quantidade de linhas exportadas
+     */
+    @Transactional(readOnly = true)
+    public long exportarAgendamentos(Long barbeariaId, LocalDate dataInicio, LocalDate dataFim,
+            EscritorPlanilha escritor) throws IOException {
+        validarPeriodo(barbeariaId, dataInicio, dataFim);
+        escritor.cabecalho(COLUNAS_AGENDAMENTOS);
+        long linhas = exportar(escritor, SQL_AGENDAMENTOS, rs -> new Object[] {
+                rs.getLong("id"),
+                dataHora(rs, "data_hora"),
+                rs.getString("status"),
+                rs.getString("cliente"),
+                rs.getString("telefone_cliente"),
+                rs.getString("servico"),
+                rs.getBigDecimal("preco"),
+                rs.getString("profissional"),
+                rs.getString("observacoes"),
+                dataHora(rs, "data_criacao") },
+                barbeariaId, Timestamp.valueOf(dataInicio.atStartOfDay()),
+                Timestamp.valueOf(dataFim.plusDays(1).atStartOfDay()));
+        escritor.concluir();
+        logger.info("Exportados {} agendamentos da barbearia {} ({} a {})", linhas, barbeariaId, dataInicio,
+                dataFim);
+        return linhas;
+    }
+
+    /**
+     * Exporta os lançamentos do livro-razão financeiro da barbearia com data
+     * de competência entre dataInicio e dataFim (inclusive).
+     *
+     * @return quantidade de linhas exportadas
+     */
+    @Transactional(readOnly = true)
+    public long exportarLancamentos(Long barbeariaId, LocalDate dataInicio, LocalDate dataFim,
+            EscritorPlanilha escritor) throws IOException {
+        validarPeriodo(barbeariaId, dataInicio, dataFim);
+        escritor.cabecalho(COLUNAS_LANCAMENTOS);
+        long linhas = exportar(escritor, SQL_LANCAMENTOS, rs -> new Object[] {
+                rs.getLong("id"),
+                rs.getDate("data_competencia").toLocalDate(),
+                rs.getString("natureza"),
+                rs.getString("categoria"),
+                rs.getString("descricao"),
+                rs.getBigDecimal("valor"),
+                rs.getString("origem"),
+                rs.getLong("origem_id"),
+                dataHora(rs, "data_criacao") },
+                barbeariaId, java.sql.Date.valueOf(dataInicio), java.sql.Date.valueOf(dataFim));
+        escritor.concluir();
+        logger.info("Exportados {} lançamentos da barbearia {} ({} a {})", linhas, barbeariaId, dataInicio,
+                dataFim);
+        return linhas;
+    }
+
+    private long exportar(EscritorPlanilha escritor, String sql, LeitorLinha leitor, Object... parametros)
+            throws IOException {
+        long[] linhas = { 0 };
+        try {
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+                try {
+                    escritor.linha(leitor.ler(rs));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                linhas[0]++;
+            }, parametros);
+        } catch (UncheckedIOException e) {
+            // Cliente desconectado ou erro de escrita: interrompe a leitura do cursor
+            throw e.getCause();
+        }
+        return linhas[0];
+    }
+
+    /**
+     * Valida os parâmetros de uma exportação. Chamado também antes de abrir a
+     * resposta, para que erros virem 400 em vez de um arquivo interrompido.
+     *
+     * @throws IllegalArgumentException se a barbearia ou as datas forem
+     *                                  inválidas
+     */
+    public void validarPeriodo(Long barbeariaId, LocalDate dataInicio, LocalDate dataFim) {
+        if (barbeariaId == null) {
+            throw new IllegalArgumentException("ID da barbearia não pode ser nulo");
+        }
+        if (dataInicio == null || dataFim == null) {
+            throw new IllegalArgumentException("Datas de início e fim são obrigatórias");
+        }
+        if (dataInicio.isAfter(dataFim)) {
+            throw new IllegalArgumentException("Data de início deve ser anterior ou igual à data de fim");
+        }
+    }
+
+    private static LocalDateTime dataHora(ResultSet rs, String coluna) throws SQLException {
+        Timestamp valor = rs.getTimestamp(coluna);
+        return valor != null ? valor.toLocalDateTime() : null;
+    }
+
+    @FunctionalInterface
+    private interface LeitorLinha {
+        Object[] ler(ResultSet rs) throws SQLException;
+    }
+}
@@ -18,6 +18,8 @@ import com.barbearia.application.dto.RelatorioFinanceiroDto.ServicoRentabilidade
 import com.barbearia.domain.enums.PeriodoRelatorio;
 import com.barbearia.application.dto.DespesaRequestDto;
 import com.barbearia.application.dto.ReceitaExtraRequestDto;
+import com.barbearia.domain.enums.NaturezaLancamento;
+import com.barbearia.domain.enums.OrigemLancamento;
 import com.barbearia.infrastructure.persistence.entities.JpaDespesa;
 import com.barbearia.infrastructure.persistence.entities.JpaReceita;
 import com.barbearia.infrastructure.persistence.repositories.AgendamentoRepository;
@@ -45,6 +47,8 @@ import com.barbearia.infrastructure.persistence.repositories.ReceitaRepository;
  * faturamento</li>
  * <li>Apenas a própria barbearia pode acessar seus dados financeiros</li>
  * <li>Períodos suportados: DIA (24h), SEMANA (7 dias), MES (30 dias)</li>
+ * <li>Receitas extras e despesas geram lançamentos no livro-razão
+ * ({@link LivroRazaoService}); edições e remoções os estornam</li>
  * </ul>
  * 
  * @author Sua Barbearia Team
@@ -59,13 +63,16 @@ public class FinanceiroService {
     private final AgendamentoRepository agendamentoRepository;
     private final ReceitaRepository receitaRepository;
     private final DespesaRepository despesaRepository;
+    private final LivroRazaoService livroRazaoService;
 
     public FinanceiroService(AgendamentoRepository agendamentoRepository,
             ReceitaRepository receitaRepository,
-            DespesaRepository despesaRepository) {
+            DespesaRepository despesaRepository,
+            LivroRazaoService livroRazaoService) {
         this.agendamentoRepository = agendamentoRepository;
         this.receitaRepository = receitaRepository;
         this.despesaRepository = despesaRepository;
+        this.livroRazaoService = livroRazaoService;
     }
 
     /**
@@ -244,7 +251,9 @@ public class FinanceiroService {
         receita.setDescricao(dto.descricao());
         receita.setDataTransacao(dto.dataTransacao());
 
-        return receitaRepository.save(receita);
+        JpaReceita salva = receitaRepository.save(receita);
+        lancarReceita(salva);
+        return salva;
     }
 
     @Transactional
@@ -262,7 +271,10 @@ public class FinanceiroService {
         receita.setDescricao(dto.descricao());
         receita.setDataTransacao(dto.dataTransacao());
 
-        return receitaRepository.save(receita);
+        JpaReceita salva = receitaRepository.save(receita);
+        estornar(OrigemLancamento.RECEITA, receitaId, barbeariaId);
+        lancarReceita(salva);
+        return salva;
     }
 
     @Transactional
@@ -276,6 +288,7 @@ public class FinanceiroService {
         }
 
         receitaRepository.delete(receita);
+        estornar(OrigemLancamento.RECEITA, receitaId, barbeariaId);
     }
 
     public List<JpaReceita> listarReceitas(Long barbeariaId, LocalDate inicio, LocalDate fim) {
@@ -302,7 +315,9 @@ public class FinanceiroService {
         despesa.setDescricao(dto.descricao());
         despesa.setDataTransacao(dto.dataTransacao());
 
-        return despesaRepository.save(despesa);
+        JpaDespesa salva = despesaRepository.save(despesa);
+        lancarDespesa(salva);
+        return salva;
     }
 
     @Transactional
@@ -320,7 +335,10 @@ public class FinanceiroService {
         despesa.setDescricao(dto.descricao());
         despesa.setDataTransacao(dto.dataTransacao());
 
-        return despesaRepository.save(despesa);
+        JpaDespesa salva = despesaRepository.save(despesa);
+        estornar(OrigemLancamento.DESPESA, despesaId, barbeariaId);
+        lancarDespesa(salva);
+        return salva;
     }
 
     @Transactional
@@ -334,6 +352,7 @@ public class FinanceiroService {
         }
 
         despesaRepository.delete(despesa);
+        estornar(OrigemLancamento.DESPESA, despesaId, barbeariaId);
     }
 
     public List<JpaDespesa> listarDespesas(Long barbeariaId, LocalDate inicio, LocalDate fim) {
@@ -343,4 +362,30 @@ public class FinanceiroService {
         }
         return despesaRepository.findByBarbeariaIdOrderByDataTransacaoDesc(barbeariaId);
     }
+
+    // ==================== Livro-razão ====================
+
+    private void lancarReceita(JpaReceita receita) {
+        if (livroRazaoService == null || receita == null || receita.getId() == null) {
+            return;
+        }
+        livroRazaoService.lancar(NaturezaLancamento.RECEITA_EXTRA, OrigemLancamento.RECEITA, receita.getId(),
+                receita.getBarbeariaId(), receita.getValor(), receita.getCategoria().name(),
+                receita.getDescricao(), receita.getDataTransacao());
+    }
+
+    private void lancarDespesa(JpaDespesa despesa) {
+        if (livroRazaoService == null || despesa == null || despesa.getId() == null) {
+            return;
+        }
+        livroRazaoService.lancar(NaturezaLancamento.DESPESA, OrigemLancamento.DESPESA, despesa.getId(),
+                despesa.getBarbeariaId(), despesa.getValor(), despesa.getCategoria().name(),
+                despesa.getDescricao(), despesa.getDataTransacao());
+    }
+
+    private void estornar(OrigemLancamento origem, Long origemId, Long barbeariaId) {
+        if (livroRazaoService != null) {
+            livroRazaoService.estornar(origem, origemId, barbeariaId);
+        }
+    }
 }
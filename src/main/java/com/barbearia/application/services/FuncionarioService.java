@@ -3,8 +3,10 @@ package com.barbearia.application.services;
 import com.barbearia.adapters.mappers.FuncionarioMapper;
 import com.barbearia.application.dto.FuncionarioRequestDto;
 import com.barbearia.application.dto.FuncionarioResponseDto;
+import com.barbearia.application.events.CatalogoAlteradoEvento;
 import com.barbearia.infrastructure.persistence.entities.JpaFuncionario;
 import com.barbearia.infrastructure.persistence.repositories.FuncionarioRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +20,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -32,15 +35,20 @@ public class FuncionarioService {
     private final FuncionarioMapper funcionarioMapper;
     private final com.barbearia.infrastructure.persistence.repositories.ProfissionalServicoRepository profissionalServicoRepository;
     private final ServicoRepository servicoRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public FuncionarioService(FuncionarioRepository funcionarioRepository,
             FuncionarioMapper funcionarioMapper,
             com.barbearia.infrastructure.persistence.repositories.ProfissionalServicoRepository profissionalServicoRepository,
-            ServicoRepository servicoRepository) {
+            ServicoRepository servicoRepository,
+            ApplicationEventPublisher eventPublisher) {
         this.funcionarioRepository = funcionarioRepository;
         this.funcionarioMapper = funcionarioMapper;
         this.profissionalServicoRepository = profissionalServicoRepository;
         this.servicoRepository = servicoRepository;
+        // Alterações na equipe invalidam o catálogo público da barbearia
+        this.eventPublisher = eventPublisher != null ? eventPublisher : evento -> {
+        };
     }
 
     /**
@@ -57,6 +65,7 @@ public class FuncionarioService {
         // Cria e salva o funcionário
         JpaFuncionario funcionario = funcionarioMapper.toEntityFromDto(dto, barbeariaId);
         JpaFuncionario funcionarioSalvo = funcionarioRepository.save(funcionario);
+        eventPublisher.publishEvent(new CatalogoAlteradoEvento(barbeariaId));
 
         return funcionarioMapper.toResponseDto(funcionarioSalvo);
     }
@@ -167,6 +176,7 @@ public class FuncionarioService {
         // Eles devem ser gerenciados por endpoints específicos se necessário
 
         JpaFuncionario atualizado = funcionarioRepository.save(funcionario);
+        eventPublisher.publishEvent(new CatalogoAlteradoEvento(barbeariaId));
         return funcionarioMapper.toResponseDto(atualizado);
     }
 
@@ -191,6 +201,7 @@ public class FuncionarioService {
         // Marca como inativo
         funcionario.setAtivo(false);
         funcionarioRepository.save(funcionario);
+        eventPublisher.publishEvent(new CatalogoAlteradoEvento(barbeariaId));
 
         return "Funcionário desativado com sucesso. O histórico de agendamentos foi preservado.";
     }
@@ -226,44 +237,38 @@ public class FuncionarioService {
             }
         }
 
-        // Remove associações existentes para atualizar (estratégia simples: remove tudo
-        // e adiciona novos)
-        // Nota: Em um cenário real, poderia ser melhor fazer um merge (adicionar novos,
-        // remover excluídos)
-        // Mas como não temos método delete exposto no repository customizado, vamos
-        // iterar e verificar
-
-        // Vamos apenas ADICIONAR os novos que ainda não existem para evitar duplicidade
-        // Se quiser remover, precisaria de um endpoint específico ou lógica de
-        // sincronização completa
+        // Apenas ADICIONA os novos (ou reativa os inativos); remover vínculos
+        // exige um endpoint específico. Os vínculos atuais são lidos de uma vez
+        // e os INSERT/UPDATE saem no mesmo batch JDBC.
+        Map<Long, JpaProfissionalServico> vinculos = profissionalServicoRepository.findByFuncionarioId(funcionarioId)
+                .stream()
+                .collect(Collectors.toMap(JpaProfissionalServico::getServicoId, v -> v, (a, b) -> a));
 
+        LocalDateTime agora = LocalDateTime.now();
+        List<JpaProfissionalServico> alterados = new ArrayList<>();
         List<Long> associados = new ArrayList<>();
 
         for (Long servicoId : servicoIds) {
-            // Verifica se já existe vínculo
-            if (profissionalServicoRepository.findByFuncionarioIdAndServicoId(funcionarioId, servicoId).isEmpty()) {
+            JpaProfissionalServico vinculo = vinculos.get(servicoId);
+            if (vinculo == null) {
                 JpaProfissionalServico novoVinculo = new JpaProfissionalServico();
                 novoVinculo.setFuncionarioId(funcionarioId);
                 novoVinculo.setServicoId(servicoId);
                 novoVinculo.setAtivo(true);
-                novoVinculo.setDataCriacao(LocalDateTime.now());
-                novoVinculo.setDataAtualizacao(LocalDateTime.now());
-
-                profissionalServicoRepository.save(novoVinculo);
-            } else {
-                // Se já existe mas está inativo, reativa?
-                profissionalServicoRepository.findByFuncionarioIdAndServicoId(funcionarioId, servicoId)
-                        .ifPresent(vinculo -> {
-                            if (!vinculo.isAtivo()) {
-                                vinculo.setAtivo(true);
-                                vinculo.setDataAtualizacao(LocalDateTime.now());
-                                profissionalServicoRepository.save(vinculo);
-                            }
-                        });
+                novoVinculo.setDataCriacao(agora);
+                novoVinculo.setDataAtualizacao(agora);
+                vinculos.put(servicoId, novoVinculo);
+                alterados.add(novoVinculo);
+            } else if (!vinculo.isAtivo()) {
+                vinculo.setAtivo(true);
+                vinculo.setDataAtualizacao(agora);
+                alterados.add(vinculo);
             }
             associados.add(servicoId);
         }
 
+        profissionalServicoRepository.saveAll(alterados);
+
         return associados;
     }
 
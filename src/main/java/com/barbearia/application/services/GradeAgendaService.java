@@ -0,0 +1,279 @@
+package com.barbearia.application.services;
+
+import com.barbearia.application.dto.GradeAgendaDiaDto;
+import com.barbearia.application.dto.GradeAgendaDiaDto.AgendamentoGradeDto;
+import com.barbearia.application.dto.GradeAgendaDiaDto.IntervaloDto;
+import com.barbearia.application.dto.GradeAgendaDiaDto.ProfissionalGradeDto;
+import com.barbearia.infrastructure.persistence.entities.JpaAgendamento;
+import com.barbearia.infrastructure.persistence.entities.JpaCliente;
+import com.barbearia.infrastructure.persistence.entities.JpaFuncionario;
+import com.barbearia.infrastructure.persistence.entities.JpaHorarioBloqueado;
+import com.barbearia.infrastructure.persistence.entities.JpaHorarioExcecao;
+import com.barbearia.infrastructure.persistence.entities.JpaHorarioFuncionamento;
+import com.barbearia.infrastructure.persistence.entities.JpaServico;
+import com.barbearia.infrastructure.persistence.repositories.AgendamentoRepository;
+import com.barbearia.infrastructure.persistence.repositories.ClienteRepository;
+import com.barbearia.infrastructure.persistence.repositories.FuncionarioRepository;
+import com.barbearia.infrastructure.persistence.repositories.HorarioBloqueadoRepository;
+import com.barbearia.infrastructure.persistence.repositories.HorarioExcecaoRepository;
+import com.barbearia.infrastructure.persistence.repositories.HorarioFuncionamentoRepository;
+import com.barbearia.infrastructure.persistence.repositories.ServicoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serviço que monta a grade do dia da barbearia (tela da recepção).
+ *
+ * Toda a grade é montada com um número fixo de consultas, independente
+ * da quantidade de profissionais e agendamentos do dia.
+ */
+@Service
+public class GradeAgendaService {
+
+    // Duração assumida quando o serviço do agendamento não é encontrado
+    private static final int DURACAO_PADRAO_MINUTOS = 30;
+
+    private final FuncionarioRepository funcionarioRepository;
+    private final HorarioFuncionamentoRepository horarioFuncionamentoRepository;
+    private final HorarioExcecaoRepository horarioExcecaoRepository;
+    private final HorarioBloqueadoRepository horarioBloqueadoRepository;
+    private final AgendamentoRepository agendamentoRepository;
+    private final ServicoRepository servicoRepository;
+    private final ClienteRepository clienteRepository;
+
+    public GradeAgendaService(
+            FuncionarioRepository funcionarioRepository,
+            HorarioFuncionamentoRepository horarioFuncionamentoRepository,
+            HorarioExcecaoRepository horarioExcecaoRepository,
+            HorarioBloqueadoRepository horarioBloqueadoRepository,
+            AgendamentoRepository agendamentoRepository,
+            ServicoRepository servicoRepository,
+            ClienteRepository clienteRepository) {
+        this.funcionarioRepository = funcionarioRepository;
+        this.horarioFuncionamentoRepository = horarioFuncionamentoRepository;
+        this.horarioExcecaoRepository = horarioExcecaoRepository;
+        this.horarioBloqueadoRepository = horarioBloqueadoRepository;
+        this.agendamentoRepository = agendamentoRepository;
+        this.servicoRepository = servicoRepository;
+        this.clienteRepository = clienteRepository;
+    }
+
+    /**
+     * Calcula o ETag da grade do dia.
+     *
+     * Usa uma única consulta agregada (última atualização e contagens de
+     * agendamentos, profissionais, horários, bloqueios e exceções), permitindo
+     * responder 304 sem montar a grade.
+     *
+     * @param barbeariaId ID da barbearia
+     * @param data        Data da grade
+     * @return ETag entre aspas, pronto para o cabeçalho HTTP
+     */
+    @Transactional(readOnly = true)
+    public String calcularEtagGrade(Long barbeariaId, LocalDate data) {
+        List<Object[]> resultado = agendamentoRepository.buscarVersaoGradeDia(
+                barbeariaId, data, data.atStartOfDay(), data.plusDays(1).atStartOfDay());
+
+        String marcadores = resultado.isEmpty() ? "" : Arrays.stream(resultado.get(0))
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+
+        return "\"" + barbeariaId + "-" + data + "-" + Integer.toHexString(marcadores.hashCode()) + "\"";
+    }
+
+    /**
+     * Monta a grade do dia com expediente, agendamentos, bloqueios e
+     * intervalos livres de cada profissional ativo da barbearia.
+     *
+     * @param barbeariaId ID da barbearia
+     * @param data        Data da grade
+     * @return Grade do dia
+     */
+    @Transactional(readOnly = true)
+    public GradeAgendaDiaDto montarGradeDia(Long barbeariaId, LocalDate data) {
+        if (barbeariaId == null) {
+            throw new IllegalArgumentException("ID da barbearia é obrigatório");
+        }
+        if (data == null) {
+            throw new IllegalArgumentException("Data é obrigatória");
+        }
+
+        List<JpaFuncionario> funcionarios = funcionarioRepository.findByBarbeariaIdAtivo(barbeariaId).stream()
+                .sorted(Comparator.comparing(JpaFuncionario::getId))
+                .toList();
+
+        if (funcionarios.isEmpty()) {
+            return new GradeAgendaDiaDto(barbeariaId, data, null, List.of());
+        }
+
+        List<Long> funcionarioIds = funcionarios.stream().map(JpaFuncionario::getId).toList();
+        int diaSemana = data.getDayOfWeek().getValue();
+
+        // Horário recorrente de cada profissional no dia da semana e padrão da barbearia
+        Map<Long, JpaHorarioFuncionamento> horariosPorFuncionario = horarioFuncionamentoRepository
+                .findByFuncionarioIdInAtivo(funcionarioIds)
+                .stream()
+                .filter(h -> h.getDiaSemana() == diaSemana)
+                .collect(Collectors.toMap(JpaHorarioFuncionamento::getFuncionarioId, h -> h, (a, b) -> a));
+
+        JpaHorarioFuncionamento horarioBarbearia = horarioFuncionamentoRepository
+                .findPadraoByBarbeariaIdAtivo(barbeariaId)
+                .stream()
+                .filter(h -> h.getDiaSemana() == diaSemana)
+                .findFirst()
+                .orElse(null);
+
+        Map<Long, JpaHorarioExcecao> excecoesPorFuncionario = horarioExcecaoRepository
+                .findByFuncionarioIdInAndPeriodo(funcionarioIds, data, data)
+                .stream()
+                .collect(Collectors.toMap(JpaHorarioExcecao::getFuncionarioId, e -> e, (a, b) -> a));
+
+        Map<Long, List<JpaHorarioBloqueado>> bloqueiosPorFuncionario = horarioBloqueadoRepository
+                .findByFuncionarioIdInAndPeriodo(funcionarioIds, data, data)
+                .stream()
+                .collect(Collectors.groupingBy(JpaHorarioBloqueado::getFuncionarioId));
+
+        List<JpaAgendamento> agendamentos = agendamentoRepository.findNaoCanceladosByBarbeiroIdInAndPeriodo(
+                funcionarioIds, data.atStartOfDay(), data.plusDays(1).atStartOfDay());
+
+        Map<Long, List<JpaAgendamento>> agendamentosPorFuncionario = agendamentos.stream()
+                .collect(Collectors.groupingBy(JpaAgendamento::getBarbeiroId));
+
+        // Serviços e clientes dos agendamentos em lote
+        Map<Long, JpaServico> servicos = servicoRepository.findAllById(agendamentos.stream()
+                        .map(JpaAgendamento::getServicoId).filter(Objects::nonNull).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(JpaServico::getId, Function.identity()));
+
+        Map<Long, JpaCliente> clientes = clienteRepository.findAllById(agendamentos.stream()
+                        .map(JpaAgendamento::getClienteId).filter(Objects::nonNull).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(JpaCliente::getId, Function.identity()));
+
+        List<ProfissionalGradeDto> profissionais = new ArrayList<>();
+
+        for (JpaFuncionario funcionario : funcionarios) {
+            Long funcionarioId = funcionario.getId();
+
+            // Exceção tem prioridade, depois o horário do profissional, depois o da barbearia
+            LocalTime horaAbertura = null;
+            LocalTime horaFechamento = null;
+            JpaHorarioExcecao excecao = excecoesPorFuncionario.get(funcionarioId);
+            if (excecao != null) {
+                horaAbertura = excecao.getHoraAbertura();
+                horaFechamento = excecao.getHoraFechamento();
+            } else {
+                JpaHorarioFuncionamento horario = horariosPorFuncionario.getOrDefault(funcionarioId, horarioBarbearia);
+                if (horario != null) {
+                    horaAbertura = horario.getHoraAbertura();
+                    horaFechamento = horario.getHoraFechamento();
+                }
+            }
+
+            List<AgendamentoGradeDto> agendamentosDto = agendamentosPorFuncionario
+                    .getOrDefault(funcionarioId, List.of())
+                    .stream()
+                    .map(a -> converterAgendamento(a, servicos.get(a.getServicoId()), clientes.get(a.getClienteId())))
+                    .toList();
+
+            List<IntervaloDto> bloqueiosDto = bloqueiosPorFuncionario
+                    .getOrDefault(funcionarioId, List.of())
+                    .stream()
+                    .sorted(Comparator.comparing(JpaHorarioBloqueado::getHorarioInicio))
+                    .map(b -> new IntervaloDto(b.getHorarioInicio(), b.getHorarioFim(), b.getMotivo()))
+                    .toList();
+
+            List<IntervaloDto> livres = calcularIntervalosLivres(horaAbertura, horaFechamento,
+                    agendamentosDto, bloqueiosDto);
+
+            profissionais.add(new ProfissionalGradeDto(
+                    funcionarioId,
+                    funcionario.getNome(),
+                    funcionario.getPerfilType() != null ? funcionario.getPerfilType().name() : null,
+                    horaAbertura,
+                    horaFechamento,
+                    agendamentosDto,
+                    bloqueiosDto,
+                    livres));
+        }
+
+        LocalDateTime ultimaAtualizacao = agendamentos.stream()
+                .map(JpaAgendamento::getDataAtualizacao)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+
+        return new GradeAgendaDiaDto(barbeariaId, data, ultimaAtualizacao, profissionais);
+    }
+
+    /**
+     * Converte um agendamento para a representação da grade.
+     */
+    private AgendamentoGradeDto converterAgendamento(JpaAgendamento agendamento, JpaServico servico,
+            JpaCliente cliente) {
+        int duracao = servico != null && servico.getDuracao() != null
+                ? servico.getDuracao()
+                : DURACAO_PADRAO_MINUTOS;
+        LocalTime inicio = agendamento.getDataHora().toLocalTime();
+
+        return new AgendamentoGradeDto(
+                agendamento.getId(),
+                inicio,
+                inicio.plusMinutes(duracao),
+                agendamento.getStatus() != null ? agendamento.getStatus().name() : null,
+                cliente != null ? cliente.getNome() : null,
+                servico != null ? servico.getNome() : null,
+                duracao);
+    }
+
+    /**
+     * Calcula os intervalos livres do expediente, descontando agendamentos
+     * e bloqueios.
+     */
+    private List<IntervaloDto> calcularIntervalosLivres(LocalTime horaAbertura, LocalTime horaFechamento,
+            List<AgendamentoGradeDto> agendamentos, List<IntervaloDto> bloqueios) {
+
+        List<IntervaloDto> livres = new ArrayList<>();
+        if (horaAbertura == null || horaFechamento == null || !horaAbertura.isBefore(horaFechamento)) {
+            return livres;
+        }
+
+        List<IntervaloDto> ocupados = new ArrayList<>(bloqueios);
+        for (AgendamentoGradeDto agendamento : agendamentos) {
+            ocupados.add(new IntervaloDto(agendamento.inicio(), agendamento.fim(), null));
+        }
+        ocupados.sort(Comparator.comparing(IntervaloDto::inicio));
+
+        LocalTime cursor = horaAbertura;
+        for (IntervaloDto ocupado : ocupados) {
+            if (!ocupado.fim().isAfter(cursor)) {
+                continue;
+            }
+            if (!ocupado.inicio().isBefore(horaFechamento)) {
+                break;
+            }
+            if (ocupado.inicio().isAfter(cursor)) {
+                livres.add(new IntervaloDto(cursor, ocupado.inicio(), null));
+            }
+            cursor = ocupado.fim();
+            if (!cursor.isBefore(horaFechamento)) {
+                return livres;
+            }
+        }
+
+        livres.add(new IntervaloDto(cursor, horaFechamento, null));
+        return livres;
+    }
+}
@@ -10,6 +10,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -85,18 +87,67 @@ public class HorarioBloqueioService {
         /**
          * Cria múltiplos bloqueios em lote.
          * 
+         * Mesmas regras de criarBloqueio, mas o profissional e os bloqueios já
+         * existentes no período do lote são lidos uma única vez; a sobreposição
+         * é verificada em memória (inclusive entre itens do próprio lote) e os
+         * INSERTs saem no mesmo batch JDBC.
+         * 
          * @param funcionarioId ID do profissional
          * @param requestDto    Lista de bloqueios
          * @param criadoPor     "BARBEARIA" ou "PROFISSIONAL"
          * @return Lista de bloqueios criados
          */
+        @SuppressWarnings("null")
         public List<HorarioBloqueadoResponseDto> criarBloqueiosEmLote(
                         Long funcionarioId,
                         HorarioBloqueadoLoteRequestDto requestDto,
                         String criadoPor) {
 
-                return requestDto.getBloqueios().stream()
-                                .map(bloqueioDto -> criarBloqueio(funcionarioId, bloqueioDto, criadoPor))
+                List<HorarioBloqueadoRequestDto> itens = requestDto.getBloqueios();
+                if (itens == null || itens.isEmpty()) {
+                        return List.of();
+                }
+
+                var funcionario = funcionarioRepository.findById(funcionarioId)
+                                .orElseThrow(() -> new IllegalArgumentException("Profissional não encontrado"));
+
+                for (HorarioBloqueadoRequestDto item : itens) {
+                        if (!item.getHorarioInicio().isBefore(item.getHorarioFim())) {
+                                throw new IllegalArgumentException(
+                                                "Horário de início deve ser antes do horário de fim");
+                        }
+                }
+
+                LocalDate inicio = itens.stream().map(HorarioBloqueadoRequestDto::getData)
+                                .min(Comparator.naturalOrder()).orElseThrow();
+                LocalDate fim = itens.stream().map(HorarioBloqueadoRequestDto::getData)
+                                .max(Comparator.naturalOrder()).orElseThrow();
+                List<JpaHorarioBloqueado> ocupados = new ArrayList<>(
+                                horarioBloqueadoRepository.findByFuncionarioIdAndPeriodo(funcionarioId, inicio, fim));
+
+                List<JpaHorarioBloqueado> novos = new ArrayList<>();
+                for (HorarioBloqueadoRequestDto item : itens) {
+                        // Mesmo critério de HorarioBloqueadoRepository.existsSobreposicao
+                        boolean temSobreposicao = ocupados.stream().anyMatch(b -> b.getData().equals(item.getData())
+                                        && b.getHorarioInicio().isBefore(item.getHorarioFim())
+                                        && b.getHorarioFim().isAfter(item.getHorarioInicio()));
+                        if (temSobreposicao) {
+                                throw new IllegalArgumentException("Já existe bloqueio neste horário");
+                        }
+
+                        JpaHorarioBloqueado bloqueio = new JpaHorarioBloqueado(
+                                        funcionarioId,
+                                        item.getData(),
+                                        item.getHorarioInicio(),
+                                        item.getHorarioFim(),
+                                        item.getMotivo(),
+                                        criadoPor);
+                        novos.add(bloqueio);
+                        ocupados.add(bloqueio);
+                }
+
+                return horarioBloqueadoRepository.saveAll(novos).stream()
+                                .map(b -> toResponseDto(b, funcionario.getNome()))
                                 .collect(Collectors.toList());
         }
 
@@ -179,6 +230,21 @@ public class HorarioBloqueioService {
                 return horarioBloqueadoRepository.findByFuncionarioIdAndData(funcionarioId, data);
         }
 
+        /**
+         * Lista bloqueios de vários profissionais em um período com uma única
+         * consulta (usado para cálculo de disponibilidade em lote).
+         */
+        @Transactional(readOnly = true)
+        public List<JpaHorarioBloqueado> listarBloqueiosPorFuncionariosEPeriodo(
+                        java.util.Collection<Long> funcionarioIds,
+                        LocalDate dataInicio,
+                        LocalDate dataFim) {
+                if (funcionarioIds == null || funcionarioIds.isEmpty()) {
+                        return List.of();
+                }
+                return horarioBloqueadoRepository.findByFuncionarioIdInAndPeriodo(funcionarioIds, dataInicio, dataFim);
+        }
+
         // Helper methods
 
         private HorarioBloqueadoResponseDto toResponseDto(JpaHorarioBloqueado bloqueio, String funcionarioNome) {
@@ -4,7 +4,12 @@ import com.barbearia.application.dto.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -105,11 +110,82 @@ public class HorarioGestaoService {
                 salvo.isAtivo());
     }
 
+    /**
+     * Salva vários dias de uma vez, com as mesmas regras de
+     * salvarHorarioFuncionario.
+     *
+     * O funcionário e os horários já cadastrados são lidos uma única vez e
+     * todos os INSERT/UPDATE saem no mesmo batch JDBC; dias repetidos no lote
+     * valem pelo último e aparecem uma única vez na resposta.
+     */
     @Transactional
     public List<HorarioFuncionamentoResponseDto> salvarHorariosEmLote(Long barbeariaId, Long funcionarioId,
             HorarioLoteRequestDto dto) {
-        return dto.getHorarios().stream()
-                .map(horarioDto -> salvarHorarioFuncionario(barbeariaId, funcionarioId, horarioDto))
+        List<HorarioFuncionamentoRequestDto> itens = dto.getHorarios();
+        if (itens == null || itens.isEmpty()) {
+            return List.of();
+        }
+        for (HorarioFuncionamentoRequestDto horarioDto : itens) {
+            if (horarioDto == null) {
+                throw new IllegalArgumentException("Dados de horário não podem ser nulos");
+            }
+            if (!horarioDto.isValid()) {
+                throw new IllegalArgumentException("Dados de horário inválidos");
+            }
+        }
+
+        if (funcionarioId == null) {
+            throw new IllegalArgumentException("ID do funcionário não pode ser nulo");
+        }
+
+        com.barbearia.infrastructure.persistence.entities.JpaFuncionario funcionario = funcionarioRepository
+                .findById(funcionarioId)
+                .orElseThrow(() -> new IllegalArgumentException("Funcionário não encontrado"));
+
+        if (!funcionario.getBarbeariaId().equals(barbeariaId)) {
+            throw new IllegalArgumentException("Funcionário não pertence a esta barbearia");
+        }
+
+        // Horários já cadastrados (ativos ou inativos), por dia da semana
+        Map<Integer, com.barbearia.infrastructure.persistence.entities.JpaHorarioFuncionamento> porDia = new LinkedHashMap<>();
+        for (com.barbearia.infrastructure.persistence.entities.JpaHorarioFuncionamento existente : horarioFuncionamentoRepository
+                .findByFuncionarioId(funcionarioId)) {
+            porDia.putIfAbsent(existente.getDiaSemana(), existente);
+        }
+
+        java.time.LocalDateTime agora = java.time.LocalDateTime.now();
+        for (HorarioFuncionamentoRequestDto horarioDto : itens) {
+            com.barbearia.infrastructure.persistence.entities.JpaHorarioFuncionamento horario = porDia.computeIfAbsent(
+                    horarioDto.getDiaSemana(),
+                    dia -> new com.barbearia.infrastructure.persistence.entities.JpaHorarioFuncionamento(
+                            barbeariaId, funcionarioId, dia, horarioDto.getHoraAbertura(),
+                            horarioDto.getHoraFechamento()));
+
+            horario.setHoraAbertura(horarioDto.getHoraAbertura());
+            horario.setHoraFechamento(horarioDto.getHoraFechamento());
+            horario.setBarbeariaId(barbeariaId);
+            horario.setFuncionarioId(funcionarioId);
+            horario.setAtivo(horarioDto.getAtivo() != null ? horarioDto.getAtivo() : true);
+            horario.setDataAtualizacao(agora);
+        }
+
+        // Um registro por dia, na ordem em que o dia apareceu no lote
+        List<com.barbearia.infrastructure.persistence.entities.JpaHorarioFuncionamento> salvos = itens.stream()
+                .map(HorarioFuncionamentoRequestDto::getDiaSemana)
+                .distinct()
+                .map(porDia::get)
+                .toList();
+        horarioFuncionamentoRepository.saveAll(salvos);
+
+        return salvos.stream()
+                .map(h -> new HorarioFuncionamentoResponseDto(
+                        h.getId(),
+                        h.getBarbeariaId(),
+                        h.getFuncionarioId(),
+                        h.getDiaSemana(),
+                        h.getHoraAbertura(),
+                        h.getHoraFechamento(),
+                        h.isAtivo()))
                 .collect(Collectors.toList());
     }
 
@@ -161,11 +237,61 @@ public class HorarioGestaoService {
         return toResponseDto(salva, funcionario.getNome());
     }
 
+    /**
+     * Cria várias exceções de uma vez, com as mesmas regras de criarExcecao.
+     *
+     * O profissional e as exceções já cadastradas no período do lote são
+     * lidos uma única vez e os INSERTs saem no mesmo batch JDBC.
+     */
     @Transactional
     public List<HorarioExcecaoResponseDto> criarExcecoesEmLote(Long funcionarioId, HorarioExcecaoLoteRequestDto dto,
             String criadoPor) {
-        return dto.getExcecoes().stream()
-                .map(excecaoDto -> criarExcecao(funcionarioId, excecaoDto, criadoPor))
+        List<HorarioExcecaoRequestDto> itens = dto.getExcecoes();
+        if (itens == null || itens.isEmpty()) {
+            return List.of();
+        }
+        for (HorarioExcecaoRequestDto excecaoDto : itens) {
+            if (excecaoDto == null) {
+                throw new IllegalArgumentException("Dados da exceção não podem ser nulos");
+            }
+            if (excecaoDto.getData() == null || excecaoDto.getHoraAbertura() == null
+                    || excecaoDto.getHoraFechamento() == null) {
+                throw new IllegalArgumentException("Data, hora de abertura e fechamento são obrigatórias");
+            }
+            if (!excecaoDto.getHoraAbertura().isBefore(excecaoDto.getHoraFechamento())) {
+                throw new IllegalArgumentException("Hora de abertura deve ser antes da hora de fechamento");
+            }
+        }
+
+        com.barbearia.infrastructure.persistence.entities.JpaFuncionario funcionario = funcionarioRepository
+                .findById(funcionarioId)
+                .orElseThrow(() -> new IllegalArgumentException("Profissional não encontrado"));
+
+        java.time.LocalDate inicio = itens.stream().map(HorarioExcecaoRequestDto::getData)
+                .min(java.time.LocalDate::compareTo).orElseThrow();
+        java.time.LocalDate fim = itens.stream().map(HorarioExcecaoRequestDto::getData)
+                .max(java.time.LocalDate::compareTo).orElseThrow();
+        Set<java.time.LocalDate> datasOcupadas = new HashSet<>();
+        horarioExcecaoRepository.findByFuncionarioIdAndPeriodo(funcionarioId, inicio, fim)
+                .forEach(existente -> datasOcupadas.add(existente.getData()));
+
+        List<com.barbearia.infrastructure.persistence.entities.JpaHorarioExcecao> novas = new ArrayList<>();
+        for (HorarioExcecaoRequestDto excecaoDto : itens) {
+            if (!datasOcupadas.add(excecaoDto.getData())) {
+                throw new IllegalArgumentException(
+                        "Já existe exceção cadastrada para esta data. Remove a antiga primeiro.");
+            }
+            novas.add(new com.barbearia.infrastructure.persistence.entities.JpaHorarioExcecao(
+                    funcionarioId,
+                    excecaoDto.getData(),
+                    excecaoDto.getHoraAbertura(),
+                    excecaoDto.getHoraFechamento(),
+                    excecaoDto.getMotivo(),
+                    criadoPor));
+        }
+
+        return horarioExcecaoRepository.saveAll(novas).stream()
+                .map(e -> toResponseDto(e, funcionario.getNome()))
                 .collect(Collectors.toList());
     }
 
@@ -2,6 +2,8 @@ package com.barbearia.application.services;
 
 import com.barbearia.application.dto.HorarioDisponivelDto;
 import com.barbearia.adapters.mappers.HorarioDisponivelMapper;
+import com.barbearia.application.utils.ErrosValidacao;
+import com.barbearia.domain.exceptions.ValidacaoException;
 import com.barbearia.infrastructure.persistence.entities.JpaFuncionario;
 import com.barbearia.infrastructure.persistence.entities.JpaAgendamento;
 import com.barbearia.infrastructure.persistence.entities.JpaServico;
@@ -13,17 +15,26 @@ import com.barbearia.infrastructure.persistence.repositories.AgendamentoReposito
 import com.barbearia.infrastructure.persistence.repositories.ServicoRepository;
 import com.barbearia.infrastructure.persistence.repositories.HorarioExcecaoRepository;
 import com.barbearia.infrastructure.persistence.entities.JpaHorarioExcecao;
+import com.barbearia.infrastructure.persistence.entities.JpaHorarioFuncionamento;
+import com.barbearia.infrastructure.persistence.entities.JpaProfissionalServico;
+import com.barbearia.infrastructure.metrics.MetricasNegocio;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class HorarioService {
 
     private final FuncionarioRepository funcionarioRepository;
@@ -33,10 +44,21 @@ public class HorarioService {
     private final ServicoRepository servicoRepository;
     private final HorarioBloqueioService horarioBloqueioService;
     private final HorarioExcecaoRepository horarioExcecaoRepository;
+    private final MetricasNegocio metricas;
 
     // Intervalo padrão entre horários: 30 minutos
     private static final int INTERVALO_MINUTOS = 30;
 
+    // Limites da busca por próximos horários disponíveis
+    private static final int PROXIMOS_HORARIOS_PADRAO = 5;
+    private static final int PROXIMOS_HORARIOS_MAXIMO = 20;
+    private static final int HORIZONTE_PADRAO_DIAS = 14;
+    private static final int HORIZONTE_MAXIMO_DIAS = 60;
+
+    // Faixa de anos aceita na consulta de datas disponíveis
+    private static final int ANO_MINIMO = 2000;
+    private static final int ANO_MAXIMO = 2100;
+
     public HorarioService(
             FuncionarioRepository funcionarioRepository,
             ProfissionalServicoRepository profissionalServicoRepository,
@@ -44,7 +66,8 @@ public class HorarioService {
             AgendamentoRepository agendamentoRepository,
             ServicoRepository servicoRepository,
             HorarioBloqueioService horarioBloqueioService,
-            HorarioExcecaoRepository horarioExcecaoRepository) {
+            HorarioExcecaoRepository horarioExcecaoRepository,
+            MetricasNegocio metricas) {
         this.funcionarioRepository = funcionarioRepository;
         this.profissionalServicoRepository = profissionalServicoRepository;
         this.horarioFuncionamentoRepository = horarioFuncionamentoRepository;
@@ -52,6 +75,7 @@ public class HorarioService {
         this.servicoRepository = servicoRepository;
         this.horarioBloqueioService = horarioBloqueioService;
         this.horarioExcecaoRepository = horarioExcecaoRepository;
+        this.metricas = metricas != null ? metricas : MetricasNegocio.desligadas();
     }
 
     /**
@@ -70,6 +94,9 @@ public class HorarioService {
      * Obtém os horários disponíveis para um serviço em uma data específica,
      * opcionalmente filtrando por profissional.
      * 
+     * O tempo de cálculo, os horários devolvidos e os profissionais avaliados
+     * são publicados em MetricasNegocio.
+     * 
      * @param barbeariaId    ID da barbearia
      * @param servicoId      ID do serviço desejado
      * @param data           Data para consultar disponibilidade
@@ -79,109 +106,122 @@ public class HorarioService {
     public List<HorarioDisponivelDto> obterHorariosDisponiveis(Long barbeariaId, Long servicoId, LocalDate data,
             Long profissionalId) {
         List<HorarioDisponivelDto> horariosDisponiveis = new ArrayList<>();
+        Timer.Sample amostra = metricas.iniciar();
+        int profissionaisAvaliados = 0;
+        try {
+            // Validar parâmetros
+            if (barbeariaId == null || servicoId == null || data == null) {
+                return horariosDisponiveis;
+            }
 
-        // Validar parâmetros
-        if (barbeariaId == null || servicoId == null || data == null) {
-            return horariosDisponiveis;
-        }
-
-        // Validar se a data não é no passado
-        if (data.isBefore(LocalDate.now())) {
-            return horariosDisponiveis;
-        }
-
-        // Obter informações do serviço (para saber a duração)
-        Optional<JpaServico> servicoOpt = servicoRepository.findById(servicoId);
-        if (servicoOpt.isEmpty()) {
-            return horariosDisponiveis;
-        }
-        JpaServico servico = servicoOpt.get();
+            // Validar se a data não é no passado
+            if (data.isBefore(LocalDate.now())) {
+                return horariosDisponiveis;
+            }
 
-        // Obter dia da semana (1=SEGUNDA, 7=DOMINGO - ISO 8601)
-        int diaSemana = data.getDayOfWeek().getValue();
+            // Obter informações do serviço (para saber a duração)
+            Optional<JpaServico> servicoOpt = servicoRepository.findById(servicoId);
+            if (servicoOpt.isEmpty()) {
+                return horariosDisponiveis;
+            }
+            JpaServico servico = servicoOpt.get();
 
-        // Buscar todos os profissionais que podem fazer esse serviço
-        List<com.barbearia.infrastructure.persistence.entities.JpaProfissionalServico> profissionaisCasos = profissionalServicoRepository
-                .findFuncionariosByServicoIdAtivo(servicoId);
+            // Obter dia da semana (1=SEGUNDA, 7=DOMINGO - ISO 8601)
+            int diaSemana = data.getDayOfWeek().getValue();
 
-        // Para cada profissional qualificado
-        for (var profissionalServico : profissionaisCasos) {
-            Long funcionarioId = profissionalServico.getFuncionarioId();
+            // Buscar todos os profissionais que podem fazer esse serviço
+            List<com.barbearia.infrastructure.persistence.entities.JpaProfissionalServico> profissionaisCasos = profissionalServicoRepository
+                    .findFuncionariosByServicoIdAtivo(servicoId);
 
-            // Se um profissional específico foi solicitado, filtrar os outros
-            if (profissionalId != null && !profissionalId.equals(funcionarioId)) {
-                continue;
-            }
+            // Para cada profissional qualificado
+            for (var profissionalServico : profissionaisCasos) {
+                Long funcionarioId = profissionalServico.getFuncionarioId();
 
-            // Obter dados do funcionário
-            Optional<JpaFuncionario> funcionarioOpt = funcionarioRepository.findByIdAtivo(funcionarioId);
-            if (funcionarioOpt.isEmpty()) {
-                continue;
-            }
-            JpaFuncionario funcionario = funcionarioOpt.get();
-
-            LocalTime horaAbertura;
-            LocalTime horaFechamento;
-
-            // 1. Verificar se há EXCEÇÃO para esta data (Prioridade Alta)
-            Optional<JpaHorarioExcecao> excecaoOpt = horarioExcecaoRepository.findByFuncionarioIdAndData(funcionarioId,
-                    data);
-
-            if (excecaoOpt.isPresent()) {
-                var excecao = excecaoOpt.get();
-                horaAbertura = excecao.getHoraAbertura();
-                horaFechamento = excecao.getHoraFechamento();
-            } else {
-                // 2. Se não houver exceção, usar horário padrão recorrente
-
-                // Tenta buscar horário específico do profissional
-                Optional<com.barbearia.infrastructure.persistence.entities.JpaHorarioFuncionamento> horarioOpt = horarioFuncionamentoRepository
-                        .findByFuncionarioIdAndDiaSemanaAtivo(funcionarioId, diaSemana);
-
-                // Se não tiver horário específico, tenta o da barbearia
-                if (horarioOpt.isEmpty()) {
-                    horarioOpt = horarioFuncionamentoRepository.findByBarbeariaIdAndDiaSemanaAtivo(barbeariaId,
-                            diaSemana);
+                // Se um profissional específico foi solicitado, filtrar os outros
+                if (profissionalId != null && !profissionalId.equals(funcionarioId)) {
+                    continue;
                 }
 
-                if (horarioOpt.isEmpty()) {
-                    // Profissional e barbearia fechados nesse dia
+                // Obter dados do funcionário
+                Optional<JpaFuncionario> funcionarioOpt = funcionarioRepository.findByIdAtivo(funcionarioId);
+                if (funcionarioOpt.isEmpty()) {
                     continue;
                 }
+                JpaFuncionario funcionario = funcionarioOpt.get();
+                profissionaisAvaliados++;
+
+                LocalTime horaAbertura;
+                LocalTime horaFechamento;
+
+                // 1. Verificar se há EXCEÇÃO para esta data (Prioridade Alta)
+                Optional<JpaHorarioExcecao> excecaoOpt = horarioExcecaoRepository.findByFuncionarioIdAndData(funcionarioId,
+                        data);
+
+                if (excecaoOpt.isPresent()) {
+                    var excecao = excecaoOpt.get();
+                    horaAbertura = excecao.getHoraAbertura();
+                    horaFechamento = excecao.getHoraFechamento();
+                } else {
+                    // 2. Se não houver exceção, usar horário padrão recorrente
+
+                    // Tenta buscar horário específico do profissional
+                    Optional<com.barbearia.infrastructure.persistence.entities.JpaHorarioFuncionamento> horarioOpt = horarioFuncionamentoRepository
+                            .findByFuncionarioIdAndDiaSemanaAtivo(funcionarioId, diaSemana);
+
+                    // Se não tiver horário específico, tenta o da barbearia
+                    if (horarioOpt.isEmpty()) {
+                        horarioOpt = horarioFuncionamentoRepository.findByBarbeariaIdAndDiaSemanaAtivo(barbeariaId,
+                                diaSemana);
+                    }
+
+                    if (horarioOpt.isEmpty()) {
+                        // Profissional e barbearia fechados nesse dia
+                        continue;
+                    }
+
+                    var horarioFuncionamento = horarioOpt.get();
+                    horaAbertura = horarioFuncionamento.getHoraAbertura();
+                    horaFechamento = horarioFuncionamento.getHoraFechamento();
+                }
 
-                var horarioFuncionamento = horarioOpt.get();
-                horaAbertura = horarioFuncionamento.getHoraAbertura();
-                horaFechamento = horarioFuncionamento.getHoraFechamento();
-            }
+                // Buscar agendamentos do profissional para essa data
+                LocalDateTime inicioData = data.atStartOfDay();
+                LocalDateTime fimData = data.atTime(23, 59, 59);
 
-            // Buscar agendamentos do profissional para essa data
-            LocalDateTime inicioData = data.atStartOfDay();
-            LocalDateTime fimData = data.atTime(23, 59, 59);
+                List<JpaAgendamento> agendamentos = agendamentoRepository.findByBarbeariaIdAndPeriodo(
+                        barbeariaId, inicioData, fimData);
 
-            List<JpaAgendamento> agendamentos = agendamentoRepository.findByBarbeariaIdAndPeriodo(
-                    barbeariaId, inicioData, fimData);
+                // Filtrar apenas agendamentos desse profissional
+                List<JpaAgendamento> agendamentosProfissional = agendamentos.stream()
+                        .filter(a -> funcionarioId.equals(a.getBarbeiroId()))
+                        .toList();
 
-            // Filtrar apenas agendamentos desse profissional
-            List<JpaAgendamento> agendamentosProfissional = agendamentos.stream()
-                    .filter(a -> funcionarioId.equals(a.getBarbeiroId()))
-                    .toList();
+                // Buscar bloqueios do profissional para essa data
+                List<JpaHorarioBloqueado> bloqueios = horarioBloqueioService.listarBloqueiosPorData(funcionarioId, data);
 
-            // Buscar bloqueios do profissional para essa data
-            List<JpaHorarioBloqueado> bloqueios = horarioBloqueioService.listarBloqueiosPorData(funcionarioId, data);
+                // Calcular slots disponíveis
+                List<HorarioDisponivelDto> slotsDisponiveis = calcularSlotsDisponiveis(
+                        funcionario, data, horaAbertura, horaFechamento,
+                        agendamentosProfissional, servico.getDuracao(), bloqueios);
 
-            // Calcular slots disponíveis
-            List<HorarioDisponivelDto> slotsDisponiveis = calcularSlotsDisponiveis(
-                    funcionario, data, horaAbertura, horaFechamento,
-                    agendamentosProfissional, servico.getDuracao(), bloqueios);
+                horariosDisponiveis.addAll(slotsDisponiveis);
+            }
 
-            horariosDisponiveis.addAll(slotsDisponiveis);
+            return horariosDisponiveis;
+        } finally {
+            metricas.registrarDisponibilidade(amostra, barbeariaId, horariosDisponiveis.size(),
+                    profissionaisAvaliados);
         }
-
-        return horariosDisponiveis;
     }
 
     /**
      * Retorna os dias com disponibilidade em um determinado mês.
+     * 
+     * Mês e ano são validados antes de montar o YearMonth, para que valores
+     * fora da faixa virem 400 com todos os problemas em vez de uma
+     * DateTimeException.
+     * 
+     * @throws ValidacaoException se o mês ou o ano forem inválidos
      */
     public List<LocalDate> obterDatasDisponiveis(
             Long barbeariaId,
@@ -190,6 +230,12 @@ public class HorarioService {
             int mes,
             Long funcionarioId) {
 
+        new ErrosValidacao()
+                .exigir(mes >= 1 && mes <= 12, "Mês deve estar entre 1 e 12")
+                .exigir(ano >= ANO_MINIMO && ano <= ANO_MAXIMO,
+                        "Ano deve estar entre " + ANO_MINIMO + " e " + ANO_MAXIMO)
+                .lancarSeHouver();
+
         List<LocalDate> datasDisponiveis = new ArrayList<>();
         YearMonth yearMonth = YearMonth.of(ano, mes);
         LocalDate hoje = LocalDate.now();
@@ -216,6 +262,176 @@ public class HorarioService {
         return datasDisponiveis;
     }
 
+    /**
+     * Busca os próximos horários disponíveis a partir de agora ("o mais cedo
+     * possível"), considerando todos os profissionais qualificados e os dias
+     * seguintes até o horizonte informado.
+     * 
+     * Todos os dados do horizonte são carregados com um número fixo de consultas
+     * (serviço, profissionais, horários, exceções, bloqueios e agendamentos) e a
+     * varredura dia a dia termina assim que a quantidade pedida é atingida.
+     * 
+     * @param barbeariaId    ID da barbearia
+     * @param servicoId      ID do serviço desejado
+     * @param quantidade     Quantidade de horários desejada (padrão 5, máximo 20)
+     * @param dias           Horizonte de busca em dias a partir de hoje (padrão 14,
+     *                       máximo 60)
+     * @param profissionalId ID do profissional (opcional)
+     * @return Horários disponíveis ordenados por data e hora de início
+     */
+    public List<HorarioDisponivelDto> buscarProximosHorariosDisponiveis(
+            Long barbeariaId,
+            Long servicoId,
+            Integer quantidade,
+            Integer dias,
+            Long profissionalId) {
+
+        List<HorarioDisponivelDto> proximosHorarios = new ArrayList<>();
+
+        // Validar parâmetros
+        if (barbeariaId == null || servicoId == null) {
+            return proximosHorarios;
+        }
+
+        int limite = limitarParametro(quantidade, PROXIMOS_HORARIOS_PADRAO, PROXIMOS_HORARIOS_MAXIMO);
+        int horizonte = limitarParametro(dias, HORIZONTE_PADRAO_DIAS, HORIZONTE_MAXIMO_DIAS);
+
+        Optional<JpaServico> servicoOpt = servicoRepository.findById(servicoId);
+        if (servicoOpt.isEmpty()) {
+            return proximosHorarios;
+        }
+        JpaServico servico = servicoOpt.get();
+
+        // Profissionais qualificados para o serviço
+        List<Long> funcionarioIds = profissionalServicoRepository.findFuncionariosByServicoIdAtivo(servicoId)
+                .stream()
+                .map(JpaProfissionalServico::getFuncionarioId)
+                .filter(id -> profissionalId == null || profissionalId.equals(id))
+                .distinct()
+                .toList();
+
+        if (funcionarioIds.isEmpty()) {
+            return proximosHorarios;
+        }
+
+        List<JpaFuncionario> funcionarios = funcionarioRepository.findByIdInAtivo(funcionarioIds).stream()
+                .filter(f -> barbeariaId.equals(f.getBarbeariaId()))
+                .sorted(Comparator.comparing(JpaFuncionario::getId))
+                .toList();
+
+        if (funcionarios.isEmpty()) {
+            return proximosHorarios;
+        }
+
+        List<Long> idsAtivos = funcionarios.stream().map(JpaFuncionario::getId).toList();
+
+        LocalDateTime agora = LocalDateTime.now();
+        LocalDate dataInicio = agora.toLocalDate();
+        LocalDate dataFim = dataInicio.plusDays(horizonte - 1L);
+
+        // Horário recorrente de cada profissional e horário padrão da barbearia
+        Map<Long, Map<Integer, JpaHorarioFuncionamento>> horariosPorFuncionario = horarioFuncionamentoRepository
+                .findByFuncionarioIdInAtivo(idsAtivos)
+                .stream()
+                .collect(Collectors.groupingBy(JpaHorarioFuncionamento::getFuncionarioId,
+                        Collectors.toMap(JpaHorarioFuncionamento::getDiaSemana, h -> h, (a, b) -> a)));
+
+        Map<Integer, JpaHorarioFuncionamento> horariosBarbearia = horarioFuncionamentoRepository
+                .findPadraoByBarbeariaIdAtivo(barbeariaId)
+                .stream()
+                .collect(Collectors.toMap(JpaHorarioFuncionamento::getDiaSemana, h -> h, (a, b) -> a));
+
+        // Exceções, bloqueios e agendamentos de todo o horizonte
+        Map<Long, Map<LocalDate, JpaHorarioExcecao>> excecoesPorFuncionario = horarioExcecaoRepository
+                .findByFuncionarioIdInAndPeriodo(idsAtivos, dataInicio, dataFim)
+                .stream()
+                .collect(Collectors.groupingBy(JpaHorarioExcecao::getFuncionarioId,
+                        Collectors.toMap(JpaHorarioExcecao::getData, e -> e, (a, b) -> a)));
+
+        Map<Long, Map<LocalDate, List<JpaHorarioBloqueado>>> bloqueiosPorFuncionario = horarioBloqueioService
+                .listarBloqueiosPorFuncionariosEPeriodo(idsAtivos, dataInicio, dataFim)
+                .stream()
+                .collect(Collectors.groupingBy(JpaHorarioBloqueado::getFuncionarioId,
+                        Collectors.groupingBy(JpaHorarioBloqueado::getData)));
+
+        Map<Long, Map<LocalDate, List<JpaAgendamento>>> agendamentosPorFuncionario = agendamentoRepository
+                .findNaoCanceladosByBarbeiroIdInAndPeriodo(idsAtivos, dataInicio.atStartOfDay(),
+                        dataFim.plusDays(1).atStartOfDay())
+                .stream()
+                .collect(Collectors.groupingBy(JpaAgendamento::getBarbeiroId,
+                        Collectors.groupingBy(a -> a.getDataHora().toLocalDate())));
+
+        // Varredura dia a dia com término antecipado
+        for (LocalDate data = dataInicio; !data.isAfter(dataFim)
+                && proximosHorarios.size() < limite; data = data.plusDays(1)) {
+
+            int diaSemana = data.getDayOfWeek().getValue();
+            List<HorarioDisponivelDto> slotsDoDia = new ArrayList<>();
+
+            for (JpaFuncionario funcionario : funcionarios) {
+                Long funcionarioId = funcionario.getId();
+
+                LocalTime horaAbertura;
+                LocalTime horaFechamento;
+
+                // 1. Exceção para a data tem prioridade
+                JpaHorarioExcecao excecao = excecoesPorFuncionario.getOrDefault(funcionarioId, Map.of()).get(data);
+
+                if (excecao != null) {
+                    horaAbertura = excecao.getHoraAbertura();
+                    horaFechamento = excecao.getHoraFechamento();
+                } else {
+                    // 2. Horário do profissional, senão o da barbearia
+                    JpaHorarioFuncionamento horario = horariosPorFuncionario.getOrDefault(funcionarioId, Map.of())
+                            .get(diaSemana);
+                    if (horario == null) {
+                        horario = horariosBarbearia.get(diaSemana);
+                    }
+                    if (horario == null) {
+                        continue;
+                    }
+                    horaAbertura = horario.getHoraAbertura();
+                    horaFechamento = horario.getHoraFechamento();
+                }
+
+                List<HorarioDisponivelDto> slots = calcularSlotsDisponiveis(
+                        funcionario, data, horaAbertura, horaFechamento,
+                        agendamentosPorFuncionario.getOrDefault(funcionarioId, Map.of()).getOrDefault(data, List.of()),
+                        servico.getDuracao(),
+                        bloqueiosPorFuncionario.getOrDefault(funcionarioId, Map.of()).getOrDefault(data, List.of()));
+
+                for (HorarioDisponivelDto slot : slots) {
+                    // Hoje, apenas horários que ainda não começaram
+                    if (!LocalDateTime.of(data, slot.getHorarioInicio()).isBefore(agora)) {
+                        slotsDoDia.add(slot);
+                    }
+                }
+            }
+
+            slotsDoDia.sort(Comparator.comparing(HorarioDisponivelDto::getHorarioInicio)
+                    .thenComparing(HorarioDisponivelDto::getFuncionarioId));
+
+            for (HorarioDisponivelDto slot : slotsDoDia) {
+                if (proximosHorarios.size() >= limite) {
+                    break;
+                }
+                proximosHorarios.add(slot);
+            }
+        }
+
+        return proximosHorarios;
+    }
+
+    /**
+     * Aplica valor padrão e limite máximo a um parâmetro numérico opcional.
+     */
+    private int limitarParametro(Integer valor, int padrao, int maximo) {
+        if (valor == null || valor <= 0) {
+            return padrao;
+        }
+        return Math.min(valor, maximo);
+    }
+
     /**
      * Calcula os slots disponíveis para um funcionário em um dia específico.
      * 
@@ -0,0 +1,181 @@
+package com.barbearia.application.services;
+
+import com.barbearia.infrastructure.persistence.entities.JpaChaveIdempotencia;
+import com.barbearia.infrastructure.persistence.repositories.ChaveIdempotenciaRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Service responsável pelas chaves de idempotência (header Idempotency-Key).
+ *
+ * Fluxo:
+ * - reservar: registra a chave antes de executar a escrita (ou encontra a existente)
+ * - registrarResposta: guarda a resposta de sucesso para reenvio
+ * - liberar: remove a reserva quando a escrita falha, permitindo nova tentativa
+ *
+ * Cada operação usa sua própria transação curta, de modo que a reserva fica
+ * visível para requisições concorrentes antes da escrita começar.
+ *
+ * Enquanto a escrita não termina, a chave vale só por PRAZO_EM_ANDAMENTO: se
+ * a instância cair no meio da requisição, a reserva vence como qualquer chave
+ * expirada e uma nova tentativa assume a chave em vez de receber 409 até o
+ * fim da VALIDADE_CHAVE. A resposta só é gravada se a reserva ainda for da
+ * requisição que a criou.
+ */
+@Service
+public class IdempotenciaService {
+
+    // Tempo durante o qual uma chave garante o reenvio da resposta original
+    private static final Duration VALIDADE_CHAVE = Duration.ofHours(24);
+
+    // Tempo máximo de uma reserva sem resposta antes de poder ser assumida
+    private static final Duration PRAZO_EM_ANDAMENTO = Duration.ofMinutes(2);
+
+    // Intervalo mínimo entre limpezas de chaves expiradas
+    private static final Duration INTERVALO_LIMPEZA = Duration.ofMinutes(10);
+
+    private final ChaveIdempotenciaRepository chaveIdempotenciaRepository;
+    private final AtomicReference<LocalDateTime> ultimaLimpeza = new AtomicReference<>(LocalDateTime.MIN);
+
+    public IdempotenciaService(ChaveIdempotenciaRepository chaveIdempotenciaRepository) {
+        this.chaveIdempotenciaRepository = chaveIdempotenciaRepository;
+    }
+
+    /**
+     * Situação de uma chave após a tentativa de reserva.
+     */
+    public enum Situacao {
+        /** Chave nova: a escrita deve ser executada. */
+        NOVA,
+        /** Mesma requisição já concluída: reenviar a resposta guardada. */
+        CONCLUIDA,
+        /** Mesma requisição ainda em processamento. */
+        EM_ANDAMENTO,
+        /** Chave já usada com outra requisição. */
+        CONFLITO
+    }
+
+    /**
+     * Resultado da reserva de uma chave.
+     *
+     * @param situacao Situação da chave
+     * @param registro Registro da chave (resposta guardada quando CONCLUIDA)
+     */
+    public record Reserva(Situacao situacao, JpaChaveIdempotencia registro) {
+    }
+
+    /**
+     * Reserva uma chave de idempotência para o usuário.
+     *
+     * @param chave          Valor do header Idempotency-Key
+     * @param usuario        Identificação do usuário autenticado
+     * @param hashRequisicao Hash da requisição (ver calcularHash)
+     * @return Reserva com a situação da chave
+     */
+    public Reserva reservar(String chave, String usuario, String hashRequisicao) {
+        if (chave == null || chave.isBlank() || chave.length() > 255) {
+            throw new IllegalArgumentException("Idempotency-Key deve ter entre 1 e 255 caracteres");
+        }
+
+        LocalDateTime agora = LocalDateTime.now();
+        limparExpiradas(agora);
+
+        Optional<JpaChaveIdempotencia> existente = chaveIdempotenciaRepository.findByChaveAndUsuario(chave, usuario);
+        if (existente.isPresent()) {
+            JpaChaveIdempotencia registro = existente.get();
+            if (registro.getExpiraEm().isAfter(agora)) {
+                return avaliarExistente(registro, hashRequisicao);
+            }
+            chaveIdempotenciaRepository.delete(registro);
+        }
+
+        try {
+            JpaChaveIdempotencia nova = chaveIdempotenciaRepository.saveAndFlush(
+                    new JpaChaveIdempotencia(chave, usuario, hashRequisicao, agora.plus(PRAZO_EM_ANDAMENTO)));
+            return new Reserva(Situacao.NOVA, nova);
+        } catch (DataIntegrityViolationException e) {
+            // Outra requisição reservou a mesma chave ao mesmo tempo
+            return chaveIdempotenciaRepository.findByChaveAndUsuario(chave, usuario)
+                    .map(registro -> avaliarExistente(registro, hashRequisicao))
+                    .orElse(new Reserva(Situacao.EM_ANDAMENTO, null));
+        }
+    }
+
+    /**
+     * Guarda a resposta de uma escrita concluída com sucesso e estende a
+     * validade da chave para VALIDADE_CHAVE.
+     *
+     * @param reserva       Reserva obtida em reservar
+     * @param status        Status HTTP da resposta
+     * @param tipoConteudo  Content-Type da resposta
+     * @param corpo         Corpo da resposta
+     * @return false se a reserva venceu e foi assumida por outra tentativa
+     */
+    public boolean registrarResposta(Reserva reserva, int status, String tipoConteudo, String corpo) {
+        return chaveIdempotenciaRepository.registrarResposta(reserva.registro().getId(), status, tipoConteudo, corpo,
+                LocalDateTime.now().plus(VALIDADE_CHAVE)) > 0;
+    }
+
+    /**
+     * Remove a reserva de uma escrita que falhou, permitindo nova tentativa
+     * com a mesma chave. Uma reserva já assumida por outra tentativa tem
+     * outro ID e não é afetada.
+     *
+     * @param reserva Reserva obtida em reservar
+     */
+    public void liberar(Reserva reserva) {
+        chaveIdempotenciaRepository.deleteById(reserva.registro().getId());
+    }
+
+    /**
+     * Calcula o hash SHA-256 (hex) que identifica a requisição.
+     *
+     * @param metodo  Método HTTP
+     * @param caminho URI da requisição
+     * @param corpo   Corpo da requisição
+     * @return Hash em hexadecimal
+     */
+    public String calcularHash(String metodo, String caminho, byte[] corpo) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(metodo.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ' ');
+            digest.update(caminho.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(corpo);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private Reserva avaliarExistente(JpaChaveIdempotencia registro, String hashRequisicao) {
+        if (!registro.getHashRequisicao().equals(hashRequisicao)) {
+            return new Reserva(Situacao.CONFLITO, registro);
+        }
+        if (registro.getStatusResposta() == null) {
+            return new Reserva(Situacao.EM_ANDAMENTO, registro);
+        }
+        return new Reserva(Situacao.CONCLUIDA, registro);
+    }
+
+    /**
+     * Remove chaves expiradas no máximo uma vez a cada INTERVALO_LIMPEZA.
+     */
+    private void limparExpiradas(LocalDateTime agora) {
+        LocalDateTime anterior = ultimaLimpeza.get();
+        if (anterior.plus(INTERVALO_LIMPEZA).isAfter(agora) || !ultimaLimpeza.compareAndSet(anterior, agora)) {
+            return;
+        }
+        chaveIdempotenciaRepository.deleteExpiradas(agora);
+    }
+}
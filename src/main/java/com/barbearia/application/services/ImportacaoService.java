@@ -0,0 +1,607 @@
+package com.barbearia.application.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.barbearia.application.dto.ErroImportacaoDto;
+import com.barbearia.application.dto.ResultadoImportacaoDto;
+import com.barbearia.domain.enums.CategoriaDespesa;
+import com.barbearia.domain.enums.CategoriaReceitaExtra;
+import com.barbearia.domain.enums.FormatoImportacao;
+import com.barbearia.domain.enums.NaturezaLancamento;
+import com.barbearia.domain.enums.OrigemLancamento;
+import com.barbearia.domain.enums.StatusAgendamento;
+import com.barbearia.infrastructure.importacao.LeitorRegistros;
+import com.barbearia.infrastructure.importacao.RegistroImportacao;
+import com.barbearia.infrastructure.persistence.entities.JpaCliente;
+import com.barbearia.infrastructure.persistence.entities.JpaFuncionario;
+import com.barbearia.infrastructure.persistence.entities.JpaServico;
+import com.barbearia.infrastructure.persistence.repositories.ClienteRepository;
+import com.barbearia.infrastructure.persistence.repositories.FuncionarioRepository;
+import com.barbearia.infrastructure.persistence.repositories.ServicoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Importação de agendamentos e transações históricas de barbearias que migram
+ * de planilhas ou de outro sistema.
+ *
+ * <p>
+ * O arquivo é lido em streaming e validado registro a registro. Serviços e
+ * profissionais são resolvidos por mapas carregados uma vez por importação;
+ * clientes, por telefone, uma consulta por lote. Os registros válidos são
+ * gravados com JDBC em lotes de importacao.tamanho-lote, cada lote em sua
+ * própria transação, junto com os lançamentos do livro-razão. Se um lote
+ * falha no banco, seus registros são regravados um a um para identificar as
+ * linhas com problema.
+ * </p>
+ *
+ * <p>
+ * A gravação não passa por AgendamentoService: não há notificações por
+ * WhatsApp, eventos de agenda nem checagem de conflito de horário (o
+ * histórico já aconteceu no sistema de origem).
+ * </p>
+ */
+@Service
+public class ImportacaoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportacaoService.class);
+
+    private static final List<DateTimeFormatter> FORMATOS_DATA_HORA = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME,
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm[:ss]"),
+            DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm[:ss]"));
+
+    private static final List<DateTimeFormatter> FORMATOS_DATA = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+
+    private static final int TAMANHO_MAXIMO_MENSAGEM = 300;
+
+    private static final String SQL_INSERIR_CLIENTE = "INSERT INTO clientes (nome, email, senha, telefone, role, "
+            + "ativo, anonimizado, data_criacao, data_atualizacao) VALUES (?, ?, ?, ?, 'CLIENTE', TRUE, FALSE, ?, ?)";
+
+    private static final String SQL_INSERIR_AGENDAMENTO = "INSERT INTO agendamentos (cliente_id, barbearia_id, "
+            + "barbeiro_id, servico_id, data_hora, status, observacoes, data_criacao, data_atualizacao, avaliado) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, FALSE)";
+
+    private static final String SQL_INSERIR_DESPESA = "INSERT INTO despesas (barbearia_id, valor, categoria, "
+            + "descricao, data_transacao, data_criacao, data_atualizacao) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SQL_INSERIR_RECEITA = "INSERT INTO receitas_extras (barbearia_id, valor, categoria, "
+            + "descricao, data_transacao, data_criacao, data_atualizacao) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SQL_INSERIR_LANCAMENTO = "INSERT INTO lancamentos_financeiros (barbearia_id, "
+            + "natureza, origem, origem_id, valor, categoria, descricao, data_competencia, data_criacao) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ServicoRepository servicoRepository;
+    private final FuncionarioRepository funcionarioRepository;
+    private final ClienteRepository clienteRepository;
+    private final ObjectMapper objectMapper;
+    private final int tamanhoLote;
+    private final int maximoErros;
+
+    public ImportacaoService(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ServicoRepository servicoRepository,
+            FuncionarioRepository funcionarioRepository,
+            ClienteRepository clienteRepository,
+            ObjectMapper objectMapper,
+            @Value("${importacao.tamanho-lote:500}") int tamanhoLote,
+            @Value("${importacao.maximo-erros:1000}") int maximoErros) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.servicoRepository = servicoRepository;
+        this.funcionarioRepository = funcionarioRepository;
+        this.clienteRepository = clienteRepository;
+        this.objectMapper = objectMapper;
+        this.tamanhoLote = Math.max(1, tamanhoLote);
+        this.maximoErros = Math.max(0, maximoErros);
+    }
+
+    /**
+     * Importa agendamentos. Colunas (nomes sem distinção de maiúsculas):
+     * data_hora, cliente_nome, cliente_telefone, cliente_email (opcional),
+     * servico (ID ou nome), profissional (ID, nome ou email; opcional), status
+     * (opcional: CONCLUIDO para datas passadas, PENDENTE para futuras) e
+     * observacoes (opcional).
+     *
+     * Clientes são encontrados pelo telefone ou criados. Agendamentos
+     * concluídos geram a receita do serviço no livro-razão.
+     *
+     * @param simulacao apenas valida o arquivo, sem gravar
+     */
+    public ResultadoImportacaoDto importarAgendamentos(Long barbeariaId, FormatoImportacao formato,
+            InputStream entrada, boolean simulacao) throws IOException {
+        validarParametros(barbeariaId, formato, entrada);
+
+        Map<String, JpaServico> servicos = new HashMap<>();
+        for (JpaServico servico : servicoRepository.findByBarbeariaId(barbeariaId)) {
+            servicos.put(String.valueOf(servico.getId()), servico);
+            servicos.putIfAbsent(chave(servico.getNome()), servico);
+        }
+        Map<String, Long> profissionais = new HashMap<>();
+        for (JpaFuncionario funcionario : funcionarioRepository.findByBarbeariaId(barbeariaId)) {
+            profissionais.put(String.valueOf(funcionario.getId()), funcionario.getId());
+            profissionais.putIfAbsent(chave(funcionario.getNome()), funcionario.getId());
+            if (funcionario.getEmail() != null) {
+                profissionais.putIfAbsent(chave(funcionario.getEmail()), funcionario.getId());
+            }
+        }
+
+        LocalDateTime agora = LocalDateTime.now();
+        ResultadoImportacaoDto resultado = importar(LeitorRegistros.para(formato, entrada, objectMapper),
+                registro -> validarAgendamento(registro, servicos, profissionais, agora),
+                lote -> gravarAgendamentos(barbeariaId, lote), simulacao);
+        logger.info("Importação de agendamentos da barbearia {}: {} lidos, {} importados, {} recusados{}",
+                barbeariaId, resultado.registrosLidos(), resultado.importados(), resultado.recusados(),
+                simulacao ? " (simulação)" : "");
+        return resultado;
+    }
+
+    /**
+     * Importa despesas e receitas extras. Colunas: tipo (DESPESA ou RECEITA;
+     * padrão DESPESA), valor (aceita "1.234,56" e "1234.56"), categoria (nome
+     * de CategoriaDespesa ou CategoriaReceitaExtra), descricao (opcional) e
+     * data.
+     *
+     * Cada transação gera seu lançamento no livro-razão.
+     *
+     * @param simulacao apenas valida o arquivo, sem gravar
+     */
+    public ResultadoImportacaoDto importarTransacoes(Long barbeariaId, FormatoImportacao formato,
+            InputStream entrada, boolean simulacao) throws IOException {
+        validarParametros(barbeariaId, formato, entrada);
+
+        ResultadoImportacaoDto resultado = importar(LeitorRegistros.para(formato, entrada, objectMapper),
+                this::validarTransacao, lote -> gravarTransacoes(barbeariaId, lote), simulacao);
+        logger.info("Importação de transações da barbearia {}: {} lidos, {} importados, {} recusados{}",
+                barbeariaId, resultado.registrosLidos(), resultado.importados(), resultado.recusados(),
+                simulacao ? " (simulação)" : "");
+        return resultado;
+    }
+
+    // ==================== Pipeline ====================
+
+    private <T extends LinhaImportada> ResultadoImportacaoDto importar(LeitorRegistros leitor,
+            Function<RegistroImportacao, T> validador, Consumer<List<T>> gravador, boolean simulacao)
+            throws IOException {
+        Relatorio relatorio = new Relatorio();
+        List<T> lote = new ArrayList<>(tamanhoLote);
+
+        RegistroImportacao registro;
+        while ((registro = leitor.proximo()) != null) {
+            relatorio.lidos++;
+            if (registro.erro() != null) {
+                relatorio.recusar(registro.linha(), registro.erro());
+                continue;
+            }
+            T linha;
+            try {
+                linha = validador.apply(registro);
+            } catch (IllegalArgumentException e) {
+                relatorio.recusar(registro.linha(), e.getMessage());
+                continue;
+            }
+            if (simulacao) {
+                relatorio.importados++;
+                continue;
+            }
+            lote.add(linha);
+            if (lote.size() >= tamanhoLote) {
+                gravar(lote, gravador, relatorio);
+                lote = new ArrayList<>(tamanhoLote);
+            }
+        }
+        if (!lote.isEmpty()) {
+            gravar(lote, gravador, relatorio);
+        }
+
+        return new ResultadoImportacaoDto(relatorio.lidos, relatorio.importados, relatorio.recusados, simulacao,
+                relatorio.erros, relatorio.recusados > relatorio.erros.size());
+    }
+
+    /**
+     * Grava o lote em uma transação. Se o banco recusar o lote, cada registro
+     * é regravado sozinho para recusar apenas as linhas com problema.
+     */
+    private <T extends LinhaImportada> void gravar(List<T> lote, Consumer<List<T>> gravador, Relatorio relatorio) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> gravador.accept(lote));
+            relatorio.importados += lote.size();
+        } catch (DataAccessException e) {
+            if (lote.size() == 1) {
+                relatorio.recusar(lote.get(0).linha(), "Erro ao gravar: " + resumir(e));
+                return;
+            }
+            logger.warn("Lote de importação com {} registros recusado pelo banco; gravando um a um: {}",
+                    lote.size(), resumir(e));
+            for (T linha : lote) {
+                gravar(List.of(linha), gravador, relatorio);
+            }
+        }
+    }
+
+    // ==================== Agendamentos ====================
+
+    private AgendamentoImportado validarAgendamento(RegistroImportacao registro, Map<String, JpaServico> servicos,
+            Map<String, Long> profissionais, LocalDateTime agora) {
+        LocalDateTime dataHora = dataHora(obrigatorio(registro, "data_hora"));
+        String clienteNome = limitar(obrigatorio(registro, "cliente_nome"), "cliente_nome", 100);
+        String clienteTelefone = limitar(obrigatorio(registro, "cliente_telefone"), "cliente_telefone", 20);
+        String clienteEmail = limitar(registro.valor("cliente_email"), "cliente_email", 100);
+
+        String nomeServico = obrigatorio(registro, "servico");
+        JpaServico servico = servicos.get(chave(nomeServico));
+        if (servico == null) {
+            throw new IllegalArgumentException("Serviço não encontrado: " + nomeServico);
+        }
+
+        Long profissionalId = null;
+        String nomeProfissional = registro.valor("profissional");
+        if (nomeProfissional != null) {
+            profissionalId = profissionais.get(chave(nomeProfissional));
+            if (profissionalId == null) {
+                throw new IllegalArgumentException("Profissional não encontrado: " + nomeProfissional);
+            }
+        }
+
+        String textoStatus = registro.valor("status");
+        StatusAgendamento status;
+        if (textoStatus == null) {
+            status = dataHora.isBefore(agora) ? StatusAgendamento.CONCLUIDO : StatusAgendamento.PENDENTE;
+        } else {
+            status = enumeracao(StatusAgendamento.class, textoStatus, "Status");
+        }
+
+        return new AgendamentoImportado(registro.linha(), dataHora, clienteNome, clienteTelefone, clienteEmail,
+                servico.getId(), servico.getPreco(), servico.getNome(), profissionalId, status,
+                limitar(registro.valor("observacoes"), "observacoes", 500));
+    }
+
+    private void gravarAgendamentos(Long barbeariaId, List<AgendamentoImportado> lote) {
+        Map<String, Long> clientes = resolverClientes(lote);
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Long> ids = inserirComChaves(SQL_INSERIR_AGENDAMENTO, lote, (ps, agendamento) -> {
+            ps.setLong(1, clientes.get(agendamento.clienteTelefone()));
+            ps.setLong(2, barbeariaId);
+            if (agendamento.profissionalId() != null) {
+                ps.setLong(3, agendamento.profissionalId());
+            } else {
+                ps.setNull(3, Types.BIGINT);
+            }
+            ps.setLong(4, agendamento.servicoId());
+            ps.setTimestamp(5, Timestamp.valueOf(agendamento.dataHora()));
+            ps.setString(6, agendamento.status().name());
+            ps.setString(7, agendamento.observacoes() != null ? agendamento.observacoes() : "");
+            ps.setTimestamp(8, agora);
+            ps.setTimestamp(9, agora);
+        });
+
+        List<Object[]> lancamentos = new ArrayList<>();
+        for (int i = 0; i < lote.size(); i++) {
+            AgendamentoImportado agendamento = lote.get(i);
+            if (agendamento.status() == StatusAgendamento.CONCLUIDO && agendamento.preco() != null) {
+                lancamentos.add(new Object[] { barbeariaId, NaturezaLancamento.RECEITA_SERVICO.name(),
+                        OrigemLancamento.AGENDAMENTO.name(), ids.get(i), agendamento.preco(),
+                        LivroRazaoService.CATEGORIA_SERVICO, agendamento.servicoNome(),
+                        java.sql.Date.valueOf(agendamento.dataHora().toLocalDate()), agora });
+            }
+        }
+        if (!lancamentos.isEmpty()) {
+            jdbcTemplate.batchUpdate(SQL_INSERIR_LANCAMENTO, lancamentos);
+        }
+    }
+
+    /**
+     * Telefone → ID do cliente para o lote, criando os clientes que não
+     * existem. Email já usado por outro cliente (ou ausente) vira o
+     * placeholder telefone@placeholder.local, como no agendamento direto.
+     */
+    private Map<String, Long> resolverClientes(List<AgendamentoImportado> lote) {
+        Map<String, Long> clientes = new HashMap<>();
+        Set<String> telefones = new HashSet<>();
+        lote.forEach(agendamento -> telefones.add(agendamento.clienteTelefone()));
+        for (JpaCliente cliente : clienteRepository.findByTelefoneIn(telefones)) {
+            clientes.merge(cliente.getTelefone(), cliente.getId(), Math::min);
+        }
+
+        Map<String, AgendamentoImportado> novos = new LinkedHashMap<>();
+        for (AgendamentoImportado agendamento : lote) {
+            if (!clientes.containsKey(agendamento.clienteTelefone())) {
+                novos.putIfAbsent(agendamento.clienteTelefone(), agendamento);
+            }
+        }
+        if (novos.isEmpty()) {
+            return clientes;
+        }
+
+        Set<String> emailsInformados = new HashSet<>();
+        novos.values().forEach(novo -> {
+            if (novo.clienteEmail() != null) {
+                emailsInformados.add(novo.clienteEmail());
+            }
+        });
+        Set<String> emailsUsados = new HashSet<>();
+        if (!emailsInformados.isEmpty()) {
+            clienteRepository.findByEmailIn(emailsInformados).forEach(cliente -> emailsUsados.add(cliente.getEmail()));
+        }
+
+        List<String[]> cadastros = new ArrayList<>();
+        for (AgendamentoImportado novo : novos.values()) {
+            String email = novo.clienteEmail();
+            if (email == null || !emailsUsados.add(email)) {
+                email = novo.clienteTelefone() + "@placeholder.local";
+            }
+            cadastros.add(new String[] { novo.clienteNome(), email, novo.clienteTelefone() });
+        }
+
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> ids = inserirComChaves(SQL_INSERIR_CLIENTE, cadastros, (ps, cadastro) -> {
+            ps.setString(1, cadastro[0]);
+            ps.setString(2, cadastro[1]);
+            // Senha aleatória (cliente precisará usar "esqueci senha")
+            ps.setString(3, UUID.randomUUID().toString());
+            ps.setString(4, cadastro[2]);
+            ps.setTimestamp(5, agora);
+            ps.setTimestamp(6, agora);
+        });
+        for (int i = 0; i < cadastros.size(); i++) {
+            clientes.put(cadastros.get(i)[2], ids.get(i));
+        }
+        return clientes;
+    }
+
+    // ==================== Transações ====================
+
+    private TransacaoImportada validarTransacao(RegistroImportacao registro) {
+        String tipo = registro.valor("tipo");
+        boolean despesa;
+        if (tipo == null || "DESPESA".equalsIgnoreCase(tipo)) {
+            despesa = true;
+        } else if ("RECEITA".equalsIgnoreCase(tipo) || "RECEITA_EXTRA".equalsIgnoreCase(tipo)) {
+            despesa = false;
+        } else {
+            throw new IllegalArgumentException("Tipo inválido: " + tipo + " (use DESPESA ou RECEITA)");
+        }
+
+        BigDecimal valor = valor(obrigatorio(registro, "valor"));
+        String textoCategoria = obrigatorio(registro, "categoria");
+        String categoria = despesa
+                ? enumeracao(CategoriaDespesa.class, textoCategoria, "Categoria de despesa").name()
+                : enumeracao(CategoriaReceitaExtra.class, textoCategoria, "Categoria de receita").name();
+
+        return new TransacaoImportada(registro.linha(), despesa, valor, categoria,
+                limitar(registro.valor("descricao"), "descricao", 500), data(obrigatorio(registro, "data")));
+    }
+
+    private void gravarTransacoes(Long barbeariaId, List<TransacaoImportada> lote) {
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        List<TransacaoImportada> despesas = lote.stream().filter(TransacaoImportada::despesa).toList();
+        List<TransacaoImportada> receitas = lote.stream().filter(transacao -> !transacao.despesa()).toList();
+
+        List<Object[]> lancamentos = new ArrayList<>();
+        gravarTransacoes(barbeariaId, SQL_INSERIR_DESPESA, despesas, NaturezaLancamento.DESPESA,
+                OrigemLancamento.DESPESA, agora, lancamentos);
+        gravarTransacoes(barbeariaId, SQL_INSERIR_RECEITA, receitas, NaturezaLancamento.RECEITA_EXTRA,
+                OrigemLancamento.RECEITA, agora, lancamentos);
+        if (!lancamentos.isEmpty()) {
+            jdbcTemplate.batchUpdate(SQL_INSERIR_LANCAMENTO, lancamentos);
+        }
+    }
+
+    private void gravarTransacoes(Long barbeariaId, String sql, List<TransacaoImportada> transacoes,
+            NaturezaLancamento natureza, OrigemLancamento origem, Timestamp agora, List<Object[]> lancamentos) {
+        if (transacoes.isEmpty()) {
+            return;
+        }
+        List<Long> ids = inserirComChaves(sql, transacoes, (ps, transacao) -> {
+            ps.setLong(1, barbeariaId);
+            ps.setBigDecimal(2, transacao.valor());
+            ps.setString(3, transacao.categoria());
+            ps.setString(4, transacao.descricao());
+            ps.setDate(5, java.sql.Date.valueOf(transacao.data()));
+            ps.setTimestamp(6, agora);
+            ps.setTimestamp(7, agora);
+        });
+        for (int i = 0; i < transacoes.size(); i++) {
+            TransacaoImportada transacao = transacoes.get(i);
+            // Despesas entram no livro-razão com valor negativo
+            BigDecimal valor = transacao.despesa() ? transacao.valor().negate() : transacao.valor();
+            lancamentos.add(new Object[] { barbeariaId, natureza.name(), origem.name(), ids.get(i), valor,
+                    transacao.categoria(), transacao.descricao(), java.sql.Date.valueOf(transacao.data()), agora });
+        }
+    }
+
+    // ==================== Auxiliares ====================
+
+    @FunctionalInterface
+    private interface ParametrosLinha<T> {
+        void definir(PreparedStatement ps, T item) throws SQLException;
+    }
+
+    /**
+     * INSERT em batch devolvendo os IDs gerados, na ordem dos itens.
+     */
+    private <T> List<Long> inserirComChaves(String sql, List<T> itens, ParametrosLinha<T> parametros) {
+        KeyHolder chaves = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(conexao -> conexao.prepareStatement(sql, new String[] { "id" }),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        parametros.definir(ps, itens.get(i));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return itens.size();
+                    }
+                }, chaves);
+        List<Long> ids = new ArrayList<>(itens.size());
+        for (Map<String, Object> chave : chaves.getKeyList()) {
+            ids.add(((Number) chave.values().iterator().next()).longValue());
+        }
+        if (ids.size() != itens.size()) {
+            throw new IllegalStateException("Banco devolveu " + ids.size() + " IDs para " + itens.size()
+                    + " registros inseridos");
+        }
+        return ids;
+    }
+
+    private static void validarParametros(Long barbeariaId, FormatoImportacao formato, InputStream entrada) {
+        if (barbeariaId == null) {
+            throw new IllegalArgumentException("ID da barbearia não pode ser nulo");
+        }
+        if (formato == null) {
+            throw new IllegalArgumentException("Formato do arquivo é obrigatório");
+        }
+        if (entrada == null) {
+            throw new IllegalArgumentException("Arquivo é obrigatório");
+        }
+    }
+
+    private static String obrigatorio(RegistroImportacao registro, String campo) {
+        String valor = registro.valor(campo);
+        if (valor == null) {
+            throw new IllegalArgumentException("Campo " + campo + " é obrigatório");
+        }
+        return valor;
+    }
+
+    private static String limitar(String valor, String campo, int tamanho) {
+        if (valor != null && valor.length() > tamanho) {
+            throw new IllegalArgumentException("Campo " + campo + " deve ter no máximo " + tamanho + " caracteres");
+        }
+        return valor;
+    }
+
+    private static LocalDateTime dataHora(String texto) {
+        for (DateTimeFormatter formato : FORMATOS_DATA_HORA) {
+            try {
+                return LocalDateTime.parse(texto, formato);
+            } catch (DateTimeParseException e) {
+                // tenta o próximo formato
+            }
+        }
+        throw new IllegalArgumentException("Data/hora inválida: " + texto
+                + " (use AAAA-MM-DDTHH:MM ou DD/MM/AAAA HH:MM)");
+    }
+
+    private static LocalDate data(String texto) {
+        for (DateTimeFormatter formato : FORMATOS_DATA) {
+            try {
+                return LocalDate.parse(texto, formato);
+            } catch (DateTimeParseException e) {
+                // tenta o próximo formato
+            }
+        }
+        throw new IllegalArgumentException("Data inválida: " + texto + " (use AAAA-MM-DD ou DD/MM/AAAA)");
+    }
+
+    /**
+     * Valor monetário em "1234.56", "1.234,56" ou "R$ 1.234,56".
+     */
+    private static BigDecimal valor(String texto) {
+        String numero = texto.replace("R$", "").replace(" ", "");
+        if (numero.contains(",")) {
+            numero = numero.replace(".", "").replace(',', '.');
+        }
+        BigDecimal valor;
+        try {
+            valor = new BigDecimal(numero);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido: " + texto);
+        }
+        if (valor.signum() <= 0) {
+            throw new IllegalArgumentException("Valor deve ser maior que zero");
+        }
+        if (valor.scale() > 2) {
+            throw new IllegalArgumentException("Valor deve ter no máximo 2 casas decimais: " + texto);
+        }
+        return valor;
+    }
+
+    private static <E extends Enum<E>> E enumeracao(Class<E> tipo, String texto, String campo) {
+        try {
+            return Enum.valueOf(tipo, texto.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(campo + " inválido(a): " + texto);
+        }
+    }
+
+    /**
+     * Chave de busca por nome: minúsculas, sem acentos e sem espaços extras.
+     */
+    private static String chave(String texto) {
+        String semAcentos = Normalizer.normalize(texto.trim(), Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return semAcentos.replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String resumir(DataAccessException e) {
+        String mensagem = String.valueOf(e.getMostSpecificCause().getMessage());
+        return mensagem.length() > TAMANHO_MAXIMO_MENSAGEM ? mensagem.substring(0, TAMANHO_MAXIMO_MENSAGEM) : mensagem;
+    }
+
+    private interface LinhaImportada {
+        long linha();
+    }
+
+    private record AgendamentoImportado(long linha, LocalDateTime dataHora, String clienteNome,
+            String clienteTelefone, String clienteEmail, Long servicoId, BigDecimal preco, String servicoNome,
+            Long profissionalId, StatusAgendamento status, String observacoes) implements LinhaImportada {
+    }
+
+    private record TransacaoImportada(long linha, boolean despesa, BigDecimal valor, String categoria,
+            String descricao, LocalDate data) implements LinhaImportada {
+    }
+
+    private class Relatorio {
+        private long lidos;
+        private long importados;
+        private long recusados;
+        private final List<ErroImportacaoDto> erros = new ArrayList<>();
+
+        private void recusar(long linha, String mensagem) {
+            recusados++;
+            if (erros.size() < maximoErros) {
+                erros.add(new ErroImportacaoDto(linha, mensagem));
+            }
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package com.barbearia.application.services;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.barbearia.application.events.AgendamentoAlteradoEvento;
+import com.barbearia.application.ports.NotificacaoService;
+import com.barbearia.domain.enums.StatusLembrete;
+import com.barbearia.domain.enums.TipoLembrete;
+import com.barbearia.infrastructure.metrics.MetricasNegocio;
+import com.barbearia.infrastructure.persistence.entities.JpaLembreteAgendamento;
+import com.barbearia.infrastructure.persistence.repositories.LembreteAgendamentoRepository;
+
+/**
+ * Lembretes de agendamento por WhatsApp (véspera e uma hora antes).
+ *
+ * <p>
+ * Programação: a cada AgendamentoAlteradoEvento, na mesma transação do
+ * agendamento, os lembretes são criados (criação e reagendamento) ou
+ * removidos (cancelamento, conclusão e falta) em lembretes_agendamento, que
+ * funciona como índice dos envios por horário.
+ * </p>
+ *
+ * <p>
+ * Envio: a cada lembretes.intervalo-ms (um "balde" de tempo) o serviço
+ * acorda e envia os lembretes com horário até o fim do balde atual:
+ * </p>
+ * <ol>
+ * <li>uma consulta por faixa no índice parcial de pendentes trava até
+ * lembretes.lote linhas com FOR UPDATE SKIP LOCKED e as reserva para esta
+ * instância (status ENVIANDO, prazo lembretes.reserva-s), em uma transação
+ * curta;</li>
+ * <li>as mensagens saem pelo NotificacaoService, no máximo
+ * lembretes.envios-por-segundo;</li>
+ * <li>cada lembrete é encerrado (ENVIADO, FALHOU ou EXPIRADO) ou devolvido à
+ * fila para nova tentativa, apenas se a reserva ainda for desta
+ * instância.</li>
+ * </ol>
+ *
+ * <p>
+ * Com várias instâncias, cada lembrete é reservado por uma só; após um
+ * reinício os lembretes já encerrados não voltam à fila. Se uma instância
+ * cai durante o envio, suas reservas vencem e voltam a PENDENTE: apenas esses
+ * lembretes em andamento podem ser repetidos.
+ * </p>
+ */
+@Service
+public class LembreteAgendamentoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LembreteAgendamentoService.class);
+
+    private static final DateTimeFormatter DATA_HORA = DateTimeFormatter.ofPattern("dd/MM/yyyy 'às' HH:mm");
+    private static final Duration ESPERA_NOVA_TENTATIVA = Duration.ofMinutes(5);
+    private static final int TAMANHO_MAXIMO_ERRO = 500;
+
+    private final LembreteAgendamentoRepository repository;
+    private final NotificacaoService notificacaoService;
+    private final MetricasNegocio metricas;
+    private final TransactionTemplate transactionTemplate;
+    private final String instancia = UUID.randomUUID().toString();
+
+    @Value("${lembretes.envio.habilitado:true}")
+    private boolean envioHabilitado;
+
+    @Value("${lembretes.intervalo-ms:60000}")
+    private long intervaloMs;
+
+    @Value("${lembretes.lote:100}")
+    private int lote;
+
+    @Value("${lembretes.envios-por-segundo:10}")
+    private int enviosPorSegundo;
+
+    @Value("${lembretes.reserva-s:300}")
+    private long reservaSegundos;
+
+    @Value("${lembretes.tentativas:3}")
+    private int maximoTentativas;
+
+    @Value("${lembretes.retencao-dias:30}")
+    private int retencaoDias;
+
+    public LembreteAgendamentoService(LembreteAgendamentoRepository repository,
+            NotificacaoService notificacaoService,
+            MetricasNegocio metricas,
+            PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.notificacaoService = notificacaoService;
+        this.metricas = metricas != null ? metricas : MetricasNegocio.desligadas();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // ==================== Programação ====================
+
+    /**
+     * Mantém os lembretes em dia com o agendamento. Roda na transação de quem
+     * publicou o evento: lembretes e agendamento são gravados juntos.
+     */
+    @EventListener
+    @Transactional
+    public void onAgendamentoAlterado(AgendamentoAlteradoEvento evento) {
+        if (evento.agendamentoId() == null) {
+            return;
+        }
+        switch (evento.tipo()) {
+            case CRIADO -> programar(evento.agendamentoId(), evento.dataHora(), LocalDateTime.now());
+            case REAGENDADO -> {
+                repository.removerPendentes(evento.agendamentoId());
+                programar(evento.agendamentoId(), evento.dataHora(), LocalDateTime.now());
+            }
+            case CANCELADO, CONCLUIDO, FALTOU -> repository.removerPendentes(evento.agendamentoId());
+            case CONFIRMADO -> {
+                // Lembretes já programados na criação
+            }
+        }
+    }
+
+    /**
+     * Cria os lembretes cujo horário de envio ainda não passou.
+     */
+    void programar(Long agendamentoId, LocalDateTime dataHora, LocalDateTime agora) {
+        if (dataHora == null) {
+            return;
+        }
+        for (TipoLembrete tipo : TipoLembrete.values()) {
+            if (dataHora.minus(tipo.getAntecedencia()).isAfter(agora)
+                    && !repository.existsByAgendamentoIdAndTipoAndDataHoraAgendamento(agendamentoId, tipo,
+                            dataHora)) {
+                repository.save(new JpaLembreteAgendamento(agendamentoId, dataHora, tipo));
+            }
+        }
+    }
+
+    // ==================== Envio ====================
+
+    @Scheduled(fixedRateString = "${lembretes.intervalo-ms:60000}",
+            initialDelayString = "${lembretes.intervalo-ms:60000}")
+    public void despacharLembretes() {
+        if (!envioHabilitado) {
+            return;
+        }
+        if (!notificacaoService.isDisponivel()) {
+            logger.debug("Notificações indisponíveis; lembretes ficam na fila");
+            return;
+        }
+        try {
+            despachar(LocalDateTime::now);
+        } catch (RuntimeException e) {
+            logger.error("Falha ao despachar lembretes de agendamento: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Envia os lembretes com horário até o fim do balde que contém agora.
+     *
+     * O relógio é lido de novo a cada lote: com o limite de envios por
+     * segundo um balde cheio leva minutos, e o prazo da reserva e o teste de
+     * agendamento já passado precisam do horário em que o lote sai.
+     *
+     * @param relogio Fonte do horário atual
+     * @return quantidade de lembretes processados
+     */
+    int despachar(Supplier<LocalDateTime> relogio) {
+        LocalDateTime agora = relogio.get();
+        LocalDateTime fimBalde = fimDoBalde(agora);
+
+        Integer liberadas = transactionTemplate.execute(status -> repository.liberarReservasVencidas(agora));
+        if (liberadas != null && liberadas > 0) {
+            logger.warn("{} lembretes com reserva vencida voltaram para a fila", liberadas);
+        }
+
+        int processados = 0;
+        while (true) {
+            LocalDateTime inicioLote = relogio.get();
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Long> travados = repository.travarVencidos(fimBalde, lote);
+                if (!travados.isEmpty()) {
+                    repository.reservar(travados, instancia, inicioLote.plusSeconds(reservaSegundos));
+                }
+                return travados;
+            });
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            enviar(ids, inicioLote);
+            processados += ids.size();
+            if (ids.size() < lote) {
+                break;
+            }
+        }
+
+        if (processados > 0) {
+            logger.info("{} lembretes de agendamento processados (balde até {})", processados, fimBalde);
+        }
+        return processados;
+    }
+
+    /**
+     * Limpa diariamente os lembretes encerrados há mais de
+     * lembretes.retencao-dias.
+     */
+    @Scheduled(cron = "${lembretes.limpeza.cron:0 15 4 * * *}")
+    public void removerAntigos() {
+        Integer removidos = transactionTemplate.execute(status -> repository
+                .removerEncerradosAntesDe(LocalDateTime.now().minusDays(Math.max(1, retencaoDias))));
+        if (removidos != null && removidos > 0) {
+            logger.info("{} lembretes antigos removidos", removidos);
+        }
+    }
+
+    private void enviar(List<Long> ids, LocalDateTime agora) {
+        List<Envio> envios = new ArrayList<>();
+        long intervaloNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, enviosPorSegundo);
+        long proximoEnvio = System.nanoTime();
+
+        for (Object[] linha : repository.buscarParaEnvio(ids)) {
+            Long id = ((Number) linha[0]).longValue();
+            TipoLembrete tipo = TipoLembrete.valueOf((String) linha[1]);
+            String statusAgendamento = (String) linha[2];
+            LocalDateTime dataHora = linha[3] instanceof Timestamp timestamp ? timestamp.toLocalDateTime()
+                    : (LocalDateTime) linha[3];
+            String telefone = (String) linha[5];
+
+            if (dataHora == null || !dataHora.isAfter(agora) || telefone == null
+                    || !("PENDENTE".equals(statusAgendamento) || "CONFIRMADO".equals(statusAgendamento))) {
+                encerrar(id, tipo, StatusLembrete.EXPIRADO, null, null);
+                continue;
+            }
+
+            long espera = proximoEnvio - System.nanoTime();
+            if (espera > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(espera);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            proximoEnvio = Math.max(proximoEnvio, System.nanoTime()) + intervaloNanos;
+
+            String mensagem = criarMensagem(tipo, (String) linha[4], (String) linha[6], dataHora, (String) linha[7]);
+            CompletableFuture<Void> resultado;
+            try {
+                resultado = notificacaoService.enviarMensagemWhatsApp(telefone, mensagem);
+            } catch (RuntimeException e) {
+                resultado = CompletableFuture.failedFuture(e);
+            }
+            envios.add(new Envio(id, tipo, dataHora, resultado));
+        }
+
+        long prazo = System.nanoTime() + TimeUnit.SECONDS.toNanos(reservaSegundos);
+        for (Envio envio : envios) {
+            try {
+                envio.resultado().get(Math.max(0, prazo - System.nanoTime()), TimeUnit.NANOSECONDS);
+                encerrar(envio.id(), envio.tipo(), StatusLembrete.ENVIADO, LocalDateTime.now(), null);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (TimeoutException e) {
+                // Reserva vence e o lembrete volta para a fila
+                logger.warn("Envio do lembrete {} não terminou dentro da reserva", envio.id());
+            } catch (ExecutionException e) {
+                falhar(envio, e.getCause() != null ? e.getCause() : e, agora);
+            }
+        }
+    }
+
+    private void falhar(Envio envio, Throwable erro, LocalDateTime agora) {
+        String mensagem = erro.getMessage() != null ? erro.getMessage() : erro.getClass().getSimpleName();
+        if (mensagem.length() > TAMANHO_MAXIMO_ERRO) {
+            mensagem = mensagem.substring(0, TAMANHO_MAXIMO_ERRO);
+        }
+        Integer tentativas = repository.findById(envio.id()).map(JpaLembreteAgendamento::getTentativas).orElse(0);
+        LocalDateTime novaTentativa = agora.plus(ESPERA_NOVA_TENTATIVA);
+
+        if (tentativas < maximoTentativas && novaTentativa.isBefore(envio.dataHora())) {
+            String erroFinal = mensagem;
+            transactionTemplate.executeWithoutResult(
+                    status -> repository.reprogramar(envio.id(), instancia, novaTentativa, erroFinal));
+            logger.warn("Lembrete {} falhou (tentativa {}); nova tentativa em {}", envio.id(), tentativas,
+                    novaTentativa);
+        } else {
+            encerrar(envio.id(), envio.tipo(), StatusLembrete.FALHOU, null, mensagem);
+            logger.error("Lembrete {} não enviado após {} tentativas: {}", envio.id(), tentativas, mensagem);
+        }
+    }
+
+    private void encerrar(Long id, TipoLembrete tipo, StatusLembrete status, LocalDateTime enviadoEm, String erro) {
+        Integer alterados = transactionTemplate
+                .execute(transacao -> repository.encerrar(id, instancia, status, enviadoEm, erro));
+        if (alterados != null && alterados > 0) {
+            metricas.registrarLembrete(tipo, status);
+        } else {
+            logger.warn("Reserva do lembrete {} já não era desta instância; {} não registrado", id, status);
+        }
+    }
+
+    /**
+     * Fim do balde de lembretes.intervalo-ms que contém agora (baldes
+     * alinhados à época, iguais em todas as instâncias).
+     */
+    LocalDateTime fimDoBalde(LocalDateTime agora) {
+        long tamanho = Math.max(1000, intervaloMs);
+        long instante = agora.toInstant(ZoneOffset.UTC).toEpochMilli();
+        long fim = (Math.floorDiv(instante, tamanho) + 1) * tamanho;
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(fim), ZoneOffset.UTC);
+    }
+
+    private String criarMensagem(TipoLembrete tipo, String clienteNome, String servicoNome,
+            LocalDateTime dataHora, String barbeariaNome) {
+        String quando = tipo == TipoLembrete.VESPERA ? "amanhã" : "daqui a pouco";
+        return String.format(
+                "Olá %s! ⏰\n\n" +
+                "Lembrete: seu horário é %s.\n\n" +
+                "✂️ Serviço: %s\n" +
+                "📆 Data/Hora: %s\n" +
+                "🏪 Barbearia: %s\n\n" +
+                "Se não puder comparecer, avise a barbearia para liberar o horário.",
+                clienteNome, quando, servicoNome, dataHora.format(DATA_HORA),
+                barbeariaNome != null ? barbeariaNome : "Sua Barbearia");
+    }
+
+    private record Envio(Long id, TipoLembrete tipo, LocalDateTime dataHora, CompletableFuture<Void> resultado) {
+    }
+}
@@ -0,0 +1,177 @@
+package com.barbearia.application.services;
+
+import com.barbearia.application.dto.AgendamentoBriefDto;
+import com.barbearia.application.dto.LinhaDoTempoClienteDto;
+import com.barbearia.domain.enums.StatusAgendamento;
+import com.barbearia.infrastructure.persistence.repositories.AgendamentoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Serviço da linha do tempo do cliente (tela inicial do app).
+ *
+ * Próximos agendamentos e uma página do histórico saem de uma única
+ * consulta com os nomes já resolvidos. O histórico é paginado por keyset
+ * (data/hora, id), então páginas profundas custam o mesmo que a primeira e
+ * agendamentos criados entre uma página e outra não duplicam itens. O ETag
+ * vem de uma consulta agregada leve, permitindo responder 304 sem montar a
+ * resposta.
+ */
+@Service
+public class LinhaDoTempoClienteService {
+
+    static final int LIMITE_PADRAO = 20;
+    static final int LIMITE_MAXIMO = 100;
+    // Teto de próximos agendamentos devolvidos na primeira página
+    static final int LIMITE_PROXIMOS = 50;
+
+    private static final Base64.Encoder CODIFICADOR = Base64.getUrlEncoder().withoutPadding();
+
+    private final AgendamentoRepository agendamentoRepository;
+
+    public LinhaDoTempoClienteService(AgendamentoRepository agendamentoRepository) {
+        this.agendamentoRepository = agendamentoRepository;
+    }
+
+    /**
+     * Calcula o ETag da linha do tempo.
+     *
+     * Muda quando algum agendamento do cliente é criado ou atualizado,
+     * quando um agendamento passa para o histórico, ou quando a página
+     * pedida (cursor, limite) é outra.
+     *
+     * @param clienteId ID do cliente autenticado
+     * @param cursor    Cursor recebido (nulo na primeira página)
+     * @param limite    Tamanho da página do histórico
+     * @return ETag entre aspas, pronto para o cabeçalho HTTP
+     */
+    @Transactional(readOnly = true)
+    public String calcularEtag(Long clienteId, String cursor, int limite) {
+        return calcularEtag(clienteId, cursor, limite, LocalDateTime.now());
+    }
+
+    String calcularEtag(Long clienteId, String cursor, int limite, LocalDateTime agora) {
+        validarCliente(clienteId);
+        List<Object[]> resultado = agendamentoRepository.buscarVersaoLinhaDoTempoCliente(clienteId, agora);
+
+        String marcadores = resultado.isEmpty() ? "" : Arrays.stream(resultado.get(0))
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+        String pagina = (cursor != null ? cursor : "") + "|" + normalizarLimite(limite);
+
+        return "\"" + clienteId + "-" + Integer.toHexString(marcadores.hashCode())
+                + Integer.toHexString(pagina.hashCode()) + "\"";
+    }
+
+    /**
+     * Monta a linha do tempo do cliente.
+     *
+     * A primeira página (sem cursor) traz os próximos agendamentos e os
+     * anteriores mais recentes; as seguintes trazem apenas anteriores.
+     *
+     * @param clienteId ID do cliente autenticado
+     * @param cursor    proximoCursor da página anterior (nulo na primeira)
+     * @param limite    Tamanho da página do histórico (1 a 100)
+     * @return Linha do tempo
+     */
+    @Transactional(readOnly = true)
+    public LinhaDoTempoClienteDto montar(Long clienteId, String cursor, int limite) {
+        return montar(clienteId, cursor, limite, LocalDateTime.now());
+    }
+
+    LinhaDoTempoClienteDto montar(Long clienteId, String cursor, int limite, LocalDateTime agora) {
+        validarCliente(clienteId);
+        int tamanho = normalizarLimite(limite);
+
+        Cursor inicio = cursor != null && !cursor.isBlank() ? decodificar(cursor) : null;
+        boolean primeiraPagina = inicio == null;
+        if (primeiraPagina || inicio.dataHora().isAfter(agora)) {
+            // O histórico nunca inclui agendamentos a partir de agora
+            inicio = new Cursor(agora, 0L);
+        }
+
+        // Um item a mais nos anteriores indica que existe próxima página
+        List<Object[]> linhas = agendamentoRepository.buscarLinhaDoTempoCliente(clienteId, agora,
+                primeiraPagina ? LIMITE_PROXIMOS : 0, inicio.dataHora(), inicio.id(), tamanho + 1);
+
+        List<AgendamentoBriefDto> proximos = new ArrayList<>();
+        List<AgendamentoBriefDto> anteriores = new ArrayList<>();
+        for (Object[] linha : linhas) {
+            AgendamentoBriefDto item = new AgendamentoBriefDto(
+                    ((Number) linha[1]).longValue(),
+                    paraDataHora(linha[2]),
+                    StatusAgendamento.valueOf((String) linha[3]),
+                    (String) linha[4],
+                    (String) linha[5],
+                    (String) linha[6],
+                    (String) linha[7],
+                    Boolean.TRUE.equals(linha[8]));
+            if ("P".equals(String.valueOf(linha[0]))) {
+                proximos.add(item);
+            } else {
+                anteriores.add(item);
+            }
+        }
+
+        String proximoCursor = null;
+        if (anteriores.size() > tamanho) {
+            anteriores = new ArrayList<>(anteriores.subList(0, tamanho));
+            AgendamentoBriefDto ultimo = anteriores.get(tamanho - 1);
+            proximoCursor = codificar(new Cursor(ultimo.dataHora(), ultimo.id()));
+        }
+
+        return new LinhaDoTempoClienteDto(proximos, anteriores, proximoCursor);
+    }
+
+    private static void validarCliente(Long clienteId) {
+        if (clienteId == null) {
+            throw new IllegalArgumentException("ID do cliente não pode ser nulo");
+        }
+    }
+
+    private static int normalizarLimite(int limite) {
+        return limite <= 0 ? LIMITE_PADRAO : Math.min(limite, LIMITE_MAXIMO);
+    }
+
+    static String codificar(Cursor cursor) {
+        String valor = cursor.dataHora() + "|" + cursor.id();
+        return CODIFICADOR.encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Cursor decodificar(String cursor) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = valor.indexOf('|');
+            if (separador < 0) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+            return new Cursor(LocalDateTime.parse(valor.substring(0, separador)),
+                    Long.parseLong(valor.substring(separador + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+
+    private static LocalDateTime paraDataHora(Object valor) {
+        if (valor instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) valor;
+    }
+
+    /**
+     * Posição no histórico: último item já entregue.
+     */
+    record Cursor(LocalDateTime dataHora, Long id) {
+    }
+}
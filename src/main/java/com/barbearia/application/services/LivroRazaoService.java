@@ -0,0 +1,316 @@
+package com.barbearia.application.services;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.barbearia.application.dto.DemonstrativoResultadoDto;
+import com.barbearia.application.dto.PeriodoDto;
+import com.barbearia.domain.enums.NaturezaLancamento;
+import com.barbearia.domain.enums.OrigemLancamento;
+import com.barbearia.infrastructure.persistence.entities.JpaControleSaldos;
+import com.barbearia.infrastructure.persistence.entities.JpaLancamentoFinanceiro;
+import com.barbearia.infrastructure.persistence.entities.JpaSaldoMensal;
+import com.barbearia.infrastructure.persistence.repositories.ControleSaldosRepository;
+import com.barbearia.infrastructure.persistence.repositories.LancamentoFinanceiroRepository;
+import com.barbearia.infrastructure.persistence.repositories.SaldoMensalRepository;
+
+/**
+ * Livro-razão financeiro: fonte única dos totais de receitas e despesas.
+ *
+ * <p>
+ * Agendamentos concluídos, receitas extras, despesas e transações financeiras
+ * geram lançamentos com sinal em lancamentos_financeiros, na mesma transação
+ * do registro de origem. Edições e exclusões estornam os lançamentos
+ * anteriores; nada é alterado ou removido.
+ * </p>
+ *
+ * <p>
+ * A consolidação ({@link #consolidarSaldos()}) recalcula periodicamente em
+ * saldos_mensais os meses com lançamentos novos ou recentes. O demonstrativo de um período usa os saldos
+ * dos meses inteiros, mais a cauda ainda não consolidada desses meses e os
+ * lançamentos dos meses parciais das pontas.
+ * </p>
+ */
+@Service
+public class LivroRazaoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LivroRazaoService.class);
+
+    public static final String CATEGORIA_SERVICO = "SERVICO";
+
+    private final LancamentoFinanceiroRepository lancamentoRepository;
+    private final SaldoMensalRepository saldoMensalRepository;
+    private final ControleSaldosRepository controleSaldosRepository;
+    private final long atrasoConsolidacaoSegundos;
+    private final long janelaReprocessamentoSegundos;
+
+    public LivroRazaoService(LancamentoFinanceiroRepository lancamentoRepository,
+            SaldoMensalRepository saldoMensalRepository,
+            ControleSaldosRepository controleSaldosRepository,
+            @Value("${financeiro.saldos.atraso-consolidacao-s:60}") long atrasoConsolidacaoSegundos,
+            @Value("${financeiro.saldos.janela-reprocessamento-s:3600}") long janelaReprocessamentoSegundos) {
+        this.lancamentoRepository = lancamentoRepository;
+        this.saldoMensalRepository = saldoMensalRepository;
+        this.controleSaldosRepository = controleSaldosRepository;
+        this.atrasoConsolidacaoSegundos = Math.max(0, atrasoConsolidacaoSegundos);
+        this.janelaReprocessamentoSegundos = Math.max(this.atrasoConsolidacaoSegundos, janelaReprocessamentoSegundos);
+    }
+
+    // ==================== Lançamentos ====================
+
+    /**
+     * Registra um lançamento. O valor é informado sem sinal; despesas são
+     * gravadas como negativas.
+     */
+    @Transactional
+    public JpaLancamentoFinanceiro lancar(NaturezaLancamento natureza, OrigemLancamento origem, Long origemId,
+            Long barbeariaId, BigDecimal valor, String categoria, String descricao, LocalDate dataCompetencia) {
+        Objects.requireNonNull(natureza, "Natureza do lançamento não pode ser nula");
+        Objects.requireNonNull(origem, "Origem do lançamento não pode ser nula");
+        if (origemId == null || barbeariaId == null) {
+            throw new IllegalArgumentException("Origem e barbearia do lançamento são obrigatórias");
+        }
+        if (valor == null || valor.signum() < 0) {
+            throw new IllegalArgumentException("Valor do lançamento deve ser positivo");
+        }
+        if (dataCompetencia == null) {
+            throw new IllegalArgumentException("Data de competência obrigatória");
+        }
+
+        BigDecimal valorComSinal = natureza == NaturezaLancamento.DESPESA ? valor.negate() : valor;
+        return lancamentoRepository.save(new JpaLancamentoFinanceiro(barbeariaId, natureza, origem, origemId,
+                valorComSinal, categoria, descricao, dataCompetencia));
+    }
+
+    /**
+     * Estorna o saldo atual dos lançamentos de um registro de origem (por
+     * natureza, categoria e data de competência), zerando sua participação nos
+     * totais. Registros sem saldo não geram lançamentos.
+     *
+     * @return quantidade de lançamentos de estorno gravados
+     */
+    @Transactional
+    public int estornar(OrigemLancamento origem, Long origemId, Long barbeariaId) {
+        List<JpaLancamentoFinanceiro> lancamentos = lancamentoRepository
+                .findByOrigemAndOrigemIdAndBarbeariaId(origem, origemId, barbeariaId);
+
+        Map<List<Object>, BigDecimal> saldos = new LinkedHashMap<>();
+        for (JpaLancamentoFinanceiro lancamento : lancamentos) {
+            List<Object> chave = List.of(lancamento.getNatureza(), lancamento.getCategoria(),
+                    lancamento.getDataCompetencia());
+            saldos.merge(chave, lancamento.getValor(), BigDecimal::add);
+        }
+
+        int estornos = 0;
+        for (Map.Entry<List<Object>, BigDecimal> saldo : saldos.entrySet()) {
+            if (saldo.getValue().signum() == 0) {
+                continue;
+            }
+            List<Object> chave = saldo.getKey();
+            lancamentoRepository.save(new JpaLancamentoFinanceiro(barbeariaId,
+                    (NaturezaLancamento) chave.get(0), origem, origemId, saldo.getValue().negate(),
+                    (String) chave.get(1), "Estorno: " + origem.getDescricao() + " " + origemId,
+                    (LocalDate) chave.get(2)));
+            estornos++;
+        }
+        return estornos;
+    }
+
+    // ==================== Saldos mensais ====================
+
+    /**
+     * Consolida em saldos_mensais os lançamentos até a nova marca d'água.
+     *
+     * <p>
+     * Só entram lançamentos criados há mais de
+     * financeiro.saldos.atraso-consolidacao-s segundos. Como ids são
+     * reservados antes do commit, uma transação longa ainda pode gravar um
+     * lançamento com id abaixo da marca d'água depois da consolidação. Por
+     * isso o saldo de cada mês afetado é recalculado por inteiro (todos os
+     * lançamentos com id até a marca d'água, não somado ao anterior), e os
+     * meses com lançamentos criados na janela financeiro.saldos.janela-reprocessamento-s
+     * são recalculados em toda execução: um lançamento atrasado entra no
+     * saldo na consolidação seguinte ao seu commit, desde que a transação
+     * que o gravou dure menos que a janela. A marca d'água é lida com trava,
+     * então apenas uma instância consolida por vez.
+     * </p>
+     *
+     * @return quantidade de lançamentos novos (acima da marca d'água anterior)
+     */
+    @Scheduled(fixedDelayString = "${financeiro.saldos.consolidacao-ms:300000}",
+            initialDelayString = "${financeiro.saldos.consolidacao-ms:300000}")
+    @Transactional
+    public long consolidarSaldos() {
+        JpaControleSaldos controle = controleSaldosRepository.buscarParaAtualizacao(JpaControleSaldos.ID)
+                .orElseGet(() -> controleSaldosRepository.save(new JpaControleSaldos(0L)));
+
+        LocalDateTime agora = LocalDateTime.now();
+        Long ultimoConsolidado = controle.getUltimoLancamentoId();
+        Long ultimoCriado = lancamentoRepository.buscarUltimoIdCriadoAntesDe(
+                agora.minusSeconds(atrasoConsolidacaoSegundos));
+        long limite = ultimoCriado != null ? Math.max(ultimoCriado, ultimoConsolidado) : ultimoConsolidado;
+
+        // Meses com lançamentos novos e meses com lançamentos recentes abaixo
+        // da marca d'água (possíveis commits atrasados)
+        Set<List<Long>> meses = new LinkedHashSet<>();
+        long consolidados = 0;
+        if (limite > ultimoConsolidado) {
+            for (Object[] linha : lancamentoRepository.agruparPorMes(ultimoConsolidado, limite)) {
+                meses.add(chaveMes(linha));
+                consolidados += ((Number) linha[5]).longValue();
+            }
+        }
+        for (Object[] linha : lancamentoRepository.buscarMesesCriadosDesde(
+                agora.minusSeconds(janelaReprocessamentoSegundos), ultimoConsolidado)) {
+            meses.add(chaveMes(linha));
+        }
+        if (meses.isEmpty()) {
+            return 0;
+        }
+
+        for (List<Long> chave : meses) {
+            recalcularMes(chave.get(0), LocalDate.of(chave.get(1).intValue(), chave.get(2).intValue(), 1), limite);
+        }
+
+        controle.setUltimoLancamentoId(limite);
+        controleSaldosRepository.save(controle);
+        logger.info("Saldos mensais: {} lançamentos novos consolidados até o id {} ({} meses recalculados)",
+                consolidados, limite, meses.size());
+        return consolidados;
+    }
+
+    /**
+     * Regrava o saldo do mês com a soma dos lançamentos de id até limite.
+     */
+    private void recalcularMes(Long barbeariaId, LocalDate mes, long limite) {
+        JpaSaldoMensal saldo = saldoMensalRepository.findByBarbeariaIdAndMes(barbeariaId, mes)
+                .orElseGet(() -> new JpaSaldoMensal(barbeariaId, mes));
+        saldo.setReceitasServicos(BigDecimal.ZERO);
+        saldo.setReceitasExtras(BigDecimal.ZERO);
+        saldo.setDespesas(BigDecimal.ZERO);
+        int quantidade = 0;
+        for (Object[] linha : lancamentoRepository.totalizarAte(barbeariaId, mes,
+                mes.with(TemporalAdjusters.lastDayOfMonth()), limite)) {
+            BigDecimal soma = (BigDecimal) linha[1];
+            switch ((NaturezaLancamento) linha[0]) {
+                case RECEITA_SERVICO -> saldo.setReceitasServicos(soma);
+                case RECEITA_EXTRA -> saldo.setReceitasExtras(soma);
+                case DESPESA -> saldo.setDespesas(soma.negate());
+            }
+            quantidade += ((Number) linha[2]).intValue();
+        }
+        saldo.setQuantidadeLancamentos(quantidade);
+        saldoMensalRepository.save(saldo);
+    }
+
+    /**
+     * (barbeariaId, ano, mês) de uma linha agrupada por mês.
+     */
+    private static List<Long> chaveMes(Object[] linha) {
+        return List.of(((Number) linha[0]).longValue(), ((Number) linha[1]).longValue(),
+                ((Number) linha[2]).longValue());
+    }
+
+    // ==================== Demonstrativo ====================
+
+    /**
+     * Calcula o demonstrativo de resultado do período (datas inclusivas).
+     *
+     * <p>
+     * Meses inteiros vêm de saldos_mensais mais a cauda não consolidada;
+     * os dias dos meses parciais das pontas são somados dos lançamentos.
+     * Executa em REPEATABLE READ para que saldos e marca d'água venham do
+     * mesmo instante, mesmo com uma consolidação em andamento.
+     * </p>
+     *
+     * @throws IllegalArgumentException se as datas forem nulas ou invertidas
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public DemonstrativoResultadoDto calcularResultado(Long barbeariaId, LocalDate dataInicio, LocalDate dataFim) {
+        if (barbeariaId == null) {
+            throw new IllegalArgumentException("ID da barbearia não pode ser nulo");
+        }
+        if (dataInicio == null || dataFim == null) {
+            throw new IllegalArgumentException("Datas de início e fim são obrigatórias");
+        }
+        if (dataInicio.isAfter(dataFim)) {
+            throw new IllegalArgumentException("Data de início deve ser anterior ou igual à data de fim");
+        }
+
+        LocalDate primeiroMesInteiro = dataInicio.getDayOfMonth() == 1
+                ? dataInicio
+                : dataInicio.with(TemporalAdjusters.firstDayOfNextMonth());
+        LocalDate fimUltimoMesInteiro = dataFim.equals(dataFim.with(TemporalAdjusters.lastDayOfMonth()))
+                ? dataFim
+                : dataFim.withDayOfMonth(1).minusDays(1);
+
+        Totais totais = new Totais();
+        if (primeiroMesInteiro.isAfter(fimUltimoMesInteiro)) {
+            somarLancamentos(totais, barbeariaId, dataInicio, dataFim, 0L);
+        } else {
+            Long ultimoConsolidado = controleSaldosRepository.findById(JpaControleSaldos.ID)
+                    .map(JpaControleSaldos::getUltimoLancamentoId)
+                    .orElse(0L);
+
+            for (JpaSaldoMensal saldo : saldoMensalRepository.findByBarbeariaIdAndMesBetween(
+                    barbeariaId, primeiroMesInteiro, fimUltimoMesInteiro.withDayOfMonth(1))) {
+                totais.receitasServicos = totais.receitasServicos.add(saldo.getReceitasServicos());
+                totais.receitasExtras = totais.receitasExtras.add(saldo.getReceitasExtras());
+                totais.despesas = totais.despesas.add(saldo.getDespesas());
+            }
+            somarLancamentos(totais, barbeariaId, primeiroMesInteiro, fimUltimoMesInteiro, ultimoConsolidado);
+
+            if (dataInicio.isBefore(primeiroMesInteiro)) {
+                somarLancamentos(totais, barbeariaId, dataInicio, primeiroMesInteiro.minusDays(1), 0L);
+            }
+            if (dataFim.isAfter(fimUltimoMesInteiro)) {
+                somarLancamentos(totais, barbeariaId, fimUltimoMesInteiro.plusDays(1), dataFim, 0L);
+            }
+        }
+
+        BigDecimal receitaTotal = totais.receitasServicos.add(totais.receitasExtras);
+        return new DemonstrativoResultadoDto(
+                new PeriodoDto(dataInicio, dataFim),
+                totais.receitasServicos,
+                totais.receitasExtras,
+                receitaTotal,
+                totais.despesas,
+                receitaTotal.subtract(totais.despesas));
+    }
+
+    private void somarLancamentos(Totais totais, Long barbeariaId, LocalDate inicio, LocalDate fim, Long aposId) {
+        for (Object[] linha : lancamentoRepository.totalizarPorNatureza(barbeariaId, inicio, fim, aposId)) {
+            BigDecimal soma = (BigDecimal) linha[1];
+            switch ((NaturezaLancamento) linha[0]) {
+                case RECEITA_SERVICO -> totais.receitasServicos = totais.receitasServicos.add(soma);
+                case RECEITA_EXTRA -> totais.receitasExtras = totais.receitasExtras.add(soma);
+                case DESPESA -> totais.despesas = totais.despesas.subtract(soma);
+            }
+        }
+    }
+
+    /**
+     * Acumulador do demonstrativo (despesas em valor positivo).
+     */
+    private static final class Totais {
+        private BigDecimal receitasServicos = BigDecimal.ZERO;
+        private BigDecimal receitasExtras = BigDecimal.ZERO;
+        private BigDecimal despesas = BigDecimal.ZERO;
+    }
+}
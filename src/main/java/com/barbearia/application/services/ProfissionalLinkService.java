@@ -3,11 +3,20 @@ package com.barbearia.application.services;
 import com.barbearia.application.dto.FuncionarioLinkResponseDto;
 import com.barbearia.infrastructure.persistence.entities.JpaFuncionario;
 import com.barbearia.infrastructure.persistence.repositories.FuncionarioRepository;
+import com.barbearia.infrastructure.metrics.MetricasNegocio;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service para gerenciamento de Links de Acesso de Profissionais.
@@ -17,15 +26,40 @@ import java.util.UUID;
  * - Validação de tokens (ativo E não expirado)
  * - Controle de ativação/desativação
  * - Atualização de expiração
+ * 
+ * Tokens validados ficam em cache local por alguns minutos (nunca além de
+ * tokenExpiraEm) e tokens desconhecidos também são lembrados por um curto
+ * período, para que chamadas seguidas do dashboard e varreduras de tokens
+ * não consultem o banco. Os desconhecidos ficam em um mapa próprio, pequeno,
+ * que descarta os mais antigos: uma varredura de tokens aleatórios nunca tira
+ * do cache os tokens válidos em uso. Alterações de link invalidam o cache nesta instância
+ * na hora e de novo após o commit; em outras instâncias valem os TTLs.
  */
 @Service
 @Transactional
 public class ProfissionalLinkService {
 
+    // Cache de validação de tokens
+    private static final Duration TTL_TOKEN_VALIDO = Duration.ofMinutes(5);
+    private static final Duration TTL_TOKEN_INVALIDO = Duration.ofMinutes(1);
+    private static final int CACHE_TOKENS_MAXIMO = 10_000;
+    private static final int CACHE_TOKENS_DESCONHECIDOS_MAXIMO = 1_000;
+    private static final String CACHE_TOKENS = "tokens_profissional";
+
     private final FuncionarioRepository funcionarioRepository;
+    private final MetricasNegocio metricas;
+    private final Map<String, TokenEmCache> cacheTokens = new ConcurrentHashMap<>();
+    private final Map<String, LocalDateTime> tokensDesconhecidos = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, false) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, LocalDateTime> maisAntigo) {
+                    return size() > CACHE_TOKENS_DESCONHECIDOS_MAXIMO;
+                }
+            });
 
-    public ProfissionalLinkService(FuncionarioRepository funcionarioRepository) {
+    public ProfissionalLinkService(FuncionarioRepository funcionarioRepository, MetricasNegocio metricas) {
         this.funcionarioRepository = funcionarioRepository;
+        this.metricas = metricas != null ? metricas : MetricasNegocio.desligadas();
     }
 
     /**
@@ -47,7 +81,8 @@ public class ProfissionalLinkService {
             throw new IllegalArgumentException("Profissional não pertence a esta barbearia");
         }
 
-        // Gera novo token UUID
+        // Gera novo token UUID (o anterior deixa de valer)
+        invalidarCache(funcionario.getAccessToken());
         String token = UUID.randomUUID().toString();
         funcionario.setAccessToken(token);
         funcionario.setTokenAtivo(true);
@@ -76,7 +111,28 @@ public class ProfissionalLinkService {
      */
     @Transactional(readOnly = true)
     public JpaFuncionario validarToken(String accessToken) {
-        return funcionarioRepository.findByTokenValidoComExpiracao(accessToken, LocalDateTime.now())
+        if (accessToken == null || accessToken.isBlank()) {
+            throw new IllegalArgumentException("Token inválido, expirado ou inativo");
+        }
+
+        LocalDateTime agora = LocalDateTime.now();
+
+        TokenEmCache emCache = cacheTokens.get(accessToken);
+        if (emCache != null && emCache.validoAte().isAfter(agora)) {
+            metricas.registrarCache(CACHE_TOKENS, true);
+            return emCache.funcionario();
+        }
+        LocalDateTime desconhecidoAte = tokensDesconhecidos.get(accessToken);
+        if (desconhecidoAte != null && desconhecidoAte.isAfter(agora)) {
+            metricas.registrarCache(CACHE_TOKENS, true);
+            throw new IllegalArgumentException("Token inválido, expirado ou inativo");
+        }
+
+        metricas.registrarCache(CACHE_TOKENS, false);
+        Optional<JpaFuncionario> funcionario = funcionarioRepository.findByTokenValidoComExpiracao(accessToken, agora);
+        armazenarNoCache(accessToken, funcionario.orElse(null), agora);
+
+        return funcionario
                 .orElseThrow(() -> new IllegalArgumentException("Token inválido, expirado ou inativo"));
     }
 
@@ -94,6 +150,7 @@ public class ProfissionalLinkService {
 
         funcionario.setTokenAtivo(false);
         funcionarioRepository.save(funcionario);
+        invalidarCache(funcionario.getAccessToken());
     }
 
     /**
@@ -116,6 +173,7 @@ public class ProfissionalLinkService {
         funcionario.setTokenAtivo(true);
         funcionario.setTokenExpiraEm(novaDataExpiracao);
         funcionarioRepository.save(funcionario);
+        invalidarCache(funcionario.getAccessToken());
 
         String linkAcesso = "/api/profissional/" + funcionario.getAccessToken() + "/dashboard";
 
@@ -146,6 +204,7 @@ public class ProfissionalLinkService {
 
         funcionario.setTokenExpiraEm(dataExpiracao);
         funcionarioRepository.save(funcionario);
+        invalidarCache(funcionario.getAccessToken());
     }
 
     /**
@@ -183,4 +242,62 @@ public class ProfissionalLinkService {
                 funcionario.getTokenGeradoEm(),
                 funcionario.getTokenExpiraEm());
     }
+
+    /**
+     * Guarda o resultado da validação no cache.
+     * Tokens válidos expiram no menor entre o TTL e tokenExpiraEm; com o
+     * cache cheio, saem só os expirados e, se não bastar, o token não é
+     * guardado. Tokens inválidos (null) usam um TTL curto no mapa de
+     * desconhecidos, que descarta os mais antigos.
+     */
+    private void armazenarNoCache(String accessToken, JpaFuncionario funcionario, LocalDateTime agora) {
+        if (funcionario == null) {
+            tokensDesconhecidos.put(accessToken, agora.plus(TTL_TOKEN_INVALIDO));
+            return;
+        }
+
+        if (cacheTokens.size() >= CACHE_TOKENS_MAXIMO) {
+            cacheTokens.values().removeIf(entrada -> !entrada.validoAte().isAfter(agora));
+            if (cacheTokens.size() >= CACHE_TOKENS_MAXIMO) {
+                return;
+            }
+        }
+
+        LocalDateTime validoAte = agora.plus(TTL_TOKEN_VALIDO);
+        if (funcionario.getTokenExpiraEm() != null && funcionario.getTokenExpiraEm().isBefore(validoAte)) {
+            validoAte = funcionario.getTokenExpiraEm();
+        }
+        tokensDesconhecidos.remove(accessToken);
+        cacheTokens.put(accessToken, new TokenEmCache(funcionario, validoAte));
+    }
+
+    /**
+     * Remove um token do cache após alteração do link.
+     * 
+     * Dentro de uma transação a remoção se repete após o commit: uma
+     * validação concorrente antes do commit ainda lê a linha antiga (token
+     * ativo) e a colocaria de volta no cache por até TTL_TOKEN_VALIDO.
+     */
+    private void invalidarCache(String accessToken) {
+        if (accessToken == null) {
+            return;
+        }
+        cacheTokens.remove(accessToken);
+        tokensDesconhecidos.remove(accessToken);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cacheTokens.remove(accessToken);
+                    tokensDesconhecidos.remove(accessToken);
+                }
+            });
+        }
+    }
+
+    /**
+     * Token válido em cache.
+     */
+    private record TokenEmCache(JpaFuncionario funcionario, LocalDateTime validoAte) {
+    }
 }
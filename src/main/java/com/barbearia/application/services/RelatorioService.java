@@ -8,6 +8,7 @@ import com.barbearia.infrastructure.persistence.entities.JpaAgendamento;
 import com.barbearia.infrastructure.persistence.repositories.AgendamentoRepository;
 import com.barbearia.infrastructure.persistence.repositories.BarbeariaRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -25,9 +26,13 @@ import java.util.stream.Collectors;
  * - Gerar ranking de serviços mais populares
  * - Identificar horários de pico
  * 
+ * Somente leitura: com a réplica habilitada as consultas vão para ela
+ * (DataSourceRoteado).
+ * 
  * @author Sua Barbearia Team
  */
 @Service
+@Transactional(readOnly = true)
 public class RelatorioService {
 
         private final AgendamentoRepository agendamentoRepository;
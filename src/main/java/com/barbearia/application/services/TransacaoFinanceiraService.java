@@ -3,6 +3,8 @@ package com.barbearia.application.services;
 import com.barbearia.application.dto.*;
 import com.barbearia.domain.enums.CategoriaDespesa;
 import com.barbearia.domain.enums.CategoriaReceitaExtra;
+import com.barbearia.domain.enums.NaturezaLancamento;
+import com.barbearia.domain.enums.OrigemLancamento;
 import com.barbearia.domain.enums.TipoTransacao;
 import com.barbearia.infrastructure.persistence.entities.JpaTransacaoFinanceira;
 import com.barbearia.infrastructure.persistence.repositories.TransacaoFinanceiraRepository;
@@ -11,20 +13,32 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * Service para gestão de transações financeiras (despesas e receitas extras).
+ *
+ * Cada transação gera um lançamento no livro-razão ({@link LivroRazaoService});
+ * atualizações e exclusões estornam o lançamento anterior.
  */
 @Service
 public class TransacaoFinanceiraService {
 
+    static final int TAMANHO_PAGINA_MAXIMO = 500;
+
     private final TransacaoFinanceiraRepository repository;
+    private final LivroRazaoService livroRazaoService;
 
-    public TransacaoFinanceiraService(TransacaoFinanceiraRepository repository) {
+    public TransacaoFinanceiraService(TransacaoFinanceiraRepository repository,
+            LivroRazaoService livroRazaoService) {
         this.repository = repository;
+        this.livroRazaoService = livroRazaoService;
     }
 
     // ==================== DESPESAS ====================
@@ -40,40 +54,51 @@ public class TransacaoFinanceiraService {
         transacao.setDataTransacao(dto.dataTransacao());
 
         JpaTransacaoFinanceira salva = repository.save(transacao);
+        lancar(salva);
         return toDto(salva);
     }
 
+    /**
+     * Lista todas as despesas do período, sem paginação (uma única página com
+     * todos os itens). Para períodos grandes prefira a versão paginada.
+     */
+    @Transactional(readOnly = true)
     public ListaDespesasDto listarDespesas(
             Long barbeariaId,
             LocalDate dataInicio,
             LocalDate dataFim,
             CategoriaDespesa categoria) {
+        return paraListaDespesas(listarPagina(barbeariaId, TipoTransacao.DESPESA, dataInicio, dataFim,
+                categoria != null ? categoria.name() : null, 0, null), dataInicio, dataFim);
+    }
 
-        List<JpaTransacaoFinanceira> despesas;
-
-        if (categoria != null) {
-            despesas = repository.findByPeriodoTipoECategoria(
-                    barbeariaId, dataInicio, dataFim, TipoTransacao.DESPESA, categoria.name());
-        } else {
-            despesas = repository.findByPeriodoETipo(
-                    barbeariaId, dataInicio, dataFim, TipoTransacao.DESPESA);
-        }
-
-        BigDecimal total = despesas.stream()
-                .map(JpaTransacaoFinanceira::getValor)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        List<CategoriaResumoDto> resumo = obterResumoPorCategoria(
-                barbeariaId, dataInicio, dataFim, TipoTransacao.DESPESA);
-
-        long quantidade = (long) despesas.size();
+    /**
+     * Lista uma página de despesas do período. Total, quantidade e resumo por
+     * categoria cobrem o período inteiro e vêm na mesma consulta da página.
+     */
+    @Transactional(readOnly = true)
+    public ListaDespesasDto listarDespesas(
+            Long barbeariaId,
+            LocalDate dataInicio,
+            LocalDate dataFim,
+            CategoriaDespesa categoria,
+            int pagina,
+            int tamanhoPagina) {
+        return paraListaDespesas(listarPagina(barbeariaId, TipoTransacao.DESPESA, dataInicio, dataFim,
+                categoria != null ? categoria.name() : null, pagina, tamanhoPagina), dataInicio, dataFim);
+    }
 
+    private static ListaDespesasDto paraListaDespesas(PaginaTransacoes resultado, LocalDate dataInicio,
+            LocalDate dataFim) {
         return new ListaDespesasDto(
-                total,
-                quantidade,
+                resultado.total(),
+                resultado.quantidade(),
                 new PeriodoDto(dataInicio, dataFim),
-                despesas.stream().map(this::toDto).collect(Collectors.toList()),
-                resumo);
+                resultado.itens(),
+                resultado.resumo(),
+                resultado.pagina(),
+                resultado.tamanhoPagina(),
+                resultado.totalPaginas());
     }
 
     @Transactional
@@ -101,6 +126,8 @@ public class TransacaoFinanceiraService {
         transacao.setDataTransacao(dto.dataTransacao());
 
         JpaTransacaoFinanceira atualizada = repository.save(transacao);
+        estornar(atualizada.getId(), barbeariaId);
+        lancar(atualizada);
         return toDto(atualizada);
     }
 
@@ -113,6 +140,7 @@ public class TransacaoFinanceiraService {
         }
 
         repository.deleteById(despesaId);
+        estornar(despesaId, barbeariaId);
     }
 
     // ==================== RECEITAS EXTRAS ====================
@@ -128,40 +156,53 @@ public class TransacaoFinanceiraService {
         transacao.setDataTransacao(dto.dataTransacao());
 
         JpaTransacaoFinanceira salva = repository.save(transacao);
+        lancar(salva);
         return toDto(salva);
     }
 
+    /**
+     * Lista todas as receitas extras do período, sem paginação (uma única
+     * página com todos os itens). Para períodos grandes prefira a versão
+     * paginada.
+     */
+    @Transactional(readOnly = true)
     public ListaReceitasExtrasDto listarReceitasExtras(
             Long barbeariaId,
             LocalDate dataInicio,
             LocalDate dataFim,
             CategoriaReceitaExtra categoria) {
+        return paraListaReceitas(listarPagina(barbeariaId, TipoTransacao.RECEITA_EXTRA, dataInicio, dataFim,
+                categoria != null ? categoria.name() : null, 0, null), dataInicio, dataFim);
+    }
 
-        List<JpaTransacaoFinanceira> receitas;
-
-        if (categoria != null) {
-            receitas = repository.findByPeriodoTipoECategoria(
-                    barbeariaId, dataInicio, dataFim, TipoTransacao.RECEITA_EXTRA, categoria.name());
-        } else {
-            receitas = repository.findByPeriodoETipo(
-                    barbeariaId, dataInicio, dataFim, TipoTransacao.RECEITA_EXTRA);
-        }
-
-        BigDecimal total = receitas.stream()
-                .map(JpaTransacaoFinanceira::getValor)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        List<CategoriaResumoDto> resumo = obterResumoPorCategoria(
-                barbeariaId, dataInicio, dataFim, TipoTransacao.RECEITA_EXTRA);
-
-        long quantidade = (long) receitas.size();
+    /**
+     * Lista uma página de receitas extras do período. Total, quantidade e
+     * resumo por categoria cobrem o período inteiro e vêm na mesma consulta da
+     * página.
+     */
+    @Transactional(readOnly = true)
+    public ListaReceitasExtrasDto listarReceitasExtras(
+            Long barbeariaId,
+            LocalDate dataInicio,
+            LocalDate dataFim,
+            CategoriaReceitaExtra categoria,
+            int pagina,
+            int tamanhoPagina) {
+        return paraListaReceitas(listarPagina(barbeariaId, TipoTransacao.RECEITA_EXTRA, dataInicio, dataFim,
+                categoria != null ? categoria.name() : null, pagina, tamanhoPagina), dataInicio, dataFim);
+    }
 
+    private static ListaReceitasExtrasDto paraListaReceitas(PaginaTransacoes resultado, LocalDate dataInicio,
+            LocalDate dataFim) {
         return new ListaReceitasExtrasDto(
-                total,
-                quantidade,
+                resultado.total(),
+                resultado.quantidade(),
                 new PeriodoDto(dataInicio, dataFim),
-                receitas.stream().map(this::toDto).collect(Collectors.toList()),
-                resumo);
+                resultado.itens(),
+                resultado.resumo(),
+                resultado.pagina(),
+                resultado.tamanhoPagina(),
+                resultado.totalPaginas());
     }
 
     @Transactional
@@ -189,6 +230,8 @@ public class TransacaoFinanceiraService {
         transacao.setDataTransacao(dto.dataTransacao());
 
         JpaTransacaoFinanceira atualizada = repository.save(transacao);
+        estornar(atualizada.getId(), barbeariaId);
+        lancar(atualizada);
         return toDto(atualizada);
     }
 
@@ -201,38 +244,129 @@ public class TransacaoFinanceiraService {
         }
 
         repository.deleteById(receitaId);
+        estornar(receitaId, barbeariaId);
     }
 
     // ==================== MÉTODOS AUXILIARES ====================
 
-    private List<CategoriaResumoDto> obterResumoPorCategoria(
+    /**
+     * Página de transações com os totais do período (listarPaginaComResumo).
+     * O total geral é a soma das linhas de categoria, ou apenas a da categoria
+     * filtrada; o resumo por categoria sempre cobre todas as categorias.
+     * tamanhoPagina null devolve todas as transações em uma única página.
+     */
+    private PaginaTransacoes listarPagina(
             Long barbeariaId,
+            TipoTransacao tipo,
             LocalDate dataInicio,
             LocalDate dataFim,
-            TipoTransacao tipo) {
-
-        List<Object[]> resultados = repository.obterResumoPorCategoria(
-                barbeariaId, dataInicio, dataFim, tipo);
+            String categoria,
+            int pagina,
+            Integer tamanhoPagina) {
 
-        BigDecimal totalGeral = resultados.stream()
-                .map(r -> (BigDecimal) r[1])
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (pagina < 0) {
+            throw new IllegalArgumentException("Página não pode ser negativa");
+        }
+        int tamanho = tamanhoPagina != null
+                ? Math.min(Math.max(tamanhoPagina, 1), TAMANHO_PAGINA_MAXIMO)
+                : Integer.MAX_VALUE;
+
+        List<Object[]> linhas = repository.listarPaginaComResumo(barbeariaId, tipo.name(), dataInicio, dataFim,
+                categoria, tamanho, (long) pagina * tamanho);
+
+        List<TransacaoFinanceiraDto> itens = new ArrayList<>();
+        List<Object[]> categorias = new ArrayList<>();
+        for (Object[] linha : linhas) {
+            if ("T".equals(String.valueOf(linha[0]).trim())) {
+                itens.add(new TransacaoFinanceiraDto(
+                        ((Number) linha[1]).longValue(),
+                        barbeariaId,
+                        tipo,
+                        (BigDecimal) linha[3],
+                        (String) linha[2],
+                        (String) linha[4],
+                        paraData(linha[5]),
+                        paraDataHora(linha[6]),
+                        paraDataHora(linha[7])));
+            } else {
+                categorias.add(linha);
+            }
+        }
 
-        return resultados.stream()
-                .map(r -> {
-                    String categoria = (String) r[0];
-                    BigDecimal total = (BigDecimal) r[1];
-                    Long quantidade = (Long) r[2];
+        BigDecimal totalGeral = BigDecimal.ZERO;
+        BigDecimal total = BigDecimal.ZERO;
+        long quantidade = 0;
+        for (Object[] linha : categorias) {
+            BigDecimal soma = (BigDecimal) linha[3];
+            totalGeral = totalGeral.add(soma);
+            if (categoria == null || categoria.equals(linha[2])) {
+                total = total.add(soma);
+                quantidade += ((Number) linha[8]).longValue();
+            }
+        }
 
-                    BigDecimal percentual = totalGeral.compareTo(BigDecimal.ZERO) > 0
-                            ? total.divide(totalGeral, 4, RoundingMode.HALF_UP)
+        BigDecimal base = totalGeral;
+        List<CategoriaResumoDto> resumo = categorias.stream()
+                .map(linha -> {
+                    BigDecimal soma = (BigDecimal) linha[3];
+                    BigDecimal percentual = base.compareTo(BigDecimal.ZERO) > 0
+                            ? soma.divide(base, 4, RoundingMode.HALF_UP)
                                     .multiply(BigDecimal.valueOf(100))
                                     .setScale(2, RoundingMode.HALF_UP)
                             : BigDecimal.ZERO;
-
-                    return new CategoriaResumoDto(categoria, total, percentual, quantidade);
+                    return new CategoriaResumoDto((String) linha[2], soma, percentual,
+                            ((Number) linha[8]).longValue());
                 })
+                .sorted(Comparator.comparing(CategoriaResumoDto::total).reversed())
                 .collect(Collectors.toList());
+
+        if (tamanhoPagina == null) {
+            tamanho = (int) Math.max(quantidade, 1);
+        }
+        int totalPaginas = (int) ((quantidade + tamanho - 1) / tamanho);
+        return new PaginaTransacoes(total, quantidade, itens, resumo, pagina, tamanho, totalPaginas);
+    }
+
+    private static LocalDate paraData(Object valor) {
+        if (valor instanceof java.sql.Date data) {
+            return data.toLocalDate();
+        }
+        return (LocalDate) valor;
+    }
+
+    private static LocalDateTime paraDataHora(Object valor) {
+        if (valor instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) valor;
+    }
+
+    private record PaginaTransacoes(
+            BigDecimal total,
+            long quantidade,
+            List<TransacaoFinanceiraDto> itens,
+            List<CategoriaResumoDto> resumo,
+            int pagina,
+            int tamanhoPagina,
+            int totalPaginas) {
+    }
+
+    private void lancar(JpaTransacaoFinanceira transacao) {
+        if (livroRazaoService == null || transacao == null || transacao.getId() == null) {
+            return;
+        }
+        NaturezaLancamento natureza = transacao.getTipoTransacao() == TipoTransacao.DESPESA
+                ? NaturezaLancamento.DESPESA
+                : NaturezaLancamento.RECEITA_EXTRA;
+        livroRazaoService.lancar(natureza, OrigemLancamento.TRANSACAO, transacao.getId(),
+                transacao.getBarbeariaId(), transacao.getValor(), transacao.getCategoria(),
+                transacao.getDescricao(), transacao.getDataTransacao());
+    }
+
+    private void estornar(Long transacaoId, Long barbeariaId) {
+        if (livroRazaoService != null) {
+            livroRazaoService.estornar(OrigemLancamento.TRANSACAO, transacaoId, barbeariaId);
+        }
     }
 
     private TransacaoFinanceiraDto toDto(JpaTransacaoFinanceira entity) {
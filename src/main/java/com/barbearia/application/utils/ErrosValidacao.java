@@ -0,0 +1,79 @@
+package com.barbearia.application.utils;
+
+import com.barbearia.domain.exceptions.ValidacaoException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Acumula os erros de validação de uma requisição.
+ *
+ * As regras são verificadas sem lançar exceção e, ao final, todos os
+ * problemas saem juntos em uma única ValidacaoException. A lista só é
+ * criada no primeiro erro, então uma requisição válida não aloca nada além
+ * deste objeto.
+ *
+ * Uso:
+ *
+ * <pre>
+ * new ErrosValidacao()
+ *         .exigir(id != null, "ID não pode ser nulo")
+ *         .exigir(data != null, "Data não pode ser nula")
+ *         .lancarSeHouver();
+ * </pre>
+ *
+ * @author Sua Barbearia Team
+ */
+public final class ErrosValidacao {
+
+    private List<String> erros;
+
+    /**
+     * Registra a mensagem quando a condição não é atendida.
+     *
+     * @param condicao Regra que deve ser verdadeira
+     * @param mensagem Mensagem do erro (use constantes para não montar texto
+     *                 quando a regra passa)
+     * @return Este acumulador, para encadear as regras
+     */
+    public ErrosValidacao exigir(boolean condicao, String mensagem) {
+        if (!condicao) {
+            adicionar(mensagem);
+        }
+        return this;
+    }
+
+    /**
+     * Registra um erro.
+     *
+     * @param mensagem Mensagem do erro
+     * @return Este acumulador, para encadear as regras
+     */
+    public ErrosValidacao adicionar(String mensagem) {
+        if (erros == null) {
+            erros = new ArrayList<>(4);
+        }
+        erros.add(mensagem);
+        return this;
+    }
+
+    public boolean temErros() {
+        return erros != null;
+    }
+
+    public List<String> getErros() {
+        return erros != null ? Collections.unmodifiableList(erros) : List.of();
+    }
+
+    /**
+     * Lança uma ValidacaoException com todos os erros acumulados, se houver.
+     *
+     * @throws ValidacaoException se alguma regra falhou
+     */
+    public void lancarSeHouver() {
+        if (erros != null) {
+            throw new ValidacaoException(erros);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.barbearia.domain.enums;
+
+/**
+ * Formato dos arquivos aceitos na importação de dados históricos.
+ */
+public enum FormatoImportacao {
+    CSV("CSV com cabeçalho (separador vírgula ou ponto e vírgula)"),
+    NDJSON("Um objeto JSON por linha");
+
+    private final String descricao;
+
+    FormatoImportacao(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+}
@@ -0,0 +1,20 @@
+package com.barbearia.domain.enums;
+
+/**
+ * Natureza de um lançamento do livro-razão financeiro.
+ */
+public enum NaturezaLancamento {
+    RECEITA_SERVICO("Receita de Serviço"),
+    RECEITA_EXTRA("Receita Extra"),
+    DESPESA("Despesa");
+
+    private final String descricao;
+
+    NaturezaLancamento(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+}
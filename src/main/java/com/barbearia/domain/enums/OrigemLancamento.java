@@ -0,0 +1,21 @@
+package com.barbearia.domain.enums;
+
+/**
+ * Registro que originou um lançamento do livro-razão financeiro.
+ */
+public enum OrigemLancamento {
+    AGENDAMENTO("Agendamento concluído"),
+    RECEITA("Receita extra"),
+    DESPESA("Despesa"),
+    TRANSACAO("Transação financeira");
+
+    private final String descricao;
+
+    OrigemLancamento(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+}
@@ -0,0 +1,22 @@
+package com.barbearia.domain.enums;
+
+/**
+ * Situação de um lembrete de agendamento.
+ */
+public enum StatusLembrete {
+    PENDENTE("Aguardando o horário de envio"),
+    ENVIANDO("Reservado por uma instância para envio"),
+    ENVIADO("Enviado"),
+    FALHOU("Falhou em todas as tentativas"),
+    EXPIRADO("Descartado: o agendamento já passou ou mudou");
+
+    private final String descricao;
+
+    StatusLembrete(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+}
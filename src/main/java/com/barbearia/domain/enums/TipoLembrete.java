@@ -0,0 +1,28 @@
+package com.barbearia.domain.enums;
+
+import java.time.Duration;
+
+/**
+ * Lembretes de agendamento enviados ao cliente por WhatsApp, com a
+ * antecedência em relação ao horário marcado.
+ */
+public enum TipoLembrete {
+    VESPERA("Lembrete na véspera", Duration.ofHours(24)),
+    UMA_HORA("Lembrete uma hora antes", Duration.ofHours(1));
+
+    private final String descricao;
+    private final Duration antecedencia;
+
+    TipoLembrete(String descricao, Duration antecedencia) {
+        this.descricao = descricao;
+        this.antecedencia = antecedencia;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public Duration getAntecedencia() {
+        return antecedencia;
+    }
+}
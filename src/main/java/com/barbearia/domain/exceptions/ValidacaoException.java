@@ -0,0 +1,38 @@
+package com.barbearia.domain.exceptions;
+
+import java.util.List;
+
+/**
+ * Exceção lançada quando uma requisição tem um ou mais dados inválidos.
+ *
+ * Carrega todos os problemas encontrados de uma vez e não preenche a stack
+ * trace: é um erro esperado do cliente (ex.: robôs testando horários
+ * aleatórios), então montar a pilha só gastaria CPU. Estende
+ * IllegalArgumentException para manter o contrato dos serviços.
+ *
+ * Deve ser tratada no controller para retornar HTTP 400 (Bad Request).
+ *
+ * @author Sua Barbearia Team
+ */
+public class ValidacaoException extends IllegalArgumentException {
+
+    private final List<String> erros;
+
+    public ValidacaoException(String erro) {
+        this(List.of(erro));
+    }
+
+    public ValidacaoException(List<String> erros) {
+        super(String.join("; ", erros));
+        this.erros = List.copyOf(erros);
+    }
+
+    public List<String> getErros() {
+        return erros;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
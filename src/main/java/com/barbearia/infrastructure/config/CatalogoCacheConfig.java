@@ -0,0 +1,24 @@
+package com.barbearia.infrastructure.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuração do cache HTTP (ETag/304) das leituras do catálogo público.
+ *
+ * Os caminhos são filtrados em CatalogoEtagFilter; o filtro roda depois do
+ * Spring Security para que requisições não autenticadas nunca recebam 304.
+ */
+@Configuration
+public class CatalogoCacheConfig {
+
+    @Bean
+    public FilterRegistrationBean<CatalogoEtagFilter> catalogoEtagFilter() {
+        FilterRegistrationBean<CatalogoEtagFilter> registro = new FilterRegistrationBean<>(new CatalogoEtagFilter());
+        registro.addUrlPatterns("/api/barbearias/*", "/api/clientes/barbearias");
+        registro.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return registro;
+    }
+}
@@ -0,0 +1,56 @@
+package com.barbearia.infrastructure.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Filtro de ETag forte para as leituras do catálogo público.
+ *
+ * O ETag é o hash do corpo da resposta, portanto é igual em todas as
+ * instâncias da aplicação. Quando o cliente (ou CDN) envia If-None-Match com
+ * o valor atual, a resposta vira 304 sem corpo. Como o catálogo é servido a
+ * partir do snapshot em memória do BarbeariaService, a revalidação não
+ * consulta o banco.
+ *
+ * Registrado em CatalogoCacheConfig.
+ */
+public class CatalogoEtagFilter extends ShallowEtagHeaderFilter {
+
+    private static final List<String> CAMINHOS = List.of(
+            "/api/barbearias/*/servicos",
+            "/api/barbearias/*/catalogo",
+            "/api/clientes/barbearias");
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePublic().getHeaderValue();
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String caminho = request.getRequestURI().substring(request.getContextPath().length());
+        return CAMINHOS.stream().noneMatch(padrao -> pathMatcher.match(padrao, caminho));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        // Permite guardar a resposta, mas exige revalidação via ETag a cada uso
+        if ("GET".equalsIgnoreCase(request.getMethod()) || "HEAD".equalsIgnoreCase(request.getMethod())) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        super.doFilterInternal(request, response, filterChain);
+    }
+}
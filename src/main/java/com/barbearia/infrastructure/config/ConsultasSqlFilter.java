@@ -0,0 +1,150 @@
+package com.barbearia.infrastructure.config;
+
+import com.barbearia.infrastructure.config.MonitorConsultasSql.Resumo;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Filtro que mede os comandos SQL e o tempo de banco de cada requisição.
+ *
+ * Responsabilidades:
+ * - Abrir a contagem de MonitorConsultasSql durante a requisição
+ * - Publicar as métricas http.server.sql.consultas e http.server.sql.tempo,
+ *   com tags method e uri (padrão da rota, nunca a URL concreta)
+ * - Registrar um aviso quando a requisição passa do limite de consultas
+ *   (sintoma típico de N+1)
+ * - Fora de produção, devolver os headers X-Sql-Consultas e X-Sql-Tempo-Ms
+ *
+ * Registrado em MonitoramentoSqlConfig, antes da cadeia do Spring Security.
+ */
+@Slf4j
+public class ConsultasSqlFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_CONSULTAS = "X-Sql-Consultas";
+    public static final String HEADER_TEMPO = "X-Sql-Tempo-Ms";
+
+    static final String METRICA_CONSULTAS = "http.server.sql.consultas";
+    static final String METRICA_TEMPO = "http.server.sql.tempo";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean cabecalhoHabilitado;
+    private final int limiteAlerta;
+
+    public ConsultasSqlFilter(MeterRegistry meterRegistry, boolean cabecalhoHabilitado, int limiteAlerta) {
+        this.meterRegistry = meterRegistry;
+        this.cabecalhoHabilitado = cabecalhoHabilitado;
+        this.limiteAlerta = limiteAlerta;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        MonitorConsultasSql.iniciar();
+        try {
+            filterChain.doFilter(request, cabecalhoHabilitado ? new RespostaComCabecalhos(response) : response);
+        } finally {
+            Resumo resumo = MonitorConsultasSql.finalizar();
+            if (cabecalhoHabilitado && !response.isCommitted()) {
+                escreverCabecalhos(response, resumo);
+            }
+            registrar(request, resumo);
+        }
+    }
+
+    private void registrar(HttpServletRequest request, Resumo resumo) {
+        String uri = padraoDaRota(request);
+
+        if (meterRegistry != null) {
+            DistributionSummary.builder(METRICA_CONSULTAS)
+                    .description("Comandos SQL executados por requisição HTTP")
+                    .tags("method", request.getMethod(), "uri", uri)
+                    .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100)
+                    .register(meterRegistry)
+                    .record(resumo.consultas());
+            Timer.builder(METRICA_TEMPO)
+                    .description("Tempo de banco acumulado por requisição HTTP")
+                    .tags("method", request.getMethod(), "uri", uri)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(Duration.ofNanos(resumo.tempoNanos()));
+        }
+
+        if (resumo.consultas() > limiteAlerta) {
+            log.warn("{} {} executou {} comandos SQL ({} ms de banco) - possível N+1",
+                    request.getMethod(), uri, resumo.consultas(),
+                    String.format(Locale.ROOT, "%.1f", resumo.tempoMs()));
+        }
+    }
+
+    /**
+     * Padrão da rota resolvido pelo Spring MVC (ex.: /api/agendamentos/{id}),
+     * para manter baixa a cardinalidade das métricas.
+     */
+    private String padraoDaRota(HttpServletRequest request) {
+        Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return padrao != null ? padrao.toString() : "UNKNOWN";
+    }
+
+    private static void escreverCabecalhos(HttpServletResponse response, Resumo resumo) {
+        response.setHeader(HEADER_CONSULTAS, String.valueOf(resumo.consultas()));
+        response.setHeader(HEADER_TEMPO, String.format(Locale.ROOT, "%.1f", resumo.tempoMs()));
+    }
+
+    /**
+     * Resposta que grava os headers de SQL imediatamente antes do corpo
+     * começar a ser escrito (depois disso a resposta pode já ter sido
+     * enviada e headers novos seriam ignorados).
+     */
+    private static class RespostaComCabecalhos extends HttpServletResponseWrapper {
+
+        private boolean cabecalhosEscritos;
+
+        RespostaComCabecalhos(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            escreverUmaVez();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            escreverUmaVez();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            escreverUmaVez();
+            super.flushBuffer();
+        }
+
+        private void escreverUmaVez() {
+            if (!cabecalhosEscritos && !isCommitted()) {
+                cabecalhosEscritos = true;
+                escreverCabecalhos((HttpServletResponse) getResponse(), MonitorConsultasSql.parcial());
+            }
+        }
+    }
+}
@@ -69,14 +69,20 @@ public class CorsConfig {
             "Access-Control-Request-Method",
             "Access-Control-Request-Headers",
             "X-Requested-With",
-            "Cache-Control"
+            "Cache-Control",
+            "Idempotency-Key",
+            "If-None-Match"
         ));
         
         // Headers expostos (que o frontend pode acessar)
         configuration.setExposedHeaders(Arrays.asList(
             "Authorization",
             "Content-Type",
-            "X-Total-Count"
+            "X-Total-Count",
+            "Idempotent-Replayed",
+            "ETag",
+            "X-Sql-Consultas",
+            "X-Sql-Tempo-Ms"
         ));
         
         // Permitir credenciais (cookies, headers de autenticação)
@@ -0,0 +1,89 @@
+package com.barbearia.infrastructure.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource que limita quantas conexões podem estar emprestadas ao mesmo
+ * tempo (LimitadorConcorrencia "banco").
+ *
+ * A permissão é obtida antes de pedir a conexão ao pool e devolvida no
+ * close() da conexão. Com threads virtuais, as requisições excedentes
+ * esperam no semáforo em vez de disputar a fila interna do Hikari; após a
+ * espera máxima recebem SQLTransientConnectionException, o mesmo erro do
+ * timeout do pool.
+ */
+public class DataSourceLimitado extends DelegatingDataSource {
+
+    private final LimitadorConcorrencia limitador;
+
+    public DataSourceLimitado(DataSource alvo, LimitadorConcorrencia limitador) {
+        super(alvo);
+        this.limitador = limitador;
+    }
+
+    @Override
+    @NonNull
+    public Connection getConnection() throws SQLException {
+        adquirir();
+        try {
+            return liberarAoFechar(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            limitador.liberar();
+            throw e;
+        }
+    }
+
+    @Override
+    @NonNull
+    public Connection getConnection(@NonNull String usuario, @NonNull String senha) throws SQLException {
+        adquirir();
+        try {
+            return liberarAoFechar(obtainTargetDataSource().getConnection(usuario, senha));
+        } catch (SQLException | RuntimeException e) {
+            limitador.liberar();
+            throw e;
+        }
+    }
+
+    public LimitadorConcorrencia getLimitador() {
+        return limitador;
+    }
+
+    private void adquirir() throws SQLException {
+        try {
+            limitador.adquirir();
+        } catch (LimitadorConcorrencia.LimiteExcedidoException e) {
+            throw new SQLTransientConnectionException(e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrompido aguardando conexão", e);
+        }
+    }
+
+    private Connection liberarAoFechar(Connection conexao) {
+        AtomicBoolean liberada = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                DataSourceLimitado.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (proxy, metodo, argumentos) -> {
+                    try {
+                        return metodo.invoke(conexao, argumentos);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    } finally {
+                        if (metodo.getName().equals("close") && liberada.compareAndSet(false, true)) {
+                            limitador.liberar();
+                        }
+                    }
+                });
+    }
+}
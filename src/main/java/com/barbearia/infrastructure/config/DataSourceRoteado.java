@@ -0,0 +1,120 @@
+package com.barbearia.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Map;
+
+/**
+ * DataSource que separa leituras e escritas entre primário e réplica.
+ *
+ * Vão para a réplica as transações @Transactional(readOnly = true) abertas
+ * pelos services (relatórios, listagens financeiras, disponibilidade,
+ * busca pública). Todo o resto usa o primário, inclusive:
+ * - chamadas a repositórios fora de uma transação de service: o Spring Data
+ *   abre transações somente leitura por conta própria, e um fluxo que lê e
+ *   depois grava sem @Transactional não pode ler dados atrasados
+ * - qualquer leitura enquanto MonitorAtrasoReplica marcar a réplica como
+ *   atrasada ou fora do ar
+ *
+ * A conexão real é obtida apenas no primeiro comando (proxy preguiçoso),
+ * quando a transação já está registrada e o destino pode ser decidido.
+ *
+ * Métrica: banco.roteamento.conexoes (tag destino primario/replica).
+ */
+public class DataSourceRoteado extends LazyConnectionDataSourceProxy {
+
+    enum Destino {
+        PRIMARIO, REPLICA
+    }
+
+    private static final String PREFIXO_SPRING_DATA = "org.springframework.data.";
+    private static final String PACOTE_REPOSITORIOS = ".persistence.repositories.";
+
+    private final Roteador roteador;
+
+    /**
+     * @param primario      DataSource de escrita
+     * @param replica       DataSource de leitura
+     * @param monitor       Estado da réplica
+     * @param meterRegistry Registro de métricas (opcional)
+     */
+    public DataSourceRoteado(DataSource primario, DataSource replica, MonitorAtrasoReplica monitor,
+            MeterRegistry meterRegistry) {
+        this.roteador = new Roteador(primario, replica, monitor, meterRegistry);
+        setTargetDataSource(roteador);
+        // Evita pedir uma conexão só para descobrir os padrões
+        setDefaultAutoCommit(true);
+        setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Destino de uma conexão pedida agora.
+     */
+    Destino destinoAtual() {
+        return roteador.determineCurrentLookupKey();
+    }
+
+    /**
+     * true se a transação corrente é somente leitura e foi aberta fora dos
+     * repositórios.
+     */
+    static boolean leituraDeService() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return false;
+        }
+        String nome = TransactionSynchronizationManager.getCurrentTransactionName();
+        return nome != null && !nome.startsWith(PREFIXO_SPRING_DATA) && !nome.contains(PACOTE_REPOSITORIOS);
+    }
+
+    private static final class Roteador extends AbstractRoutingDataSource {
+
+        private final MonitorAtrasoReplica monitor;
+        private final Counter conexoesPrimario;
+        private final Counter conexoesReplica;
+
+        Roteador(DataSource primario, DataSource replica, MonitorAtrasoReplica monitor,
+                MeterRegistry meterRegistry) {
+            this.monitor = monitor;
+            this.conexoesPrimario = contador(meterRegistry, "primario");
+            this.conexoesReplica = contador(meterRegistry, "replica");
+            setTargetDataSources(Map.of(Destino.PRIMARIO, primario, Destino.REPLICA, replica));
+            setDefaultTargetDataSource(primario);
+            setLenientFallback(false);
+            afterPropertiesSet();
+        }
+
+        @Override
+        protected Destino determineCurrentLookupKey() {
+            if (leituraDeService() && monitor.isDisponivel()) {
+                incrementar(conexoesReplica);
+                return Destino.REPLICA;
+            }
+            incrementar(conexoesPrimario);
+            return Destino.PRIMARIO;
+        }
+
+        private static Counter contador(MeterRegistry meterRegistry, String destino) {
+            if (meterRegistry == null) {
+                return null;
+            }
+            return Counter.builder("banco.roteamento.conexoes")
+                    .description("Conexões obtidas por destino (primário ou réplica)")
+                    .tag("destino", destino)
+                    .register(meterRegistry);
+        }
+
+        private static void incrementar(Counter contador) {
+            if (contador != null) {
+                contador.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.barbearia.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Configuração de execução concorrente.
+ *
+ * - Modo de threads: spring.threads.virtual.enabled liga threads virtuais
+ *   no Tomcat, no executor padrão do Spring e em notificacaoExecutor; com o
+ *   modo desligado tudo volta a usar pools de threads de plataforma
+ * - notificacaoExecutor: executor nomeado dos observers de notificação e do
+ *   envio de WhatsApp (as retentativas dormem dentro da tarefa)
+ * - limitadorTwilio: chamadas simultâneas à API do Twilio
+ * - DataSourceLimitado: conexões emprestadas ao mesmo tempo pelo pool
+ */
+@Configuration
+public class ExecucaoConfig {
+
+    public static final String NOTIFICACAO_EXECUTOR = "notificacaoExecutor";
+
+    private static final String PROPRIEDADE_THREADS_VIRTUAIS = "spring.threads.virtual.enabled";
+
+    @Bean(name = NOTIFICACAO_EXECUTOR)
+    public TaskExecutor notificacaoExecutor(
+            @Value("${" + PROPRIEDADE_THREADS_VIRTUAIS + ":false}") boolean threadsVirtuais,
+            @Value("${notificacao.executor.threads:8}") int threadsPlataforma,
+            @Value("${notificacao.executor.fila:1000}") int fila) {
+        if (threadsVirtuais) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("notificacao-");
+            executor.setVirtualThreads(true);
+            executor.setTaskTerminationTimeout(Duration.ofSeconds(30).toMillis());
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("notificacao-");
+        executor.setCorePoolSize(threadsPlataforma);
+        executor.setMaxPoolSize(threadsPlataforma);
+        executor.setQueueCapacity(fila);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public LimitadorConcorrencia limitadorTwilio(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${twilio.concorrencia.maximo:10}") int maximo,
+            @Value("${twilio.concorrencia.espera-ms:30000}") long esperaMs) {
+        return new LimitadorConcorrencia("twilio", maximo, Duration.ofMillis(esperaMs),
+                meterRegistry.getIfAvailable());
+    }
+
+    /**
+     * Envolve o DataSource em DataSourceLimitado quando limite.banco.maximo é
+     * positivo (0 desliga o limitador). DataSourceRoteado já limita cada pool
+     * separadamente (ReplicaLeituraConfig).
+     */
+    @Bean
+    public static BeanPostProcessor dataSourceLimitadoPostProcessor(
+            Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                int maximo = environment.getProperty("limite.banco.maximo", Integer.class, 0);
+                if (maximo <= 0 || !(bean instanceof DataSource dataSource) || jaLimitado(dataSource)) {
+                    return bean;
+                }
+                long esperaMs = environment.getProperty("limite.banco.espera-ms", Long.class, 30_000L);
+                return new DataSourceLimitado(dataSource, new LimitadorConcorrencia(
+                        "banco", maximo, Duration.ofMillis(esperaMs), meterRegistry.getIfAvailable()));
+            }
+        };
+    }
+
+    private static boolean jaLimitado(DataSource dataSource) {
+        DataSource atual = dataSource;
+        while (true) {
+            if (atual instanceof DataSourceLimitado || atual instanceof DataSourceRoteado) {
+                return true;
+            }
+            if (!(atual instanceof DelegatingDataSource delegante) || delegante.getTargetDataSource() == null) {
+                return false;
+            }
+            atual = delegante.getTargetDataSource();
+        }
+    }
+}
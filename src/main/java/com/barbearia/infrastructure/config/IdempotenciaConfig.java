@@ -0,0 +1,31 @@
+package com.barbearia.infrastructure.config;
+
+import com.barbearia.application.services.IdempotenciaService;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuração do suporte ao header Idempotency-Key.
+ *
+ * O filtro é aplicado apenas aos endpoints de criação de agendamentos e de
+ * lançamentos financeiros, e roda depois do Spring Security para conhecer o
+ * usuário autenticado.
+ */
+@Configuration
+public class IdempotenciaConfig {
+
+    @Bean
+    public FilterRegistrationBean<IdempotenciaFilter> idempotenciaFilter(IdempotenciaService idempotenciaService) {
+        FilterRegistrationBean<IdempotenciaFilter> registro = new FilterRegistrationBean<>(
+                new IdempotenciaFilter(idempotenciaService));
+        registro.addUrlPatterns(
+                "/api/agendamentos",
+                "/api/barbearias/agendamentos-diretos",
+                "/api/financeiro/receitas",
+                "/api/financeiro/despesas");
+        registro.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return registro;
+    }
+}
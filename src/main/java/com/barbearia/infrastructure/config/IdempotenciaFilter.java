@@ -0,0 +1,216 @@
+package com.barbearia.infrastructure.config;
+
+import com.barbearia.application.services.IdempotenciaService;
+import com.barbearia.application.services.IdempotenciaService.Reserva;
+import com.barbearia.infrastructure.persistence.entities.JpaChaveIdempotencia;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+
+/**
+ * Filtro que implementa o header Idempotency-Key nos endpoints de escrita.
+ *
+ * Responsabilidades:
+ * - Reservar a chave (por usuário autenticado) antes de executar a escrita
+ * - Reenviar a resposta original quando a mesma requisição é repetida
+ * - Rejeitar chaves reutilizadas com outra requisição (422) ou ainda em
+ *   processamento (409)
+ *
+ * Requisições sem o header seguem o fluxo normal. Registrado em
+ * IdempotenciaConfig, após a cadeia do Spring Security.
+ */
+public class IdempotenciaFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_CHAVE = "Idempotency-Key";
+    public static final String HEADER_REPETIDA = "Idempotent-Replayed";
+
+    private final IdempotenciaService idempotenciaService;
+
+    public IdempotenciaFilter(IdempotenciaService idempotenciaService) {
+        this.idempotenciaService = idempotenciaService;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !"POST".equalsIgnoreCase(request.getMethod()) || request.getHeader(HEADER_CHAVE) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        String usuario = identificarUsuario();
+        if (usuario == null) {
+            // Sem autenticação: o Spring Security decide a resposta
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RequisicaoComCorpo requisicao = new RequisicaoComCorpo(request);
+        String hash = idempotenciaService.calcularHash(request.getMethod(), request.getRequestURI(),
+                requisicao.corpo);
+
+        Reserva reserva;
+        try {
+            reserva = idempotenciaService.reservar(request.getHeader(HEADER_CHAVE), usuario, hash);
+        } catch (IllegalArgumentException e) {
+            escreverErro(response, request, HttpStatus.BAD_REQUEST, e.getMessage());
+            return;
+        }
+
+        switch (reserva.situacao()) {
+            case CONCLUIDA -> reenviarResposta(response, reserva.registro());
+            case EM_ANDAMENTO -> escreverErro(response, request, HttpStatus.CONFLICT,
+                    "Requisição com esta Idempotency-Key ainda está em processamento");
+            case CONFLITO -> escreverErro(response, request, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Idempotency-Key já utilizada com outra requisição");
+            case NOVA -> executarERegistrar(requisicao, response, filterChain, reserva);
+        }
+    }
+
+    private void executarERegistrar(RequisicaoComCorpo requisicao, HttpServletResponse response,
+            FilterChain filterChain, Reserva reserva) throws ServletException, IOException {
+        ContentCachingResponseWrapper respostaEmCache = new ContentCachingResponseWrapper(response);
+        boolean registrada = false;
+        try {
+            filterChain.doFilter(requisicao, respostaEmCache);
+
+            int status = respostaEmCache.getStatus();
+            if (status >= 200 && status < 300) {
+                idempotenciaService.registrarResposta(reserva, status, respostaEmCache.getContentType(),
+                        new String(respostaEmCache.getContentAsByteArray(), StandardCharsets.UTF_8));
+                registrada = true;
+            }
+        } finally {
+            if (!registrada) {
+                // Falhas não são memorizadas: o cliente pode tentar novamente
+                idempotenciaService.liberar(reserva);
+            }
+            respostaEmCache.copyBodyToResponse();
+        }
+    }
+
+    private void reenviarResposta(HttpServletResponse response, JpaChaveIdempotencia registro) throws IOException {
+        response.setStatus(registro.getStatusResposta());
+        response.setHeader(HEADER_REPETIDA, "true");
+        if (registro.getTipoConteudo() != null) {
+            response.setContentType(registro.getTipoConteudo());
+        }
+        if (registro.getCorpoResposta() != null) {
+            byte[] corpo = registro.getCorpoResposta().getBytes(StandardCharsets.UTF_8);
+            response.setContentLength(corpo.length);
+            response.getOutputStream().write(corpo);
+        }
+    }
+
+    private void escreverErro(HttpServletResponse response, HttpServletRequest request, HttpStatus status,
+            String mensagem) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(String.format(
+                "{\"timestamp\":\"%s\",\"status\":%d,\"error\":\"%s\",\"message\":\"%s\",\"path\":\"%s\"}",
+                LocalDateTime.now(), status.value(), status.getReasonPhrase(), mensagem, request.getRequestURI()));
+    }
+
+    /**
+     * Identifica o usuário autenticado (nome + perfis), escopo das chaves.
+     */
+    private String identificarUsuario() {
+        Authentication autenticacao = SecurityContextHolder.getContext().getAuthentication();
+        if (autenticacao == null || !autenticacao.isAuthenticated() || autenticacao.getName() == null) {
+            return null;
+        }
+        String perfis = autenticacao.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .collect(Collectors.joining(","));
+        return perfis + "|" + autenticacao.getName();
+    }
+
+    /**
+     * Requisição com o corpo já lido, permitindo calcular o hash e
+     * repassá-lo intacto ao controller.
+     */
+    private static class RequisicaoComCorpo extends HttpServletRequestWrapper {
+
+        private final byte[] corpo;
+
+        RequisicaoComCorpo(HttpServletRequest request) throws IOException {
+            super(request);
+            this.corpo = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream entrada = new ByteArrayInputStream(corpo);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return entrada.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    if (readListener == null) {
+                        throw new NullPointerException("ReadListener não pode ser nulo");
+                    }
+                    // O corpo já está em memória: tudo está disponível de imediato
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return entrada.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return entrada.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), java.nio.charset.Charset.forName(encoding)));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.barbearia.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limite de chamadas simultâneas a um recurso externo (Twilio, pool do
+ * banco).
+ *
+ * Com threads virtuais, a quantidade de requisições e notificações em
+ * andamento deixa de ser limitada pelo pool de threads; o limitador devolve
+ * esse teto ao recurso que realmente é escasso. Quem passa do limite espera
+ * (barato em thread virtual) até esperaMaxima e então é recusado.
+ *
+ * Métricas (tag nome): limitador.concorrencia.em.uso,
+ * limitador.concorrencia.aguardando e limitador.concorrencia.recusas.
+ */
+public class LimitadorConcorrencia {
+
+    /**
+     * Chamada executada dentro do limite
+     */
+    @FunctionalInterface
+    public interface Chamada<T> {
+        T executar() throws Exception;
+    }
+
+    /**
+     * Lançada quando a permissão não é obtida dentro da espera máxima
+     */
+    public static class LimiteExcedidoException extends RuntimeException {
+
+        public LimiteExcedidoException(String message) {
+            super(message);
+        }
+    }
+
+    private final String nome;
+    private final int maximo;
+    private final Duration esperaMaxima;
+    private final Semaphore permissoes;
+    private final Counter recusas;
+
+    /**
+     * @param nome          Nome do recurso (tag das métricas)
+     * @param maximo        Chamadas simultâneas permitidas
+     * @param esperaMaxima  Tempo máximo de espera por uma permissão
+     * @param meterRegistry Registro de métricas (opcional)
+     */
+    public LimitadorConcorrencia(String nome, int maximo, Duration esperaMaxima, MeterRegistry meterRegistry) {
+        if (maximo < 1) {
+            throw new IllegalArgumentException("O limite de concorrência deve ser positivo");
+        }
+        this.nome = nome;
+        this.maximo = maximo;
+        this.esperaMaxima = esperaMaxima;
+        this.permissoes = new Semaphore(maximo, true);
+
+        if (meterRegistry != null) {
+            Gauge.builder("limitador.concorrencia.em.uso", permissoes, p -> maximo - p.availablePermits())
+                    .description("Chamadas em andamento dentro do limite")
+                    .tag("nome", nome)
+                    .register(meterRegistry);
+            Gauge.builder("limitador.concorrencia.aguardando", permissoes, Semaphore::getQueueLength)
+                    .description("Chamadas aguardando uma permissão")
+                    .tag("nome", nome)
+                    .register(meterRegistry);
+            this.recusas = Counter.builder("limitador.concorrencia.recusas")
+                    .description("Chamadas recusadas após a espera máxima")
+                    .tag("nome", nome)
+                    .register(meterRegistry);
+        } else {
+            this.recusas = null;
+        }
+    }
+
+    /**
+     * Limitador sem teto prático, para uso fora do contexto Spring.
+     */
+    public static LimitadorConcorrencia semLimite(String nome) {
+        return new LimitadorConcorrencia(nome, Integer.MAX_VALUE, Duration.ZERO, null);
+    }
+
+    /**
+     * Obtém uma permissão, esperando no máximo esperaMaxima.
+     *
+     * @throws LimiteExcedidoException se a espera terminar sem permissão
+     */
+    public void adquirir() throws InterruptedException {
+        if (!permissoes.tryAcquire(esperaMaxima.toNanos(), TimeUnit.NANOSECONDS)) {
+            if (recusas != null) {
+                recusas.increment();
+            }
+            throw new LimiteExcedidoException(String.format(
+                    "Limite de %d chamadas simultâneas a %s atingido (espera de %d ms)",
+                    maximo, nome, esperaMaxima.toMillis()));
+        }
+    }
+
+    public void liberar() {
+        permissoes.release();
+    }
+
+    /**
+     * Executa a chamada dentro do limite.
+     */
+    public <T> T executar(Chamada<T> chamada) throws Exception {
+        adquirir();
+        try {
+            return chamada.executar();
+        } finally {
+            liberar();
+        }
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public int getMaximo() {
+        return maximo;
+    }
+}
@@ -0,0 +1,78 @@
+package com.barbearia.infrastructure.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Limite de vazão de chamadas a um recurso externo (token bucket).
+ *
+ * Complementa LimitadorConcorrencia: aquele limita chamadas simultâneas,
+ * este limita chamadas por segundo (o Twilio limita mensagens por segundo
+ * por número remetente). Após um período ocioso são aceitas rajadas de até
+ * capacidade chamadas; depois disso cada chamador espera sua vez, em ordem
+ * de chegada.
+ */
+public class LimitadorTaxa {
+
+    private static final double NANOS_POR_SEGUNDO = TimeUnit.SECONDS.toNanos(1);
+
+    private final String nome;
+    private final double taxaPorSegundo;
+    private final double capacidade;
+    private final LongSupplier relogioNanos;
+    private double fichas;
+    private long ultimaReposicao;
+
+    /**
+     * @param nome           Nome do recurso
+     * @param taxaPorSegundo Chamadas por segundo em regime contínuo
+     * @param capacidade     Tamanho máximo de uma rajada
+     */
+    public LimitadorTaxa(String nome, double taxaPorSegundo, int capacidade) {
+        this(nome, taxaPorSegundo, capacidade, System::nanoTime);
+    }
+
+    LimitadorTaxa(String nome, double taxaPorSegundo, int capacidade, LongSupplier relogioNanos) {
+        if (taxaPorSegundo <= 0 || capacidade < 1) {
+            throw new IllegalArgumentException("A taxa e a capacidade do limitador devem ser positivas");
+        }
+        this.nome = nome;
+        this.taxaPorSegundo = taxaPorSegundo;
+        this.capacidade = capacidade;
+        this.relogioNanos = relogioNanos;
+        this.fichas = capacidade;
+        this.ultimaReposicao = relogioNanos.getAsLong();
+    }
+
+    /**
+     * Reserva uma ficha.
+     *
+     * @return nanossegundos que o chamador deve esperar antes de usar a ficha
+     *         (0 se há ficha disponível)
+     */
+    public synchronized long reservar() {
+        long agora = relogioNanos.getAsLong();
+        fichas = Math.min(capacidade, fichas + (agora - ultimaReposicao) * taxaPorSegundo / NANOS_POR_SEGUNDO);
+        ultimaReposicao = agora;
+        fichas -= 1;
+        return fichas >= 0 ? 0 : (long) Math.ceil(-fichas * NANOS_POR_SEGUNDO / taxaPorSegundo);
+    }
+
+    /**
+     * Reserva uma ficha e espera até poder usá-la.
+     */
+    public void adquirir() throws InterruptedException {
+        long espera = reservar();
+        if (espera > 0) {
+            TimeUnit.NANOSECONDS.sleep(espera);
+        }
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public double getTaxaPorSegundo() {
+        return taxaPorSegundo;
+    }
+}
@@ -0,0 +1,125 @@
+package com.barbearia.infrastructure.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Acompanha o atraso de replicação da réplica de leitura.
+ *
+ * A cada intervalo consulta a réplica; se ela não responder ou estiver
+ * atrasada mais que atrasoMaximo, fica marcada como indisponível e
+ * DataSourceRoteado manda as leituras para o primário até ela alcançar.
+ *
+ * Métricas: banco.replica.atraso (segundos, -1 enquanto indisponível) e
+ * banco.replica.disponivel (1/0).
+ */
+@Slf4j
+public class MonitorAtrasoReplica implements AutoCloseable {
+
+    /**
+     * Atraso em segundos; 0 quando a réplica já aplicou tudo o que recebeu
+     * (sem escrita recente no primário o timestamp de replay fica parado).
+     */
+    static final String CONSULTA_ATRASO = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END""";
+
+    private final DataSource replica;
+    private final Duration atrasoMaximo;
+    private final Duration intervalo;
+    private ScheduledExecutorService agendador;
+
+    private volatile boolean disponivel;
+    private volatile double atrasoSegundos = -1;
+
+    /**
+     * @param replica       Pool da réplica
+     * @param atrasoMaximo  Atraso tolerado antes de desviar as leituras
+     * @param intervalo     Intervalo entre verificações
+     * @param meterRegistry Registro de métricas (opcional)
+     */
+    public MonitorAtrasoReplica(DataSource replica, Duration atrasoMaximo, Duration intervalo,
+            MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.atrasoMaximo = atrasoMaximo;
+        this.intervalo = intervalo;
+
+        if (meterRegistry != null) {
+            Gauge.builder("banco.replica.atraso", this, m -> m.atrasoSegundos)
+                    .description("Atraso de replicação da réplica de leitura")
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            Gauge.builder("banco.replica.disponivel", this, m -> m.disponivel ? 1 : 0)
+                    .description("1 quando as leituras estão indo para a réplica")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Faz a primeira verificação e agenda as seguintes.
+     */
+    public synchronized void iniciar() {
+        verificar();
+        agendador = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("replica-monitor").factory());
+        agendador.scheduleWithFixedDelay(this::verificar,
+                intervalo.toMillis(), intervalo.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Consulta o atraso atual e atualiza a disponibilidade.
+     */
+    void verificar() {
+        boolean anterior = disponivel;
+        try (Connection conexao = replica.getConnection();
+                Statement comando = conexao.createStatement();
+                ResultSet resultado = comando.executeQuery(CONSULTA_ATRASO)) {
+            resultado.next();
+            atrasoSegundos = resultado.getDouble(1);
+            disponivel = atrasoSegundos * 1000 <= atrasoMaximo.toMillis();
+        } catch (SQLException | RuntimeException e) {
+            atrasoSegundos = -1;
+            disponivel = false;
+            if (anterior) {
+                log.warn("Réplica de leitura sem resposta, leituras voltam ao primário: {}", e.getMessage());
+            }
+            return;
+        }
+
+        if (anterior && !disponivel) {
+            log.warn("Réplica de leitura com {} s de atraso (máximo {} ms), leituras voltam ao primário",
+                    atrasoSegundos, atrasoMaximo.toMillis());
+        } else if (!anterior && disponivel) {
+            log.info("Réplica de leitura disponível (atraso de {} s)", atrasoSegundos);
+        }
+    }
+
+    public boolean isDisponivel() {
+        return disponivel;
+    }
+
+    public double getAtrasoSegundos() {
+        return atrasoSegundos;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (agendador != null) {
+            agendador.shutdownNow();
+        }
+    }
+}
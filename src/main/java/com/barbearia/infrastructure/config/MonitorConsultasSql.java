@@ -0,0 +1,161 @@
+package com.barbearia.infrastructure.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Contagem de comandos SQL e tempo de banco por unidade de trabalho
+ * (normalmente uma requisição HTTP).
+ *
+ * O DataSource da aplicação é envolvido por DataSourceMonitorado, que mede
+ * cada execute* de Statement/PreparedStatement/CallableStatement e soma o
+ * resultado na contagem ativa da thread atual. Sem contagem ativa (jobs,
+ * inicialização), nada é registrado.
+ *
+ * Contagens podem ser aninhadas: um comando conta para a contagem ativa e
+ * para todas as que a envolvem (ex.: utilitário de teste dentro de uma
+ * requisição já monitorada pelo filtro).
+ */
+public final class MonitorConsultasSql {
+
+    private static final ThreadLocal<Contagem> CONTAGEM_ATUAL = new ThreadLocal<>();
+
+    private MonitorConsultasSql() {
+    }
+
+    /**
+     * Resultado de uma contagem.
+     *
+     * @param consultas  Quantidade de comandos SQL executados
+     * @param tempoNanos Tempo acumulado dentro do driver JDBC
+     */
+    public record Resumo(int consultas, long tempoNanos) {
+
+        public double tempoMs() {
+            return tempoNanos / 1_000_000.0;
+        }
+    }
+
+    /**
+     * Inicia uma contagem na thread atual.
+     */
+    public static void iniciar() {
+        CONTAGEM_ATUAL.set(new Contagem(CONTAGEM_ATUAL.get()));
+    }
+
+    /**
+     * Valores da contagem ativa até o momento, sem encerrá-la.
+     */
+    public static Resumo parcial() {
+        Contagem contagem = CONTAGEM_ATUAL.get();
+        return contagem == null ? new Resumo(0, 0) : contagem.resumo();
+    }
+
+    /**
+     * Encerra a contagem ativa e restaura a contagem que a envolvia.
+     */
+    public static Resumo finalizar() {
+        Contagem contagem = CONTAGEM_ATUAL.get();
+        if (contagem == null) {
+            return new Resumo(0, 0);
+        }
+        if (contagem.externa != null) {
+            CONTAGEM_ATUAL.set(contagem.externa);
+        } else {
+            CONTAGEM_ATUAL.remove();
+        }
+        return contagem.resumo();
+    }
+
+    static void registrar(long tempoNanos) {
+        for (Contagem contagem = CONTAGEM_ATUAL.get(); contagem != null; contagem = contagem.externa) {
+            contagem.consultas++;
+            contagem.tempoNanos += tempoNanos;
+        }
+    }
+
+    private static final class Contagem {
+
+        private final Contagem externa;
+        private int consultas;
+        private long tempoNanos;
+
+        Contagem(Contagem externa) {
+            this.externa = externa;
+        }
+
+        Resumo resumo() {
+            return new Resumo(consultas, tempoNanos);
+        }
+    }
+
+    /**
+     * DataSource que instrumenta as conexões entregues à aplicação.
+     * unwrap/isWrapperFor continuam chegando ao pool original (Hikari).
+     */
+    public static class DataSourceMonitorado extends DelegatingDataSource {
+
+        public DataSourceMonitorado(DataSource alvo) {
+            super(alvo);
+        }
+
+        @Override
+        @NonNull
+        public Connection getConnection() throws SQLException {
+            return monitorar(obtainTargetDataSource().getConnection());
+        }
+
+        @Override
+        @NonNull
+        public Connection getConnection(@NonNull String usuario, @NonNull String senha) throws SQLException {
+            return monitorar(obtainTargetDataSource().getConnection(usuario, senha));
+        }
+
+        private static Connection monitorar(Connection conexao) {
+            return (Connection) Proxy.newProxyInstance(
+                    MonitorConsultasSql.class.getClassLoader(),
+                    new Class<?>[] {Connection.class},
+                    (proxy, metodo, argumentos) -> {
+                        Object resultado = invocar(conexao, metodo, argumentos);
+                        if (resultado instanceof Statement comando
+                                && (metodo.getName().startsWith("prepare") || metodo.getName().equals("createStatement"))) {
+                            return monitorar(comando, metodo.getReturnType());
+                        }
+                        return resultado;
+                    });
+        }
+
+        private static Object monitorar(Statement comando, Class<?> tipo) {
+            return Proxy.newProxyInstance(
+                    MonitorConsultasSql.class.getClassLoader(),
+                    new Class<?>[] {tipo},
+                    (proxy, metodo, argumentos) -> {
+                        if (!metodo.getName().startsWith("execute")) {
+                            return invocar(comando, metodo, argumentos);
+                        }
+                        long inicio = System.nanoTime();
+                        try {
+                            return invocar(comando, metodo, argumentos);
+                        } finally {
+                            registrar(System.nanoTime() - inicio);
+                        }
+                    });
+        }
+
+        private static Object invocar(Object alvo, Method metodo, Object[] argumentos) throws Throwable {
+            try {
+                return metodo.invoke(alvo, argumentos);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
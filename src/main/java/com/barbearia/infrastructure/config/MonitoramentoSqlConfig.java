@@ -0,0 +1,54 @@
+package com.barbearia.infrastructure.config;
+
+import com.barbearia.infrastructure.config.MonitorConsultasSql.DataSourceMonitorado;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuração da instrumentação de SQL por requisição.
+ *
+ * - Envolve o DataSource em DataSourceMonitorado (contagem e tempo de cada
+ *   comando, ver MonitorConsultasSql)
+ * - Registra ConsultasSqlFilter como primeiro filtro, para que as consultas
+ *   de filtros posteriores (segurança, idempotência) também sejam contadas
+ *
+ * O header de diagnóstico é controlado por monitor.sql.cabecalho (desligado
+ * em produção).
+ */
+@Configuration
+public class MonitoramentoSqlConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceMonitoradoPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof DataSourceMonitorado)) {
+                    return new DataSourceMonitorado(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConsultasSqlFilter> consultasSqlFilter(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${monitor.sql.cabecalho:true}") boolean cabecalhoHabilitado,
+            @Value("${monitor.sql.limite-alerta:30}") int limiteAlerta) {
+        FilterRegistrationBean<ConsultasSqlFilter> registro = new FilterRegistrationBean<>(
+                new ConsultasSqlFilter(meterRegistry.getIfAvailable(), cabecalhoHabilitado, limiteAlerta));
+        registro.addUrlPatterns("/api/*");
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registro;
+    }
+}
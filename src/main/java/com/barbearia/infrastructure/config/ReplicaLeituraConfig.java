@@ -0,0 +1,139 @@
+package com.barbearia.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Réplica de leitura (banco.replica.habilitada=true).
+ *
+ * Substitui o DataSource do Spring Boot por DataSourceRoteado, com dois
+ * pools Hikari independentes:
+ * - primario: spring.datasource.* e spring.datasource.hikari.*, limitado
+ *   por limite.banco.maximo (LimitadorConcorrencia "banco")
+ * - replica: banco.replica.*, somente leitura, limitado por
+ *   banco.replica.pool.maximo (LimitadorConcorrencia "banco-replica")
+ *
+ * Um relatório pesado ocupa conexões da réplica e não atrasa a gravação de
+ * agendamentos. Se a réplica cair ou atrasar mais que
+ * banco.replica.atraso-maximo-ms, as leituras voltam ao primário.
+ */
+@Configuration
+@ConditionalOnProperty(name = "banco.replica.habilitada", havingValue = "true")
+public class ReplicaLeituraConfig {
+
+    /**
+     * Pools de conexão, fechados no encerramento do contexto (o DataSource
+     * exposto é envolvido pelos post processors e não os fecha).
+     */
+    public static final class PoolsBanco implements AutoCloseable {
+
+        private final HikariDataSource primario;
+        private final HikariDataSource replica;
+
+        PoolsBanco(HikariDataSource primario, HikariDataSource replica) {
+            this.primario = primario;
+            this.replica = replica;
+        }
+
+        public HikariDataSource getPrimario() {
+            return primario;
+        }
+
+        public HikariDataSource getReplica() {
+            return replica;
+        }
+
+        @Override
+        public void close() {
+            replica.close();
+            primario.close();
+        }
+    }
+
+    @Bean
+    public PoolsBanco poolsBanco(
+            DataSourceProperties propriedades,
+            Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${banco.replica.url}") String url,
+            @Value("${banco.replica.usuario:${spring.datasource.username:}}") String usuario,
+            @Value("${banco.replica.senha:${spring.datasource.password:}}") String senha,
+            @Value("${banco.replica.pool.maximo:10}") int maximo,
+            @Value("${banco.replica.pool.minimo:2}") int minimo) {
+        HikariDataSource primario = propriedades.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primario));
+        primario.setPoolName("primario");
+
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setJdbcUrl(url);
+        replica.setUsername(usuario);
+        replica.setPassword(senha);
+        replica.setDriverClassName(propriedades.determineDriverClassName());
+        replica.setMaximumPoolSize(maximo);
+        replica.setMinimumIdle(Math.min(minimo, maximo));
+        replica.setConnectionTimeout(primario.getConnectionTimeout());
+        replica.setIdleTimeout(primario.getIdleTimeout());
+        replica.setMaxLifetime(primario.getMaxLifetime());
+        replica.setReadOnly(true);
+        // A aplicação sobe mesmo com a réplica fora do ar (leituras no primário)
+        replica.setInitializationFailTimeout(-1);
+
+        MeterRegistry registro = meterRegistry.getIfAvailable();
+        if (registro != null) {
+            primario.setMetricRegistry(registro);
+            replica.setMetricRegistry(registro);
+        }
+        return new PoolsBanco(primario, replica);
+    }
+
+    @Bean
+    public MonitorAtrasoReplica monitorAtrasoReplica(
+            PoolsBanco pools,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${banco.replica.atraso-maximo-ms:5000}") long atrasoMaximoMs,
+            @Value("${banco.replica.verificacao-ms:5000}") long verificacaoMs) {
+        MonitorAtrasoReplica monitor = new MonitorAtrasoReplica(pools.getReplica(),
+                Duration.ofMillis(atrasoMaximoMs), Duration.ofMillis(verificacaoMs), meterRegistry.getIfAvailable());
+        monitor.iniciar();
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            PoolsBanco pools,
+            MonitorAtrasoReplica monitor,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${limite.banco.maximo:0}") int maximoPrimario,
+            @Value("${banco.replica.pool.maximo:10}") int maximoReplica,
+            @Value("${limite.banco.espera-ms:30000}") long esperaMs) {
+        MeterRegistry registro = meterRegistry.getIfAvailable();
+        return new DataSourceRoteado(
+                limitar(pools.getPrimario(), "banco", maximoPrimario, esperaMs, registro),
+                limitar(pools.getReplica(), "banco-replica", maximoReplica, esperaMs, registro),
+                monitor, registro);
+    }
+
+    private static DataSource limitar(DataSource pool, String nome, int maximo, long esperaMs,
+            MeterRegistry meterRegistry) {
+        if (maximo <= 0) {
+            return pool;
+        }
+        return new DataSourceLimitado(pool, new LimitadorConcorrencia(
+                nome, maximo, Duration.ofMillis(esperaMs), meterRegistry));
+    }
+}
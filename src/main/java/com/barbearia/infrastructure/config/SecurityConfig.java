@@ -1,5 +1,6 @@
 package com.barbearia.infrastructure.config;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -75,6 +76,9 @@ public class SecurityConfig {
 
                 // Configura autorização de requisições
                 .authorizeHttpRequests(auth -> auth
+                        // Dispatches assíncronos (streams SSE) já foram autorizados na requisição original
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Endpoints públicos (não exigem autenticação)
                         .requestMatchers(
                                 "/",
@@ -90,7 +94,10 @@ public class SecurityConfig {
                                 "/v3/api-docs/**",
                                 "/swagger-resources/**",
                                 "/webjars/**",
-                                "/api-docs/**")
+                                "/api-docs/**",
+                                // Health check e scrape do Prometheus (métricas agregadas, sem dados de clientes)
+                                "/actuator/health",
+                                "/actuator/prometheus")
                         .permitAll()
 
                         // Todos os demais endpoints exigem autenticação
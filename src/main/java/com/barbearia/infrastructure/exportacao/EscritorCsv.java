@@ -0,0 +1,82 @@
+package com.barbearia.infrastructure.exportacao;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * CSV (RFC 4180) em UTF-8 com BOM, para o Excel reconhecer a acentuação.
+ *
+ * Textos que começam com =, +, - ou @ recebem um apóstrofo na frente, para
+ * não serem interpretados como fórmula ao abrir a planilha.
+ */
+public class EscritorCsv implements EscritorPlanilha {
+
+    private static final DateTimeFormatter DATA_HORA = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Writer saida;
+
+    public EscritorCsv(OutputStream saida) {
+        this.saida = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), 16 * 1024);
+    }
+
+    @Override
+    public void cabecalho(List<String> colunas) throws IOException {
+        saida.write('\uFEFF');
+        linha(colunas.toArray());
+    }
+
+    @Override
+    public void linha(Object... valores) throws IOException {
+        for (int i = 0; i < valores.length; i++) {
+            if (i > 0) {
+                saida.write(',');
+            }
+            escreverCampo(valores[i]);
+        }
+        saida.write("\r\n");
+    }
+
+    @Override
+    public void concluir() throws IOException {
+        saida.flush();
+    }
+
+    private void escreverCampo(Object valor) throws IOException {
+        if (valor == null) {
+            return;
+        }
+        if (valor instanceof BigDecimal numero) {
+            saida.write(numero.toPlainString());
+            return;
+        }
+        if (valor instanceof Number || valor instanceof Enum<?>) {
+            saida.write(valor.toString());
+            return;
+        }
+        if (valor instanceof LocalDateTime dataHora) {
+            saida.write(DATA_HORA.format(dataHora));
+            return;
+        }
+
+        String texto = valor.toString();
+        if (!texto.isEmpty() && "=+-@".indexOf(texto.charAt(0)) >= 0) {
+            texto = "'" + texto;
+        }
+        if (texto.indexOf(',') < 0 && texto.indexOf('"') < 0 && texto.indexOf('\n') < 0
+                && texto.indexOf('\r') < 0) {
+            saida.write(texto);
+            return;
+        }
+        saida.write('"');
+        saida.write(texto.replace("\"", "\"\""));
+        saida.write('"');
+    }
+}
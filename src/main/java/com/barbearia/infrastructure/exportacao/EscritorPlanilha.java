@@ -0,0 +1,34 @@
+package com.barbearia.infrastructure.exportacao;
+
+import com.barbearia.domain.enums.FormatoExportacao;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Escrita de uma planilha linha a linha direto no OutputStream, sem manter as
+ * linhas em memória.
+ *
+ * Valores aceitos nas células: String, Number, LocalDate, LocalDateTime,
+ * enums e null (célula vazia); outros tipos são gravados com toString().
+ */
+public interface EscritorPlanilha {
+
+    void cabecalho(List<String> colunas) throws IOException;
+
+    void linha(Object... valores) throws IOException;
+
+    /**
+     * Grava o final do arquivo e descarrega os buffers. Não fecha o
+     * OutputStream recebido.
+     */
+    void concluir() throws IOException;
+
+    static EscritorPlanilha para(FormatoExportacao formato, OutputStream saida, String nomePlanilha) {
+        return switch (formato) {
+            case CSV -> new EscritorCsv(saida);
+            case XLSX -> new EscritorXlsx(saida, nomePlanilha);
+        };
+    }
+}
@@ -0,0 +1,195 @@
+package com.barbearia.infrastructure.exportacao;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * XLSX (SpreadsheetML) gravado em streaming: as partes fixas do pacote são
+ * escritas no início e a planilha é gerada linha a linha dentro da entrada
+ * xl/worksheets/sheet1.xml do zip, com textos inline (sem tabela de strings
+ * compartilhadas, que exigiria manter todos os textos em memória).
+ *
+ * Datas viram números seriais do Excel com formato de data; o cabeçalho fica
+ * em negrito e congelado.
+ */
+public class EscritorXlsx implements EscritorPlanilha {
+
+    private static final LocalDate EPOCA_EXCEL = LocalDate.of(1899, 12, 30);
+    private static final int ESTILO_DATA_HORA = 1;
+    private static final int ESTILO_DATA = 2;
+    private static final int ESTILO_CABECALHO = 3;
+
+    private final ZipOutputStream zip;
+    private final Writer xml;
+    private final String nomePlanilha;
+    private boolean iniciado;
+
+    public EscritorXlsx(OutputStream saida, String nomePlanilha) {
+        // O zip não deve fechar o stream da resposta em concluir()
+        this.zip = new ZipOutputStream(new FilterOutputStream(saida) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        });
+        this.xml = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), 16 * 1024);
+        this.nomePlanilha = nomePlanilha;
+    }
+
+    @Override
+    public void cabecalho(List<String> colunas) throws IOException {
+        iniciar(true);
+        escreverLinha(colunas.toArray(), ESTILO_CABECALHO);
+    }
+
+    @Override
+    public void linha(Object... valores) throws IOException {
+        iniciar(false);
+        escreverLinha(valores, 0);
+    }
+
+    @Override
+    public void concluir() throws IOException {
+        iniciar(false);
+        xml.write("</sheetData></worksheet>");
+        xml.flush();
+        zip.closeEntry();
+        zip.finish();
+        zip.flush();
+    }
+
+    private void iniciar(boolean comCabecalho) throws IOException {
+        if (iniciado) {
+            return;
+        }
+        iniciado = true;
+        parte("[Content_Types].xml", """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <Types xmlns="http://schemas.openxmlformats.org/package/2006/content-types">\
+                <Default Extension="rels" ContentType="application/vnd.openxmlformats-package.relationships+xml"/>\
+                <Default Extension="xml" ContentType="application/xml"/>\
+                <Override PartName="/xl/workbook.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml"/>\
+                <Override PartName="/xl/worksheets/sheet1.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml"/>\
+                <Override PartName="/xl/styles.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml"/>\
+                </Types>""");
+        parte("_rels/.rels", """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">\
+                <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument" Target="xl/workbook.xml"/>\
+                </Relationships>""");
+        parte("xl/workbook.xml", """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <workbook xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main" \
+                xmlns:r="http://schemas.openxmlformats.org/officeDocument/2006/relationships">\
+                <sheets><sheet name="%s" sheetId="1" r:id="rId1"/></sheets></workbook>"""
+                .formatted(escapar(nomePlanilha)));
+        parte("xl/_rels/workbook.xml.rels", """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">\
+                <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet" Target="worksheets/sheet1.xml"/>\
+                <Relationship Id="rId2" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/styles" Target="styles.xml"/>\
+                </Relationships>""");
+        parte("xl/styles.xml", """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <styleSheet xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main">\
+                <numFmts count="2"><numFmt numFmtId="164" formatCode="yyyy-mm-dd hh:mm"/>\
+                <numFmt numFmtId="165" formatCode="yyyy-mm-dd"/></numFmts>\
+                <fonts count="2"><font><sz val="11"/><name val="Calibri"/></font>\
+                <font><b/><sz val="11"/><name val="Calibri"/></font></fonts>\
+                <fills count="2"><fill><patternFill patternType="none"/></fill>\
+                <fill><patternFill patternType="gray125"/></fill></fills>\
+                <borders count="1"><border><left/><right/><top/><bottom/><diagonal/></border></borders>\
+                <cellStyleXfs count="1"><xf numFmtId="0" fontId="0" fillId="0" borderId="0"/></cellStyleXfs>\
+                <cellXfs count="4"><xf numFmtId="0" fontId="0" fillId="0" borderId="0" xfId="0"/>\
+                <xf numFmtId="164" fontId="0" fillId="0" borderId="0" xfId="0" applyNumberFormat="1"/>\
+                <xf numFmtId="165" fontId="0" fillId="0" borderId="0" xfId="0" applyNumberFormat="1"/>\
+                <xf numFmtId="0" fontId="1" fillId="0" borderId="0" xfId="0" applyFont="1"/></cellXfs>\
+                </styleSheet>""");
+
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+        xml.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+                + "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">");
+        if (comCabecalho) {
+            xml.write("<sheetViews><sheetView workbookViewId=\"0\"><pane ySplit=\"1\" topLeftCell=\"A2\" "
+                    + "activePane=\"bottomLeft\" state=\"frozen\"/></sheetView></sheetViews>");
+        }
+        xml.write("<sheetData>");
+    }
+
+    private void parte(String nome, String conteudo) throws IOException {
+        zip.putNextEntry(new ZipEntry(nome));
+        zip.write(conteudo.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    private void escreverLinha(Object[] valores, int estiloPadrao) throws IOException {
+        xml.write("<row>");
+        for (Object valor : valores) {
+            escreverCelula(valor, estiloPadrao);
+        }
+        xml.write("</row>");
+    }
+
+    private void escreverCelula(Object valor, int estiloPadrao) throws IOException {
+        String estilo = estiloPadrao > 0 ? " s=\"" + estiloPadrao + "\"" : "";
+        if (valor == null) {
+            xml.write("<c/>");
+        } else if (valor instanceof BigDecimal numero) {
+            xml.write("<c" + estilo + "><v>" + numero.toPlainString() + "</v></c>");
+        } else if (valor instanceof Number numero) {
+            xml.write("<c" + estilo + "><v>" + numero + "</v></c>");
+        } else if (valor instanceof LocalDateTime dataHora) {
+            double serial = ChronoUnit.DAYS.between(EPOCA_EXCEL, dataHora.toLocalDate())
+                    + dataHora.toLocalTime().toSecondOfDay() / 86400.0;
+            xml.write("<c s=\"" + ESTILO_DATA_HORA + "\"><v>" + serial + "</v></c>");
+        } else if (valor instanceof LocalDate data) {
+            xml.write("<c s=\"" + ESTILO_DATA + "\"><v>" + ChronoUnit.DAYS.between(EPOCA_EXCEL, data) + "</v></c>");
+        } else {
+            xml.write("<c t=\"inlineStr\"" + estilo + "><is><t xml:space=\"preserve\">");
+            xml.write(escapar(valor.toString()));
+            xml.write("</t></is></c>");
+        }
+    }
+
+    /**
+     * Escapa o texto para XML, descartando caracteres de controle inválidos
+     * em XML 1.0.
+     */
+    static String escapar(String texto) {
+        StringBuilder resultado = null;
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            String substituto = switch (c) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                default -> c < 0x20 && c != '\t' && c != '\n' && c != '\r' ? "" : null;
+            };
+            if (substituto != null && resultado == null) {
+                resultado = new StringBuilder(texto.length() + 16).append(texto, 0, i);
+            }
+            if (resultado != null) {
+                resultado.append(substituto != null ? substituto : String.valueOf(c));
+            }
+        }
+        return resultado != null ? resultado.toString() : texto;
+    }
+}
@@ -0,0 +1,299 @@
+package com.barbearia.infrastructure.external.twilio;
+
+import com.barbearia.infrastructure.config.LimitadorConcorrencia;
+import com.barbearia.infrastructure.config.LimitadorConcorrencia.LimiteExcedidoException;
+import com.barbearia.infrastructure.config.LimitadorTaxa;
+import com.barbearia.infrastructure.metrics.MetricasNegocio;
+import com.barbearia.infrastructure.metrics.MetricasNegocio.ResultadoNotificacao;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Fila de envio de WhatsApp na frente do Twilio.
+ *
+ * - Agrupamento: mensagens para o mesmo telefone dentro de
+ *   janelaAgrupamento viram uma só mensagem (ex.: vários cancelamentos do
+ *   mesmo cliente quando um profissional falta), respeitando o limite de
+ *   1600 caracteres do WhatsApp
+ * - Vazão: um LimitadorTaxa por número remetente (enviosPorSegundo, com
+ *   rajadas de até rajada mensagens)
+ * - Contrapressão: no máximo capacidadeFila mensagens pendentes; quem chega
+ *   com a fila cheia espera até esperaMaximaFila e então é recusado
+ * - Ordem: os grupos de um mesmo telefone são enviados um após o outro
+ *
+ * As chamadas ao Twilio rodam no executor recebido (notificacaoExecutor) e
+ * dentro de limitadorTwilio. Cada mensagem enfileirada gera sua métrica em
+ * MetricasNegocio.registrarNotificacao.
+ */
+@Slf4j
+public class DespachanteWhatsApp implements AutoCloseable {
+
+    static final int TAMANHO_MAXIMO_CORPO = 1600;
+    static final String SEPARADOR = "\n\n———\n\n";
+    private static final String CANAL = "whatsapp";
+
+    /**
+     * Parâmetros da fila
+     */
+    public record Configuracao(
+            Duration janelaAgrupamento,
+            int capacidadeFila,
+            Duration esperaMaximaFila,
+            double enviosPorSegundo,
+            int rajada,
+            int tentativas,
+            Duration esperaEntreTentativas) {
+    }
+
+    private final EnvioTwilio envio;
+    private final Configuracao configuracao;
+    private final Executor executor;
+    private final LimitadorConcorrencia limitadorTwilio;
+    private final MetricasNegocio metricas;
+    private final Semaphore vagas;
+    private final ScheduledExecutorService agendador;
+    private final Map<String, Grupo> abertos = new HashMap<>();
+    private final Map<String, CompletableFuture<Void>> emEnvio = new ConcurrentHashMap<>();
+    private final Map<String, LimitadorTaxa> limitesPorRemetente = new ConcurrentHashMap<>();
+    private boolean encerrado;
+
+    public DespachanteWhatsApp(EnvioTwilio envio, Configuracao configuracao, Executor executor,
+            LimitadorConcorrencia limitadorTwilio, MetricasNegocio metricas) {
+        if (configuracao.capacidadeFila() < 1 || configuracao.tentativas() < 1) {
+            throw new IllegalArgumentException("A capacidade da fila e as tentativas devem ser positivas");
+        }
+        this.envio = envio;
+        this.configuracao = configuracao;
+        this.executor = executor;
+        this.limitadorTwilio = limitadorTwilio != null ? limitadorTwilio : LimitadorConcorrencia.semLimite("twilio");
+        this.metricas = metricas != null ? metricas : MetricasNegocio.desligadas();
+        this.vagas = new Semaphore(configuracao.capacidadeFila(), true);
+        this.agendador = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("whatsapp-agrupamento").daemon().factory());
+        this.metricas.monitorarFilaNotificacao(CANAL, this::pendentes);
+    }
+
+    /**
+     * Enfileira uma mensagem. O futuro termina quando a mensagem (ou o grupo
+     * em que ela entrou) for aceita pelo Twilio ou falhar de vez.
+     *
+     * @param remetente Número remetente
+     * @param destino   Número de destino já formatado
+     * @param mensagem  Texto da mensagem
+     */
+    public CompletableFuture<Void> enfileirar(String remetente, String destino, String mensagem) {
+        Timer.Sample amostra = metricas.iniciar();
+        try {
+            if (!vagas.tryAcquire(configuracao.esperaMaximaFila().toNanos(), TimeUnit.NANOSECONDS)) {
+                metricas.registrarNotificacao(amostra, CANAL, ResultadoNotificacao.FALHA, 0);
+                return CompletableFuture.failedFuture(new LimiteExcedidoException(String.format(
+                        "Fila de WhatsApp cheia (%d mensagens pendentes)", configuracao.capacidadeFila())));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            metricas.registrarNotificacao(amostra, CANAL, ResultadoNotificacao.FALHA, 0);
+            return CompletableFuture.failedFuture(e);
+        }
+
+        Pedido pedido = new Pedido(mensagem, amostra);
+        String chave = remetente + "|" + destino;
+        synchronized (abertos) {
+            if (encerrado) {
+                concluir(pedido, new IllegalStateException("Fila de WhatsApp encerrada"), 0);
+                return pedido.resultado();
+            }
+            Grupo grupo = abertos.get(chave);
+            if (grupo == null) {
+                grupo = new Grupo(chave, remetente, destino);
+                abertos.put(chave, grupo);
+                Grupo novo = grupo;
+                agendador.schedule(() -> fecharGrupo(novo),
+                        configuracao.janelaAgrupamento().toMillis(), TimeUnit.MILLISECONDS);
+            }
+            grupo.pedidos().add(pedido);
+        }
+        return pedido.resultado();
+    }
+
+    /**
+     * Mensagens enfileiradas e ainda não concluídas.
+     */
+    public int pendentes() {
+        return configuracao.capacidadeFila() - vagas.availablePermits();
+    }
+
+    /**
+     * Envia imediatamente os grupos ainda abertos e recusa novas mensagens.
+     */
+    @Override
+    public void close() {
+        List<Grupo> restantes;
+        synchronized (abertos) {
+            encerrado = true;
+            restantes = new ArrayList<>(abertos.values());
+        }
+        agendador.shutdownNow();
+        restantes.forEach(this::fecharGrupo);
+    }
+
+    /**
+     * Fim da janela: o grupo deixa de aceitar mensagens e entra na fila de
+     * envio do telefone, depois do grupo anterior.
+     */
+    private void fecharGrupo(Grupo grupo) {
+        synchronized (abertos) {
+            if (!abertos.remove(grupo.chave(), grupo)) {
+                return;
+            }
+        }
+        CompletableFuture<Void> envioGrupo = emEnvio.compute(grupo.chave(), (chave, anterior) ->
+                (anterior != null ? anterior : CompletableFuture.<Void>completedFuture(null))
+                        .handleAsync((resultado, erro) -> {
+                            enviarGrupo(grupo);
+                            return null;
+                        }, executor));
+        envioGrupo.whenComplete((resultado, erro) -> {
+            emEnvio.remove(grupo.chave(), envioGrupo);
+            if (erro != null) {
+                // Executor recusou a tarefa
+                grupo.pedidos().forEach(pedido -> concluir(pedido, erro, 0));
+            }
+        });
+    }
+
+    private void enviarGrupo(Grupo grupo) {
+        for (List<Pedido> parte : dividir(grupo.pedidos())) {
+            String corpo = parte.stream().map(Pedido::mensagem).collect(Collectors.joining(SEPARADOR));
+            Exception erro = null;
+            int tentativa = 0;
+            while (tentativa < configuracao.tentativas()) {
+                tentativa++;
+                try {
+                    limiteDo(grupo.remetente()).adquirir();
+                    String sid = limitadorTwilio.executar(
+                            () -> envio.enviar(grupo.remetente(), grupo.destino(), corpo));
+                    log.info("WhatsApp enviado para {} ({} mensagens agrupadas). SID: {}",
+                            grupo.destino(), parte.size(), sid);
+                    erro = null;
+                    break;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    erro = e;
+                    break;
+                } catch (Exception e) {
+                    erro = e;
+                    log.error("Erro ao enviar WhatsApp para {} na tentativa {}: {}",
+                            grupo.destino(), tentativa, e.getMessage());
+                    if (tentativa < configuracao.tentativas() && !esperar(tentativa)) {
+                        break;
+                    }
+                }
+            }
+            if (erro != null) {
+                log.error("Falha definitiva ao enviar WhatsApp para {} após {} tentativas",
+                        grupo.destino(), tentativa);
+            }
+            if (parte.size() > 1) {
+                metricas.registrarAgrupamento(CANAL, parte.size());
+            }
+            for (Pedido pedido : parte) {
+                concluir(pedido, erro != null ? new RuntimeException("Falha ao enviar notificação WhatsApp", erro)
+                        : null, tentativa);
+            }
+        }
+    }
+
+    /**
+     * Espera exponencial entre tentativas.
+     *
+     * @return false se a thread foi interrompida
+     */
+    private boolean esperar(int tentativa) {
+        try {
+            Thread.sleep(configuracao.esperaEntreTentativas().toMillis() * tentativa);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Divide as mensagens do grupo em corpos de até TAMANHO_MAXIMO_CORPO
+     * caracteres, sem quebrar mensagens e mantendo a ordem.
+     */
+    static List<List<Pedido>> dividir(List<Pedido> pedidos) {
+        List<List<Pedido>> partes = new ArrayList<>();
+        List<Pedido> atual = new ArrayList<>();
+        int tamanho = 0;
+        for (Pedido pedido : pedidos) {
+            int acrescimo = pedido.mensagem().length() + (atual.isEmpty() ? 0 : SEPARADOR.length());
+            if (!atual.isEmpty() && tamanho + acrescimo > TAMANHO_MAXIMO_CORPO) {
+                partes.add(atual);
+                atual = new ArrayList<>();
+                acrescimo = pedido.mensagem().length();
+                tamanho = 0;
+            }
+            atual.add(pedido);
+            tamanho += acrescimo;
+        }
+        if (!atual.isEmpty()) {
+            partes.add(atual);
+        }
+        return partes;
+    }
+
+    private LimitadorTaxa limiteDo(String remetente) {
+        return limitesPorRemetente.computeIfAbsent(remetente, numero -> new LimitadorTaxa(
+                "twilio:" + numero, configuracao.enviosPorSegundo(), configuracao.rajada()));
+    }
+
+    /**
+     * Libera a vaga e registra a métrica antes de completar o futuro (quem
+     * espera o futuro já vê a fila atualizada). Chamadas repetidas são
+     * ignoradas.
+     */
+    private void concluir(Pedido pedido, Throwable erro, int tentativas) {
+        if (!pedido.concluido().compareAndSet(false, true)) {
+            return;
+        }
+        vagas.release();
+        metricas.registrarNotificacao(pedido.amostra(), CANAL,
+                erro == null ? ResultadoNotificacao.ENVIADA : ResultadoNotificacao.FALHA, tentativas);
+        if (erro == null) {
+            pedido.resultado().complete(null);
+        } else {
+            pedido.resultado().completeExceptionally(erro);
+        }
+    }
+
+    record Pedido(String mensagem, Timer.Sample amostra, CompletableFuture<Void> resultado,
+            AtomicBoolean concluido) {
+
+        Pedido(String mensagem, Timer.Sample amostra) {
+            this(mensagem, amostra, new CompletableFuture<>(), new AtomicBoolean());
+        }
+    }
+
+    private record Grupo(String chave, String remetente, String destino, List<Pedido> pedidos) {
+
+        Grupo(String chave, String remetente, String destino) {
+            this(chave, remetente, destino, new ArrayList<>());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.barbearia.infrastructure.external.twilio;
+
+/**
+ * Chamada à API de mensagens do Twilio.
+ *
+ * Por padrão TwilioNotificacaoService usa o SDK; um bean EnvioTwilio no
+ * contexto (ex.: o Twilio local dos testes) substitui a API real.
+ */
+@FunctionalInterface
+public interface EnvioTwilio {
+
+    /**
+     * Cria uma mensagem de WhatsApp.
+     *
+     * @param remetente Número remetente, sem prefixo (ex: +14155238886)
+     * @param destino   Número de destino, só dígitos com código do país
+     * @param corpo     Texto da mensagem
+     * @return SID da mensagem criada
+     */
+    String enviar(String remetente, String destino, String corpo) throws Exception;
+}
@@ -1,19 +1,37 @@
 package com.barbearia.infrastructure.external.twilio;
 
 import com.barbearia.application.ports.NotificacaoService;
+import com.barbearia.infrastructure.config.ExecucaoConfig;
+import com.barbearia.infrastructure.config.LimitadorConcorrencia;
+import com.barbearia.infrastructure.metrics.MetricasNegocio;
+import com.barbearia.infrastructure.metrics.MetricasNegocio.ResultadoNotificacao;
 import com.twilio.Twilio;
 import com.twilio.rest.api.v2010.account.Message;
 import com.twilio.type.PhoneNumber;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Implementação do serviço de notificações usando Twilio WhatsApp API.
- * Implementa retry automático e execução assíncrona.
+ *
+ * As mensagens passam por DespachanteWhatsApp: agrupamento por telefone
+ * (twilio.agrupamento.janela-ms), limite de mensagens por segundo por
+ * remetente (twilio.envio.por-segundo), fila limitada com contrapressão
+ * (twilio.fila.*) e retry automático. O envio roda em notificacaoExecutor
+ * (threads virtuais no modo padrão) e as chamadas à API passam por
+ * limitadorTwilio (twilio.concorrencia.maximo). O SDK é inicializado uma
+ * única vez.
+ * Tempo de envio, retentativas, falhas e tamanho da fila são publicados em
+ * MetricasNegocio.
  */
 @Slf4j
 @Service
@@ -21,6 +39,7 @@ public class TwilioNotificacaoService implements NotificacaoService {
 
     private static final int MAX_RETRIES = 3;
     private static final long RETRY_DELAY_MS = 1000; // 1 segundo
+    private static final String CANAL = "whatsapp";
 
     @Value("${twilio.account.sid:${TWILIO_ACCOUNT_SID}}")
     private String accountSid;
@@ -34,68 +53,93 @@ public class TwilioNotificacaoService implements NotificacaoService {
     @Value("${twilio.enabled:true}")
     private boolean enabled;
 
-    /**
-     * Inicializa o Twilio SDK se as credenciais estiverem disponíveis.
-     */
-    private void initializeTwilio() {
-        if (accountSid != null && !accountSid.isEmpty() &&
-            authToken != null && !authToken.isEmpty()) {
-            Twilio.init(accountSid, authToken);
-            log.info("Twilio SDK inicializado com sucesso");
-        } else {
-            log.warn("Credenciais Twilio não configuradas. Notificações serão simuladas.");
-        }
-    }
+    @Value("${twilio.envio.por-segundo:10}")
+    private double enviosPorSegundo;
 
-    @Override
-    @Async
-    public CompletableFuture<Void> enviarMensagemWhatsApp(String numeroDestino, String mensagem) {
-        return CompletableFuture.runAsync(() -> {
-            if (!enabled) {
-                log.info("Notificações desabilitadas. Simulando envio para {}: {}", numeroDestino, mensagem);
-                return;
-            }
+    @Value("${twilio.envio.rajada:10}")
+    private int rajada;
 
-            if (!isDisponivel()) {
-                log.warn("Serviço Twilio não disponível. Credenciais não configuradas.");
-                return;
-            }
+    @Value("${twilio.fila.capacidade:1000}")
+    private int capacidadeFila;
 
-            String numeroFormatado = formatarNumeroWhatsApp(numeroDestino);
+    @Value("${twilio.fila.espera-ms:10000}")
+    private long esperaFilaMs;
 
-            for (int tentativa = 1; tentativa <= MAX_RETRIES; tentativa++) {
-                try {
-                    log.info("Tentativa {} de {} para enviar WhatsApp para {}", tentativa, MAX_RETRIES, numeroFormatado);
+    @Value("${twilio.agrupamento.janela-ms:3000}")
+    private long janelaAgrupamentoMs;
 
-                    initializeTwilio();
+    private final MetricasNegocio metricas;
+    private final LimitadorConcorrencia limitadorTwilio;
+    private final Executor executor;
+    private final EnvioTwilio envioConfigurado;
+    private DespachanteWhatsApp despachante;
 
-                    Message message = Message.creator(
-                        new PhoneNumber("whatsapp:" + numeroFormatado),
-                        new PhoneNumber("whatsapp:" + whatsappFrom),
-                        mensagem
-                    ).create();
+    public TwilioNotificacaoService(MetricasNegocio metricas, LimitadorConcorrencia limitadorTwilio,
+            @Qualifier(ExecucaoConfig.NOTIFICACAO_EXECUTOR) Executor executor,
+            ObjectProvider<EnvioTwilio> envioTwilio) {
+        this.metricas = metricas != null ? metricas : MetricasNegocio.desligadas();
+        this.limitadorTwilio = limitadorTwilio != null ? limitadorTwilio : LimitadorConcorrencia.semLimite("twilio");
+        this.executor = executor;
+        this.envioConfigurado = envioTwilio.getIfAvailable();
+    }
 
-                    log.info("WhatsApp enviado com sucesso. SID: {}", message.getSid());
-                    return;
+    /**
+     * Inicializa o Twilio SDK (se as credenciais estiverem disponíveis) e a
+     * fila de envio.
+     */
+    @PostConstruct
+    void iniciar() {
+        EnvioTwilio envio = envioConfigurado;
+        if (envio == null) {
+            if (isDisponivel()) {
+                Twilio.init(accountSid, authToken);
+                log.info("Twilio SDK inicializado com sucesso");
+            } else {
+                log.warn("Credenciais Twilio não configuradas. Notificações serão simuladas.");
+            }
+            envio = (remetente, destino, corpo) -> Message.creator(
+                    new PhoneNumber("whatsapp:" + destino),
+                    new PhoneNumber("whatsapp:" + remetente),
+                    corpo
+            ).create().getSid();
+        }
+        despachante = new DespachanteWhatsApp(envio, new DespachanteWhatsApp.Configuracao(
+                Duration.ofMillis(janelaAgrupamentoMs), capacidadeFila, Duration.ofMillis(esperaFilaMs),
+                enviosPorSegundo, rajada, MAX_RETRIES, Duration.ofMillis(RETRY_DELAY_MS)),
+                executor, limitadorTwilio, metricas);
+    }
+
+    /**
+     * Envia os grupos ainda abertos antes de o executor ser encerrado.
+     */
+    @PreDestroy
+    void encerrar() {
+        if (despachante != null) {
+            despachante.close();
+        }
+    }
 
-                } catch (Exception e) {
-                    log.error("Erro ao enviar WhatsApp na tentativa {}: {}", tentativa, e.getMessage());
+    @Override
+    public CompletableFuture<Void> enviarMensagemWhatsApp(String numeroDestino, String mensagem) {
+        if (!enabled) {
+            log.info("Notificações desabilitadas. Simulando envio para {}: {}", numeroDestino, mensagem);
+            metricas.registrarNotificacao(metricas.iniciar(), CANAL, ResultadoNotificacao.IGNORADA, 0);
+            return CompletableFuture.completedFuture(null);
+        }
 
-                    if (tentativa == MAX_RETRIES) {
-                        log.error("Falha definitiva ao enviar WhatsApp para {} após {} tentativas", numeroFormatado, MAX_RETRIES);
-                        throw new RuntimeException("Falha ao enviar notificação WhatsApp", e);
-                    }
+        if (!isDisponivel()) {
+            log.warn("Serviço Twilio não disponível. Credenciais não configuradas.");
+            metricas.registrarNotificacao(metricas.iniciar(), CANAL, ResultadoNotificacao.IGNORADA, 0);
+            return CompletableFuture.completedFuture(null);
+        }
 
-                    // Espera exponencial entre tentativas
-                    try {
-                        Thread.sleep(RETRY_DELAY_MS * tentativa);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        throw new RuntimeException("Thread interrompida durante retry", ie);
-                    }
-                }
-            }
-        });
+        String numeroFormatado;
+        try {
+            numeroFormatado = formatarNumeroWhatsApp(numeroDestino);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return despachante.enfileirar(whatsappFrom, numeroFormatado, mensagem);
     }
 
     @Override
@@ -0,0 +1,141 @@
+package com.barbearia.infrastructure.importacao;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CSV (RFC 4180) em UTF-8, com ou sem BOM. A primeira linha é o cabeçalho;
+ * o separador (vírgula ou ponto e vírgula, padrão do Excel em português) é
+ * detectado nela. Campos entre aspas podem conter separadores e quebras de
+ * linha.
+ */
+public class LeitorCsv implements LeitorRegistros {
+
+    private static final int TAMANHO_MAXIMO_CABECALHO = 16 * 1024;
+
+    private final Reader entrada;
+    private char separador;
+    private List<String> colunas;
+    private long linhaAtual = 1;
+    private boolean fim;
+
+    public LeitorCsv(InputStream entrada) {
+        this.entrada = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8), 16 * 1024);
+    }
+
+    @Override
+    public RegistroImportacao proximo() throws IOException {
+        if (colunas == null && !lerCabecalho()) {
+            return null;
+        }
+        while (true) {
+            long linha = linhaAtual;
+            List<String> valores = lerRegistro();
+            if (valores == null) {
+                return null;
+            }
+            if (valores.size() == 1 && valores.get(0).isBlank()) {
+                continue;
+            }
+            if (valores.size() > colunas.size()) {
+                return RegistroImportacao.invalido(linha,
+                        "Linha com " + valores.size() + " colunas; o cabeçalho tem " + colunas.size());
+            }
+            Map<String, String> campos = new HashMap<>();
+            for (int i = 0; i < valores.size(); i++) {
+                campos.put(colunas.get(i), valores.get(i));
+            }
+            return new RegistroImportacao(linha, campos, null);
+        }
+    }
+
+    private boolean lerCabecalho() throws IOException {
+        entrada.mark(1);
+        if (entrada.read() != '\uFEFF') {
+            entrada.reset();
+        }
+        // Separador: o mais frequente na primeira linha física
+        entrada.mark(TAMANHO_MAXIMO_CABECALHO);
+        StringBuilder primeiraLinha = new StringBuilder();
+        int c;
+        while ((c = entrada.read()) != -1 && c != '\n' && primeiraLinha.length() < TAMANHO_MAXIMO_CABECALHO - 1) {
+            primeiraLinha.append((char) c);
+        }
+        entrada.reset();
+        if (primeiraLinha.isEmpty() && c == -1) {
+            return false;
+        }
+        separador = primeiraLinha.chars().filter(ch -> ch == ';').count()
+                > primeiraLinha.chars().filter(ch -> ch == ',').count() ? ';' : ',';
+
+        List<String> cabecalho = lerRegistro();
+        colunas = new ArrayList<>();
+        for (String coluna : cabecalho) {
+            colunas.add(coluna.trim().toLowerCase(Locale.ROOT));
+        }
+        return true;
+    }
+
+    /**
+     * Lê um registro completo (que pode ocupar várias linhas físicas).
+     */
+    private List<String> lerRegistro() throws IOException {
+        if (fim) {
+            return null;
+        }
+        List<String> valores = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+        boolean leuAlgo = false;
+
+        while (true) {
+            int c = entrada.read();
+            if (c == -1) {
+                fim = true;
+                if (!leuAlgo) {
+                    return null;
+                }
+                valores.add(campo.toString());
+                return valores;
+            }
+            leuAlgo = true;
+
+            if (entreAspas) {
+                if (c == '"') {
+                    entrada.mark(1);
+                    if (entrada.read() == '"') {
+                        campo.append('"');
+                    } else {
+                        entrada.reset();
+                        entreAspas = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        linhaAtual++;
+                    }
+                    campo.append((char) c);
+                }
+            } else if (c == '"' && campo.isEmpty()) {
+                entreAspas = true;
+            } else if (c == separador) {
+                valores.add(campo.toString());
+                campo.setLength(0);
+            } else if (c == '\n') {
+                linhaAtual++;
+                valores.add(campo.toString());
+                return valores;
+            } else if (c != '\r') {
+                campo.append((char) c);
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.barbearia.infrastructure.importacao;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * NDJSON: um objeto JSON por linha. Linhas em branco são ignoradas; valores
+ * não textuais (números, booleanos) são lidos pela sua representação em
+ * texto.
+ */
+public class LeitorNdjson implements LeitorRegistros {
+
+    private final BufferedReader entrada;
+    private final ObjectMapper objectMapper;
+    private long linhaAtual;
+
+    public LeitorNdjson(InputStream entrada, ObjectMapper objectMapper) {
+        this.entrada = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8), 16 * 1024);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public RegistroImportacao proximo() throws IOException {
+        String texto;
+        while ((texto = entrada.readLine()) != null) {
+            linhaAtual++;
+            if (!texto.isBlank()) {
+                return interpretar(texto);
+            }
+        }
+        return null;
+    }
+
+    private RegistroImportacao interpretar(String texto) {
+        JsonNode objeto;
+        try {
+            objeto = objectMapper.readTree(texto);
+        } catch (JsonProcessingException e) {
+            return RegistroImportacao.invalido(linhaAtual, "JSON inválido: " + e.getOriginalMessage());
+        }
+        if (objeto == null || !objeto.isObject()) {
+            return RegistroImportacao.invalido(linhaAtual, "Linha deve conter um objeto JSON");
+        }
+        Map<String, String> campos = new HashMap<>();
+        objeto.properties().forEach(campo -> {
+            if (!campo.getValue().isNull()) {
+                campos.put(campo.getKey().trim().toLowerCase(Locale.ROOT), campo.getValue().asText());
+            }
+        });
+        return new RegistroImportacao(linhaAtual, campos, null);
+    }
+}
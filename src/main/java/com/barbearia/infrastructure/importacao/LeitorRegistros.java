@@ -0,0 +1,26 @@
+package com.barbearia.infrastructure.importacao;
+
+import com.barbearia.domain.enums.FormatoImportacao;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Leitura em streaming dos registros de um arquivo de importação: um registro
+ * por chamada, sem carregar o arquivo inteiro.
+ */
+public interface LeitorRegistros {
+
+    /**
+     * @return o próximo registro, ou null no fim do arquivo
+     */
+    RegistroImportacao proximo() throws IOException;
+
+    static LeitorRegistros para(FormatoImportacao formato, InputStream entrada, ObjectMapper objectMapper) {
+        return switch (formato) {
+            case CSV -> new LeitorCsv(entrada);
+            case NDJSON -> new LeitorNdjson(entrada, objectMapper);
+        };
+    }
+}
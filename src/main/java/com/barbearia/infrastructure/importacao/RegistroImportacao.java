@@ -0,0 +1,29 @@
+package com.barbearia.infrastructure.importacao;
+
+import java.util.Map;
+
+/**
+ * Registro lido de um arquivo de importação.
+ *
+ * @param linha  linha do arquivo onde o registro começa (a partir de 1)
+ * @param campos valores por nome de coluna, com o nome em minúsculas
+ * @param erro   motivo quando a linha não pôde ser interpretada (campos vazio)
+ */
+public record RegistroImportacao(long linha, Map<String, String> campos, String erro) {
+
+    public static RegistroImportacao invalido(long linha, String erro) {
+        return new RegistroImportacao(linha, Map.of(), erro);
+    }
+
+    /**
+     * Valor do campo sem espaços nas pontas, ou null se ausente ou vazio.
+     */
+    public String valor(String campo) {
+        String valor = campos.get(campo);
+        if (valor == null) {
+            return null;
+        }
+        valor = valor.trim();
+        return valor.isEmpty() ? null : valor;
+    }
+}
@@ -0,0 +1,265 @@
+package com.barbearia.infrastructure.metrics;
+
+import com.barbearia.domain.enums.StatusLembrete;
+import com.barbearia.domain.enums.TipoLembrete;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Métricas de negócio (Micrometer) do funil de agendamento e do motor de
+ * horários, expostas em /actuator/prometheus.
+ *
+ * Métricas publicadas:
+ * - barbearia.disponibilidade.calculo (timer), .horarios e .profissionais
+ *   (distribuições): custo de HorarioService.obterHorariosDisponiveis
+ * - barbearia.agendamento.criacao (timer, tag resultado) e
+ *   barbearia.agendamento.conflitos (contador, tag origem)
+ * - barbearia.notificacao.envio (timer, tags canal e resultado),
+ *   barbearia.notificacao.retentativas e barbearia.notificacao.falhas
+ * - barbearia.notificacao.fila (gauge, tag canal) e
+ *   barbearia.notificacao.agrupadas (contador): fila de envio de WhatsApp
+ * - barbearia.eventos.fila (gauge, tag fila) e barbearia.eventos.falhas
+ *   (contador): entrega dos eventos de agendamento aos observers
+ * - barbearia.lembrete.processados (contador, tags tipo e resultado):
+ *   lembretes de agendamento encerrados pelo LembreteAgendamentoService
+ * - barbearia.cache.consultas (contador, tags cache e resultado
+ *   acerto/falta); taxa de acerto no Prometheus:
+ *   sum by (cache) (rate(barbearia_cache_consultas_total{resultado="acerto"}[5m]))
+ *   / sum by (cache) (rate(barbearia_cache_consultas_total[5m]))
+ *
+ * Cardinalidade: a barbearia entra apenas como faixa (id módulo
+ * metricas.barbearia.faixas) e nenhum identificador de cliente,
+ * profissional ou agendamento vira tag.
+ */
+@Component
+public class MetricasNegocio {
+
+    static final String TAG_FAIXA_BARBEARIA = "barbearia.faixa";
+    static final String FAIXA_DESCONHECIDA = "desconhecida";
+
+    /**
+     * Resultado da criação de um agendamento
+     */
+    public enum ResultadoAgendamento {
+        CRIADO, CONFLITO, REJEITADO, ERRO
+    }
+
+    /**
+     * Resultado do envio de uma notificação
+     */
+    public enum ResultadoNotificacao {
+        ENVIADA, FALHA, IGNORADA
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final int faixasBarbearia;
+
+    public MetricasNegocio(MeterRegistry meterRegistry,
+            @Value("${metricas.barbearia.faixas:16}") int faixasBarbearia) {
+        this.meterRegistry = meterRegistry;
+        this.faixasBarbearia = Math.max(1, faixasBarbearia);
+    }
+
+    /**
+     * Instância sem registro (medidores no-op), usada quando o service é
+     * construído fora do contexto Spring.
+     */
+    public static MetricasNegocio desligadas() {
+        return new MetricasNegocio(new CompositeMeterRegistry(), 1);
+    }
+
+    /**
+     * Inicia a medição de uma operação.
+     */
+    public Timer.Sample iniciar() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Registra um cálculo de horários disponíveis.
+     *
+     * @param amostra                Medição iniciada em iniciar()
+     * @param barbeariaId            Barbearia consultada
+     * @param horarios               Horários devolvidos
+     * @param profissionaisAvaliados Profissionais cuja agenda foi calculada
+     */
+    public void registrarDisponibilidade(Timer.Sample amostra, Long barbeariaId, int horarios,
+            int profissionaisAvaliados) {
+        String faixa = faixaBarbearia(barbeariaId);
+        amostra.stop(Timer.builder("barbearia.disponibilidade.calculo")
+                .description("Tempo de cálculo dos horários disponíveis de um dia")
+                .tag(TAG_FAIXA_BARBEARIA, faixa)
+                .tag("resultado", horarios > 0 ? "com_horarios" : "sem_horarios")
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        DistributionSummary.builder("barbearia.disponibilidade.horarios")
+                .description("Horários devolvidos por cálculo de disponibilidade")
+                .tag(TAG_FAIXA_BARBEARIA, faixa)
+                .register(meterRegistry)
+                .record(horarios);
+        DistributionSummary.builder("barbearia.disponibilidade.profissionais")
+                .description("Profissionais avaliados por cálculo de disponibilidade")
+                .tag(TAG_FAIXA_BARBEARIA, faixa)
+                .register(meterRegistry)
+                .record(profissionaisAvaliados);
+    }
+
+    /**
+     * Registra uma tentativa de criação de agendamento pelo cliente.
+     *
+     * @param amostra     Medição iniciada em iniciar()
+     * @param barbeariaId Barbearia do agendamento (null se a validação falhou antes)
+     * @param resultado   Resultado da tentativa
+     */
+    public void registrarAgendamento(Timer.Sample amostra, Long barbeariaId, ResultadoAgendamento resultado) {
+        amostra.stop(Timer.builder("barbearia.agendamento.criacao")
+                .description("Tempo de criação de agendamentos pelo cliente")
+                .tag(TAG_FAIXA_BARBEARIA, faixaBarbearia(barbeariaId))
+                .tag("resultado", valorTag(resultado))
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    /**
+     * Registra um agendamento recusado por conflito de horário.
+     *
+     * @param barbeariaId Barbearia do agendamento
+     * @param origem      Fluxo que detectou o conflito (cliente, repeticao, direto...)
+     */
+    public void registrarConflito(Long barbeariaId, String origem) {
+        Counter.builder("barbearia.agendamento.conflitos")
+                .description("Agendamentos recusados por horário já ocupado")
+                .tag(TAG_FAIXA_BARBEARIA, faixaBarbearia(barbeariaId))
+                .tag("origem", origem)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Registra o envio de uma notificação, incluindo as retentativas.
+     *
+     * @param amostra    Medição iniciada em iniciar()
+     * @param canal      Canal de envio (ex.: whatsapp)
+     * @param resultado  Resultado final do envio
+     * @param tentativas Tentativas feitas junto ao provedor (0 se ignorada)
+     */
+    public void registrarNotificacao(Timer.Sample amostra, String canal, ResultadoNotificacao resultado,
+            int tentativas) {
+        amostra.stop(Timer.builder("barbearia.notificacao.envio")
+                .description("Tempo total de envio de notificações, com retentativas")
+                .tag("canal", canal)
+                .tag("resultado", valorTag(resultado))
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        if (tentativas > 1) {
+            Counter.builder("barbearia.notificacao.retentativas")
+                    .description("Retentativas de envio junto ao provedor")
+                    .tag("canal", canal)
+                    .register(meterRegistry)
+                    .increment(tentativas - 1);
+        }
+        if (resultado == ResultadoNotificacao.FALHA) {
+            Counter.builder("barbearia.notificacao.falhas")
+                    .description("Notificações não entregues após todas as tentativas")
+                    .tag("canal", canal)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    /**
+     * Publica a quantidade de notificações na fila de envio do canal.
+     */
+    public void monitorarFilaNotificacao(String canal, Supplier<Number> pendentes) {
+        Gauge.builder("barbearia.notificacao.fila", pendentes)
+                .description("Notificações aguardando envio")
+                .tag("canal", canal)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registra mensagens agrupadas em um único envio.
+     *
+     * @param mensagens Mensagens reunidas no envio (conta mensagens - 1)
+     */
+    public void registrarAgrupamento(String canal, int mensagens) {
+        Counter.builder("barbearia.notificacao.agrupadas")
+                .description("Notificações economizadas ao agrupar mensagens para o mesmo telefone")
+                .tag("canal", canal)
+                .register(meterRegistry)
+                .increment(mensagens - 1);
+    }
+
+    /**
+     * Publica a quantidade de eventos aguardando entrega aos observers.
+     */
+    public void monitorarFilaEventos(String fila, Supplier<Number> pendentes) {
+        Gauge.builder("barbearia.eventos.fila", pendentes)
+                .description("Eventos de domínio aguardando entrega")
+                .tag("fila", fila)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registra um evento que um observer não conseguiu processar.
+     */
+    public void registrarFalhaEvento(String fila) {
+        Counter.builder("barbearia.eventos.falhas")
+                .description("Falhas na entrega de eventos de domínio")
+                .tag("fila", fila)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Registra um lembrete de agendamento encerrado (enviado, falho ou
+     * expirado).
+     */
+    public void registrarLembrete(TipoLembrete tipo, StatusLembrete resultado) {
+        Counter.builder("barbearia.lembrete.processados")
+                .description("Lembretes de agendamento encerrados")
+                .tag("tipo", valorTag(tipo))
+                .tag("resultado", valorTag(resultado))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Registra uma consulta a um cache em memória.
+     *
+     * @param cache  Nome do cache (ex.: catalogo, tokens_profissional)
+     * @param acerto true se o valor veio do cache
+     */
+    public void registrarCache(String cache, boolean acerto) {
+        Counter.builder("barbearia.cache.consultas")
+                .description("Consultas a caches em memória")
+                .tag("cache", cache)
+                .tag("resultado", acerto ? "acerto" : "falta")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Faixa da barbearia usada como tag (ex.: "07"), para separar lojas
+     * grandes sem criar uma série por barbearia.
+     */
+    String faixaBarbearia(Long barbeariaId) {
+        if (barbeariaId == null) {
+            return FAIXA_DESCONHECIDA;
+        }
+        return String.format(Locale.ROOT, "%02d", Math.floorMod(barbeariaId, faixasBarbearia));
+    }
+
+    private static String valorTag(Enum<?> valor) {
+        return valor.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,92 @@
+package com.barbearia.infrastructure.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * Manutenção das partições mensais de agendamentos (migration V16).
+ *
+ * Na subida da aplicação e diariamente (agendamentos.particoes.manutencao.cron):
+ * - cria as partições do mês corrente até agendamentos.particoes.meses-a-frente
+ * - arquiva em agendamentos_arquivo os meses anteriores ao horizonte
+ *   agendamentos.arquivo.horizonte-meses (0 desliga o arquivamento)
+ *
+ * Com várias instâncias, apenas a que obtém o advisory lock executa. Fora do
+ * PostgreSQL (testes com H2) não faz nada.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "agendamentos.particoes.manutencao.habilitada", havingValue = "true")
+public class ParticoesAgendamentoJob {
+
+    private static final String TRAVA = "SELECT pg_try_advisory_xact_lock(hashtext('agendamentos_particoes'))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int mesesAFrente;
+    private final int horizonteMeses;
+    private Boolean postgres;
+
+    public ParticoesAgendamentoJob(JdbcTemplate jdbcTemplate,
+            @Value("${agendamentos.particoes.meses-a-frente:3}") int mesesAFrente,
+            @Value("${agendamentos.arquivo.horizonte-meses:24}") int horizonteMeses) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.mesesAFrente = Math.max(1, mesesAFrente);
+        this.horizonteMeses = Math.max(0, horizonteMeses);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${agendamentos.particoes.manutencao.cron:0 30 3 * * *}")
+    @Transactional
+    public void executar() {
+        executar(LocalDate.now());
+    }
+
+    /**
+     * Executa a manutenção tomando hoje como referência.
+     */
+    void executar(LocalDate hoje) {
+        if (!postgres()) {
+            return;
+        }
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(TRAVA, Boolean.class))) {
+            log.debug("Manutenção de partições em andamento em outra instância");
+            return;
+        }
+
+        LocalDate inicioMes = hoje.withDayOfMonth(1);
+        Integer criadas = jdbcTemplate.queryForObject("SELECT agendamentos_criar_particoes(?, ?)",
+                Integer.class, inicioMes, inicioMes.plusMonths(mesesAFrente));
+
+        Integer arquivados = 0;
+        if (horizonteMeses > 0) {
+            arquivados = jdbcTemplate.queryForObject("SELECT agendamentos_arquivar_particoes(?)",
+                    Integer.class, inicioMes.minusMonths(horizonteMeses));
+        }
+
+        if (criadas != null && criadas > 0 || arquivados != null && arquivados > 0) {
+            log.info("Partições de agendamentos: {} criadas, {} meses arquivados", criadas, arquivados);
+        }
+    }
+
+    private boolean postgres() {
+        if (postgres == null) {
+            String banco = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) conexao -> conexao.getMetaData().getDatabaseProductName());
+            postgres = "PostgreSQL".equalsIgnoreCase(banco);
+            if (!postgres) {
+                log.info("Banco {} sem partições de agendamentos; manutenção desligada", banco);
+            }
+        }
+        return postgres;
+    }
+}
@@ -13,7 +13,8 @@ import java.util.Objects;
 public class HorarioFuncionamentoEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "horarios_funcionamento_entity_seq")
+    @SequenceGenerator(name = "horarios_funcionamento_entity_seq", sequenceName = "horarios_funcionamento_id_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "barbearia_id", nullable = false)
@@ -17,6 +17,11 @@ import java.time.LocalDateTime;
  * Relacionamentos completos serão implementados quando essas entidades
  * existirem.
  * 
+ * No PostgreSQL a tabela é particionada por mês de data_hora (V16); a chave
+ * primária física é (id, data_hora), mas id continua único (sequência).
+ * Meses fora do horizonte são movidos para agendamentos_arquivo por
+ * ParticoesAgendamentoJob.
+ * 
  * @author Sua Barbearia Team
  */
 @Entity
@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 public class JpaAvaliacao {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "avaliacoes_seq")
+    @SequenceGenerator(name = "avaliacoes_seq", sequenceName = "avaliacoes_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "cliente_id", nullable = false)
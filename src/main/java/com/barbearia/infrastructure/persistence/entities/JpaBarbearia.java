@@ -31,10 +31,11 @@ public class JpaBarbearia {
     
     /**
      * Identificador único da barbearia
-     * Gerado automaticamente pelo banco (auto-incremento)
+     * Gerado pela sequence barbearias_id_seq (reservada em blocos de 50)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "barbearias_seq")
+    @SequenceGenerator(name = "barbearias_seq", sequenceName = "barbearias_id_seq", allocationSize = 50)
     private Long id;
     
     /**
@@ -98,6 +99,20 @@ public class JpaBarbearia {
     @Column(nullable = false, length = 200)
     private String endereco;
     
+    /**
+     * Latitude da barbearia (opcional)
+     * Usada na busca por proximidade
+     */
+    @Column
+    private Double latitude;
+    
+    /**
+     * Longitude da barbearia (opcional)
+     * Usada na busca por proximidade
+     */
+    @Column
+    private Double longitude;
+    
     /**
      * Papel do usuário no sistema
      * Para barbearias, sempre será "BARBEARIA"
@@ -239,6 +254,22 @@ public class JpaBarbearia {
         this.endereco = endereco;
     }
     
+    public Double getLatitude() {
+        return latitude;
+    }
+    
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+    
+    public Double getLongitude() {
+        return longitude;
+    }
+    
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+    
     public String getRole() {
         return role;
     }
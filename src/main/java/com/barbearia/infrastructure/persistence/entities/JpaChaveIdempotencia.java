@@ -0,0 +1,162 @@
+package com.barbearia.infrastructure.persistence.entities;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entidade JPA que representa uma chave de idempotência.
+ * 
+ * <p>
+ * Guarda a resposta original de uma requisição de escrita enviada com o header
+ * Idempotency-Key, para que novas tentativas do mesmo usuário com a mesma chave
+ * recebam a mesma resposta sem executar a operação novamente.
+ * </p>
+ * 
+ * @author Sua Barbearia Team
+ */
+@Entity
+@Table(name = "chaves_idempotencia", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_chave_idempotencia_usuario", columnNames = { "chave", "usuario" })
+}, indexes = {
+        @Index(name = "idx_chave_idempotencia_expira_em", columnList = "expira_em")
+})
+public class JpaChaveIdempotencia {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chaves_idempotencia_seq")
+    @SequenceGenerator(name = "chaves_idempotencia_seq", sequenceName = "chaves_idempotencia_id_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * Valor do header Idempotency-Key enviado pelo cliente.
+     */
+    @Column(nullable = false, length = 255)
+    private String chave;
+
+    /**
+     * Identificação do usuário autenticado (escopo da chave).
+     */
+    @Column(nullable = false, length = 255)
+    private String usuario;
+
+    /**
+     * Hash SHA-256 do método, caminho e corpo da requisição original.
+     */
+    @Column(name = "hash_requisicao", nullable = false, length = 64)
+    private String hashRequisicao;
+
+    /**
+     * Status HTTP da resposta original (null enquanto em processamento).
+     */
+    @Column(name = "status_resposta")
+    private Integer statusResposta;
+
+    /**
+     * Content-Type da resposta original.
+     */
+    @Column(name = "tipo_conteudo", length = 100)
+    private String tipoConteudo;
+
+    /**
+     * Corpo da resposta original.
+     */
+    @Column(name = "corpo_resposta", columnDefinition = "TEXT")
+    private String corpoResposta;
+
+    @Column(name = "data_criacao", nullable = false, updatable = false)
+    private LocalDateTime dataCriacao;
+
+    /**
+     * Momento a partir do qual a chave pode ser reutilizada (enquanto não há
+     * resposta, o fim do prazo da reserva em andamento).
+     */
+    @Column(name = "expira_em", nullable = false)
+    private LocalDateTime expiraEm;
+
+    @PrePersist
+    protected void onCreate() {
+        dataCriacao = LocalDateTime.now();
+    }
+
+    public JpaChaveIdempotencia() {
+    }
+
+    public JpaChaveIdempotencia(String chave, String usuario, String hashRequisicao, LocalDateTime expiraEm) {
+        this.chave = chave;
+        this.usuario = usuario;
+        this.hashRequisicao = hashRequisicao;
+        this.expiraEm = expiraEm;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getChave() {
+        return chave;
+    }
+
+    public void setChave(String chave) {
+        this.chave = chave;
+    }
+
+    public String getUsuario() {
+        return usuario;
+    }
+
+    public void setUsuario(String usuario) {
+        this.usuario = usuario;
+    }
+
+    public String getHashRequisicao() {
+        return hashRequisicao;
+    }
+
+    public void setHashRequisicao(String hashRequisicao) {
+        this.hashRequisicao = hashRequisicao;
+    }
+
+    public Integer getStatusResposta() {
+        return statusResposta;
+    }
+
+    public void setStatusResposta(Integer statusResposta) {
+        this.statusResposta = statusResposta;
+    }
+
+    public String getTipoConteudo() {
+        return tipoConteudo;
+    }
+
+    public void setTipoConteudo(String tipoConteudo) {
+        this.tipoConteudo = tipoConteudo;
+    }
+
+    public String getCorpoResposta() {
+        return corpoResposta;
+    }
+
+    public void setCorpoResposta(String corpoResposta) {
+        this.corpoResposta = corpoResposta;
+    }
+
+    public LocalDateTime getDataCriacao() {
+        return dataCriacao;
+    }
+
+    public void setDataCriacao(LocalDateTime dataCriacao) {
+        this.dataCriacao = dataCriacao;
+    }
+
+    public LocalDateTime getExpiraEm() {
+        return expiraEm;
+    }
+
+    public void setExpiraEm(LocalDateTime expiraEm) {
+        this.expiraEm = expiraEm;
+    }
+}
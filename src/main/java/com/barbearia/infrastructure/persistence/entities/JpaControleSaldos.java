@@ -0,0 +1,58 @@
+package com.barbearia.infrastructure.persistence.entities;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marca d'água da consolidação de saldos mensais (tabela
+ * saldos_mensais_controle, linha única com id 1).
+ *
+ * Lançamentos com id até ultimoLancamentoId já estão somados em
+ * saldos_mensais; os posteriores formam a cauda ainda não consolidada.
+ */
+@Entity
+@Table(name = "saldos_mensais_controle")
+public class JpaControleSaldos {
+
+    public static final Integer ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(name = "ultimo_lancamento_id", nullable = false)
+    private Long ultimoLancamentoId;
+
+    @Column(name = "data_atualizacao", nullable = false)
+    private LocalDateTime dataAtualizacao;
+
+    protected JpaControleSaldos() {
+    }
+
+    public JpaControleSaldos(Long ultimoLancamentoId) {
+        this.id = ID;
+        this.ultimoLancamentoId = ultimoLancamentoId;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        dataAtualizacao = LocalDateTime.now();
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public Long getUltimoLancamentoId() {
+        return ultimoLancamentoId;
+    }
+
+    public void setUltimoLancamentoId(Long ultimoLancamentoId) {
+        this.ultimoLancamentoId = ultimoLancamentoId;
+    }
+
+    public LocalDateTime getDataAtualizacao() {
+        return dataAtualizacao;
+    }
+}
@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 public class JpaFuncionario {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "funcionarios_seq")
+    @SequenceGenerator(name = "funcionarios_seq", sequenceName = "funcionarios_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "barbearia_id", nullable = false)
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class JpaHorarioBloqueado {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "horarios_bloqueados_seq")
+    @SequenceGenerator(name = "horarios_bloqueados_seq", sequenceName = "horarios_bloqueados_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "funcionario_id", nullable = false)
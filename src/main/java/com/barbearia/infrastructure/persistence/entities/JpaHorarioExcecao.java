@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 public class JpaHorarioExcecao {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "horarios_excecoes_seq")
+    @SequenceGenerator(name = "horarios_excecoes_seq", sequenceName = "horarios_excecoes_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "funcionario_id", nullable = false)
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class JpaHorarioFuncionamento {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "horarios_funcionamento_seq")
+    @SequenceGenerator(name = "horarios_funcionamento_seq", sequenceName = "horarios_funcionamento_id_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "barbearia_id", nullable = false)
@@ -0,0 +1,123 @@
+package com.barbearia.infrastructure.persistence.entities;
+
+import com.barbearia.domain.enums.NaturezaLancamento;
+import com.barbearia.domain.enums.OrigemLancamento;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Lançamento do livro-razão financeiro (tabela lancamentos_financeiros).
+ *
+ * Somente inserção: o valor tem sinal (receitas positivas, despesas
+ * negativas) e correções são feitas com um estorno, nunca alterando ou
+ * removendo o lançamento original.
+ */
+@Entity
+@Immutable
+@Table(name = "lancamentos_financeiros", indexes = {
+        @Index(name = "idx_lancamento_barbearia_data", columnList = "barbearia_id, data_competencia"),
+        @Index(name = "idx_lancamento_origem", columnList = "origem, origem_id"),
+        @Index(name = "idx_lancamento_data_criacao", columnList = "data_criacao")
+})
+public class JpaLancamentoFinanceiro {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "barbearia_id", nullable = false)
+    private Long barbeariaId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private NaturezaLancamento natureza;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrigemLancamento origem;
+
+    @Column(name = "origem_id", nullable = false)
+    private Long origemId;
+
+    /**
+     * Valor com sinal: positivo para receitas, negativo para despesas.
+     */
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal valor;
+
+    @Column(nullable = false, length = 50)
+    private String categoria;
+
+    @Column(length = 500)
+    private String descricao;
+
+    @Column(name = "data_competencia", nullable = false)
+    private LocalDate dataCompetencia;
+
+    @Column(name = "data_criacao", nullable = false)
+    private LocalDateTime dataCriacao;
+
+    protected JpaLancamentoFinanceiro() {
+    }
+
+    public JpaLancamentoFinanceiro(Long barbeariaId, NaturezaLancamento natureza, OrigemLancamento origem,
+            Long origemId, BigDecimal valor, String categoria, String descricao, LocalDate dataCompetencia) {
+        this.barbeariaId = barbeariaId;
+        this.natureza = natureza;
+        this.origem = origem;
+        this.origemId = origemId;
+        this.valor = valor;
+        this.categoria = categoria;
+        this.descricao = descricao;
+        this.dataCompetencia = dataCompetencia;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        dataCriacao = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getBarbeariaId() {
+        return barbeariaId;
+    }
+
+    public NaturezaLancamento getNatureza() {
+        return natureza;
+    }
+
+    public OrigemLancamento getOrigem() {
+        return origem;
+    }
+
+    public Long getOrigemId() {
+        return origemId;
+    }
+
+    public BigDecimal getValor() {
+        return valor;
+    }
+
+    public String getCategoria() {
+        return categoria;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public LocalDate getDataCompetencia() {
+        return dataCompetencia;
+    }
+
+    public LocalDateTime getDataCriacao() {
+        return dataCriacao;
+    }
+}
@@ -0,0 +1,126 @@
+package com.barbearia.infrastructure.persistence.entities;
+
+import com.barbearia.domain.enums.StatusLembrete;
+import com.barbearia.domain.enums.TipoLembrete;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lembrete de agendamento por WhatsApp (tabela lembretes_agendamento).
+ *
+ * Criado com o agendamento para cada TipoLembrete; enviar_em é o horário do
+ * agendamento menos a antecedência do tipo.
+ */
+@Entity
+@Table(name = "lembretes_agendamento", indexes = {
+        @Index(name = "idx_lembretes_pendentes", columnList = "status, enviar_em")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_lembretes_agendamento",
+                columnNames = { "agendamento_id", "tipo", "data_hora_agendamento" })
+})
+public class JpaLembreteAgendamento {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lembretes_agendamento_seq")
+    @SequenceGenerator(name = "lembretes_agendamento_seq", sequenceName = "lembretes_agendamento_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "agendamento_id", nullable = false)
+    private Long agendamentoId;
+
+    @Column(name = "data_hora_agendamento", nullable = false)
+    private LocalDateTime dataHoraAgendamento;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TipoLembrete tipo;
+
+    @Column(name = "enviar_em", nullable = false)
+    private LocalDateTime enviarEm;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StatusLembrete status = StatusLembrete.PENDENTE;
+
+    @Column(nullable = false)
+    private Integer tentativas = 0;
+
+    @Column(name = "reservado_por", length = 100)
+    private String reservadoPor;
+
+    @Column(name = "reservado_ate")
+    private LocalDateTime reservadoAte;
+
+    @Column(name = "enviado_em")
+    private LocalDateTime enviadoEm;
+
+    @Column(length = 500)
+    private String erro;
+
+    @Column(name = "data_criacao", nullable = false, updatable = false)
+    private LocalDateTime dataCriacao;
+
+    public JpaLembreteAgendamento() {
+    }
+
+    public JpaLembreteAgendamento(Long agendamentoId, LocalDateTime dataHoraAgendamento, TipoLembrete tipo) {
+        this.agendamentoId = agendamentoId;
+        this.dataHoraAgendamento = dataHoraAgendamento;
+        this.tipo = tipo;
+        this.enviarEm = dataHoraAgendamento.minus(tipo.getAntecedencia());
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        dataCriacao = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getAgendamentoId() {
+        return agendamentoId;
+    }
+
+    public LocalDateTime getDataHoraAgendamento() {
+        return dataHoraAgendamento;
+    }
+
+    public TipoLembrete getTipo() {
+        return tipo;
+    }
+
+    public LocalDateTime getEnviarEm() {
+        return enviarEm;
+    }
+
+    public StatusLembrete getStatus() {
+        return status;
+    }
+
+    public Integer getTentativas() {
+        return tentativas;
+    }
+
+    public String getReservadoPor() {
+        return reservadoPor;
+    }
+
+    public LocalDateTime getReservadoAte() {
+        return reservadoAte;
+    }
+
+    public LocalDateTime getEnviadoEm() {
+        return enviadoEm;
+    }
+
+    public String getErro() {
+        return erro;
+    }
+
+    public LocalDateTime getDataCriacao() {
+        return dataCriacao;
+    }
+}
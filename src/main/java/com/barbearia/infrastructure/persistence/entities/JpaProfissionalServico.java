@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 public class JpaProfissionalServico {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "profissional_servicos_seq")
+    @SequenceGenerator(name = "profissional_servicos_seq", sequenceName = "profissional_servicos_id_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "funcionario_id", nullable = false)
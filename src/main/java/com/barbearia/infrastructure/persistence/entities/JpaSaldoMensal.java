@@ -0,0 +1,111 @@
+package com.barbearia.infrastructure.persistence.entities;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Saldo mensal consolidado de uma barbearia (tabela saldos_mensais).
+ *
+ * Soma dos lançamentos do livro-razão do mês até o último lançamento
+ * consolidado (JpaControleSaldos). Despesas são guardadas como valor positivo.
+ */
+@Entity
+@Table(name = "saldos_mensais", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_saldos_mensais_barbearia_mes", columnNames = { "barbearia_id", "mes" })
+})
+public class JpaSaldoMensal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "saldos_mensais_seq")
+    @SequenceGenerator(name = "saldos_mensais_seq", sequenceName = "saldos_mensais_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "barbearia_id", nullable = false)
+    private Long barbeariaId;
+
+    /**
+     * Primeiro dia do mês consolidado.
+     */
+    @Column(nullable = false)
+    private LocalDate mes;
+
+    @Column(name = "receitas_servicos", nullable = false, precision = 14, scale = 2)
+    private BigDecimal receitasServicos = BigDecimal.ZERO;
+
+    @Column(name = "receitas_extras", nullable = false, precision = 14, scale = 2)
+    private BigDecimal receitasExtras = BigDecimal.ZERO;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal despesas = BigDecimal.ZERO;
+
+    @Column(name = "quantidade_lancamentos", nullable = false)
+    private Integer quantidadeLancamentos = 0;
+
+    @Column(name = "data_atualizacao", nullable = false)
+    private LocalDateTime dataAtualizacao;
+
+    public JpaSaldoMensal() {
+    }
+
+    public JpaSaldoMensal(Long barbeariaId, LocalDate mes) {
+        this.barbeariaId = barbeariaId;
+        this.mes = mes;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        dataAtualizacao = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getBarbeariaId() {
+        return barbeariaId;
+    }
+
+    public LocalDate getMes() {
+        return mes;
+    }
+
+    public BigDecimal getReceitasServicos() {
+        return receitasServicos;
+    }
+
+    public void setReceitasServicos(BigDecimal receitasServicos) {
+        this.receitasServicos = receitasServicos;
+    }
+
+    public BigDecimal getReceitasExtras() {
+        return receitasExtras;
+    }
+
+    public void setReceitasExtras(BigDecimal receitasExtras) {
+        this.receitasExtras = receitasExtras;
+    }
+
+    public BigDecimal getDespesas() {
+        return despesas;
+    }
+
+    public void setDespesas(BigDecimal despesas) {
+        this.despesas = despesas;
+    }
+
+    public Integer getQuantidadeLancamentos() {
+        return quantidadeLancamentos;
+    }
+
+    public void setQuantidadeLancamentos(Integer quantidadeLancamentos) {
+        this.quantidadeLancamentos = quantidadeLancamentos;
+    }
+
+    public LocalDateTime getDataAtualizacao() {
+        return dataAtualizacao;
+    }
+}
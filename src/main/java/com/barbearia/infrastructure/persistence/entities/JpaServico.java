@@ -8,22 +8,23 @@ import java.time.LocalDateTime;
  * Entidade JPA que mapeia a tabela 'servicos' do banco de dados.
  * 
  * Representa um serviço oferecido por uma barbearia.
- * Usa herança do tipo JOINED para separar dados comuns em uma tabela base
- * e dados específicos em tabelas filhas.
+ * Usa herança do tipo SINGLE_TABLE: todos os tipos de serviço ficam na
+ * tabela 'servicos' e a coluna tipo_servico indica a subclasse.
  * 
- * Herança: Estratégia JOINED - a tabela base contém os atributos comuns
- * e cada subclasse tem sua própria tabela.
+ * Herança: Estratégia SINGLE_TABLE - as subclasses não possuem atributos
+ * próprios, então cada leitura é uma consulta simples, sem joins.
  * 
  * @author Sua Barbearia Team
  */
 @Entity
 @Table(name = "servicos")
-@Inheritance(strategy = InheritanceType.JOINED)
+@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "tipo_servico", discriminatorType = DiscriminatorType.STRING)
 public abstract class JpaServico {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "servicos_seq")
+    @SequenceGenerator(name = "servicos_seq", sequenceName = "servicos_id_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, length = 100)
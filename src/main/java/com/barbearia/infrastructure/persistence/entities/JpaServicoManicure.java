@@ -2,16 +2,14 @@ package com.barbearia.infrastructure.persistence.entities;
 
 import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
-import jakarta.persistence.Table;
 
 /**
  * Subclasse JPA de Serviço para Manicure.
- * Usa herança JOINED - tem sua própria tabela para dados específicos.
+ * Usa herança SINGLE_TABLE - armazenada na tabela 'servicos'.
  * 
  * @author Sua Barbearia Team
  */
 @Entity
-@Table(name = "servicos_manicure")
 @DiscriminatorValue("MANICURE")
 public class JpaServicoManicure extends JpaServico {
     
@@ -21,7 +21,8 @@ import java.time.LocalDateTime;
 public class JpaTransacaoFinanceira {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transacoes_financeiras_seq")
+    @SequenceGenerator(name = "transacoes_financeiras_seq", sequenceName = "transacoes_financeiras_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "barbearia_id", nullable = false)
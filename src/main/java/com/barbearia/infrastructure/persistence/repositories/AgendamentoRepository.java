@@ -359,4 +359,169 @@ public interface AgendamentoRepository extends JpaRepository<JpaAgendamento, Lon
                         Long barbeiroId,
                         LocalDateTime dataInicio,
                         LocalDateTime dataFim);
+
+        /**
+         * Busca agendamentos não cancelados de vários profissionais em um intervalo.
+         * 
+         * Usado no cálculo de disponibilidade em lote (vários dias e profissionais
+         * com uma única consulta).
+         * 
+         * @param barbeiroIds IDs dos profissionais
+         * @param dataInicio  Data/hora inicial
+         * @param dataFim     Data/hora final (exclusiva)
+         * @return Lista de agendamentos ordenados por data/hora ascendente
+         */
+        @Query("SELECT a FROM JpaAgendamento a " +
+                        "WHERE a.barbeiroId IN :barbeiroIds " +
+                        "AND a.dataHora >= :dataInicio " +
+                        "AND a.dataHora < :dataFim " +
+                        "AND a.status != 'CANCELADO' " +
+                        "ORDER BY a.dataHora ASC")
+        List<JpaAgendamento> findNaoCanceladosByBarbeiroIdInAndPeriodo(
+                        @Param("barbeiroIds") java.util.Collection<Long> barbeiroIds,
+                        @Param("dataInicio") LocalDateTime dataInicio,
+                        @Param("dataFim") LocalDateTime dataFim);
+
+        /**
+         * Retorna os marcadores de versão da grade do dia de uma barbearia.
+         * 
+         * Query nativa com subconsultas agregadas (uma única ida ao banco) usada
+         * para gerar o ETag da grade sem montar a resposta completa.
+         * Retorna: [ultimaAtualizacaoAgendamentos, totalAgendamentos,
+         * ultimaAtualizacaoFuncionarios, ultimaAtualizacaoHorarios,
+         * ultimoBloqueio, totalBloqueios, ultimaExcecao, totalExcecoes]
+         * 
+         * @param barbeariaId ID da barbearia
+         * @param data        Data da grade
+         * @param dataInicio  Início do dia
+         * @param dataFim     Início do dia seguinte (exclusivo)
+         * @return Lista com uma única linha de marcadores
+         */
+        @Query(value = """
+                        SELECT
+                            (SELECT MAX(a.data_atualizacao) FROM agendamentos a
+                                WHERE a.barbearia_id = :barbeariaId
+                                AND a.data_hora >= :dataInicio AND a.data_hora < :dataFim),
+                            (SELECT COUNT(*) FROM agendamentos a
+                                WHERE a.barbearia_id = :barbeariaId
+                                AND a.data_hora >= :dataInicio AND a.data_hora < :dataFim),
+                            (SELECT MAX(f.data_atualizacao) FROM funcionarios f
+                                WHERE f.barbearia_id = :barbeariaId),
+                            (SELECT MAX(h.data_atualizacao) FROM horarios_funcionamento h
+                                WHERE h.barbearia_id = :barbeariaId),
+                            (SELECT MAX(b.data_criacao) FROM horarios_bloqueados b
+                                INNER JOIN funcionarios f ON b.funcionario_id = f.id
+                                WHERE f.barbearia_id = :barbeariaId AND b.data = :data),
+                            (SELECT COUNT(*) FROM horarios_bloqueados b
+                                INNER JOIN funcionarios f ON b.funcionario_id = f.id
+                                WHERE f.barbearia_id = :barbeariaId AND b.data = :data),
+                            (SELECT MAX(e.data_criacao) FROM horarios_excecoes e
+                                INNER JOIN funcionarios f ON e.funcionario_id = f.id
+                                WHERE f.barbearia_id = :barbeariaId AND e.data = :data AND e.ativo = true),
+                            (SELECT COUNT(*) FROM horarios_excecoes e
+                                INNER JOIN funcionarios f ON e.funcionario_id = f.id
+                                WHERE f.barbearia_id = :barbeariaId AND e.data = :data AND e.ativo = true)
+                        """, nativeQuery = true)
+        List<Object[]> buscarVersaoGradeDia(
+                        @Param("barbeariaId") Long barbeariaId,
+                        @Param("data") java.time.LocalDate data,
+                        @Param("dataInicio") LocalDateTime dataInicio,
+                        @Param("dataFim") LocalDateTime dataFim);
+
+        /**
+         * Dados de exibição de um agendamento para os eventos do ciclo de vida,
+         * em uma única consulta.
+         *
+         * Retorna: clienteNome, clienteTelefone, servicoNome, servicoPreco,
+         * funcionarioNome, barbeariaNome (nulos quando o relacionamento não
+         * existe)
+         *
+         * @param agendamentoId ID do agendamento
+         * @return Lista com no máximo uma linha
+         */
+        @Query(value = """
+                        SELECT c.nome, c.telefone, s.nome, s.preco, f.nome, b.nome_fantasia
+                        FROM agendamentos a
+                        LEFT JOIN clientes c ON c.id = a.cliente_id
+                        LEFT JOIN servicos s ON s.id = a.servico_id
+                        LEFT JOIN funcionarios f ON f.id = a.barbeiro_id
+                        LEFT JOIN barbearias b ON b.id = a.barbearia_id
+                        WHERE a.id = :agendamentoId
+                        """, nativeQuery = true)
+        List<Object[]> buscarDetalhesEvento(@Param("agendamentoId") Long agendamentoId);
+
+        /**
+         * Linha do tempo do cliente em uma única consulta: os próximos
+         * agendamentos (data/hora crescente) e uma página dos anteriores
+         * (data/hora decrescente), já com os nomes de serviço, barbearia e
+         * profissional.
+         *
+         * Os anteriores são paginados por keyset: vêm apenas as linhas
+         * antes de (cursorDataHora, cursorId). Na primeira página o cursor é
+         * (agora, 0); nas seguintes, o último item da página anterior.
+         * Retorna: secao ('P' próximos, 'A' anteriores), id, dataHora,
+         * status, barbeariaNome, funcionarioNome, servicoNome, observacoes,
+         * avaliado
+         *
+         * @param clienteId        ID do cliente
+         * @param agora            Início dos próximos agendamentos
+         * @param limiteProximos   Máximo de próximos (0 nas páginas seguintes)
+         * @param cursorDataHora   Data/hora do cursor dos anteriores
+         * @param cursorId         ID do cursor dos anteriores
+         * @param limiteAnteriores Máximo de anteriores
+         * @return Linhas das duas seções
+         */
+        @Query(value = """
+                        (SELECT 'P' AS secao, a.id, a.data_hora, a.status, b.nome_fantasia, f.nome, s.nome,
+                                a.observacoes, a.avaliado
+                        FROM agendamentos a
+                        LEFT JOIN barbearias b ON b.id = a.barbearia_id
+                        LEFT JOIN funcionarios f ON f.id = a.barbeiro_id
+                        LEFT JOIN servicos s ON s.id = a.servico_id
+                        WHERE a.cliente_id = :clienteId
+                        AND a.data_hora >= :agora
+                        ORDER BY a.data_hora ASC, a.id ASC
+                        LIMIT :limiteProximos)
+                        UNION ALL
+                        (SELECT 'A' AS secao, a.id, a.data_hora, a.status, b.nome_fantasia, f.nome, s.nome,
+                                a.observacoes, a.avaliado
+                        FROM agendamentos a
+                        LEFT JOIN barbearias b ON b.id = a.barbearia_id
+                        LEFT JOIN funcionarios f ON f.id = a.barbeiro_id
+                        LEFT JOIN servicos s ON s.id = a.servico_id
+                        WHERE a.cliente_id = :clienteId
+                        AND (a.data_hora < :cursorDataHora
+                            OR (a.data_hora = :cursorDataHora AND a.id < :cursorId))
+                        ORDER BY a.data_hora DESC, a.id DESC
+                        LIMIT :limiteAnteriores)
+                        """, nativeQuery = true)
+        List<Object[]> buscarLinhaDoTempoCliente(
+                        @Param("clienteId") Long clienteId,
+                        @Param("agora") LocalDateTime agora,
+                        @Param("limiteProximos") int limiteProximos,
+                        @Param("cursorDataHora") LocalDateTime cursorDataHora,
+                        @Param("cursorId") Long cursorId,
+                        @Param("limiteAnteriores") int limiteAnteriores);
+
+        /**
+         * Marcadores de versão da linha do tempo do cliente, para gerar o
+         * ETag sem montar a resposta.
+         *
+         * Retorna: [ultimaAtualizacao, totalAgendamentos, totalProximos]. O
+         * total de próximos muda quando um agendamento passa para o
+         * histórico, mesmo sem nenhuma atualização no banco.
+         *
+         * @param clienteId ID do cliente
+         * @param agora     Início dos próximos agendamentos
+         * @return Lista com uma única linha de marcadores
+         */
+        @Query(value = """
+                        SELECT MAX(a.data_atualizacao), COUNT(*),
+                            SUM(CASE WHEN a.data_hora >= :agora THEN 1 ELSE 0 END)
+                        FROM agendamentos a
+                        WHERE a.cliente_id = :clienteId
+                        """, nativeQuery = true)
+        List<Object[]> buscarVersaoLinhaDoTempoCliente(
+                        @Param("clienteId") Long clienteId,
+                        @Param("agora") LocalDateTime agora);
 }
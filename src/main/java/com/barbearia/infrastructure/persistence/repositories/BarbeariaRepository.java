@@ -3,8 +3,11 @@ package com.barbearia.infrastructure.persistence.repositories;
 import com.barbearia.domain.enums.TipoDocumento;
 import com.barbearia.infrastructure.persistence.entities.JpaBarbearia;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -115,4 +118,75 @@ public interface BarbeariaRepository extends JpaRepository<JpaBarbearia, Long> {
      * @return Lista de barbearias ativas
      */
     List<JpaBarbearia> findByAtivoTrue();
+
+    /**
+     * Busca paginada de barbearias ativas para o marketplace.
+     * 
+     * Todos os filtros são opcionais (null = não filtra):
+     * - texto: busca de texto completo em nome fantasia e endereço (índice GIN)
+     * - latitude/longitude: restringe à caixa delimitadora (índice em
+     *   latitude, longitude) e ao raio informado, ordenando por distância
+     * - notaMinima: média mínima das avaliações
+     * - diaSemana/horaAtual: apenas barbearias abertas agora, com ao menos
+     *   um profissional ativo
+     * 
+     * Retorna linhas projetadas: [id, nome_fantasia, endereco, latitude,
+     * longitude, distancia_km, media_avaliacoes, total_avaliacoes]
+     */
+    @Query(value = """
+            SELECT r.id, r.nome_fantasia, r.endereco, r.latitude, r.longitude,
+                   r.distancia_km, r.media_avaliacoes, r.total_avaliacoes
+            FROM (
+                SELECT b.id, b.nome_fantasia, b.endereco, b.latitude, b.longitude,
+                       CASE WHEN CAST(:latitude AS DOUBLE PRECISION) IS NULL THEN NULL
+                            ELSE 6371.0 * 2 * ASIN(SQRT(
+                                POWER(SIN(RADIANS(b.latitude - CAST(:latitude AS DOUBLE PRECISION)) / 2), 2)
+                                + COS(RADIANS(CAST(:latitude AS DOUBLE PRECISION))) * COS(RADIANS(b.latitude))
+                                * POWER(SIN(RADIANS(b.longitude - CAST(:longitude AS DOUBLE PRECISION)) / 2), 2)))
+                       END AS distancia_km,
+                       av.media AS media_avaliacoes,
+                       COALESCE(av.total, 0) AS total_avaliacoes,
+                       CASE WHEN CAST(:texto AS TEXT) IS NULL THEN 0
+                            ELSE ts_rank(b.busca_documento, websearch_to_tsquery('portuguese', CAST(:texto AS TEXT)))
+                       END AS relevancia
+                FROM barbearias b
+                LEFT JOIN LATERAL (
+                    SELECT AVG(a.nota_geral) AS media, COUNT(*) AS total
+                    FROM avaliacoes a
+                    WHERE a.barbearia_id = b.id
+                ) av ON true
+                WHERE b.ativo = true
+                AND (CAST(:texto AS TEXT) IS NULL
+                     OR b.busca_documento @@ websearch_to_tsquery('portuguese', CAST(:texto AS TEXT)))
+                AND (CAST(:latitude AS DOUBLE PRECISION) IS NULL
+                     OR (b.latitude BETWEEN :latitudeMin AND :latitudeMax
+                         AND b.longitude BETWEEN :longitudeMin AND :longitudeMax))
+                AND (CAST(:notaMinima AS NUMERIC) IS NULL OR av.media >= CAST(:notaMinima AS NUMERIC))
+                AND (CAST(:diaSemana AS INTEGER) IS NULL OR (
+                     EXISTS (SELECT 1 FROM horarios_funcionamento h
+                             WHERE h.barbearia_id = b.id AND h.funcionario_id IS NULL AND h.ativo = true
+                             AND h.dia_semana = CAST(:diaSemana AS INTEGER)
+                             AND h.hora_abertura <= CAST(:horaAtual AS TIME)
+                             AND h.hora_fechamento > CAST(:horaAtual AS TIME))
+                     AND EXISTS (SELECT 1 FROM funcionarios f
+                                 WHERE f.barbearia_id = b.id AND f.ativo = true)))
+            ) r
+            WHERE r.distancia_km IS NULL OR r.distancia_km <= :raioKm
+            ORDER BY r.relevancia DESC, r.distancia_km ASC NULLS LAST, r.nome_fantasia ASC, r.id ASC
+            LIMIT :limite OFFSET :deslocamento
+            """, nativeQuery = true)
+    List<Object[]> buscarParaMarketplace(
+            @Param("texto") String texto,
+            @Param("latitude") Double latitude,
+            @Param("longitude") Double longitude,
+            @Param("latitudeMin") Double latitudeMin,
+            @Param("latitudeMax") Double latitudeMax,
+            @Param("longitudeMin") Double longitudeMin,
+            @Param("longitudeMax") Double longitudeMax,
+            @Param("raioKm") Double raioKm,
+            @Param("notaMinima") java.math.BigDecimal notaMinima,
+            @Param("diaSemana") Integer diaSemana,
+            @Param("horaAtual") LocalTime horaAtual,
+            @Param("limite") int limite,
+            @Param("deslocamento") int deslocamento);
 }
@@ -0,0 +1,47 @@
+package com.barbearia.infrastructure.persistence.repositories;
+
+import com.barbearia.infrastructure.persistence.entities.JpaChaveIdempotencia;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repositório para operações de banco de dados da entidade ChaveIdempotencia.
+ */
+@Repository
+public interface ChaveIdempotenciaRepository extends JpaRepository<JpaChaveIdempotencia, Long> {
+
+    /**
+     * Busca a chave de idempotência de um usuário.
+     */
+    Optional<JpaChaveIdempotencia> findByChaveAndUsuario(String chave, String usuario);
+
+    /**
+     * Grava a resposta de uma reserva ainda em andamento.
+     * 
+     * @return 0 se a reserva não existe mais (venceu e foi assumida)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE JpaChaveIdempotencia c SET c.statusResposta = :status, c.tipoConteudo = :tipoConteudo, " +
+            "c.corpoResposta = :corpo, c.expiraEm = :expiraEm WHERE c.id = :id AND c.statusResposta IS NULL")
+    int registrarResposta(@Param("id") Long id, @Param("status") Integer status,
+            @Param("tipoConteudo") String tipoConteudo, @Param("corpo") String corpo,
+            @Param("expiraEm") LocalDateTime expiraEm);
+
+    /**
+     * Remove chaves expiradas.
+     * 
+     * @return Quantidade de chaves removidas
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM JpaChaveIdempotencia c WHERE c.expiraEm < :agora")
+    int deleteExpiradas(@Param("agora") LocalDateTime agora);
+}
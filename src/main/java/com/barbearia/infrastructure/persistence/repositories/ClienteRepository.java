@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -67,6 +68,24 @@ public interface ClienteRepository extends JpaRepository<JpaCliente, Long> {
      */
     boolean existsByTelefone(String telefone);
     
+    /**
+     * Busca os clientes com qualquer um dos telefones informados
+     * (usado na importação em lote)
+     * 
+     * @param telefones Telefones procurados
+     * @return Clientes encontrados
+     */
+    List<JpaCliente> findByTelefoneIn(Collection<String> telefones);
+    
+    /**
+     * Busca os clientes com qualquer um dos emails informados
+     * (usado na importação em lote)
+     * 
+     * @param emails Emails procurados
+     * @return Clientes encontrados
+     */
+    List<JpaCliente> findByEmailIn(Collection<String> emails);
+    
     /**
      * Busca um cliente pelo email que esteja ativo
      * 
@@ -0,0 +1,26 @@
+package com.barbearia.infrastructure.persistence.repositories;
+
+import com.barbearia.infrastructure.persistence.entities.JpaControleSaldos;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository da marca d'água da consolidação de saldos mensais.
+ */
+@Repository
+public interface ControleSaldosRepository extends JpaRepository<JpaControleSaldos, Integer> {
+
+    /**
+     * Lê a marca d'água com trava de escrita: uma consolidação por vez, mesmo
+     * com várias instâncias.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM JpaControleSaldos c WHERE c.id = :id")
+    Optional<JpaControleSaldos> buscarParaAtualizacao(@Param("id") Integer id);
+}
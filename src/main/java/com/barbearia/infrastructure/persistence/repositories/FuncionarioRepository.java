@@ -77,4 +77,10 @@ public interface FuncionarioRepository extends JpaRepository<JpaFuncionario, Lon
         List<JpaFuncionario> findByBarbeariaIdAndPerfilTypeAtivo(
                         @Param("barbeariaId") Long barbeariaId,
                         @Param("perfilType") com.barbearia.domain.enums.TipoPerfil perfilType);
+
+        /**
+         * Encontra funcionários ativos a partir de uma lista de IDs (consulta única).
+         */
+        @Query("SELECT f FROM JpaFuncionario f WHERE f.id IN :ids AND f.ativo = true")
+        List<JpaFuncionario> findByIdInAtivo(@Param("ids") java.util.Collection<Long> ids);
 }
@@ -60,4 +60,15 @@ public interface HorarioBloqueadoRepository extends JpaRepository<JpaHorarioBloq
                         @Param("data") LocalDate data,
                         @Param("horarioInicio") java.time.LocalTime horarioInicio,
                         @Param("horarioFim") java.time.LocalTime horarioFim);
+
+        /**
+         * Lista bloqueios de vários funcionários em um período (consulta única).
+         */
+        @Query("SELECT h FROM JpaHorarioBloqueado h WHERE h.funcionarioId IN :funcionarioIds " +
+                        "AND h.data BETWEEN :dataInicio AND :dataFim " +
+                        "ORDER BY h.data, h.horarioInicio")
+        List<JpaHorarioBloqueado> findByFuncionarioIdInAndPeriodo(
+                        @Param("funcionarioIds") java.util.Collection<Long> funcionarioIds,
+                        @Param("dataInicio") LocalDate dataInicio,
+                        @Param("dataFim") LocalDate dataFim);
 }
@@ -32,4 +32,11 @@ public interface HorarioExcecaoRepository extends JpaRepository<JpaHorarioExceca
         boolean existsByFuncionarioIdAndData(
                         @Param("funcionarioId") Long funcionarioId,
                         @Param("data") LocalDate data);
+
+        @Query("SELECT e FROM JpaHorarioExcecao e WHERE e.funcionarioId IN :funcionarioIds " +
+                        "AND e.data BETWEEN :dataInicio AND :dataFim AND e.ativo = true ORDER BY e.data")
+        List<JpaHorarioExcecao> findByFuncionarioIdInAndPeriodo(
+                        @Param("funcionarioIds") java.util.Collection<Long> funcionarioIds,
+                        @Param("dataInicio") LocalDate dataInicio,
+                        @Param("dataFim") LocalDate dataFim);
 }
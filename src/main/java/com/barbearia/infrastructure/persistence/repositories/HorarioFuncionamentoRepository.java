@@ -24,6 +24,11 @@ public interface HorarioFuncionamentoRepository extends JpaRepository<JpaHorario
 
     List<JpaHorarioFuncionamento> findByBarbeariaIdAndFuncionarioId(Long barbeariaId, Long funcionarioId);
 
+    /**
+     * Todos os horários de um funcionário, ativos ou não (salvamento em lote).
+     */
+    List<JpaHorarioFuncionamento> findByFuncionarioId(Long funcionarioId);
+
     List<JpaHorarioFuncionamento> findByBarbeariaIdAndFuncionarioIdAndDiaSemana(
             Long barbeariaId, Long funcionarioId, Integer diaSemana);
 
@@ -80,4 +85,18 @@ public interface HorarioFuncionamentoRepository extends JpaRepository<JpaHorario
     @Query("SELECT h FROM JpaHorarioFuncionamento h WHERE h.funcionarioId = :funcionarioId AND h.diaSemana = :diaSemana")
     Optional<JpaHorarioFuncionamento> findByFuncionarioIdAndDiaSemana(@Param("funcionarioId") Long funcionarioId,
             @Param("diaSemana") Integer diaSemana);
+
+    /**
+     * Encontra os horários específicos de vários funcionários (apenas ativos).
+     */
+    @Query("SELECT h FROM JpaHorarioFuncionamento h WHERE h.funcionarioId IN :funcionarioIds AND h.ativo = true")
+    List<JpaHorarioFuncionamento> findByFuncionarioIdInAtivo(
+            @Param("funcionarioIds") java.util.Collection<Long> funcionarioIds);
+
+    /**
+     * Encontra os horários padrão da barbearia, sem funcionário associado (apenas
+     * ativos).
+     */
+    @Query("SELECT h FROM JpaHorarioFuncionamento h WHERE h.barbeariaId = :barbeariaId AND h.funcionarioId IS NULL AND h.ativo = true ORDER BY h.diaSemana ASC")
+    List<JpaHorarioFuncionamento> findPadraoByBarbeariaIdAtivo(@Param("barbeariaId") Long barbeariaId);
 }
@@ -0,0 +1,83 @@
+package com.barbearia.infrastructure.persistence.repositories;
+
+import com.barbearia.domain.enums.OrigemLancamento;
+import com.barbearia.infrastructure.persistence.entities.JpaLancamentoFinanceiro;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository do livro-razão financeiro (somente inserção e consultas).
+ */
+@Repository
+public interface LancamentoFinanceiroRepository extends JpaRepository<JpaLancamentoFinanceiro, Long> {
+
+    /**
+     * Lançamentos gerados por um registro (usados para o estorno).
+     */
+    List<JpaLancamentoFinanceiro> findByOrigemAndOrigemIdAndBarbeariaId(
+            OrigemLancamento origem, Long origemId, Long barbeariaId);
+
+    /**
+     * Totaliza por natureza os lançamentos do período com id maior que aposId
+     * (natureza, soma).
+     */
+    @Query("SELECT l.natureza, SUM(l.valor) FROM JpaLancamentoFinanceiro l " +
+            "WHERE l.barbeariaId = :barbeariaId " +
+            "AND l.dataCompetencia BETWEEN :dataInicio AND :dataFim " +
+            "AND l.id > :aposId " +
+            "GROUP BY l.natureza")
+    List<Object[]> totalizarPorNatureza(
+            @Param("barbeariaId") Long barbeariaId,
+            @Param("dataInicio") LocalDate dataInicio,
+            @Param("dataFim") LocalDate dataFim,
+            @Param("aposId") Long aposId);
+
+    /**
+     * Último lançamento criado antes do corte (limite seguro da consolidação:
+     * lançamentos mais recentes podem ainda não estar visíveis).
+     */
+    @Query("SELECT MAX(l.id) FROM JpaLancamentoFinanceiro l WHERE l.dataCriacao < :corte")
+    Long buscarUltimoIdCriadoAntesDe(@Param("corte") LocalDateTime corte);
+
+    /**
+     * Agrupa os lançamentos com id em (deId, ateId] por barbearia, mês e
+     * natureza (barbeariaId, ano, mês, natureza, soma, quantidade).
+     */
+    @Query("SELECT l.barbeariaId, YEAR(l.dataCompetencia), MONTH(l.dataCompetencia), l.natureza, " +
+            "SUM(l.valor), COUNT(l) " +
+            "FROM JpaLancamentoFinanceiro l " +
+            "WHERE l.id > :deId AND l.id <= :ateId " +
+            "GROUP BY l.barbeariaId, YEAR(l.dataCompetencia), MONTH(l.dataCompetencia), l.natureza")
+    List<Object[]> agruparPorMes(@Param("deId") Long deId, @Param("ateId") Long ateId);
+
+    /**
+     * Meses (barbeariaId, ano, mês) com lançamentos de id até ateId criados a
+     * partir de desde: lançamentos recentes que podem ter sido gravados depois
+     * da consolidação que passou pelo seu id.
+     */
+    @Query("SELECT DISTINCT l.barbeariaId, YEAR(l.dataCompetencia), MONTH(l.dataCompetencia) " +
+            "FROM JpaLancamentoFinanceiro l " +
+            "WHERE l.dataCriacao >= :desde AND l.id <= :ateId")
+    List<Object[]> buscarMesesCriadosDesde(@Param("desde") LocalDateTime desde, @Param("ateId") Long ateId);
+
+    /**
+     * Totaliza por natureza os lançamentos do período com id até ateId
+     * (natureza, soma, quantidade).
+     */
+    @Query("SELECT l.natureza, SUM(l.valor), COUNT(l) FROM JpaLancamentoFinanceiro l " +
+            "WHERE l.barbeariaId = :barbeariaId " +
+            "AND l.dataCompetencia BETWEEN :dataInicio AND :dataFim " +
+            "AND l.id <= :ateId " +
+            "GROUP BY l.natureza")
+    List<Object[]> totalizarAte(
+            @Param("barbeariaId") Long barbeariaId,
+            @Param("dataInicio") LocalDate dataInicio,
+            @Param("dataFim") LocalDate dataFim,
+            @Param("ateId") Long ateId);
+}
@@ -0,0 +1,117 @@
+package com.barbearia.infrastructure.persistence.repositories;
+
+import com.barbearia.domain.enums.StatusLembrete;
+import com.barbearia.domain.enums.TipoLembrete;
+import com.barbearia.infrastructure.persistence.entities.JpaLembreteAgendamento;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository da fila de lembretes de agendamento.
+ */
+@Repository
+public interface LembreteAgendamentoRepository extends JpaRepository<JpaLembreteAgendamento, Long> {
+
+    boolean existsByAgendamentoIdAndTipoAndDataHoraAgendamento(Long agendamentoId, TipoLembrete tipo,
+            LocalDateTime dataHoraAgendamento);
+
+    List<JpaLembreteAgendamento> findByAgendamentoIdOrderByEnviarEm(Long agendamentoId);
+
+    /**
+     * IDs dos lembretes pendentes com envio antes de limite, travados para
+     * esta transação. Linhas travadas por outra instância são puladas.
+     */
+    @Query(value = "SELECT id FROM lembretes_agendamento " +
+            "WHERE status = 'PENDENTE' AND enviar_em < :limite " +
+            "ORDER BY enviar_em " +
+            "LIMIT :lote " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> travarVencidos(@Param("limite") LocalDateTime limite, @Param("lote") int lote);
+
+    /**
+     * Reserva os lembretes travados por travarVencidos para a instância até
+     * reservadoAte.
+     */
+    @Modifying
+    @Query("UPDATE JpaLembreteAgendamento l SET l.status = com.barbearia.domain.enums.StatusLembrete.ENVIANDO, " +
+            "l.reservadoPor = :instancia, l.reservadoAte = :reservadoAte, l.tentativas = l.tentativas + 1 " +
+            "WHERE l.id IN :ids")
+    int reservar(@Param("ids") Collection<Long> ids, @Param("instancia") String instancia,
+            @Param("reservadoAte") LocalDateTime reservadoAte);
+
+    /**
+     * Devolve à fila as reservas vencidas (instância que parou durante o
+     * envio).
+     */
+    @Modifying
+    @Query("UPDATE JpaLembreteAgendamento l SET l.status = com.barbearia.domain.enums.StatusLembrete.PENDENTE, " +
+            "l.reservadoPor = NULL, l.reservadoAte = NULL " +
+            "WHERE l.status = com.barbearia.domain.enums.StatusLembrete.ENVIANDO AND l.reservadoAte < :agora")
+    int liberarReservasVencidas(@Param("agora") LocalDateTime agora);
+
+    /**
+     * Dados para montar as mensagens: lembrete, agendamento (apenas se ainda
+     * estiver no mesmo horário), cliente, serviço e barbearia.
+     *
+     * Colunas: id, tipo, status do agendamento, data_hora, nome do cliente,
+     * telefone do cliente, nome do serviço, nome da barbearia.
+     */
+    @Query(value = "SELECT l.id, l.tipo, a.status, a.data_hora, c.nome AS cliente, c.telefone, " +
+            "s.nome AS servico, b.nome_fantasia " +
+            "FROM lembretes_agendamento l " +
+            "LEFT JOIN agendamentos a ON a.id = l.agendamento_id AND a.data_hora = l.data_hora_agendamento " +
+            "LEFT JOIN clientes c ON c.id = a.cliente_id " +
+            "LEFT JOIN servicos s ON s.id = a.servico_id " +
+            "LEFT JOIN barbearias b ON b.id = a.barbearia_id " +
+            "WHERE l.id IN (:ids)", nativeQuery = true)
+    List<Object[]> buscarParaEnvio(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Encerra um lembrete reservado pela instância (ENVIADO, FALHOU ou
+     * EXPIRADO). Não altera lembretes cuja reserva já foi perdida.
+     */
+    @Modifying
+    @Query("UPDATE JpaLembreteAgendamento l SET l.status = :status, l.enviadoEm = :enviadoEm, l.erro = :erro, " +
+            "l.reservadoAte = NULL " +
+            "WHERE l.id = :id AND l.status = com.barbearia.domain.enums.StatusLembrete.ENVIANDO " +
+            "AND l.reservadoPor = :instancia")
+    int encerrar(@Param("id") Long id, @Param("instancia") String instancia, @Param("status") StatusLembrete status,
+            @Param("enviadoEm") LocalDateTime enviadoEm, @Param("erro") String erro);
+
+    /**
+     * Devolve à fila, para nova tentativa em enviarEm, um lembrete reservado
+     * pela instância.
+     */
+    @Modifying
+    @Query("UPDATE JpaLembreteAgendamento l SET l.status = com.barbearia.domain.enums.StatusLembrete.PENDENTE, " +
+            "l.enviarEm = :enviarEm, l.erro = :erro, l.reservadoPor = NULL, l.reservadoAte = NULL " +
+            "WHERE l.id = :id AND l.status = com.barbearia.domain.enums.StatusLembrete.ENVIANDO " +
+            "AND l.reservadoPor = :instancia")
+    int reprogramar(@Param("id") Long id, @Param("instancia") String instancia,
+            @Param("enviarEm") LocalDateTime enviarEm, @Param("erro") String erro);
+
+    /**
+     * Remove os lembretes ainda não enviados de um agendamento (cancelado,
+     * concluído ou reagendado).
+     */
+    @Modifying
+    @Query("DELETE FROM JpaLembreteAgendamento l WHERE l.agendamentoId = :agendamentoId " +
+            "AND l.status = com.barbearia.domain.enums.StatusLembrete.PENDENTE")
+    int removerPendentes(@Param("agendamentoId") Long agendamentoId);
+
+    /**
+     * Remove lembretes encerrados com envio previsto antes de limite.
+     */
+    @Modifying
+    @Query("DELETE FROM JpaLembreteAgendamento l WHERE l.enviarEm < :limite AND l.status IN " +
+            "(com.barbearia.domain.enums.StatusLembrete.ENVIADO, com.barbearia.domain.enums.StatusLembrete.FALHOU, " +
+            "com.barbearia.domain.enums.StatusLembrete.EXPIRADO)")
+    int removerEncerradosAntesDe(@Param("limite") LocalDateTime limite);
+}
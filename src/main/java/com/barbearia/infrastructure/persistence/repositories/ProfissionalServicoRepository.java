@@ -44,4 +44,9 @@ public interface ProfissionalServicoRepository extends JpaRepository<JpaProfissi
      */
     @Query("SELECT ps FROM JpaProfissionalServico ps WHERE ps.funcionarioId = :funcionarioId AND ps.servicoId = :servicoId")
     Optional<JpaProfissionalServico> findByFuncionarioIdAndServicoId(@Param("funcionarioId") Long funcionarioId, @Param("servicoId") Long servicoId);
+    
+    /**
+     * Todas as relações de um profissional (ignora status ativo).
+     */
+    List<JpaProfissionalServico> findByFuncionarioId(Long funcionarioId);
 }
@@ -0,0 +1,20 @@
+package com.barbearia.infrastructure.persistence.repositories;
+
+import com.barbearia.infrastructure.persistence.entities.JpaSaldoMensal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository dos saldos mensais consolidados do livro-razão.
+ */
+@Repository
+public interface SaldoMensalRepository extends JpaRepository<JpaSaldoMensal, Long> {
+
+    Optional<JpaSaldoMensal> findByBarbeariaIdAndMes(Long barbeariaId, LocalDate mes);
+
+    List<JpaSaldoMensal> findByBarbeariaIdAndMesBetween(Long barbeariaId, LocalDate mesInicio, LocalDate mesFim);
+}
@@ -18,34 +18,40 @@ import java.util.List;
 public interface TransacaoFinanceiraRepository extends JpaRepository<JpaTransacaoFinanceira, Long> {
 
     /**
-     * Busca transações por barbearia, tipo e período.
+     * Página de transações e resumo por categoria em uma única consulta.
+     *
+     * Retorna dois tipos de linha, indicados pela primeira coluna:
+     * - 'T': transação da página (categoria opcional aplicada), ordenada por
+     *   data decrescente: registro, id, categoria, valor, descricao,
+     *   data_transacao, data_criacao, data_atualizacao, 1
+     * - 'C': uma por categoria do período (sem o filtro de categoria):
+     *   registro, null, categoria, soma, null, null, null, null, quantidade
      */
-    @Query("SELECT t FROM JpaTransacaoFinanceira t " +
-            "WHERE t.barbeariaId = :barbeariaId " +
-            "AND t.tipoTransacao = :tipo " +
-            "AND t.dataTransacao BETWEEN :dataInicio AND :dataFim " +
-            "ORDER BY t.dataTransacao DESC")
-    List<JpaTransacaoFinanceira> findByPeriodoETipo(
-            @Param("barbeariaId") Long barbeariaId,
-            @Param("dataInicio") LocalDate dataInicio,
-            @Param("dataFim") LocalDate dataFim,
-            @Param("tipo") TipoTransacao tipo);
-
-    /**
-     * Busca transações por barbearia, tipo, período e categoria.
-     */
-    @Query("SELECT t FROM JpaTransacaoFinanceira t " +
-            "WHERE t.barbeariaId = :barbeariaId " +
-            "AND t.tipoTransacao = :tipo " +
-            "AND t.dataTransacao BETWEEN :dataInicio AND :dataFim " +
-            "AND t.categoria = :categoria " +
-            "ORDER BY t.dataTransacao DESC")
-    List<JpaTransacaoFinanceira> findByPeriodoTipoECategoria(
+    @Query(value = "WITH periodo AS ( " +
+            "SELECT id, categoria, valor, descricao, data_transacao, data_criacao, data_atualizacao " +
+            "FROM transacoes_financeiras " +
+            "WHERE barbearia_id = :barbeariaId " +
+            "AND tipo_transacao = :tipo " +
+            "AND data_transacao BETWEEN :dataInicio AND :dataFim) " +
+            "(SELECT 'T' AS registro, id, categoria, valor, descricao, data_transacao, data_criacao, " +
+            "data_atualizacao, CAST(1 AS BIGINT) AS quantidade " +
+            "FROM periodo " +
+            "WHERE CAST(:categoria AS VARCHAR(50)) IS NULL OR categoria = CAST(:categoria AS VARCHAR(50)) " +
+            "ORDER BY data_transacao DESC, id DESC " +
+            "LIMIT :limite OFFSET :deslocamento) " +
+            "UNION ALL " +
+            "SELECT 'C', CAST(NULL AS BIGINT), categoria, SUM(valor), CAST(NULL AS VARCHAR(500)), " +
+            "CAST(NULL AS DATE), CAST(NULL AS TIMESTAMP), CAST(NULL AS TIMESTAMP), COUNT(*) " +
+            "FROM periodo " +
+            "GROUP BY categoria", nativeQuery = true)
+    List<Object[]> listarPaginaComResumo(
             @Param("barbeariaId") Long barbeariaId,
+            @Param("tipo") String tipo,
             @Param("dataInicio") LocalDate dataInicio,
             @Param("dataFim") LocalDate dataFim,
-            @Param("tipo") TipoTransacao tipo,
-            @Param("categoria") String categoria);
+            @Param("categoria") String categoria,
+            @Param("limite") int limite,
+            @Param("deslocamento") long deslocamento);
 
     /**
      * Calcula total por período e tipo.
@@ -60,22 +66,6 @@ public interface TransacaoFinanceiraRepository extends JpaRepository<JpaTransaca
             @Param("dataFim") LocalDate dataFim,
             @Param("tipo") TipoTransacao tipo);
 
-    /**
-     * Obtém resumo por categoria (categoria, total, quantidade).
-     */
-    @Query("SELECT t.categoria, SUM(t.valor), COUNT(t) " +
-            "FROM JpaTransacaoFinanceira t " +
-            "WHERE t.barbeariaId = :barbeariaId " +
-            "AND t.dataTransacao BETWEEN :dataInicio AND :dataFim " +
-            "AND t.tipoTransacao = :tipo " +
-            "GROUP BY t.categoria " +
-            "ORDER BY SUM(t.valor) DESC")
-    List<Object[]> obterResumoPorCategoria(
-            @Param("barbeariaId") Long barbeariaId,
-            @Param("dataInicio") LocalDate dataInicio,
-            @Param("dataFim") LocalDate dataFim,
-            @Param("tipo") TipoTransacao tipo);
-
     /**
      * Verifica se a transação pertence à barbearia.
      */
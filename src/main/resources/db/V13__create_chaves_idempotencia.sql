@@ -0,0 +1,15 @@
+-- Chaves de idempotência para endpoints de escrita (header Idempotency-Key)
+CREATE TABLE chaves_idempotencia (
+    id BIGSERIAL PRIMARY KEY,
+    chave VARCHAR(255) NOT NULL,
+    usuario VARCHAR(255) NOT NULL,
+    hash_requisicao VARCHAR(64) NOT NULL,
+    status_resposta INTEGER,
+    tipo_conteudo VARCHAR(100),
+    corpo_resposta TEXT,
+    data_criacao TIMESTAMP NOT NULL,
+    expira_em TIMESTAMP NOT NULL,
+    CONSTRAINT uk_chave_idempotencia_usuario UNIQUE (chave, usuario)
+);
+
+CREATE INDEX idx_chave_idempotencia_expira_em ON chaves_idempotencia(expira_em);
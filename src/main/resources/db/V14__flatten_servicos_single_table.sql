@@ -0,0 +1,25 @@
+-- ===========================================
+-- Migration V14: Serviços em tabela única
+-- Sistema: Sua Barbearia
+-- Troca a herança JOINED (servicos + servicos_*) por SINGLE_TABLE:
+-- o tipo do serviço passa a vir apenas da coluna discriminadora tipo_servico
+-- ===========================================
+
+-- Garante que o discriminador reflita a subtabela em que o serviço estava
+UPDATE servicos SET tipo_servico = 'CORTE' WHERE id IN (SELECT id FROM servicos_corte);
+UPDATE servicos SET tipo_servico = 'BARBA' WHERE id IN (SELECT id FROM servicos_barba);
+UPDATE servicos SET tipo_servico = 'SOBRANCELHA' WHERE id IN (SELECT id FROM servicos_sobrancelha);
+UPDATE servicos SET tipo_servico = 'COLORACAO' WHERE id IN (SELECT id FROM servicos_coloracao);
+UPDATE servicos SET tipo_servico = 'MANICURE' WHERE id IN (SELECT id FROM servicos_manicure);
+UPDATE servicos SET tipo_servico = 'TRATAMENTO_CAPILAR' WHERE id IN (SELECT id FROM servicos_tratamento_capilar);
+
+-- O tipo é sempre informado pela aplicação
+ALTER TABLE servicos ALTER COLUMN tipo_servico DROP DEFAULT;
+
+-- Subtabelas não possuem colunas próprias e deixam de ser usadas
+DROP TABLE IF EXISTS servicos_corte;
+DROP TABLE IF EXISTS servicos_barba;
+DROP TABLE IF EXISTS servicos_sobrancelha;
+DROP TABLE IF EXISTS servicos_coloracao;
+DROP TABLE IF EXISTS servicos_manicure;
+DROP TABLE IF EXISTS servicos_tratamento_capilar;
@@ -0,0 +1,22 @@
+-- ===========================================
+-- Migration V15: Busca de barbearias
+-- Sistema: Sua Barbearia
+-- Localização (latitude/longitude) e índice de texto completo
+-- para a busca do marketplace
+-- ===========================================
+
+ALTER TABLE barbearias ADD COLUMN IF NOT EXISTS latitude DOUBLE PRECISION;
+ALTER TABLE barbearias ADD COLUMN IF NOT EXISTS longitude DOUBLE PRECISION;
+
+-- Documento de busca mantido pelo próprio banco (nome fantasia + endereço/bairro)
+ALTER TABLE barbearias ADD COLUMN IF NOT EXISTS busca_documento TSVECTOR
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('portuguese', coalesce(nome_fantasia, '')), 'A') ||
+        setweight(to_tsvector('portuguese', coalesce(endereco, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_barbearias_busca_documento ON barbearias USING GIN (busca_documento);
+
+-- Filtro por caixa delimitadora (bounding box) antes do cálculo de distância
+CREATE INDEX IF NOT EXISTS idx_barbearias_localizacao ON barbearias(latitude, longitude)
+    WHERE ativo = true AND latitude IS NOT NULL;
@@ -0,0 +1,155 @@
+-- ===========================================
+-- Migration V16: Particionamento mensal de agendamentos
+-- Sistema: Sua Barbearia
+-- Converte agendamentos em tabela particionada por intervalo mensal de
+-- data_hora e cria o arquivo compactado dos meses antigos
+-- ===========================================
+--
+-- - Partições agendamentos_AAAAMM, mais agendamentos_padrao para datas sem
+--   partição (deve ficar vazia; agendamentos_criar_particoes move as linhas
+--   dela quando o mês ganha partição)
+-- - A chave primária passa a ser (id, data_hora), exigência do PostgreSQL
+--   para tabelas particionadas; id continua vindo da mesma sequência
+-- - avaliacoes.agendamento_id deixa de ter chave estrangeira (uma FK exigiria
+--   data_hora em avaliacoes, e meses arquivados saem da tabela)
+-- - A manutenção (ParticoesAgendamentoJob) cria as partições futuras e
+--   arquiva os meses fora do horizonte chamando as funções abaixo
+
+-- 1. Tabela atual sai do caminho, preservando a sequência dos ids
+ALTER TABLE agendamentos RENAME TO agendamentos_v15;
+ALTER SEQUENCE agendamentos_id_seq OWNED BY NONE;
+ALTER TABLE avaliacoes DROP CONSTRAINT IF EXISTS fk_avaliacoes_agendamento;
+
+CREATE TABLE agendamentos (
+    id BIGINT NOT NULL DEFAULT nextval('agendamentos_id_seq'),
+    cliente_id BIGINT NOT NULL,
+    barbearia_id BIGINT NOT NULL,
+    barbeiro_id BIGINT,
+    servico_id BIGINT NOT NULL,
+    data_hora TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDENTE',
+    observacoes VARCHAR(500),
+    data_criacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    data_atualizacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    avaliado BOOLEAN NOT NULL DEFAULT FALSE,
+    CONSTRAINT fk_agendamentos_cliente FOREIGN KEY (cliente_id) REFERENCES clientes(id) ON DELETE CASCADE,
+    CONSTRAINT fk_agendamentos_barbearia FOREIGN KEY (barbearia_id) REFERENCES barbearias(id) ON DELETE CASCADE,
+    CONSTRAINT fk_agendamentos_barbeiro FOREIGN KEY (barbeiro_id) REFERENCES funcionarios(id) ON DELETE SET NULL,
+    CONSTRAINT fk_agendamentos_servico FOREIGN KEY (servico_id) REFERENCES servicos(id) ON DELETE RESTRICT,
+    CONSTRAINT chk_status_agendamento
+        CHECK (status IN ('PENDENTE', 'CONFIRMADO', 'CONCLUIDO', 'CANCELADO', 'FALTOU'))
+) PARTITION BY RANGE (data_hora);
+
+CREATE TABLE agendamentos_padrao PARTITION OF agendamentos DEFAULT;
+
+-- 2. Funções de manutenção
+
+-- Cria as partições mensais de inicio até fim (inclusive). Linhas que
+-- estejam na partição padrão dentro do mês são movidas para a nova partição.
+-- Retorna quantas partições foram criadas.
+CREATE OR REPLACE FUNCTION agendamentos_criar_particoes(inicio DATE, fim DATE)
+RETURNS INTEGER AS $$
+DECLARE
+    mes DATE := date_trunc('month', inicio)::DATE;
+    nome TEXT;
+    criadas INTEGER := 0;
+BEGIN
+    WHILE mes <= fim LOOP
+        nome := 'agendamentos_' || to_char(mes, 'YYYYMM');
+        IF to_regclass(nome) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I (LIKE agendamentos INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', nome);
+            EXECUTE format(
+                'WITH movidos AS (DELETE FROM agendamentos_padrao WHERE data_hora >= %L AND data_hora < %L RETURNING *) '
+                || 'INSERT INTO %I SELECT * FROM movidos',
+                mes, (mes + INTERVAL '1 month')::DATE, nome);
+            EXECUTE format('ALTER TABLE agendamentos ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                nome, mes, (mes + INTERVAL '1 month')::DATE);
+            criadas := criadas + 1;
+        END IF;
+        mes := (mes + INTERVAL '1 month')::DATE;
+    END LOOP;
+    RETURN criadas;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 3. Arquivo compactado: uma linha por mês e barbearia, com os agendamentos
+-- do mês em um array JSONB (comprimido pelo TOAST)
+CREATE TABLE agendamentos_arquivo (
+    mes DATE NOT NULL,
+    barbearia_id BIGINT NOT NULL,
+    quantidade INTEGER NOT NULL,
+    agendamentos JSONB NOT NULL,
+    arquivado_em TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_agendamentos_arquivo PRIMARY KEY (mes, barbearia_id)
+);
+
+COMMENT ON TABLE agendamentos_arquivo IS 'Agendamentos de meses fora do horizonte de agendamentos.arquivo.horizonte-meses';
+
+-- Desanexa as partições mensais que terminam antes de limite, grava suas
+-- linhas em agendamentos_arquivo e remove as partições.
+-- Retorna quantos meses foram arquivados.
+CREATE OR REPLACE FUNCTION agendamentos_arquivar_particoes(limite DATE)
+RETURNS INTEGER AS $$
+DECLARE
+    particao RECORD;
+    mes DATE;
+    arquivados INTEGER := 0;
+BEGIN
+    FOR particao IN
+        SELECT filha.relname AS nome
+        FROM pg_inherits heranca
+        JOIN pg_class filha ON filha.oid = heranca.inhrelid
+        JOIN pg_class pai ON pai.oid = heranca.inhparent
+        WHERE pai.relname = 'agendamentos'
+          AND filha.relname ~ '^agendamentos_[0-9]{6}$'
+        ORDER BY filha.relname
+    LOOP
+        mes := to_date(right(particao.nome, 6), 'YYYYMM');
+        CONTINUE WHEN (mes + INTERVAL '1 month')::DATE > limite;
+
+        EXECUTE format('ALTER TABLE agendamentos DETACH PARTITION %I', particao.nome);
+        EXECUTE format(
+            'INSERT INTO agendamentos_arquivo (mes, barbearia_id, quantidade, agendamentos) '
+            || 'SELECT %L, barbearia_id, count(*), jsonb_agg(to_jsonb(a) ORDER BY data_hora, id) '
+            || 'FROM %I a GROUP BY barbearia_id '
+            || 'ON CONFLICT (mes, barbearia_id) DO UPDATE SET '
+            || 'quantidade = agendamentos_arquivo.quantidade + EXCLUDED.quantidade, '
+            || 'agendamentos = agendamentos_arquivo.agendamentos || EXCLUDED.agendamentos, '
+            || 'arquivado_em = CURRENT_TIMESTAMP',
+            mes, particao.nome);
+        EXECUTE format('DROP TABLE %I', particao.nome);
+        arquivados := arquivados + 1;
+    END LOOP;
+    RETURN arquivados;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 4. Partições do histórico existente até três meses à frente, e cópia dos dados
+SELECT agendamentos_criar_particoes(
+    COALESCE((SELECT min(data_hora) FROM agendamentos_v15), CURRENT_TIMESTAMP)::DATE,
+    (CURRENT_DATE + INTERVAL '3 months')::DATE);
+
+INSERT INTO agendamentos (id, cliente_id, barbearia_id, barbeiro_id, servico_id, data_hora, status,
+                          observacoes, data_criacao, data_atualizacao, avaliado)
+SELECT id, cliente_id, barbearia_id, barbeiro_id, servico_id, data_hora, status,
+       observacoes, data_criacao, data_atualizacao, avaliado
+FROM agendamentos_v15;
+
+DROP TABLE agendamentos_v15;
+ALTER SEQUENCE agendamentos_id_seq OWNED BY agendamentos.id;
+
+-- 5. Chave primária e índices (criados na tabela pai, propagados às partições).
+-- Os índices simples de cliente, barbearia e barbeiro eram prefixo dos
+-- compostos com data_hora e não são recriados.
+ALTER TABLE agendamentos ADD CONSTRAINT agendamentos_pkey PRIMARY KEY (id, data_hora);
+
+CREATE INDEX idx_agendamentos_data_hora ON agendamentos(data_hora);
+CREATE INDEX idx_agendamentos_servico ON agendamentos(servico_id);
+CREATE INDEX idx_agendamentos_status ON agendamentos(status);
+CREATE INDEX idx_agendamentos_cliente_datahora ON agendamentos(cliente_id, data_hora);
+CREATE INDEX idx_agendamentos_barbearia_datahora ON agendamentos(barbearia_id, data_hora);
+CREATE INDEX idx_agendamentos_barbeiro_datahora ON agendamentos(barbeiro_id, data_hora);
+CREATE INDEX idx_agendamentos_status_avaliado ON agendamentos(status, avaliado);
+
+COMMENT ON COLUMN agendamentos.status IS 'Status do agendamento: PENDENTE, CONFIRMADO, CONCLUIDO, CANCELADO, FALTOU';
+COMMENT ON COLUMN agendamentos.avaliado IS 'Indica se o agendamento já foi avaliado pelo cliente';
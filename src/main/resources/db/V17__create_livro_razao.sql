@@ -0,0 +1,107 @@
+-- ===========================================
+-- Migration V17: Livro-razão financeiro
+-- Sistema: Sua Barbearia
+-- Lançamentos financeiros em uma única tabela (somente inserção) e saldos
+-- mensais consolidados por barbearia
+-- ===========================================
+--
+-- - valor com sinal: receitas positivas, despesas negativas; edição e
+--   exclusão geram um estorno (mesmo valor com sinal invertido)
+-- - natureza: RECEITA_SERVICO (agendamento concluído), RECEITA_EXTRA, DESPESA
+-- - origem/origem_id: registro que gerou o lançamento (AGENDAMENTO,
+--   RECEITA = receitas_extras, DESPESA = despesas,
+--   TRANSACAO = transacoes_financeiras)
+-- - saldos_mensais: soma dos lançamentos até saldos_mensais_controle.ultimo_lancamento_id
+
+CREATE TABLE lancamentos_financeiros (
+    id BIGSERIAL PRIMARY KEY,
+    barbearia_id BIGINT NOT NULL,
+    natureza VARCHAR(20) NOT NULL CHECK (natureza IN ('RECEITA_SERVICO', 'RECEITA_EXTRA', 'DESPESA')),
+    origem VARCHAR(20) NOT NULL CHECK (origem IN ('AGENDAMENTO', 'RECEITA', 'DESPESA', 'TRANSACAO')),
+    origem_id BIGINT NOT NULL,
+    valor DECIMAL(12, 2) NOT NULL,
+    categoria VARCHAR(50) NOT NULL,
+    descricao VARCHAR(500),
+    data_competencia DATE NOT NULL,
+    data_criacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_lancamento_barbearia_data ON lancamentos_financeiros(barbearia_id, data_competencia);
+CREATE INDEX idx_lancamento_origem ON lancamentos_financeiros(origem, origem_id);
+
+COMMENT ON TABLE lancamentos_financeiros IS 'Livro-razão: lançamentos financeiros somente inserção (correções por estorno)';
+
+-- Somente inserção: alterações e exclusões são recusadas pelo banco
+CREATE OR REPLACE FUNCTION lancamentos_financeiros_somente_insercao()
+RETURNS TRIGGER AS $$
+BEGIN
+    RAISE EXCEPTION 'lancamentos_financeiros aceita apenas inserções; use um estorno';
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_lancamentos_financeiros_somente_insercao
+    BEFORE UPDATE OR DELETE ON lancamentos_financeiros
+    FOR EACH ROW EXECUTE FUNCTION lancamentos_financeiros_somente_insercao();
+
+CREATE TABLE saldos_mensais (
+    id BIGSERIAL PRIMARY KEY,
+    barbearia_id BIGINT NOT NULL,
+    mes DATE NOT NULL,
+    receitas_servicos DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    receitas_extras DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    despesas DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    quantidade_lancamentos INTEGER NOT NULL DEFAULT 0,
+    data_atualizacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_saldos_mensais_barbearia_mes UNIQUE (barbearia_id, mes)
+);
+
+COMMENT ON COLUMN saldos_mensais.mes IS 'Primeiro dia do mês consolidado';
+COMMENT ON COLUMN saldos_mensais.despesas IS 'Total de despesas do mês (positivo)';
+
+CREATE TABLE saldos_mensais_controle (
+    id INTEGER PRIMARY KEY,
+    ultimo_lancamento_id BIGINT NOT NULL,
+    data_atualizacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON COLUMN saldos_mensais_controle.ultimo_lancamento_id IS 'Último lançamento somado em saldos_mensais';
+
+-- Carga inicial a partir das tabelas atuais
+INSERT INTO lancamentos_financeiros (barbearia_id, natureza, origem, origem_id, valor, categoria, descricao,
+                                     data_competencia, data_criacao)
+SELECT barbearia_id, natureza, origem, origem_id, valor, categoria, descricao, data_competencia, data_criacao
+FROM (
+    SELECT a.barbearia_id, 'RECEITA_SERVICO' AS natureza, 'AGENDAMENTO' AS origem, a.id AS origem_id,
+           s.preco AS valor, 'SERVICO' AS categoria, s.nome AS descricao,
+           CAST(a.data_hora AS DATE) AS data_competencia, a.data_atualizacao AS data_criacao
+    FROM agendamentos a
+    INNER JOIN servicos s ON s.id = a.servico_id
+    WHERE a.status = 'CONCLUIDO'
+    UNION ALL
+    SELECT barbearia_id, 'RECEITA_EXTRA', 'RECEITA', id, valor, categoria, descricao, data_transacao, data_criacao
+    FROM receitas_extras
+    UNION ALL
+    SELECT barbearia_id, 'DESPESA', 'DESPESA', id, -valor, categoria, descricao, data_transacao, data_criacao
+    FROM despesas
+    UNION ALL
+    SELECT barbearia_id,
+           CASE tipo_transacao WHEN 'DESPESA' THEN 'DESPESA' ELSE 'RECEITA_EXTRA' END,
+           'TRANSACAO', id,
+           CASE tipo_transacao WHEN 'DESPESA' THEN -valor ELSE valor END,
+           categoria, descricao, data_transacao, data_criacao
+    FROM transacoes_financeiras
+) carga
+ORDER BY data_competencia, data_criacao;
+
+INSERT INTO saldos_mensais (barbearia_id, mes, receitas_servicos, receitas_extras, despesas, quantidade_lancamentos)
+SELECT barbearia_id,
+       CAST(date_trunc('month', data_competencia) AS DATE),
+       COALESCE(SUM(valor) FILTER (WHERE natureza = 'RECEITA_SERVICO'), 0),
+       COALESCE(SUM(valor) FILTER (WHERE natureza = 'RECEITA_EXTRA'), 0),
+       COALESCE(-SUM(valor) FILTER (WHERE natureza = 'DESPESA'), 0),
+       COUNT(*)
+FROM lancamentos_financeiros
+GROUP BY barbearia_id, CAST(date_trunc('month', data_competencia) AS DATE);
+
+INSERT INTO saldos_mensais_controle (id, ultimo_lancamento_id)
+SELECT 1, COALESCE(MAX(id), 0) FROM lancamentos_financeiros;
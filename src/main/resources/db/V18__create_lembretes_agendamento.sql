@@ -0,0 +1,44 @@
+-- ===========================================
+-- Migration V18: Lembretes de agendamento
+-- Sistema: Sua Barbearia
+-- Fila de lembretes por WhatsApp (véspera e uma hora antes), indexada pelo
+-- horário de envio
+-- ===========================================
+--
+-- - Uma linha por agendamento, tipo e horário do agendamento; reagendar
+--   remove os lembretes pendentes e cria os do novo horário
+-- - O envio (LembreteAgendamentoService) reserva as linhas vencidas com
+--   FOR UPDATE SKIP LOCKED: cada lembrete é reservado por uma única instância
+-- - reservado_ate: prazo da reserva; reservas vencidas (instância que caiu
+--   durante o envio) voltam a PENDENTE
+
+CREATE TABLE lembretes_agendamento (
+    id BIGSERIAL PRIMARY KEY,
+    agendamento_id BIGINT NOT NULL,
+    data_hora_agendamento TIMESTAMP NOT NULL,
+    tipo VARCHAR(20) NOT NULL CHECK (tipo IN ('VESPERA', 'UMA_HORA')),
+    enviar_em TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDENTE'
+        CHECK (status IN ('PENDENTE', 'ENVIANDO', 'ENVIADO', 'FALHOU', 'EXPIRADO')),
+    tentativas INTEGER NOT NULL DEFAULT 0,
+    reservado_por VARCHAR(100),
+    reservado_ate TIMESTAMP,
+    enviado_em TIMESTAMP,
+    erro VARCHAR(500),
+    data_criacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_lembretes_agendamento UNIQUE (agendamento_id, tipo, data_hora_agendamento)
+);
+
+-- Busca dos lembretes vencidos: uma faixa do índice parcial
+CREATE INDEX idx_lembretes_pendentes ON lembretes_agendamento(enviar_em) WHERE status = 'PENDENTE';
+CREATE INDEX idx_lembretes_reservados ON lembretes_agendamento(reservado_ate) WHERE status = 'ENVIANDO';
+
+COMMENT ON TABLE lembretes_agendamento IS 'Lembretes de agendamento por WhatsApp, enviados por LembreteAgendamentoService';
+
+-- Lembretes dos agendamentos futuros já existentes
+INSERT INTO lembretes_agendamento (agendamento_id, data_hora_agendamento, tipo, enviar_em)
+SELECT a.id, a.data_hora, t.tipo, a.data_hora - t.antecedencia
+FROM agendamentos a
+CROSS JOIN (VALUES ('VESPERA', INTERVAL '24 hours'), ('UMA_HORA', INTERVAL '1 hour')) AS t(tipo, antecedencia)
+WHERE a.status IN ('PENDENTE', 'CONFIRMADO')
+  AND a.data_hora - t.antecedencia > CURRENT_TIMESTAMP;
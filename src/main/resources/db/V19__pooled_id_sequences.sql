@@ -0,0 +1,28 @@
+-- ===========================================
+-- Migration V19: Sequences com incremento 50 (otimizador pooled)
+-- Sistema: Sua Barbearia
+-- Permite ao Hibernate reservar IDs em blocos e agrupar INSERTs em lote
+-- (hibernate.jdbc.batch_size); com IDENTITY cada INSERT é uma ida ao banco
+-- ===========================================
+--
+-- - As entidades abaixo usam @SequenceGenerator(allocationSize = 50) sobre a
+--   sequence criada pelo BIGSERIAL da tabela; o incremento precisa ser igual
+--   ao allocationSize (validado pelo Hibernate na inicialização)
+-- - Cada nextval devolve o fim de um bloco de 50 IDs. INSERTs que usam o
+--   DEFAULT da coluna continuam funcionando (consomem um bloco inteiro)
+-- - clientes, agendamentos, despesas, receitas_extras e
+--   lancamentos_financeiros continuam com IDENTITY: a importação em lote
+--   (ImportacaoService) grava nelas por JDBC usando o DEFAULT da coluna
+
+ALTER SEQUENCE barbearias_id_seq INCREMENT BY 50;
+ALTER SEQUENCE funcionarios_id_seq INCREMENT BY 50;
+ALTER SEQUENCE servicos_id_seq INCREMENT BY 50;
+ALTER SEQUENCE profissional_servicos_id_seq INCREMENT BY 50;
+ALTER SEQUENCE horarios_funcionamento_id_seq INCREMENT BY 50;
+ALTER SEQUENCE horarios_bloqueados_id_seq INCREMENT BY 50;
+ALTER SEQUENCE horarios_excecoes_id_seq INCREMENT BY 50;
+ALTER SEQUENCE avaliacoes_id_seq INCREMENT BY 50;
+ALTER SEQUENCE transacoes_financeiras_id_seq INCREMENT BY 50;
+ALTER SEQUENCE chaves_idempotencia_id_seq INCREMENT BY 50;
+ALTER SEQUENCE saldos_mensais_id_seq INCREMENT BY 50;
+ALTER SEQUENCE lembretes_agendamento_id_seq INCREMENT BY 50;
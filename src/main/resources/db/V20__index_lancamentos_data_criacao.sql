@@ -0,0 +1,10 @@
+-- ===========================================
+-- Migration V20: Índice de lançamentos por data de criação
+-- Sistema: Sua Barbearia
+-- A consolidação dos saldos mensais recalcula a cada execução os meses com
+-- lançamentos criados na janela de reprocessamento
+-- (financeiro.saldos.janela-reprocessamento-s), para incluir lançamentos
+-- cujo commit chegou depois da marca d'água
+-- ===========================================
+
+CREATE INDEX idx_lancamento_data_criacao ON lancamentos_financeiros(data_criacao);
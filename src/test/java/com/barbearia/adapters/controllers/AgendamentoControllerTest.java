@@ -5,6 +5,7 @@ import com.barbearia.application.dto.AgendamentoResponseDto;
 import com.barbearia.application.services.AgendamentoService;
 import com.barbearia.application.security.JwtService;
 import com.barbearia.domain.enums.StatusAgendamento;
+import com.barbearia.domain.exceptions.ValidacaoException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,7 +18,9 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -209,6 +212,34 @@ class AgendamentoControllerTest {
                                 .criarAgendamento(eq(clienteId), any(AgendamentoRequestDto.class));
         }
 
+        @Test
+        @DisplayName("Deve retornar 400 com todos os erros de validação de uma vez")
+        @WithMockUser
+        void deveRetornar400ComTodosOsErrosDeValidacao() throws Exception {
+                // Arrange
+                AgendamentoRequestDto request = new AgendamentoRequestDto(null, null, null);
+
+                when(jwtService.extractClaim(eq(validJwtToken), eq("userId")))
+                                .thenReturn(clienteId);
+                when(jwtService.extractClaim(eq(validJwtToken), eq("role")))
+                                .thenReturn("CLIENTE");
+                when(agendamentoService.criarAgendamento(eq(clienteId), any(AgendamentoRequestDto.class)))
+                                .thenThrow(new ValidacaoException(List.of("ID do serviço não pode ser nulo",
+                                                "ID do funcionário não pode ser nulo")));
+
+                // Act & Assert
+                mockMvc.perform(post("/api/agendamentos")
+                                .with(csrf())
+                                .header("Authorization", "Bearer " + validJwtToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.message",
+                                                is("ID do serviço não pode ser nulo; ID do funcionário não pode ser nulo")))
+                                .andExpect(jsonPath("$.erros", hasSize(2)))
+                                .andExpect(jsonPath("$.erros[1]", is("ID do funcionário não pode ser nulo")));
+        }
+
         @Test
         @DisplayName("Deve retornar 422 quando horário não está disponível (conflito)")
         @WithMockUser
@@ -1,10 +1,14 @@
 package com.barbearia.adapters.controllers;
 
+import com.barbearia.application.dto.AgendamentoDiretoRequestDto;
+import com.barbearia.application.dto.ApiErrorDto;
 import com.barbearia.application.dto.ServicoDto;
 import com.barbearia.application.dto.HorarioExcecaoRequestDto;
 import com.barbearia.application.dto.HorarioExcecaoResponseDto;
+import com.barbearia.application.services.AgendamentoService;
 import com.barbearia.application.services.BarbeariaService;
 import com.barbearia.application.security.JwtService;
+import com.barbearia.domain.exceptions.ValidacaoException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -44,6 +48,9 @@ class BarbeariaControllerTest {
     @Mock
     private com.barbearia.application.services.HorarioGestaoService horarioGestaoService;
 
+    @Mock
+    private AgendamentoService agendamentoService;
+
     @Mock
     private JwtService jwtService;
 
@@ -278,4 +285,47 @@ class BarbeariaControllerTest {
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
         verify(horarioGestaoService).removerExcecao(excecaoId, funcionarioId, "BARBEARIA");
     }
+
+    @Test
+    @DisplayName("POST /agendamentos-diretos - Deve retornar 400 com todos os erros quando não são só de propriedade")
+    void deveRetornar400ComTodosOsErrosNoAgendamentoDireto() {
+        // Arrange
+        HttpServletRequest mockRequest = mock(HttpServletRequest.class);
+        when(mockRequest.getHeader("Authorization")).thenReturn("Bearer valid_token");
+        when(jwtService.extractClaim(any(), any())).thenReturn(1L);
+        when(agendamentoService.criarAgendamentoDireto(eq(1L), any()))
+                .thenThrow(new ValidacaoException(List.of("Serviço não encontrado",
+                        AgendamentoService.FUNCIONARIO_DE_OUTRA_BARBEARIA)));
+
+        // Act
+        ResponseEntity<?> response = barbeariaController.criarAgendamentoDireto(new AgendamentoDiretoRequestDto(),
+                mockRequest);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        ApiErrorDto erro = assertInstanceOf(ApiErrorDto.class, response.getBody());
+        assertEquals(List.of("Serviço não encontrado", AgendamentoService.FUNCIONARIO_DE_OUTRA_BARBEARIA),
+                erro.getErros());
+    }
+
+    @Test
+    @DisplayName("POST /agendamentos-diretos - Deve retornar 422 quando só há erros de propriedade")
+    void deveRetornar422QuandoSoHaErrosDePropriedade() {
+        // Arrange
+        HttpServletRequest mockRequest = mock(HttpServletRequest.class);
+        when(mockRequest.getHeader("Authorization")).thenReturn("Bearer valid_token");
+        when(jwtService.extractClaim(any(), any())).thenReturn(1L);
+        when(agendamentoService.criarAgendamentoDireto(eq(1L), any()))
+                .thenThrow(new ValidacaoException(List.of(AgendamentoService.FUNCIONARIO_DE_OUTRA_BARBEARIA,
+                        AgendamentoService.SERVICO_DE_OUTRA_BARBEARIA)));
+
+        // Act
+        ResponseEntity<?> response = barbeariaController.criarAgendamentoDireto(new AgendamentoDiretoRequestDto(),
+                mockRequest);
+
+        // Assert
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+        ApiErrorDto erro = assertInstanceOf(ApiErrorDto.class, response.getBody());
+        assertEquals(2, erro.getErros().size());
+    }
 }
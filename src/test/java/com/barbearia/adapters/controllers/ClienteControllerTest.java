@@ -1,11 +1,13 @@
 package com.barbearia.adapters.controllers;
 
 import com.barbearia.application.dto.AgendamentoBriefDto;
+import com.barbearia.application.dto.LinhaDoTempoClienteDto;
 import com.barbearia.application.security.JwtService;
 import com.barbearia.application.dto.BarbeariaListItemDto;
 import com.barbearia.application.services.AgendamentoService;
 import com.barbearia.application.services.BarbeariaService;
 import com.barbearia.application.services.ClienteService;
+import com.barbearia.application.services.LinhaDoTempoClienteService;
 import com.barbearia.domain.enums.StatusAgendamento;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -54,6 +56,9 @@ class ClienteControllerTest {
         @MockitoBean
         private BarbeariaService barbeariaService;
 
+        @MockitoBean
+        private LinhaDoTempoClienteService linhaDoTempoClienteService;
+
         private String validJwtToken;
         private Long clienteId;
 
@@ -127,6 +132,43 @@ class ClienteControllerTest {
                 verify(agendamentoService, times(1)).listarHistoricoCliente(clienteId);
         }
 
+        @Test
+        @DisplayName("Deve retornar a linha do tempo com ETag e 304 quando If-None-Match corresponder")
+        @WithMockUser
+        void deveRetornarLinhaDoTempoComEtag() throws Exception {
+                // Arrange
+                LocalDateTime now = LocalDateTime.now();
+                LinhaDoTempoClienteDto linhaDoTempo = new LinhaDoTempoClienteDto(
+                                List.of(new AgendamentoBriefDto(3L, now.plusDays(1), StatusAgendamento.CONFIRMADO,
+                                                "Barbearia Central", "João Silva", "Corte + Barba", null, false)),
+                                List.of(new AgendamentoBriefDto(1L, now.minusDays(2), StatusAgendamento.CONCLUIDO,
+                                                "Barbearia Central", "João Silva", "Corte + Barba", null, true)),
+                                "cursor-1");
+                when(jwtService.extractClaim(eq(validJwtToken), eq("userId")))
+                                .thenReturn(clienteId);
+                when(linhaDoTempoClienteService.calcularEtag(clienteId, null, 20))
+                                .thenReturn("\"1-abc\"");
+                when(linhaDoTempoClienteService.montar(clienteId, null, 20))
+                                .thenReturn(linhaDoTempo);
+
+                // Act & Assert
+                mockMvc.perform(get("/api/clientes/meus-agendamentos/linha-do-tempo")
+                                .header("Authorization", "Bearer " + validJwtToken))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", "\"1-abc\""))
+                                .andExpect(jsonPath("$.proximos[0].id", is(3)))
+                                .andExpect(jsonPath("$.anteriores[0].avaliado", is(true)))
+                                .andExpect(jsonPath("$.proximoCursor", is("cursor-1")));
+
+                mockMvc.perform(get("/api/clientes/meus-agendamentos/linha-do-tempo")
+                                .header("Authorization", "Bearer " + validJwtToken)
+                                .header("If-None-Match", "\"1-abc\""))
+                                .andExpect(status().isNotModified())
+                                .andExpect(content().string(""));
+
+                verify(linhaDoTempoClienteService, times(1)).montar(clienteId, null, 20);
+        }
+
         @Test
         @DisplayName("Deve retornar 200 com lista vazia quando cliente não tem histórico")
         @WithMockUser
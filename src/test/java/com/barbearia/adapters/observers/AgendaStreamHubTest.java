@@ -0,0 +1,150 @@
+package com.barbearia.adapters.observers;
+
+import com.barbearia.application.events.AgendamentoAlteradoEvento;
+import com.barbearia.application.events.AgendamentoAlteradoEvento.TipoAlteracao;
+import com.barbearia.domain.enums.StatusAgendamento;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AgendaStreamHub - Testes")
+class AgendaStreamHubTest {
+
+    private static final int FILA_MAXIMA = 4;
+
+    private final Map<SseEmitter, ClienteDeTeste> clientes = new ConcurrentHashMap<>();
+    private final CountDownLatch liberarTravado = new CountDownLatch(1);
+    private volatile boolean proximoTravado;
+
+    private final AgendaStreamHub hub = new AgendaStreamHub(60_000, 100, 3600, FILA_MAXIMA) {
+        @Override
+        SseEmitter criarEmitter(long timeout) {
+            ClienteDeTeste cliente = new ClienteDeTeste(timeout, proximoTravado);
+            clientes.put(cliente, cliente);
+            return cliente;
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        liberarTravado.countDown();
+        hub.encerrar();
+    }
+
+    @Test
+    @DisplayName("Cliente travado não deve atrasar as demais conexões")
+    void clienteTravadoNaoDeveAtrasarOsDemais() throws Exception {
+        // Arrange
+        proximoTravado = true;
+        hub.inscreverProfissional(1L, null);
+        proximoTravado = false;
+        ClienteDeTeste rapido = clientes.get(hub.inscreverBarbearia(2L, null));
+
+        // Act: o escritor do cliente travado está preso no primeiro envio
+        hub.onAgendamentoAlterado(evento(10L, 1L, 2L));
+        hub.onAgendamentoAlterado(evento(11L, 1L, 2L));
+
+        // Assert
+        assertTrue(rapido.aguardarEnvios(3), "conexão rápida deve receber conectado + 2 eventos");
+    }
+
+    @Test
+    @DisplayName("Deve encerrar a conexão cuja fila enche sem bloquear quem publica")
+    void deveEncerrarConexaoAtrasada() throws Exception {
+        // Arrange
+        proximoTravado = true;
+        ClienteDeTeste travado = clientes.get(hub.inscreverProfissional(1L, null));
+        assertTrue(travado.envioIniciado.await(5, TimeUnit.SECONDS));
+
+        // Act: um envio preso + FILA_MAXIMA na fila; o próximo transborda
+        for (long i = 0; i <= FILA_MAXIMA; i++) {
+            hub.onAgendamentoAlterado(evento(i, 1L, 2L));
+        }
+
+        // Assert
+        assertEquals(0, hub.totalConexoes());
+        liberarTravado.countDown();
+        assertTrue(travado.completado.await(5, TimeUnit.SECONDS), "escritor deve finalizar a resposta");
+    }
+
+    @Test
+    @DisplayName("Deve reenviar os eventos perdidos na reconexão antes dos novos")
+    void deveReenviarPerdidosNaReconexao() throws Exception {
+        // Arrange
+        hub.onAgendamentoAlterado(evento(10L, 1L, 2L));
+        hub.onAgendamentoAlterado(evento(11L, 3L, 2L));
+        hub.onAgendamentoAlterado(evento(12L, 1L, 2L));
+
+        // Act
+        ClienteDeTeste cliente = clientes.get(hub.inscreverProfissional(1L, "1"));
+        hub.onAgendamentoAlterado(evento(13L, 1L, 2L));
+
+        // Assert: conectado, perdido (id 3) e o novo (id 4)
+        assertTrue(cliente.aguardarEnvios(3));
+        assertEquals(3, cliente.enviados.size());
+        assertTrue(cliente.enviados.get(1).contains("id:3"));
+        assertTrue(cliente.enviados.get(2).contains("id:4"));
+    }
+
+    private static AgendamentoAlteradoEvento evento(Long agendamentoId, Long funcionarioId, Long barbeariaId) {
+        LocalDateTime agora = LocalDateTime.now();
+        return new AgendamentoAlteradoEvento(TipoAlteracao.CRIADO, agendamentoId, barbeariaId, funcionarioId,
+                5L, 6L, StatusAgendamento.PENDENTE, null, agora.plusDays(1), null, agora, AgendamentoAlteradoEvento.Detalhes.VAZIO);
+    }
+
+    /**
+     * Emitter que registra os envios; o travado segura o primeiro envio até o
+     * fim do teste, como um cliente que parou de ler o socket.
+     */
+    private final class ClienteDeTeste extends SseEmitter {
+
+        private final boolean travado;
+        private final List<String> enviados = new CopyOnWriteArrayList<>();
+        private final CountDownLatch envioIniciado = new CountDownLatch(1);
+        private final CountDownLatch completado = new CountDownLatch(1);
+
+        ClienteDeTeste(long timeout, boolean travado) {
+            super(timeout);
+            this.travado = travado;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            envioIniciado.countDown();
+            if (travado) {
+                try {
+                    liberarTravado.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            StringBuilder texto = new StringBuilder();
+            builder.build().forEach(parte -> texto.append(parte.getData()));
+            enviados.add(texto.toString());
+        }
+
+        @Override
+        public synchronized void complete() {
+            completado.countDown();
+        }
+
+        boolean aguardarEnvios(int quantidade) throws InterruptedException {
+            long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (enviados.size() < quantidade && System.nanoTime() < limite) {
+                Thread.sleep(10);
+            }
+            return enviados.size() >= quantidade;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.barbearia.adapters.observers;
+
+import com.barbearia.application.events.AgendamentoAlteradoEvento;
+import com.barbearia.application.events.AgendamentoAlteradoEvento.Detalhes;
+import com.barbearia.application.events.AgendamentoAlteradoEvento.TipoAlteracao;
+import com.barbearia.application.observers.AgendamentoEventObserver;
+import com.barbearia.application.observers.AgendamentoObserver;
+import com.barbearia.domain.enums.StatusAgendamento;
+import com.barbearia.infrastructure.metrics.MetricasNegocio;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("BarramentoEventosAgendamento - Testes")
+class BarramentoEventosAgendamentoTest {
+
+    private static final LocalDateTime DATA_HORA = LocalDateTime.of(2030, 3, 15, 14, 30);
+    private static final Detalhes DETALHES = new Detalhes("João Silva", "+5511999999999", "Corte Masculino",
+            new BigDecimal("45.00"), "Carlos", "Barbearia Elite");
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Deve entregar em ordem por agendamento e em paralelo entre agendamentos")
+    void deveEntregarEmOrdemPorAgendamento() throws Exception {
+        // Arrange: o primeiro evento do agendamento 1 só termina depois que o
+        // agendamento 2 for entregue
+        List<String> entregues = new CopyOnWriteArrayList<>();
+        CountDownLatch agendamento2Entregue = new CountDownLatch(1);
+        CountDownLatch todos = new CountDownLatch(3);
+        AgendamentoObserver observer = (id, anterior, novo, clienteId, barbeariaId) -> {
+            try {
+                if (id == 1L && novo == StatusAgendamento.CONFIRMADO) {
+                    assertTrue(agendamento2Entregue.await(5, TimeUnit.SECONDS));
+                }
+                entregues.add(id + ":" + novo);
+                if (id == 2L) {
+                    agendamento2Entregue.countDown();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                todos.countDown();
+            }
+        };
+        BarramentoEventosAgendamento barramento = new BarramentoEventosAgendamento(List.of(observer), List.of(),
+                executor, new MetricasNegocio(meterRegistry, 16));
+
+        // Act
+        barramento.onAgendamentoAlterado(evento(1L, TipoAlteracao.CONFIRMADO, StatusAgendamento.PENDENTE,
+                StatusAgendamento.CONFIRMADO));
+        barramento.onAgendamentoAlterado(evento(1L, TipoAlteracao.CANCELADO, StatusAgendamento.CONFIRMADO,
+                StatusAgendamento.CANCELADO));
+        barramento.onAgendamentoAlterado(evento(2L, TipoAlteracao.CONFIRMADO, StatusAgendamento.PENDENTE,
+                StatusAgendamento.CONFIRMADO));
+
+        // Assert
+        assertTrue(todos.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("2:CONFIRMADO", "1:CONFIRMADO", "1:CANCELADO"), entregues);
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (barramento.pendentes() > 0 && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertEquals(0.0, meterRegistry.get("barbearia.eventos.fila").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve chamar o observer detalhado de cada transição com os dados do evento")
+    void deveChamarObserverDetalhado() {
+        // Arrange
+        AgendamentoObserver observer = mock(AgendamentoObserver.class);
+        AgendamentoEventObserver eventObserver = mock(AgendamentoEventObserver.class);
+        BarramentoEventosAgendamento barramento = new BarramentoEventosAgendamento(List.of(observer),
+                List.of(eventObserver), executor, null);
+        AgendamentoAlteradoEvento reagendado = new AgendamentoAlteradoEvento(TipoAlteracao.REAGENDADO, 7L, 3L, 5L,
+                9L, 11L, StatusAgendamento.CONFIRMADO, StatusAgendamento.CONFIRMADO, DATA_HORA,
+                DATA_HORA.minusDays(1), LocalDateTime.now(), DETALHES);
+
+        // Act
+        barramento.entregar(evento(7L, TipoAlteracao.CRIADO, null, StatusAgendamento.PENDENTE));
+        barramento.entregar(reagendado);
+        barramento.entregar(evento(7L, TipoAlteracao.CONCLUIDO, StatusAgendamento.CONFIRMADO,
+                StatusAgendamento.CONCLUIDO));
+
+        // Assert
+        verify(eventObserver).onAgendamentoCriado(7L, "João Silva", "+5511999999999", "Corte Masculino",
+                "15/03/2030 às 14:30", "Barbearia Elite");
+        verify(eventObserver).onAgendamentoReagendado(7L, "João Silva", "+5511999999999", "Corte Masculino",
+                "14/03/2030 às 14:30", "15/03/2030 às 14:30", "Barbearia Elite");
+        verify(observer).onStatusChanged(7L, StatusAgendamento.CONFIRMADO, StatusAgendamento.CONCLUIDO, 9L, 3L);
+        verify(observer, never()).onStatusChanged(anyLong(), eq(null), any(), anyLong(), anyLong());
+        verify(observer, never()).onStatusChanged(anyLong(), eq(StatusAgendamento.CONFIRMADO),
+                eq(StatusAgendamento.CONFIRMADO), anyLong(), anyLong());
+        verifyNoMoreInteractions(eventObserver);
+    }
+
+    @Test
+    @DisplayName("Falha de um observer não deve impedir a entrega aos demais")
+    void falhaDeUmObserverNaoDeveImpedirOsDemais() {
+        // Arrange
+        AgendamentoEventObserver comFalha = mock(AgendamentoEventObserver.class);
+        AgendamentoEventObserver saudavel = mock(AgendamentoEventObserver.class);
+        doThrow(new IllegalStateException("fora do ar")).when(comFalha)
+                .onAgendamentoCancelado(anyLong(), anyString(), anyString(), anyString(), anyString(), anyString(),
+                        any());
+        BarramentoEventosAgendamento barramento = new BarramentoEventosAgendamento(List.of(),
+                List.of(comFalha, saudavel), executor, new MetricasNegocio(meterRegistry, 16));
+
+        // Act
+        barramento.entregar(evento(8L, TipoAlteracao.CANCELADO, StatusAgendamento.PENDENTE,
+                StatusAgendamento.CANCELADO));
+
+        // Assert
+        verify(saudavel).onAgendamentoCancelado(8L, "João Silva", "+5511999999999", "Corte Masculino",
+                "15/03/2030 às 14:30", "Barbearia Elite", null);
+        assertEquals(1.0, meterRegistry.get("barbearia.eventos.falhas").counter().count());
+    }
+
+    private AgendamentoAlteradoEvento evento(Long agendamentoId, TipoAlteracao tipo, StatusAgendamento anterior,
+            StatusAgendamento novo) {
+        return new AgendamentoAlteradoEvento(tipo, agendamentoId, 3L, 5L, 9L, 11L, novo, anterior, DATA_HORA, null,
+                LocalDateTime.now(), DETALHES);
+    }
+}
@@ -2,18 +2,22 @@ package com.barbearia.application.services;
 
 import com.barbearia.application.dto.AgendamentoBriefDto;
 import com.barbearia.application.dto.AgendamentoResponseDto;
+import com.barbearia.application.events.AgendamentoAlteradoEvento;
 import com.barbearia.domain.enums.StatusAgendamento;
 import com.barbearia.domain.exceptions.AcessoNegadoException;
 import com.barbearia.domain.exceptions.AgendamentoNaoEncontradoException;
+import com.barbearia.domain.exceptions.ValidacaoException;
 import com.barbearia.infrastructure.persistence.entities.JpaAgendamento;
 import com.barbearia.infrastructure.persistence.repositories.AgendamentoRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -51,6 +55,9 @@ class AgendamentoServiceTest {
         @Mock
         private com.barbearia.infrastructure.persistence.repositories.ClienteRepository clienteRepository;
 
+        @Mock
+        private ApplicationEventPublisher eventPublisher;
+
         @InjectMocks
         private AgendamentoService agendamentoService;
 
@@ -476,8 +483,6 @@ class AgendamentoServiceTest {
                 when(agendamentoRepository.existsConflictByBarbeiroIdAndDataHora(1L, dataFutura))
                                 .thenReturn(false);
                 when(agendamentoRepository.save(any())).thenReturn(agendamentoSalvo);
-                when(clienteRepository.findById(clienteId)).thenReturn(java.util.Optional
-                                .of(new com.barbearia.infrastructure.persistence.entities.JpaCliente()));
 
                 // Act
                 com.barbearia.application.dto.AgendamentoResponseDto resultado = agendamentoService
@@ -536,6 +541,45 @@ class AgendamentoServiceTest {
                 verify(agendamentoRepository, never()).save(any());
         }
 
+        @Test
+        @DisplayName("Deve reunir todos os erros de campo sem consultar o banco nem montar stack trace")
+        void deveReunirTodosOsErrosDeCampo() {
+                // Arrange
+                com.barbearia.application.dto.AgendamentoRequestDto request = new com.barbearia.application.dto.AgendamentoRequestDto(
+                                null, null, now.minusDays(1));
+
+                // Act & Assert
+                assertThatThrownBy(() -> agendamentoService.criarAgendamento(null, request))
+                                .isInstanceOfSatisfying(ValidacaoException.class, e -> {
+                                        assertThat(e.getErros()).containsExactly(
+                                                        "ID do cliente não pode ser nulo",
+                                                        "ID do serviço não pode ser nulo",
+                                                        "ID do funcionário não pode ser nulo",
+                                                        "Data/hora do agendamento não pode ser no passado");
+                                        assertThat(e.getStackTrace()).isEmpty();
+                                });
+
+                verifyNoInteractions(servicoRepository, funcionarioRepository, agendamentoRepository);
+        }
+
+        @Test
+        @DisplayName("Deve reportar serviço e funcionário inexistentes juntos")
+        void deveReportarServicoEFuncionarioInexistentesJuntos() {
+                // Arrange
+                com.barbearia.application.dto.AgendamentoRequestDto request = new com.barbearia.application.dto.AgendamentoRequestDto(
+                                998L, 999L, now.plusDays(1));
+                when(servicoRepository.findById(998L)).thenReturn(Optional.empty());
+                when(funcionarioRepository.findById(999L)).thenReturn(Optional.empty());
+
+                // Act & Assert
+                assertThatThrownBy(() -> agendamentoService.criarAgendamento(clienteId, request))
+                                .isInstanceOf(ValidacaoException.class)
+                                .hasMessage("Serviço com ID 998 não existe; Funcionário com ID 999 não existe");
+
+                verify(agendamentoRepository, never()).existsConflictByBarbeiroIdAndDataHora(any(), any());
+                verify(agendamentoRepository, never()).save(any());
+        }
+
         @Test
         @DisplayName("Deve retornar agendamento com status PENDENTE")
         void deveRetornarAgendamentoComStatusPendente() {
@@ -568,8 +612,6 @@ class AgendamentoServiceTest {
                 when(funcionarioRepository.findById(1L)).thenReturn(java.util.Optional.of(barbeiro));
                 when(profissionalServicoRepository.canPrestarServico(1L, 1L)).thenReturn(true);
                 when(agendamentoRepository.save(any())).thenReturn(agendamentoSalvo);
-                when(clienteRepository.findById(clienteId)).thenReturn(java.util.Optional
-                                .of(new com.barbearia.infrastructure.persistence.entities.JpaCliente()));
                 when(agendamentoRepository.existsConflictByBarbeiroIdAndDataHora(1L, dataFutura))
                                 .thenReturn(false);
 
@@ -616,8 +658,6 @@ class AgendamentoServiceTest {
                 when(funcionarioRepository.findById(1L)).thenReturn(java.util.Optional.of(barbeiro));
                 when(profissionalServicoRepository.canPrestarServico(1L, 1L)).thenReturn(true);
                 when(agendamentoRepository.save(any())).thenReturn(agendamentoSalvo);
-                when(clienteRepository.findById(clienteId)).thenReturn(java.util.Optional
-                                .of(new com.barbearia.infrastructure.persistence.entities.JpaCliente()));
                 when(agendamentoRepository.existsConflictByBarbeiroIdAndDataHora(1L, dataFutura))
                                 .thenReturn(false);
 
@@ -631,6 +671,29 @@ class AgendamentoServiceTest {
                 verify(agendamentoRepository, times(1)).save(any());
         }
 
+        @Test
+        @DisplayName("Deve publicar evento de alteração ao confirmar agendamento")
+        void devePublicarEventoAoConfirmarAgendamento() {
+                // Arrange
+                JpaAgendamento agendamento = criarJpaAgendamento(200L, now.plusDays(1), StatusAgendamento.PENDENTE);
+                when(agendamentoRepository.findById(200L)).thenReturn(Optional.of(agendamento));
+
+                // Act
+                agendamentoService.confirmarAgendamento(200L, 1L, "BARBEARIA");
+
+                // Assert
+                ArgumentCaptor<AgendamentoAlteradoEvento> captor = ArgumentCaptor.forClass(AgendamentoAlteradoEvento.class);
+                verify(eventPublisher).publishEvent(captor.capture());
+                AgendamentoAlteradoEvento evento = captor.getValue();
+                assertThat(evento.tipo()).isEqualTo(AgendamentoAlteradoEvento.TipoAlteracao.CONFIRMADO);
+                assertThat(evento.agendamentoId()).isEqualTo(200L);
+                assertThat(evento.funcionarioId()).isEqualTo(1L);
+                assertThat(evento.barbeariaId()).isEqualTo(1L);
+                assertThat(evento.status()).isEqualTo(StatusAgendamento.CONFIRMADO);
+                assertThat(evento.statusAnterior()).isEqualTo(StatusAgendamento.PENDENTE);
+                assertThat(evento.detalhes()).isEqualTo(AgendamentoAlteradoEvento.Detalhes.VAZIO);
+        }
+
         // ==================== MÉTODOS AUXILIARES ====================
 
         /**
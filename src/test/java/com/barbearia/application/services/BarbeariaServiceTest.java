@@ -4,6 +4,9 @@ import com.barbearia.application.dto.BarbeariaRequestDto;
 import com.barbearia.application.dto.BarbeariaResponseDto;
 import com.barbearia.application.dto.BarbeariaListItemDto;
 import com.barbearia.application.dto.ServicoDto;
+import com.barbearia.application.dto.CatalogoBarbeariaDto;
+import com.barbearia.application.dto.BuscaBarbeariasDto;
+import com.barbearia.application.events.CatalogoAlteradoEvento;
 import com.barbearia.domain.enums.TipoDocumento;
 import com.barbearia.infrastructure.persistence.entities.JpaBarbearia;
 import com.barbearia.infrastructure.persistence.entities.JpaServico;
@@ -11,6 +14,8 @@ import com.barbearia.infrastructure.persistence.entities.JpaServicoCorte;
 import com.barbearia.infrastructure.persistence.entities.JpaServicoBarba;
 import com.barbearia.infrastructure.persistence.repositories.BarbeariaRepository;
 import com.barbearia.infrastructure.persistence.repositories.ServicoRepository;
+import com.barbearia.infrastructure.persistence.repositories.FuncionarioRepository;
+import com.barbearia.infrastructure.persistence.repositories.HorarioFuncionamentoRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +26,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -28,6 +35,8 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -46,6 +55,12 @@ class BarbeariaServiceTest {
     @Mock
     private ServicoRepository servicoRepository;
 
+    @Mock
+    private HorarioFuncionamentoRepository horarioFuncionamentoRepository;
+
+    @Mock
+    private FuncionarioRepository funcionarioRepository;
+
     @Mock
     private BCryptPasswordEncoder passwordEncoder;
 
@@ -644,4 +659,126 @@ class BarbeariaServiceTest {
         );
         verify(servicoRepository, never()).save(any());
     }
+
+    @Test
+    @DisplayName("Deve servir serviços do snapshot em memória na segunda leitura")
+    void deveServirServicosDoSnapshotNaSegundaLeitura() {
+        // Arrange
+        Long barbeariaId = 1L;
+        JpaBarbearia barbearia = new JpaBarbearia();
+        barbearia.setId(barbeariaId);
+        barbearia.setAtivo(true);
+
+        JpaServico servico = new JpaServicoCorte();
+        servico.setId(1L);
+        servico.setNome("Corte de Cabelo");
+        servico.setPreco(BigDecimal.valueOf(50.00));
+        servico.setDuracao(30);
+        servico.setAtivo(true);
+
+        when(barbeariaRepository.findById(barbeariaId)).thenReturn(java.util.Optional.of(barbearia));
+        when(servicoRepository.findByBarbeariaIdAndAtivoTrue(barbeariaId)).thenReturn(List.of(servico));
+
+        // Act
+        List<ServicoDto> primeira = barbeariaService.listarServicosPorBarbearia(barbeariaId);
+        List<ServicoDto> segunda = barbeariaService.listarServicosPorBarbearia(barbeariaId);
+
+        // Assert
+        assertSame(primeira, segunda);
+        verify(barbeariaRepository, times(1)).findById(barbeariaId);
+        verify(servicoRepository, times(1)).findByBarbeariaIdAndAtivoTrue(barbeariaId);
+    }
+
+    @Test
+    @DisplayName("Deve recarregar o catálogo após evento de alteração")
+    void deveRecarregarCatalogoAposEventoDeAlteracao() {
+        // Arrange
+        Long barbeariaId = 1L;
+        JpaBarbearia barbearia = new JpaBarbearia();
+        barbearia.setId(barbeariaId);
+        barbearia.setAtivo(true);
+
+        when(barbeariaRepository.findById(barbeariaId)).thenReturn(java.util.Optional.of(barbearia));
+        when(servicoRepository.findByBarbeariaIdAndAtivoTrue(barbeariaId)).thenReturn(Collections.emptyList());
+        when(funcionarioRepository.findByBarbeariaIdAtivo(barbeariaId)).thenReturn(Collections.emptyList());
+        when(horarioFuncionamentoRepository.findPadraoByBarbeariaIdAtivo(barbeariaId))
+                .thenReturn(Collections.emptyList());
+
+        // Act
+        CatalogoBarbeariaDto antes = barbeariaService.obterCatalogo(barbeariaId);
+        CatalogoBarbeariaDto emCache = barbeariaService.obterCatalogo(barbeariaId);
+        barbeariaService.onCatalogoAlterado(new CatalogoAlteradoEvento(barbeariaId));
+        CatalogoBarbeariaDto depois = barbeariaService.obterCatalogo(barbeariaId);
+
+        // Assert
+        assertSame(antes, emCache);
+        assertNotSame(antes, depois);
+        verify(servicoRepository, times(2)).findByBarbeariaIdAndAtivoTrue(barbeariaId);
+        verify(funcionarioRepository, times(2)).findByBarbeariaIdAtivo(barbeariaId);
+    }
+
+    @Test
+    @DisplayName("Deve descartar listagem de barbearias após cadastro")
+    void deveDescartarListagemAposCadastro() {
+        // Arrange
+        when(barbeariaRepository.findByAtivoTrue()).thenReturn(Collections.emptyList());
+
+        // Act
+        barbeariaService.listarBarbearias();
+        barbeariaService.listarBarbearias();
+        barbeariaService.onCatalogoAlterado(new CatalogoAlteradoEvento(2L));
+        barbeariaService.listarBarbearias();
+
+        // Assert
+        verify(barbeariaRepository, times(2)).findByAtivoTrue();
+    }
+
+    @Test
+    @DisplayName("Deve buscar barbearias por proximidade indicando próxima página")
+    void deveBuscarBarbeariasPorProximidade() {
+        // Arrange
+        Object[] linha1 = { 1L, "Barbearia Centro", "Rua A, Centro", -23.55, -46.63, 0.4213, new BigDecimal("4.50"), 10L };
+        Object[] linha2 = { 2L, "Barbearia Sé", "Praça da Sé", -23.551, -46.634, 1.2, null, 0L };
+        when(barbeariaRepository.buscarParaMarketplace(eq("centro"), eq(-23.55), eq(-46.63),
+                any(), any(), any(), any(), eq(5.0), isNull(), isNull(), isNull(), eq(2), eq(0)))
+                .thenReturn(List.of(linha1, linha2));
+
+        // Act
+        BuscaBarbeariasDto resultado = barbeariaService.buscarBarbearias(" centro ", -23.55, -46.63, 5.0,
+                null, false, 0, 1);
+
+        // Assert
+        assertEquals(1, resultado.itens().size());
+        assertTrue(resultado.temMais());
+        assertEquals("Barbearia Centro", resultado.itens().get(0).nomeFantasia());
+        assertEquals(0.42, resultado.itens().get(0).distanciaKm());
+        assertEquals(10L, resultado.itens().get(0).totalAvaliacoes());
+    }
+
+    @Test
+    @DisplayName("Deve filtrar abertas agora usando 7 para domingo")
+    void deveFiltrarAbertasNoDomingo() {
+        // Arrange: domingo, 10:30
+        LocalDateTime domingo = LocalDateTime.of(2030, 3, 17, 10, 30);
+        when(barbeariaRepository.buscarParaMarketplace(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                isNull(), eq(10.0), isNull(), eq(7), eq(LocalTime.of(10, 30)), eq(21), eq(0)))
+                .thenReturn(List.of());
+
+        // Act
+        BuscaBarbeariasDto resultado = barbeariaService.buscarBarbearias(null, null, null, null, null, true, 0,
+                20, domingo);
+
+        // Assert
+        assertTrue(resultado.itens().isEmpty());
+        verify(barbeariaRepository).buscarParaMarketplace(isNull(), isNull(), isNull(), isNull(), isNull(),
+                isNull(), isNull(), eq(10.0), isNull(), eq(7), eq(LocalTime.of(10, 30)), eq(21), eq(0));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar busca com latitude sem longitude")
+    void deveRejeitarBuscaComLatitudeSemLongitude() {
+        assertThrows(IllegalArgumentException.class,
+                () -> barbeariaService.buscarBarbearias(null, -23.55, null, null, null, false, 0, 20));
+        verifyNoInteractions(barbeariaRepository);
+    }
 }
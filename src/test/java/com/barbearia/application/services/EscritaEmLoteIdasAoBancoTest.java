@@ -0,0 +1,222 @@
+package com.barbearia.application.services;
+
+import com.barbearia.adapters.mappers.FuncionarioMapper;
+import com.barbearia.application.dto.HorarioBloqueadoLoteRequestDto;
+import com.barbearia.application.dto.HorarioBloqueadoRequestDto;
+import com.barbearia.application.dto.HorarioExcecaoLoteRequestDto;
+import com.barbearia.application.dto.HorarioExcecaoRequestDto;
+import com.barbearia.application.dto.HorarioFuncionamentoRequestDto;
+import com.barbearia.application.dto.HorarioLoteRequestDto;
+import com.barbearia.domain.enums.TipoPerfil;
+import com.barbearia.infrastructure.config.LimiteConsultasSql;
+import com.barbearia.infrastructure.config.MonitorConsultasSql.Resumo;
+import com.barbearia.infrastructure.config.MonitoramentoSqlConfig;
+import com.barbearia.infrastructure.persistence.entities.JpaFuncionario;
+import com.barbearia.infrastructure.persistence.entities.JpaServicoCorte;
+import com.barbearia.infrastructure.persistence.repositories.FuncionarioRepository;
+import com.barbearia.infrastructure.persistence.repositories.HorarioBloqueadoRepository;
+import com.barbearia.infrastructure.persistence.repositories.HorarioExcecaoRepository;
+import com.barbearia.infrastructure.persistence.repositories.ProfissionalServicoRepository;
+import com.barbearia.infrastructure.persistence.repositories.ServicoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Idas ao banco das operações em lote comparadas à gravação item a item.
+ *
+ * Cada cenário grava o mesmo volume duas vezes (profissionais diferentes) e
+ * conta os comandos JDBC, incluindo o flush: com IDs por sequence pooled e
+ * hibernate.jdbc.batch_size, o lote fica em um número fixo de comandos.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({HorarioBloqueioService.class, HorarioGestaoService.class, FuncionarioService.class,
+        FuncionarioMapper.class, MonitoramentoSqlConfig.class})
+@DisplayName("Escrita em lote - idas ao banco")
+class EscritaEmLoteIdasAoBancoTest {
+
+    private static final Long BARBEARIA_ID = 1L;
+    private static final int ITENS = 20;
+    // Funcionário, leitura do que já existe, sequence e batch de INSERT/UPDATE
+    private static final int MAXIMO_LOTE = 5;
+
+    @Autowired
+    private HorarioBloqueioService horarioBloqueioService;
+
+    @Autowired
+    private HorarioGestaoService horarioGestaoService;
+
+    @Autowired
+    private FuncionarioService funcionarioService;
+
+    @Autowired
+    private FuncionarioRepository funcionarioRepository;
+
+    @Autowired
+    private ServicoRepository servicoRepository;
+
+    @Autowired
+    private HorarioBloqueadoRepository horarioBloqueadoRepository;
+
+    @Autowired
+    private HorarioExcecaoRepository horarioExcecaoRepository;
+
+    @Autowired
+    private ProfissionalServicoRepository profissionalServicoRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long individualId;
+    private Long loteId;
+
+    @BeforeEach
+    void setUp() {
+        individualId = criarFuncionario("Carlos", "carlos@barbearia.com");
+        loteId = criarFuncionario("Pedro", "pedro@barbearia.com");
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Bloqueios em lote devem usar um número fixo de comandos SQL")
+    void bloqueiosEmLote() throws Exception {
+        // Arrange
+        List<HorarioBloqueadoRequestDto> bloqueios = new ArrayList<>();
+        for (int i = 0; i < ITENS; i++) {
+            bloqueios.add(new HorarioBloqueadoRequestDto(LocalDate.of(2030, 1, 1).plusDays(i),
+                    LocalTime.of(12, 0), LocalTime.of(13, 0), "Almoço"));
+        }
+        HorarioBloqueadoLoteRequestDto lote = new HorarioBloqueadoLoteRequestDto();
+        lote.setBloqueios(bloqueios);
+
+        // Act
+        Resumo individual = contar(() -> bloqueios.forEach(
+                b -> horarioBloqueioService.criarBloqueio(individualId, b, "PROFISSIONAL")));
+        Resumo emLote = contar(() -> horarioBloqueioService.criarBloqueiosEmLote(loteId, lote, "PROFISSIONAL"));
+
+        // Assert
+        assertReducao("bloqueios", individual, emLote);
+        assertEquals(ITENS, horarioBloqueadoRepository.findByFuncionarioIdAndPeriodo(loteId,
+                LocalDate.of(2030, 1, 1), LocalDate.of(2030, 12, 31)).size());
+    }
+
+    @Test
+    @DisplayName("Exceções em lote devem usar um número fixo de comandos SQL")
+    void excecoesEmLote() throws Exception {
+        // Arrange
+        List<HorarioExcecaoRequestDto> excecoes = new ArrayList<>();
+        for (int i = 0; i < ITENS; i++) {
+            excecoes.add(new HorarioExcecaoRequestDto(LocalDate.of(2030, 2, 1).plusDays(i),
+                    LocalTime.of(9, 0), LocalTime.of(14, 0), "Plantão"));
+        }
+        HorarioExcecaoLoteRequestDto lote = new HorarioExcecaoLoteRequestDto();
+        lote.setExcecoes(excecoes);
+
+        // Act
+        Resumo individual = contar(() -> excecoes.forEach(
+                e -> horarioGestaoService.criarExcecao(individualId, e, "BARBEARIA")));
+        Resumo emLote = contar(() -> horarioGestaoService.criarExcecoesEmLote(loteId, lote, "BARBEARIA"));
+
+        // Assert
+        assertReducao("exceções", individual, emLote);
+        assertEquals(ITENS, horarioExcecaoRepository.findByFuncionarioIdAndAtivoTrue(loteId).size());
+    }
+
+    @Test
+    @DisplayName("Horários da semana em lote devem usar um número fixo de comandos SQL")
+    void horariosEmLote() throws Exception {
+        // Arrange: os sete dias da semana, com aberturas diferentes por
+        // profissional (horarios_funcionamento é única por barbearia, dia e
+        // abertura)
+        List<HorarioFuncionamentoRequestDto> horarios = new ArrayList<>();
+        List<HorarioFuncionamentoRequestDto> horariosLote = new ArrayList<>();
+        for (int dia = 0; dia < 7; dia++) {
+            horarios.add(new HorarioFuncionamentoRequestDto(dia, LocalTime.of(9, 0), LocalTime.of(18, 0)));
+            horariosLote.add(new HorarioFuncionamentoRequestDto(dia, LocalTime.of(10, 0), LocalTime.of(19, 0)));
+        }
+        HorarioLoteRequestDto lote = new HorarioLoteRequestDto();
+        lote.setHorarios(horariosLote);
+
+        // Act
+        Resumo individual = contar(() -> horarios.forEach(
+                h -> horarioGestaoService.salvarHorarioFuncionario(BARBEARIA_ID, individualId, h)));
+        Resumo emLote = contar(() -> horarioGestaoService.salvarHorariosEmLote(BARBEARIA_ID, loteId, lote));
+        // Reenviar a semana atualiza as mesmas linhas
+        Resumo atualizacao = contar(() -> horarioGestaoService.salvarHorariosEmLote(BARBEARIA_ID, loteId, lote));
+
+        // Assert
+        assertReducao("horários", individual, emLote);
+        assertTrue(atualizacao.consultas() <= MAXIMO_LOTE,
+                "Atualização da semana usou " + atualizacao.consultas() + " comandos");
+        assertEquals(7, horarioGestaoService.listarHorariosFuncionario(loteId).size());
+    }
+
+    @Test
+    @DisplayName("Associação de serviços em lote deve usar um número fixo de comandos SQL")
+    void associarServicosEmLote() throws Exception {
+        // Arrange
+        List<Long> servicoIds = new ArrayList<>();
+        for (int i = 0; i < ITENS; i++) {
+            JpaServicoCorte corte = new JpaServicoCorte();
+            corte.setNome("Corte " + i);
+            corte.setPreco(new BigDecimal("40.00"));
+            corte.setDuracao(30);
+            corte.setBarbeariaId(BARBEARIA_ID);
+            servicoIds.add(servicoRepository.save(corte).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act: item a item equivale a associar um serviço por chamada
+        Resumo individual = contar(() -> servicoIds.forEach(
+                id -> funcionarioService.associarServicos(BARBEARIA_ID, individualId, List.of(id))));
+        Resumo emLote = contar(() -> funcionarioService.associarServicos(BARBEARIA_ID, loteId, servicoIds));
+
+        // Assert
+        assertReducao("serviços", individual, emLote);
+        assertEquals(ITENS, profissionalServicoRepository.findServicosByFuncionarioIdAtivo(loteId).size());
+    }
+
+    private Resumo contar(Runnable operacao) throws Exception {
+        Resumo resumo = LimiteConsultasSql.contarConsultas(() -> {
+            operacao.run();
+            entityManager.flush();
+        });
+        entityManager.clear();
+        return resumo;
+    }
+
+    private void assertReducao(String cenario, Resumo individual, Resumo emLote) {
+        assertTrue(emLote.consultas() <= MAXIMO_LOTE,
+                String.format("Lote de %s usou %d comandos (item a item: %d)",
+                        cenario, emLote.consultas(), individual.consultas()));
+        assertTrue(emLote.consultas() * 3 < individual.consultas(),
+                String.format("Lote de %s deveria reduzir as idas ao banco: %d no lote, %d item a item",
+                        cenario, emLote.consultas(), individual.consultas()));
+    }
+
+    private Long criarFuncionario(String nome, String email) {
+        JpaFuncionario funcionario = new JpaFuncionario();
+        funcionario.setBarbeariaId(BARBEARIA_ID);
+        funcionario.setNome(nome);
+        funcionario.setEmail(email);
+        funcionario.setPerfilType(TipoPerfil.BARBEIRO);
+        funcionario.setAtivo(true);
+        return funcionarioRepository.save(funcionario).getId();
+    }
+}
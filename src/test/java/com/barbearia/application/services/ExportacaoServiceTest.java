@@ -0,0 +1,81 @@
+package com.barbearia.application.services;
+
+import com.barbearia.domain.enums.FormatoExportacao;
+import com.barbearia.domain.enums.NaturezaLancamento;
+import com.barbearia.domain.enums.OrigemLancamento;
+import com.barbearia.infrastructure.exportacao.EscritorPlanilha;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ ExportacaoService.class, LivroRazaoService.class })
+@DisplayName("ExportacaoService - Testes de Integração")
+class ExportacaoServiceTest {
+
+    @Autowired
+    private ExportacaoService exportacaoService;
+
+    @Autowired
+    private LivroRazaoService livroRazaoService;
+
+    @Test
+    @DisplayName("Deve exportar em CSV apenas os lançamentos da barbearia no período, em ordem de data")
+    void deveExportarLancamentosDoPeriodo() throws IOException {
+        // Arrange
+        livroRazaoService.lancar(NaturezaLancamento.DESPESA, OrigemLancamento.DESPESA, 3L, 1L,
+                new BigDecimal("120.00"), "ALUGUEL", "Aluguel de março", LocalDate.of(2025, 3, 5));
+        livroRazaoService.lancar(NaturezaLancamento.RECEITA_EXTRA, OrigemLancamento.RECEITA, 4L, 1L,
+                new BigDecimal("35.00"), "VENDA_PRODUTO", "Pomada", LocalDate.of(2025, 3, 1));
+        livroRazaoService.lancar(NaturezaLancamento.RECEITA_EXTRA, OrigemLancamento.RECEITA, 5L, 1L,
+                new BigDecimal("10.00"), "OUTROS", "Fora do período", LocalDate.of(2025, 4, 1));
+        livroRazaoService.lancar(NaturezaLancamento.RECEITA_EXTRA, OrigemLancamento.RECEITA, 6L, 2L,
+                new BigDecimal("99.00"), "OUTROS", "Outra barbearia", LocalDate.of(2025, 3, 2));
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        // Act
+        long linhas = exportacaoService.exportarLancamentos(1L, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31),
+                EscritorPlanilha.para(FormatoExportacao.CSV, saida, "Lançamentos"));
+
+        // Assert
+        assertEquals(2, linhas);
+        String[] csv = saida.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(3, csv.length);
+        assertTrue(csv[1].contains(",2025-03-01,RECEITA_EXTRA,VENDA_PRODUTO,Pomada,35.00,RECEITA,4,"));
+        assertTrue(csv[2].contains(",2025-03-05,DESPESA,ALUGUEL,Aluguel de março,-120.00,DESPESA,3,"));
+    }
+
+    @Test
+    @DisplayName("Deve exportar apenas o cabeçalho quando não houver agendamentos no período")
+    void deveExportarCabecalhoSemAgendamentos() throws IOException {
+        // Arrange
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        // Act
+        long linhas = exportacaoService.exportarAgendamentos(1L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31),
+                EscritorPlanilha.para(FormatoExportacao.CSV, saida, "Agendamentos"));
+
+        // Assert
+        assertEquals(0, linhas);
+        assertTrue(saida.toString(StandardCharsets.UTF_8).startsWith("\uFEFFID,Data/Hora,Status,Cliente"));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o período estiver invertido")
+    void deveLancarExcecaoQuandoPeriodoInvertido() {
+        assertThrows(IllegalArgumentException.class, () -> exportacaoService.validarPeriodo(1L,
+                LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1)));
+    }
+}
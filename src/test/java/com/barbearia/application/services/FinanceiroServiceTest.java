@@ -6,9 +6,11 @@ import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,9 +20,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.barbearia.application.dto.ReceitaExtraRequestDto;
 import com.barbearia.application.dto.RelatorioFinanceiroDto;
 import com.barbearia.application.dto.RelatorioFinanceiroDto.ServicoRentabilidadeDto;
+import com.barbearia.domain.enums.CategoriaReceitaExtra;
+import com.barbearia.domain.enums.NaturezaLancamento;
+import com.barbearia.domain.enums.OrigemLancamento;
 import com.barbearia.domain.enums.PeriodoRelatorio;
+import com.barbearia.infrastructure.persistence.entities.JpaReceita;
 import com.barbearia.infrastructure.persistence.repositories.AgendamentoRepository;
 import com.barbearia.infrastructure.persistence.repositories.DespesaRepository;
 import com.barbearia.infrastructure.persistence.repositories.ReceitaRepository;
@@ -35,6 +42,7 @@ import com.barbearia.infrastructure.persistence.repositories.ReceitaRepository;
  * - Cálculo de percentuais de faturamento
  * - Tratamento de casos sem dados
  * - Validação de parâmetros
+ * - Lançamentos no livro-razão ao editar receitas
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("FinanceiroService - Testes de Gestão Financeira")
@@ -49,6 +57,9 @@ class FinanceiroServiceTest {
         @Mock
         private DespesaRepository despesaRepository;
 
+        @Mock
+        private LivroRazaoService livroRazaoService;
+
         @InjectMocks
         private FinanceiroService financeiroService;
 
@@ -358,4 +369,31 @@ class FinanceiroServiceTest {
                 });
                 return servicos;
         }
+
+        @Test
+        @DisplayName("Editar receita deve estornar o lançamento anterior e lançar o novo valor")
+        void editarReceitaDeveEstornarELancarNoLivroRazao() {
+                // Arrange
+                JpaReceita receita = new JpaReceita();
+                receita.setId(5L);
+                receita.setBarbeariaId(barbeariaId);
+                receita.setValor(new BigDecimal("80.00"));
+                receita.setCategoria(CategoriaReceitaExtra.VENDA_PRODUTO);
+                receita.setDataTransacao(LocalDate.of(2025, 3, 10));
+                when(receitaRepository.findById(5L)).thenReturn(Optional.of(receita));
+                when(receitaRepository.save(receita)).thenReturn(receita);
+
+                ReceitaExtraRequestDto dto = new ReceitaExtraRequestDto(new BigDecimal("95.00"),
+                                CategoriaReceitaExtra.VENDA_PRODUTO, "Pomada", LocalDate.of(2025, 3, 11));
+
+                // Act
+                financeiroService.editarReceita(barbeariaId, 5L, dto);
+
+                // Assert
+                var ordem = inOrder(livroRazaoService);
+                ordem.verify(livroRazaoService).estornar(OrigemLancamento.RECEITA, 5L, barbeariaId);
+                ordem.verify(livroRazaoService).lancar(NaturezaLancamento.RECEITA_EXTRA, OrigemLancamento.RECEITA,
+                                5L, barbeariaId, new BigDecimal("95.00"), "VENDA_PRODUTO", "Pomada",
+                                LocalDate.of(2025, 3, 11));
+        }
 }
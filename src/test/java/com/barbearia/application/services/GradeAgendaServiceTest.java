@@ -0,0 +1,190 @@
+package com.barbearia.application.services;
+
+import com.barbearia.application.dto.GradeAgendaDiaDto;
+import com.barbearia.domain.enums.StatusAgendamento;
+import com.barbearia.domain.enums.TipoPerfil;
+import com.barbearia.infrastructure.persistence.entities.*;
+import com.barbearia.infrastructure.persistence.repositories.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes para GradeAgendaService - grade do dia da recepção.
+ *
+ * @author Sua Barbearia Team
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para GradeAgendaService - Grade do dia")
+public class GradeAgendaServiceTest {
+
+        @Mock
+        private FuncionarioRepository funcionarioRepository;
+
+        @Mock
+        private HorarioFuncionamentoRepository horarioFuncionamentoRepository;
+
+        @Mock
+        private HorarioExcecaoRepository horarioExcecaoRepository;
+
+        @Mock
+        private HorarioBloqueadoRepository horarioBloqueadoRepository;
+
+        @Mock
+        private AgendamentoRepository agendamentoRepository;
+
+        @Mock
+        private ServicoRepository servicoRepository;
+
+        @Mock
+        private ClienteRepository clienteRepository;
+
+        private GradeAgendaService gradeAgendaService;
+
+        private static final Long BARBEARIA_ID = 1L;
+        private static final Long FUNCIONARIO_ID = 10L;
+        private LocalDate data;
+
+        @BeforeEach
+        void setUp() {
+                gradeAgendaService = new GradeAgendaService(
+                                funcionarioRepository,
+                                horarioFuncionamentoRepository,
+                                horarioExcecaoRepository,
+                                horarioBloqueadoRepository,
+                                agendamentoRepository,
+                                servicoRepository,
+                                clienteRepository);
+                data = LocalDate.now().plusDays(1);
+        }
+
+        @Test
+        @DisplayName("Deve retornar grade vazia sem consultar horários quando não há profissionais")
+        void deveRetornarGradeVaziaSemProfissionais() {
+                // Arrange
+                when(funcionarioRepository.findByBarbeariaIdAtivo(BARBEARIA_ID)).thenReturn(List.of());
+
+                // Act
+                GradeAgendaDiaDto grade = gradeAgendaService.montarGradeDia(BARBEARIA_ID, data);
+
+                // Assert
+                assertTrue(grade.profissionais().isEmpty());
+                verifyNoInteractions(horarioFuncionamentoRepository, agendamentoRepository);
+        }
+
+        @Test
+        @DisplayName("Deve montar grade com agendamentos, bloqueios e intervalos livres")
+        void deveMontarGradeComIntervalosLivres() {
+                // Arrange
+                JpaFuncionario barbeiro = new JpaFuncionario();
+                barbeiro.setId(FUNCIONARIO_ID);
+                barbeiro.setBarbeariaId(BARBEARIA_ID);
+                barbeiro.setNome("João");
+                barbeiro.setPerfilType(TipoPerfil.BARBEIRO);
+                barbeiro.setAtivo(true);
+
+                JpaServicoCorte servico = new JpaServicoCorte();
+                servico.setId(5L);
+                servico.setNome("Corte de Cabelo");
+                servico.setDuracao(30);
+                servico.setPreco(new BigDecimal("50.00"));
+
+                JpaCliente cliente = new JpaCliente();
+                cliente.setId(7L);
+                cliente.setNome("Pedro");
+
+                JpaAgendamento agendamento = new JpaAgendamento();
+                agendamento.setId(100L);
+                agendamento.setBarbeiroId(FUNCIONARIO_ID);
+                agendamento.setServicoId(5L);
+                agendamento.setClienteId(7L);
+                agendamento.setDataHora(data.atTime(10, 0));
+                agendamento.setStatus(StatusAgendamento.CONFIRMADO);
+
+                JpaHorarioBloqueado bloqueio = new JpaHorarioBloqueado(FUNCIONARIO_ID, data,
+                                LocalTime.of(12, 0), LocalTime.of(13, 0), "Almoço", "BARBEARIA");
+
+                when(funcionarioRepository.findByBarbeariaIdAtivo(BARBEARIA_ID)).thenReturn(List.of(barbeiro));
+                when(horarioFuncionamentoRepository.findByFuncionarioIdInAtivo(anyList())).thenReturn(List.of());
+                when(horarioFuncionamentoRepository.findPadraoByBarbeariaIdAtivo(BARBEARIA_ID))
+                                .thenReturn(List.of(new JpaHorarioFuncionamento(BARBEARIA_ID,
+                                                data.getDayOfWeek().getValue(), LocalTime.of(9, 0), LocalTime.of(18, 0))));
+                when(horarioExcecaoRepository.findByFuncionarioIdInAndPeriodo(anyList(), eqData(), eqData()))
+                                .thenReturn(List.of());
+                when(horarioBloqueadoRepository.findByFuncionarioIdInAndPeriodo(anyList(), eqData(), eqData()))
+                                .thenReturn(List.of(bloqueio));
+                when(agendamentoRepository.findNaoCanceladosByBarbeiroIdInAndPeriodo(anyList(),
+                                any(LocalDateTime.class), any(LocalDateTime.class)))
+                                .thenReturn(List.of(agendamento));
+                when(servicoRepository.findAllById(anyList())).thenReturn(new ArrayList<>(List.of(servico)));
+                when(clienteRepository.findAllById(anyList())).thenReturn(new ArrayList<>(List.of(cliente)));
+
+                // Act
+                GradeAgendaDiaDto grade = gradeAgendaService.montarGradeDia(BARBEARIA_ID, data);
+
+                // Assert
+                assertEquals(1, grade.profissionais().size());
+                GradeAgendaDiaDto.ProfissionalGradeDto profissional = grade.profissionais().get(0);
+                assertEquals(LocalTime.of(9, 0), profissional.horaAbertura());
+                assertEquals(LocalTime.of(18, 0), profissional.horaFechamento());
+
+                assertEquals(1, profissional.agendamentos().size());
+                assertEquals("Corte de Cabelo", profissional.agendamentos().get(0).servicoNome());
+                assertEquals("Pedro", profissional.agendamentos().get(0).clienteNome());
+                assertEquals(LocalTime.of(10, 30), profissional.agendamentos().get(0).fim());
+
+                assertEquals(List.of(
+                                new GradeAgendaDiaDto.IntervaloDto(LocalTime.of(9, 0), LocalTime.of(10, 0), null),
+                                new GradeAgendaDiaDto.IntervaloDto(LocalTime.of(10, 30), LocalTime.of(12, 0), null),
+                                new GradeAgendaDiaDto.IntervaloDto(LocalTime.of(13, 0), LocalTime.of(18, 0), null)),
+                                profissional.livres());
+
+                // Número fixo de consultas, independente do volume
+                verify(agendamentoRepository, times(1)).findNaoCanceladosByBarbeiroIdInAndPeriodo(anyList(),
+                                any(LocalDateTime.class), any(LocalDateTime.class));
+                verify(servicoRepository, times(1)).findAllById(anyList());
+        }
+
+        @Test
+        @DisplayName("ETag deve mudar quando os marcadores de versão mudam")
+        void deveAlterarEtagQuandoVersaoMuda() {
+                // Arrange
+                List<Object[]> versao1 = new ArrayList<>();
+                versao1.add(new Object[] { "2025-11-26 10:00:00", 3L });
+                List<Object[]> versao2 = new ArrayList<>();
+                versao2.add(new Object[] { "2025-11-26 10:05:00", 3L });
+                when(agendamentoRepository.buscarVersaoGradeDia(any(), any(), any(), any()))
+                                .thenReturn(versao1)
+                                .thenReturn(versao1)
+                                .thenReturn(versao2);
+
+                // Act
+                String etag1 = gradeAgendaService.calcularEtagGrade(BARBEARIA_ID, data);
+                String etag1Repetido = gradeAgendaService.calcularEtagGrade(BARBEARIA_ID, data);
+                String etag2 = gradeAgendaService.calcularEtagGrade(BARBEARIA_ID, data);
+
+                // Assert
+                assertEquals(etag1, etag1Repetido);
+                assertNotEquals(etag1, etag2);
+                assertTrue(etag1.startsWith("\"") && etag1.endsWith("\""));
+        }
+
+        private LocalDate eqData() {
+                return org.mockito.ArgumentMatchers.eq(data);
+        }
+}
@@ -112,15 +112,40 @@ class HorarioBloqueioServiceTest {
         funcionario.setNome("João");
 
         when(funcionarioRepository.findById(funcionarioId)).thenReturn(Optional.of(funcionario));
-        when(horarioBloqueadoRepository.existsSobreposicao(any(), any(), any(), any())).thenReturn(false);
-        when(horarioBloqueadoRepository.save(any(JpaHorarioBloqueado.class)))
-                .thenAnswer(i -> (JpaHorarioBloqueado) i.getArgument(0));
+        when(horarioBloqueadoRepository.findByFuncionarioIdAndPeriodo(funcionarioId, b1.getData(), b2.getData()))
+                .thenReturn(Collections.emptyList());
+        when(horarioBloqueadoRepository.saveAll(anyList()))
+                .thenAnswer(i -> i.getArgument(0));
 
         List<HorarioBloqueadoResponseDto> responses = horarioBloqueioService.criarBloqueiosEmLote(funcionarioId, lote,
                 "PROFISSIONAL");
 
         assertEquals(2, responses.size());
-        verify(horarioBloqueadoRepository, times(2)).save(any());
+        verify(horarioBloqueadoRepository, times(1)).saveAll(anyList());
+        verify(horarioBloqueadoRepository, never()).save(any());
+        verify(horarioBloqueadoRepository, never()).existsSobreposicao(any(), any(), any(), any());
+    }
+
+    @Test
+    void deveRecusarLoteComBloqueiosSobrepostosEntreSi() {
+        Long funcionarioId = 1L;
+        HorarioBloqueadoRequestDto b1 = new HorarioBloqueadoRequestDto(
+                LocalDate.now(), LocalTime.of(10, 0), LocalTime.of(11, 0), "B1");
+        HorarioBloqueadoRequestDto b2 = new HorarioBloqueadoRequestDto(
+                LocalDate.now(), LocalTime.of(10, 30), LocalTime.of(11, 30), "B2");
+
+        HorarioBloqueadoLoteRequestDto lote = new HorarioBloqueadoLoteRequestDto();
+        lote.setBloqueios(Arrays.asList(b1, b2));
+
+        JpaFuncionario funcionario = new JpaFuncionario();
+        funcionario.setId(funcionarioId);
+        funcionario.setNome("João");
+
+        when(funcionarioRepository.findById(funcionarioId)).thenReturn(Optional.of(funcionario));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> horarioBloqueioService.criarBloqueiosEmLote(funcionarioId, lote, "PROFISSIONAL"));
+        verify(horarioBloqueadoRepository, never()).saveAll(anyList());
     }
 
     @Test
@@ -2,6 +2,9 @@ package com.barbearia.application.services;
 
 import com.barbearia.application.dto.HorarioExcecaoRequestDto;
 import com.barbearia.application.dto.HorarioExcecaoResponseDto;
+import com.barbearia.application.dto.HorarioFuncionamentoRequestDto;
+import com.barbearia.application.dto.HorarioFuncionamentoResponseDto;
+import com.barbearia.application.dto.HorarioLoteRequestDto;
 import com.barbearia.infrastructure.persistence.entities.JpaFuncionario;
 import com.barbearia.infrastructure.persistence.entities.JpaHorarioExcecao;
 import com.barbearia.infrastructure.persistence.repositories.FuncionarioRepository;
@@ -23,6 +26,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @SuppressWarnings("null")
@@ -178,4 +182,25 @@ class HorarioGestaoServiceTest {
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> horarioGestaoService.removerExcecao(10L, 1L, "BARBEARIA"));
     }
+
+    @Test
+    @DisplayName("Deve devolver um registro por dia quando o lote repete um dia")
+    void deveDevolverUmRegistroPorDiaNoLote() {
+        // Arrange
+        HorarioLoteRequestDto lote = new HorarioLoteRequestDto();
+        lote.setHorarios(List.of(
+                new HorarioFuncionamentoRequestDto(1, LocalTime.of(9, 0), LocalTime.of(18, 0)),
+                new HorarioFuncionamentoRequestDto(2, LocalTime.of(9, 0), LocalTime.of(18, 0)),
+                new HorarioFuncionamentoRequestDto(1, LocalTime.of(10, 0), LocalTime.of(19, 0))));
+        when(funcionarioRepository.findById(1L)).thenReturn(Optional.of(funcionario));
+        when(horarioFuncionamentoRepository.findByFuncionarioId(1L)).thenReturn(List.of());
+
+        // Act
+        List<HorarioFuncionamentoResponseDto> resultado = horarioGestaoService.salvarHorariosEmLote(1L, 1L, lote);
+
+        // Assert: o dia repetido vale pelo último e aparece uma vez
+        assertEquals(List.of(1, 2), resultado.stream().map(HorarioFuncionamentoResponseDto::getDiaSemana).toList());
+        assertEquals(LocalTime.of(10, 0), resultado.get(0).getHoraAbertura());
+        verify(horarioFuncionamentoRepository).saveAll(argThat(salvos -> ((List<?>) salvos).size() == 2));
+    }
 }
@@ -1,8 +1,11 @@
 package com.barbearia.application.services;
 
 import com.barbearia.application.dto.HorarioDisponivelDto;
+import com.barbearia.domain.exceptions.ValidacaoException;
+import com.barbearia.infrastructure.metrics.MetricasNegocio;
 import com.barbearia.infrastructure.persistence.entities.*;
 import com.barbearia.infrastructure.persistence.repositories.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -63,9 +66,11 @@ public class HorarioServiceTest {
         private static final Long SERVICO_ID = 1L;
         private static final Long FUNCIONARIO_ID = 1L;
         private LocalDate dataManhã;
+        private SimpleMeterRegistry meterRegistry;
 
         @BeforeEach
         void setUp() {
+                meterRegistry = new SimpleMeterRegistry();
                 horarioService = new HorarioService(
                                 funcionarioRepository,
                                 profissionalServicoRepository,
@@ -73,7 +78,8 @@ public class HorarioServiceTest {
                                 agendamentoRepository,
                                 servicoRepository,
                                 horarioBloqueioService,
-                                horarioExcecaoRepository);
+                                horarioExcecaoRepository,
+                                new MetricasNegocio(meterRegistry, 16));
                 dataManhã = LocalDate.now().plusDays(1);
         }
 
@@ -113,6 +119,19 @@ public class HorarioServiceTest {
                 assertTrue(resultado.isEmpty());
         }
 
+        @Test
+        @DisplayName("Deve recusar mês e ano inválidos nas datas disponíveis sem consultar o banco")
+        void testObterDatasDisponiveisComMesEAnoInvalidos() {
+                // Act
+                ValidacaoException erro = assertThrows(ValidacaoException.class,
+                                () -> horarioService.obterDatasDisponiveis(BARBEARIA_ID, SERVICO_ID, 99999, 13, null));
+
+                // Assert
+                assertEquals(List.of("Mês deve estar entre 1 e 12", "Ano deve estar entre 2000 e 2100"),
+                                erro.getErros());
+                verifyNoInteractions(servicoRepository);
+        }
+
         @Test
         @DisplayName("Deve retornar lista vazia quando data é no passado")
         void testObterHorariosDisponiveisComDataNoPast() {
@@ -230,6 +249,72 @@ public class HorarioServiceTest {
                 assertFalse(resultado.isEmpty());
                 assertTrue(resultado.stream().allMatch(h -> "João".equals(h.getFuncionarioNome())));
                 assertTrue(resultado.stream().allMatch(h -> "BARBEIRO".equals(h.getProfissao())));
+
+                // Métricas do cálculo (barbearia 1 → faixa "01")
+                assertEquals(1, meterRegistry.get("barbearia.disponibilidade.calculo")
+                                .tag("barbearia.faixa", "01").tag("resultado", "com_horarios").timer().count());
+                assertEquals(resultado.size(), meterRegistry.get("barbearia.disponibilidade.horarios")
+                                .summary().totalAmount());
+                assertEquals(1, meterRegistry.get("barbearia.disponibilidade.profissionais")
+                                .summary().totalAmount());
+        }
+
+        @Test
+        @DisplayName("Próximos horários: deve retornar lista vazia quando não há profissionais qualificados")
+        void testBuscarProximosHorariosSemProfissionais() {
+                // Arrange
+                when(servicoRepository.findById(SERVICO_ID)).thenReturn(Optional.of(criarServicoMock()));
+                when(profissionalServicoRepository.findFuncionariosByServicoIdAtivo(SERVICO_ID))
+                                .thenReturn(Collections.emptyList());
+
+                // Act
+                List<HorarioDisponivelDto> resultado = horarioService.buscarProximosHorariosDisponiveis(
+                                BARBEARIA_ID, SERVICO_ID, 3, 7, null);
+
+                // Assert
+                assertTrue(resultado.isEmpty());
+                verify(funcionarioRepository, never()).findByIdInAtivo(any());
+                verify(agendamentoRepository, never()).findNaoCanceladosByBarbeiroIdInAndPeriodo(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Próximos horários: deve parar na quantidade pedida e ignorar horários ocupados")
+        void testBuscarProximosHorariosComTerminoAntecipado() {
+                // Arrange
+                JpaFuncionario funcionario = criarFuncionarioMock();
+                JpaAgendamento ocupado = new JpaAgendamento();
+                ocupado.setBarbeiroId(FUNCIONARIO_ID);
+                ocupado.setDataHora(dataManhã.atTime(9, 30));
+                ocupado.setStatus(com.barbearia.domain.enums.StatusAgendamento.CONFIRMADO);
+
+                when(servicoRepository.findById(SERVICO_ID)).thenReturn(Optional.of(criarServicoMock()));
+                when(profissionalServicoRepository.findFuncionariosByServicoIdAtivo(SERVICO_ID))
+                                .thenReturn(List.of(criarProfissionalServicoMock()));
+                when(funcionarioRepository.findByIdInAtivo(List.of(FUNCIONARIO_ID)))
+                                .thenReturn(List.of(funcionario));
+                when(horarioFuncionamentoRepository.findPadraoByBarbeariaIdAtivo(BARBEARIA_ID))
+                                .thenReturn(List.of(criarHorarioFuncionamentoMock()));
+                when(agendamentoRepository.findNaoCanceladosByBarbeiroIdInAndPeriodo(
+                                eq(List.of(FUNCIONARIO_ID)), any(LocalDateTime.class), any(LocalDateTime.class)))
+                                .thenReturn(List.of(ocupado));
+
+                // Act
+                List<HorarioDisponivelDto> resultado = horarioService.buscarProximosHorariosDisponiveis(
+                                BARBEARIA_ID, SERVICO_ID, 3, 14, null);
+
+                // Assert
+                assertEquals(3, resultado.size());
+                assertTrue(resultado.stream().allMatch(h -> dataManhã.equals(h.getData())));
+                assertEquals(LocalTime.of(9, 0), resultado.get(0).getHorarioInicio());
+                assertEquals(LocalTime.of(10, 0), resultado.get(1).getHorarioInicio());
+                assertEquals(LocalTime.of(10, 30), resultado.get(2).getHorarioInicio());
+
+                // Número fixo de consultas, sem consultas por profissional ou por dia
+                verify(funcionarioRepository, never()).findByIdAtivo(anyLong());
+                verify(agendamentoRepository, times(1)).findNaoCanceladosByBarbeiroIdInAndPeriodo(
+                                any(), any(LocalDateTime.class), any(LocalDateTime.class));
+                verify(horarioBloqueioService, times(1)).listarBloqueiosPorFuncionariosEPeriodo(
+                                any(), any(LocalDate.class), any(LocalDate.class));
         }
 
         // ==================== Métodos auxiliares para criar mocks ====================
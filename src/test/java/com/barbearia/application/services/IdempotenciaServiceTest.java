@@ -0,0 +1,187 @@
+package com.barbearia.application.services;
+
+import com.barbearia.application.services.IdempotenciaService.Reserva;
+import com.barbearia.application.services.IdempotenciaService.Situacao;
+import com.barbearia.infrastructure.persistence.entities.JpaChaveIdempotencia;
+import com.barbearia.infrastructure.persistence.repositories.ChaveIdempotenciaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotenciaService - Testes")
+class IdempotenciaServiceTest {
+
+    @Mock
+    private ChaveIdempotenciaRepository chaveIdempotenciaRepository;
+
+    @InjectMocks
+    private IdempotenciaService service;
+
+    private static final String CHAVE = "4f2a9c1e-chave";
+    private static final String USUARIO = "ROLE_CLIENTE|cliente@email.com";
+
+    private String hash;
+
+    @BeforeEach
+    void setUp() {
+        hash = service.calcularHash("POST", "/api/agendamentos", "{\"servicoId\":1}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Deve reservar chave nova")
+    void deveReservarChaveNova() {
+        // Arrange
+        when(chaveIdempotenciaRepository.findByChaveAndUsuario(CHAVE, USUARIO)).thenReturn(Optional.empty());
+        when(chaveIdempotenciaRepository.saveAndFlush(any(JpaChaveIdempotencia.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Reserva reserva = service.reservar(CHAVE, USUARIO, hash);
+
+        // Assert
+        assertEquals(Situacao.NOVA, reserva.situacao());
+        assertEquals(hash, reserva.registro().getHashRequisicao());
+        assertTrue(reserva.registro().getExpiraEm().isAfter(LocalDateTime.now()));
+        assertTrue(reserva.registro().getExpiraEm().isBefore(LocalDateTime.now().plusHours(1)),
+                "reserva sem resposta deve ter prazo curto");
+    }
+
+    @Test
+    @DisplayName("Deve devolver resposta guardada quando a mesma requisição é repetida")
+    void deveDevolverRespostaGuardada() {
+        // Arrange
+        JpaChaveIdempotencia registro = new JpaChaveIdempotencia(CHAVE, USUARIO, hash, LocalDateTime.now().plusHours(1));
+        registro.setStatusResposta(201);
+        registro.setCorpoResposta("{\"id\":10}");
+        when(chaveIdempotenciaRepository.findByChaveAndUsuario(CHAVE, USUARIO)).thenReturn(Optional.of(registro));
+
+        // Act
+        Reserva reserva = service.reservar(CHAVE, USUARIO, hash);
+
+        // Assert
+        assertEquals(Situacao.CONCLUIDA, reserva.situacao());
+        assertEquals(201, reserva.registro().getStatusResposta());
+        verify(chaveIdempotenciaRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Deve indicar conflito quando a chave é reutilizada com outra requisição")
+    void deveIndicarConflitoComOutraRequisicao() {
+        // Arrange
+        JpaChaveIdempotencia registro = new JpaChaveIdempotencia(CHAVE, USUARIO, "outro-hash",
+                LocalDateTime.now().plusHours(1));
+        registro.setStatusResposta(201);
+        when(chaveIdempotenciaRepository.findByChaveAndUsuario(CHAVE, USUARIO)).thenReturn(Optional.of(registro));
+
+        // Act
+        Reserva reserva = service.reservar(CHAVE, USUARIO, hash);
+
+        // Assert
+        assertEquals(Situacao.CONFLITO, reserva.situacao());
+    }
+
+    @Test
+    @DisplayName("Deve indicar requisição em andamento quando ainda não há resposta")
+    void deveIndicarEmAndamento() {
+        // Arrange
+        JpaChaveIdempotencia registro = new JpaChaveIdempotencia(CHAVE, USUARIO, hash, LocalDateTime.now().plusHours(1));
+        when(chaveIdempotenciaRepository.findByChaveAndUsuario(CHAVE, USUARIO)).thenReturn(Optional.of(registro));
+
+        // Act
+        Reserva reserva = service.reservar(CHAVE, USUARIO, hash);
+
+        // Assert
+        assertEquals(Situacao.EM_ANDAMENTO, reserva.situacao());
+    }
+
+    @Test
+    @DisplayName("Deve substituir chave expirada por nova reserva")
+    void deveSubstituirChaveExpirada() {
+        // Arrange
+        JpaChaveIdempotencia expirada = new JpaChaveIdempotencia(CHAVE, USUARIO, "outro-hash",
+                LocalDateTime.now().minusMinutes(1));
+        when(chaveIdempotenciaRepository.findByChaveAndUsuario(CHAVE, USUARIO)).thenReturn(Optional.of(expirada));
+        when(chaveIdempotenciaRepository.saveAndFlush(any(JpaChaveIdempotencia.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Reserva reserva = service.reservar(CHAVE, USUARIO, hash);
+
+        // Assert
+        assertEquals(Situacao.NOVA, reserva.situacao());
+        verify(chaveIdempotenciaRepository).delete(expirada);
+    }
+
+    @Test
+    @DisplayName("Deve assumir reserva em andamento cujo prazo venceu (requisição interrompida)")
+    void deveAssumirReservaEmAndamentoVencida() {
+        // Arrange: mesma requisição, sem resposta, prazo da reserva vencido
+        JpaChaveIdempotencia abandonada = new JpaChaveIdempotencia(CHAVE, USUARIO, hash,
+                LocalDateTime.now().minusSeconds(1));
+        when(chaveIdempotenciaRepository.findByChaveAndUsuario(CHAVE, USUARIO)).thenReturn(Optional.of(abandonada));
+        when(chaveIdempotenciaRepository.saveAndFlush(any(JpaChaveIdempotencia.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Reserva reserva = service.reservar(CHAVE, USUARIO, hash);
+
+        // Assert
+        assertEquals(Situacao.NOVA, reserva.situacao());
+        verify(chaveIdempotenciaRepository).delete(abandonada);
+    }
+
+    @Test
+    @DisplayName("Deve estender a validade da chave ao registrar a resposta")
+    void deveEstenderValidadeAoRegistrarResposta() {
+        // Arrange
+        JpaChaveIdempotencia registro = new JpaChaveIdempotencia(CHAVE, USUARIO, hash,
+                LocalDateTime.now().plusMinutes(1));
+        registro.setId(7L);
+        when(chaveIdempotenciaRepository.registrarResposta(eq(7L), eq(201), eq("application/json"),
+                eq("{\"id\":10}"), any(LocalDateTime.class))).thenReturn(1);
+
+        // Act
+        boolean registrada = service.registrarResposta(new Reserva(Situacao.NOVA, registro), 201,
+                "application/json", "{\"id\":10}");
+
+        // Assert
+        assertTrue(registrada);
+        verify(chaveIdempotenciaRepository).registrarResposta(eq(7L), eq(201), eq("application/json"),
+                eq("{\"id\":10}"), argThat(expiraEm -> expiraEm.isAfter(LocalDateTime.now().plusHours(23))));
+    }
+
+    @Test
+    @DisplayName("Não deve gravar resposta em reserva assumida por outra tentativa")
+    void naoDeveGravarRespostaEmReservaAssumida() {
+        // Arrange
+        JpaChaveIdempotencia registro = new JpaChaveIdempotencia(CHAVE, USUARIO, hash,
+                LocalDateTime.now().minusMinutes(1));
+        registro.setId(7L);
+        when(chaveIdempotenciaRepository.registrarResposta(eq(7L), eq(201), any(), any(), any(LocalDateTime.class)))
+                .thenReturn(0);
+
+        // Act & Assert
+        assertFalse(service.registrarResposta(new Reserva(Situacao.NOVA, registro), 201, "application/json", "{}"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar chave vazia")
+    void deveRejeitarChaveVazia() {
+        assertThrows(IllegalArgumentException.class, () -> service.reservar(" ", USUARIO, hash));
+    }
+}
@@ -0,0 +1,169 @@
+package com.barbearia.application.services;
+
+import com.barbearia.application.dto.ResultadoImportacaoDto;
+import com.barbearia.domain.enums.FormatoImportacao;
+import com.barbearia.domain.enums.OrigemLancamento;
+import com.barbearia.domain.enums.TipoPerfil;
+import com.barbearia.infrastructure.persistence.entities.JpaCliente;
+import com.barbearia.infrastructure.persistence.entities.JpaFuncionario;
+import com.barbearia.infrastructure.persistence.entities.JpaLancamentoFinanceiro;
+import com.barbearia.infrastructure.persistence.entities.JpaServicoCorte;
+import com.barbearia.infrastructure.persistence.repositories.ClienteRepository;
+import com.barbearia.infrastructure.persistence.repositories.FuncionarioRepository;
+import com.barbearia.infrastructure.persistence.repositories.LancamentoFinanceiroRepository;
+import com.barbearia.infrastructure.persistence.repositories.ServicoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ImportacaoService.class, JacksonAutoConfiguration.class})
+@TestPropertySource(properties = "importacao.tamanho-lote=2")
+@DisplayName("ImportacaoService - Testes de Integração")
+class ImportacaoServiceTest {
+
+    private static final Long BARBEARIA_ID = 4L;
+
+    @Autowired
+    private ImportacaoService importacaoService;
+
+    @Autowired
+    private ServicoRepository servicoRepository;
+
+    @Autowired
+    private FuncionarioRepository funcionarioRepository;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private LancamentoFinanceiroRepository lancamentoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long profissionalId;
+
+    @BeforeEach
+    void setUp() {
+        JpaServicoCorte corte = new JpaServicoCorte();
+        corte.setNome("Corte Clássico");
+        corte.setPreco(new BigDecimal("45.00"));
+        corte.setDuracao(30);
+        corte.setBarbeariaId(BARBEARIA_ID);
+        servicoRepository.save(corte);
+
+        JpaFuncionario carlos = new JpaFuncionario();
+        carlos.setBarbeariaId(BARBEARIA_ID);
+        carlos.setNome("Carlos");
+        carlos.setEmail("carlos@barbearia.com");
+        carlos.setPerfilType(TipoPerfil.BARBEIRO);
+        carlos.setAtivo(true);
+        profissionalId = funcionarioRepository.save(carlos).getId();
+
+        JpaCliente joao = new JpaCliente("João", "joao@email.com", "x", "11911112222", "CLIENTE");
+        clienteRepository.save(joao);
+    }
+
+    @Test
+    @DisplayName("Deve importar agendamentos em lotes, criando clientes e recusando linhas inválidas")
+    void deveImportarAgendamentosEmLotes() throws IOException {
+        // Arrange
+        String csv = "data_hora,cliente_nome,cliente_telefone,cliente_email,servico,profissional,status\n"
+                + "2024-03-10 14:30,João,11911112222,,corte classico,Carlos,\n"
+                + "10/03/2024 15:00,Pedro,11933334444,joao@email.com,Corte Clássico,carlos@barbearia.com,\n"
+                + "2024-03-10T16:00,Pedro,11933334444,,Corte Clássico,,CANCELADO\n"
+                + "2024-03-11 10:00,Ana,11955556666,,Barba,,\n"
+                + "ontem,Ana,11955556666,,Corte Clássico,,\n"
+                + "2024-03-12 10:00,Ana,11955556666,,Corte Clássico,Ninguém,\n";
+
+        // Act
+        ResultadoImportacaoDto resultado = importacaoService.importarAgendamentos(BARBEARIA_ID,
+                FormatoImportacao.CSV, entrada(csv), false);
+
+        // Assert
+        assertEquals(6, resultado.registrosLidos());
+        assertEquals(3, resultado.importados());
+        assertEquals(3, resultado.recusados());
+        assertEquals(List.of(5L, 6L, 7L), resultado.erros().stream().map(e -> e.linha()).toList());
+        assertTrue(resultado.erros().get(0).mensagem().contains("Serviço não encontrado"));
+
+        assertEquals(3, contar("SELECT COUNT(*) FROM agendamentos WHERE barbearia_id = " + BARBEARIA_ID));
+        assertEquals(2, contar("SELECT COUNT(*) FROM agendamentos WHERE status = 'CONCLUIDO' AND barbeiro_id = "
+                + profissionalId));
+        // Pedro é criado uma vez; o email informado já era do João
+        JpaCliente pedro = clienteRepository.findByTelefone("11933334444").orElseThrow();
+        assertEquals("11933334444@placeholder.local", pedro.getEmail());
+
+        // Somente os concluídos geram receita no livro-razão
+        assertEquals(2, contar("SELECT COUNT(*) FROM lancamentos_financeiros WHERE origem = 'AGENDAMENTO'"));
+    }
+
+    @Test
+    @DisplayName("Deve importar despesas e receitas de NDJSON com lançamentos no livro-razão")
+    void deveImportarTransacoesComLancamentos() throws IOException {
+        // Arrange
+        String ndjson = "{\"valor\": \"1.500,00\", \"categoria\": \"aluguel\", \"data\": \"05/03/2024\"}\n"
+                + "{\"tipo\": \"RECEITA\", \"valor\": 80, \"categoria\": \"VENDA_PRODUTO\", \"data\": \"2024-03-06\"}\n"
+                + "{\"tipo\": \"DESPESA\", \"valor\": \"-10\", \"categoria\": \"ALUGUEL\", \"data\": \"2024-03-06\"}\n";
+
+        // Act
+        ResultadoImportacaoDto resultado = importacaoService.importarTransacoes(BARBEARIA_ID,
+                FormatoImportacao.NDJSON, entrada(ndjson), false);
+
+        // Assert
+        assertEquals(2, resultado.importados());
+        assertEquals(1, resultado.recusados());
+        assertEquals(3L, resultado.erros().get(0).linha());
+
+        Long despesaId = jdbcTemplate.queryForObject("SELECT id FROM despesas WHERE barbearia_id = ?", Long.class,
+                BARBEARIA_ID);
+        List<JpaLancamentoFinanceiro> lancamentos = lancamentoRepository
+                .findByOrigemAndOrigemIdAndBarbeariaId(OrigemLancamento.DESPESA, despesaId, BARBEARIA_ID);
+        assertEquals(1, lancamentos.size());
+        assertEquals(0, new BigDecimal("-1500.00").compareTo(lancamentos.get(0).getValor()));
+        assertEquals(1, contar("SELECT COUNT(*) FROM receitas_extras WHERE barbearia_id = " + BARBEARIA_ID));
+    }
+
+    @Test
+    @DisplayName("Simulação deve validar sem gravar")
+    void simulacaoDeveValidarSemGravar() throws IOException {
+        // Arrange
+        String csv = "tipo;valor;categoria;data\nDESPESA;100,00;ENERGIA;2024-03-01\nDESPESA;abc;ENERGIA;2024-03-01\n";
+
+        // Act
+        ResultadoImportacaoDto resultado = importacaoService.importarTransacoes(BARBEARIA_ID,
+                FormatoImportacao.CSV, entrada(csv), true);
+
+        // Assert
+        assertTrue(resultado.simulacao());
+        assertEquals(1, resultado.importados());
+        assertEquals(1, resultado.recusados());
+        assertEquals(0, contar("SELECT COUNT(*) FROM despesas"));
+    }
+
+    private long contar(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private static InputStream entrada(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,235 @@
+package com.barbearia.application.services;
+
+import com.barbearia.application.events.AgendamentoAlteradoEvento;
+import com.barbearia.application.events.AgendamentoAlteradoEvento.TipoAlteracao;
+import com.barbearia.application.ports.NotificacaoService;
+import com.barbearia.domain.enums.StatusAgendamento;
+import com.barbearia.domain.enums.StatusLembrete;
+import com.barbearia.domain.enums.TipoLembrete;
+import com.barbearia.infrastructure.metrics.MetricasNegocio;
+import com.barbearia.infrastructure.persistence.entities.JpaAgendamento;
+import com.barbearia.infrastructure.persistence.entities.JpaCliente;
+import com.barbearia.infrastructure.persistence.entities.JpaLembreteAgendamento;
+import com.barbearia.infrastructure.persistence.entities.JpaServicoCorte;
+import com.barbearia.infrastructure.persistence.repositories.AgendamentoRepository;
+import com.barbearia.infrastructure.persistence.repositories.ClienteRepository;
+import com.barbearia.infrastructure.persistence.repositories.LembreteAgendamentoRepository;
+import com.barbearia.infrastructure.persistence.repositories.ServicoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({LembreteAgendamentoService.class, MetricasNegocio.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = {"lembretes.envios-por-segundo=1000", "lembretes.intervalo-ms=300000"})
+@DisplayName("LembreteAgendamentoService - Testes de Integração")
+class LembreteAgendamentoServiceTest {
+
+    private static final LocalDateTime AGORA = LocalDateTime.of(2030, 5, 10, 9, 2);
+
+    @Autowired
+    private LembreteAgendamentoService service;
+
+    @Autowired
+    private LembreteAgendamentoRepository repository;
+
+    @Autowired
+    private AgendamentoRepository agendamentoRepository;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private ServicoRepository servicoRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockitoBean
+    private NotificacaoService notificacaoService;
+
+    private JpaAgendamento agendamento;
+
+    @BeforeEach
+    void setUp() {
+        JpaCliente cliente = clienteRepository.save(
+                new JpaCliente("Maria", "maria@email.com", "x", "11987654321", "CLIENTE"));
+        JpaServicoCorte corte = new JpaServicoCorte();
+        corte.setNome("Corte Feminino");
+        corte.setPreco(new BigDecimal("80.00"));
+        corte.setDuracao(60);
+        corte.setBarbeariaId(1L);
+        servicoRepository.save(corte);
+
+        agendamento = new JpaAgendamento();
+        agendamento.setClienteId(cliente.getId());
+        agendamento.setBarbeariaId(1L);
+        agendamento.setServicoId(corte.getId());
+        agendamento.setDataHora(AGORA.plusHours(1).withMinute(0));
+        agendamento.setStatus(StatusAgendamento.CONFIRMADO);
+        agendamento.setDataCriacao(AGORA);
+        agendamento.setDataAtualizacao(AGORA);
+        agendamento = agendamentoRepository.save(agendamento);
+    }
+
+    @Test
+    @DisplayName("Deve programar apenas os lembretes cujo envio ainda não passou e refazê-los no reagendamento")
+    void deveProgramarLembretesEReprogramarNoReagendamento() {
+        // Act
+        service.programar(agendamento.getId(), AGORA.plusHours(30), AGORA);
+        service.programar(agendamento.getId(), AGORA.plusHours(30), AGORA);
+        service.onAgendamentoAlterado(evento(TipoAlteracao.REAGENDADO, LocalDateTime.now().plusHours(5)));
+
+        // Assert
+        List<JpaLembreteAgendamento> lembretes = repository.findByAgendamentoIdOrderByEnviarEm(agendamento.getId());
+        assertEquals(1, lembretes.size());
+        assertEquals(TipoLembrete.UMA_HORA, lembretes.get(0).getTipo());
+
+        service.onAgendamentoAlterado(evento(TipoAlteracao.CANCELADO, null));
+        assertTrue(repository.findByAgendamentoIdOrderByEnviarEm(agendamento.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve enviar os lembretes do balde atual uma única vez")
+    void deveEnviarLembretesDoBaldeUmaUnicaVez() {
+        // Arrange: lembrete de uma hora antes vence às 09:00, no balde 09:00-09:05
+        service.programar(agendamento.getId(), agendamento.getDataHora(), AGORA.minusDays(2));
+        when(notificacaoService.enviarMensagemWhatsApp(anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        int processados = service.despachar(() -> AGORA);
+        int reprocessados = service.despachar(() -> AGORA);
+
+        // Assert
+        entityManager.clear();
+        assertEquals(2, processados);
+        assertEquals(0, reprocessados);
+        verify(notificacaoService, times(2)).enviarMensagemWhatsApp(eq("11987654321"), contains("Corte Feminino"));
+        assertTrue(repository.findByAgendamentoIdOrderByEnviarEm(agendamento.getId()).stream()
+                .allMatch(lembrete -> lembrete.getStatus() == StatusLembrete.ENVIADO));
+    }
+
+    @Test
+    @DisplayName("Falha no envio deve devolver o lembrete à fila; agendamento cancelado deve expirá-lo")
+    void falhaDeveReprogramarECanceladoDeveExpirar() {
+        // Arrange
+        agendamento.setDataHora(AGORA.plusHours(3).withMinute(0));
+        agendamento = agendamentoRepository.save(agendamento);
+        repository.save(new JpaLembreteAgendamento(agendamento.getId(), agendamento.getDataHora(),
+                TipoLembrete.VESPERA));
+        when(notificacaoService.enviarMensagemWhatsApp(anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Twilio fora do ar")));
+
+        // Act
+        service.despachar(() -> AGORA);
+
+        // Assert
+        entityManager.clear();
+        JpaLembreteAgendamento lembrete = repository.findByAgendamentoIdOrderByEnviarEm(agendamento.getId()).get(0);
+        assertEquals(StatusLembrete.PENDENTE, lembrete.getStatus());
+        assertEquals(1, lembrete.getTentativas());
+        assertEquals("Twilio fora do ar", lembrete.getErro());
+        assertTrue(lembrete.getEnviarEm().isAfter(AGORA));
+
+        // Act: cancelado antes da nova tentativa
+        JpaAgendamento cancelado = agendamentoRepository.findById(agendamento.getId()).orElseThrow();
+        cancelado.setStatus(StatusAgendamento.CANCELADO);
+        agendamentoRepository.save(cancelado);
+        LocalDateTime novaTentativa = lembrete.getEnviarEm();
+        service.despachar(() -> novaTentativa);
+
+        // Assert
+        entityManager.clear();
+        lembrete = repository.findById(lembrete.getId()).orElseThrow();
+        assertEquals(StatusLembrete.EXPIRADO, lembrete.getStatus());
+        verify(notificacaoService, times(1)).enviarMensagemWhatsApp(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Cada lote deve usar o horário em que sai para a reserva e para expirar lembretes")
+    void cadaLoteDeveUsarOHorarioAtual() {
+        // Arrange: três lotes de um lembrete; o primeiro envio leva dois minutos
+        repository.save(new JpaLembreteAgendamento(agendamento.getId(), agendamento.getDataHora(),
+                TipoLembrete.VESPERA));
+        JpaAgendamento emUmMinuto = novoAgendamento(AGORA.plusMinutes(1));
+        JpaLembreteAgendamento expira = repository.save(new JpaLembreteAgendamento(emUmMinuto.getId(),
+                emUmMinuto.getDataHora(), TipoLembrete.UMA_HORA));
+        JpaAgendamento emMeiaHora = novoAgendamento(AGORA.plusMinutes(30));
+        JpaLembreteAgendamento enviado = repository.save(new JpaLembreteAgendamento(emMeiaHora.getId(),
+                emMeiaHora.getDataHora(), TipoLembrete.UMA_HORA));
+
+        AtomicReference<LocalDateTime> relogio = new AtomicReference<>(AGORA);
+        List<LocalDateTime> reservas = new ArrayList<>();
+        when(notificacaoService.enviarMensagemWhatsApp(anyString(), anyString())).thenAnswer(invocation -> {
+            entityManager.clear();
+            reservas.add(repository.findByAgendamentoIdOrderByEnviarEm(emMeiaHora.getId()).get(0).getReservadoAte());
+            relogio.set(AGORA.plusMinutes(2));
+            return CompletableFuture.completedFuture(null);
+        });
+
+        // Act
+        int loteOriginal = (Integer) ReflectionTestUtils.getField(service, "lote");
+        ReflectionTestUtils.setField(service, "lote", 1);
+        try {
+            service.despachar(relogio::get);
+        } finally {
+            ReflectionTestUtils.setField(service, "lote", loteOriginal);
+        }
+
+        // Assert
+        entityManager.clear();
+        assertEquals(StatusLembrete.EXPIRADO, repository.findById(expira.getId()).orElseThrow().getStatus());
+        assertEquals(StatusLembrete.ENVIADO, repository.findById(enviado.getId()).orElseThrow().getStatus());
+        verify(notificacaoService, times(2)).enviarMensagemWhatsApp(anyString(), anyString());
+        assertEquals(AGORA.plusMinutes(2).plusSeconds(300), reservas.get(1));
+    }
+
+    @Test
+    @DisplayName("Fim do balde deve ser alinhado ao intervalo")
+    void fimDoBaldeDeveSerAlinhado() {
+        assertEquals(LocalDateTime.of(2030, 5, 10, 9, 5), service.fimDoBalde(AGORA));
+        assertEquals(LocalDateTime.of(2030, 5, 10, 9, 10), service.fimDoBalde(AGORA.withMinute(5)));
+    }
+
+    private JpaAgendamento novoAgendamento(LocalDateTime dataHora) {
+        JpaAgendamento novo = new JpaAgendamento();
+        novo.setClienteId(agendamento.getClienteId());
+        novo.setBarbeariaId(1L);
+        novo.setServicoId(agendamento.getServicoId());
+        novo.setDataHora(dataHora);
+        novo.setStatus(StatusAgendamento.CONFIRMADO);
+        novo.setDataCriacao(AGORA);
+        novo.setDataAtualizacao(AGORA);
+        return agendamentoRepository.save(novo);
+    }
+
+    private AgendamentoAlteradoEvento evento(TipoAlteracao tipo, LocalDateTime dataHora) {
+        return new AgendamentoAlteradoEvento(tipo, agendamento.getId(), 1L, null, agendamento.getClienteId(),
+                agendamento.getServicoId(), agendamento.getStatus(), null, dataHora, null, LocalDateTime.now(),
+                AgendamentoAlteradoEvento.Detalhes.VAZIO);
+    }
+}
@@ -0,0 +1,175 @@
+package com.barbearia.application.services;
+
+import com.barbearia.application.dto.AgendamentoBriefDto;
+import com.barbearia.application.dto.LinhaDoTempoClienteDto;
+import com.barbearia.domain.enums.StatusAgendamento;
+import com.barbearia.domain.enums.TipoDocumento;
+import com.barbearia.domain.enums.TipoPerfil;
+import com.barbearia.infrastructure.config.LimiteConsultasSql;
+import com.barbearia.infrastructure.config.MonitoramentoSqlConfig;
+import com.barbearia.infrastructure.persistence.entities.JpaAgendamento;
+import com.barbearia.infrastructure.persistence.entities.JpaBarbearia;
+import com.barbearia.infrastructure.persistence.entities.JpaCliente;
+import com.barbearia.infrastructure.persistence.entities.JpaFuncionario;
+import com.barbearia.infrastructure.persistence.entities.JpaServicoCorte;
+import com.barbearia.infrastructure.persistence.repositories.AgendamentoRepository;
+import com.barbearia.infrastructure.persistence.repositories.BarbeariaRepository;
+import com.barbearia.infrastructure.persistence.repositories.ClienteRepository;
+import com.barbearia.infrastructure.persistence.repositories.FuncionarioRepository;
+import com.barbearia.infrastructure.persistence.repositories.ServicoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({LinhaDoTempoClienteService.class, MonitoramentoSqlConfig.class})
+@DisplayName("LinhaDoTempoClienteService - Testes de Integração")
+class LinhaDoTempoClienteServiceTest {
+
+    private static final LocalDateTime AGORA = LocalDateTime.of(2030, 5, 10, 12, 0);
+
+    @Autowired
+    private LinhaDoTempoClienteService service;
+
+    @Autowired
+    private AgendamentoRepository agendamentoRepository;
+
+    @Autowired
+    private BarbeariaRepository barbeariaRepository;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private FuncionarioRepository funcionarioRepository;
+
+    @Autowired
+    private ServicoRepository servicoRepository;
+
+    private Long clienteId;
+    private Long barbeariaId;
+    private Long servicoId;
+    private Long profissionalId;
+
+    @BeforeEach
+    void setUp() {
+        JpaBarbearia barbearia = new JpaBarbearia();
+        barbearia.setNome("Carlos Oliveira");
+        barbearia.setEmail("carlos.oliveira@email.com");
+        barbearia.setSenha("senhaHasheada456");
+        barbearia.setTelefone("21998765432");
+        barbearia.setNomeFantasia("Barbearia Premium");
+        barbearia.setTipoDocumento(TipoDocumento.CNPJ);
+        barbearia.setDocumento("11222333000181");
+        barbearia.setEndereco("Av. Principal, 500 - Rio de Janeiro/RJ");
+        barbearia.setAtivo(true);
+        barbearia.setRole("BARBEARIA");
+        barbeariaId = barbeariaRepository.save(barbearia).getId();
+
+        JpaServicoCorte corte = new JpaServicoCorte();
+        corte.setNome("Corte Clássico");
+        corte.setPreco(new BigDecimal("45.00"));
+        corte.setDuracao(30);
+        corte.setBarbeariaId(barbeariaId);
+        servicoId = servicoRepository.save(corte).getId();
+
+        JpaFuncionario carlos = new JpaFuncionario();
+        carlos.setBarbeariaId(barbeariaId);
+        carlos.setNome("Carlos");
+        carlos.setEmail("carlos@barbearia.com");
+        carlos.setPerfilType(TipoPerfil.BARBEIRO);
+        carlos.setAtivo(true);
+        profissionalId = funcionarioRepository.save(carlos).getId();
+
+        clienteId = clienteRepository.save(
+                new JpaCliente("João", "joao@email.com", "x", "11911112222", "CLIENTE")).getId();
+        JpaCliente outro = clienteRepository.save(
+                new JpaCliente("Ana", "ana@email.com", "x", "11933334444", "CLIENTE"));
+
+        // Dois próximos, cinco anteriores (dois no mesmo horário) e um de outro cliente
+        agendar(clienteId, AGORA.plusDays(3), StatusAgendamento.PENDENTE);
+        agendar(clienteId, AGORA.plusHours(2), StatusAgendamento.CONFIRMADO);
+        agendar(clienteId, AGORA.minusDays(1), StatusAgendamento.CONCLUIDO);
+        agendar(clienteId, AGORA.minusDays(2), StatusAgendamento.CONCLUIDO);
+        agendar(clienteId, AGORA.minusDays(2), StatusAgendamento.CANCELADO);
+        agendar(clienteId, AGORA.minusDays(5), StatusAgendamento.FALTOU);
+        agendar(clienteId, AGORA.minusDays(9), StatusAgendamento.CONCLUIDO);
+        agendar(outro.getId(), AGORA.minusDays(1), StatusAgendamento.CONCLUIDO);
+    }
+
+    @Test
+    @DisplayName("Deve trazer próximos e histórico com nomes em uma consulta e paginar por cursor sem repetir itens")
+    void deveMontarLinhaDoTempoPaginadaPorCursor() throws Exception {
+        // Act
+        LinhaDoTempoClienteDto[] primeira = new LinhaDoTempoClienteDto[1];
+        LimiteConsultasSql.assertMaximoConsultas(1, () -> primeira[0] = service.montar(clienteId, null, 2, AGORA));
+
+        // Assert
+        LinhaDoTempoClienteDto pagina = primeira[0];
+        assertEquals(List.of(AGORA.plusHours(2), AGORA.plusDays(3)),
+                pagina.proximos().stream().map(AgendamentoBriefDto::dataHora).toList());
+        AgendamentoBriefDto proximo = pagina.proximos().get(0);
+        assertEquals("Barbearia Premium", proximo.nomeBarbearia());
+        assertEquals("Carlos", proximo.nomeBarbeiro());
+        assertEquals("Corte Clássico", proximo.nomeServico());
+        assertEquals(2, pagina.anteriores().size());
+        assertNotNull(pagina.proximoCursor());
+
+        List<AgendamentoBriefDto> historico = new ArrayList<>(pagina.anteriores());
+        while (pagina.proximoCursor() != null) {
+            pagina = service.montar(clienteId, pagina.proximoCursor(), 2, AGORA);
+            assertTrue(pagina.proximos().isEmpty());
+            historico.addAll(pagina.anteriores());
+        }
+        assertEquals(5, historico.size());
+        assertEquals(5, historico.stream().map(AgendamentoBriefDto::id).distinct().count());
+        assertEquals(List.of(AGORA.minusDays(1), AGORA.minusDays(2), AGORA.minusDays(2), AGORA.minusDays(5),
+                AGORA.minusDays(9)), historico.stream().map(AgendamentoBriefDto::dataHora).toList());
+    }
+
+    @Test
+    @DisplayName("ETag deve mudar quando um agendamento é criado ou passa para o histórico")
+    void etagDeveMudarComNovosAgendamentosEComOTempo() {
+        // Arrange
+        String inicial = service.calcularEtag(clienteId, null, 20, AGORA);
+
+        // Act & Assert
+        assertEquals(inicial, service.calcularEtag(clienteId, null, 20, AGORA));
+        assertNotEquals(inicial, service.calcularEtag(clienteId, null, 10, AGORA));
+        assertNotEquals(inicial, service.calcularEtag(clienteId, null, 20, AGORA.plusHours(3)));
+
+        agendar(clienteId, AGORA.plusDays(7), StatusAgendamento.PENDENTE);
+        assertNotEquals(inicial, service.calcularEtag(clienteId, null, 20, AGORA));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor inválido")
+    void deveRejeitarCursorInvalido() {
+        IllegalArgumentException erro = assertThrows(IllegalArgumentException.class,
+                () -> service.montar(clienteId, "nao-e-um-cursor", 20, AGORA));
+        assertEquals("Cursor inválido", erro.getMessage());
+    }
+
+    private void agendar(Long cliente, LocalDateTime dataHora, StatusAgendamento status) {
+        JpaAgendamento agendamento = new JpaAgendamento();
+        agendamento.setClienteId(cliente);
+        agendamento.setBarbeariaId(barbeariaId);
+        agendamento.setBarbeiroId(profissionalId);
+        agendamento.setServicoId(servicoId);
+        agendamento.setDataHora(dataHora);
+        agendamento.setStatus(status);
+        agendamentoRepository.saveAndFlush(agendamento);
+    }
+}
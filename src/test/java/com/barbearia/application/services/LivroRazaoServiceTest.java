@@ -0,0 +1,186 @@
+package com.barbearia.application.services;
+
+import com.barbearia.application.dto.DemonstrativoResultadoDto;
+import com.barbearia.domain.enums.NaturezaLancamento;
+import com.barbearia.domain.enums.OrigemLancamento;
+import com.barbearia.infrastructure.persistence.entities.JpaLancamentoFinanceiro;
+import com.barbearia.infrastructure.persistence.repositories.LancamentoFinanceiroRepository;
+import com.barbearia.infrastructure.persistence.repositories.SaldoMensalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(LivroRazaoService.class)
+@TestPropertySource(properties = "financeiro.saldos.atraso-consolidacao-s=0")
+@DisplayName("LivroRazaoService - Testes de Integração")
+class LivroRazaoServiceTest {
+
+    private static final Long BARBEARIA_ID = 7L;
+
+    @Autowired
+    private LivroRazaoService livroRazaoService;
+
+    @Autowired
+    private LancamentoFinanceiroRepository lancamentoRepository;
+
+    @Autowired
+    private SaldoMensalRepository saldoMensalRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        lancar(NaturezaLancamento.RECEITA_SERVICO, OrigemLancamento.AGENDAMENTO, 1L, "50.00", "2025-01-15");
+        lancar(NaturezaLancamento.RECEITA_EXTRA, OrigemLancamento.RECEITA, 1L, "30.00", "2025-02-10");
+        lancar(NaturezaLancamento.DESPESA, OrigemLancamento.DESPESA, 1L, "20.00", "2025-02-20");
+        lancar(NaturezaLancamento.RECEITA_SERVICO, OrigemLancamento.AGENDAMENTO, 2L, "40.00", "2025-03-05");
+        // Outra barbearia não entra no demonstrativo
+        livroRazaoService.lancar(NaturezaLancamento.RECEITA_EXTRA, OrigemLancamento.RECEITA, 9L, 99L,
+                new BigDecimal("500.00"), "OUTROS", null, LocalDate.parse("2025-02-01"));
+    }
+
+    @Test
+    @DisplayName("Despesas devem ser gravadas com valor negativo")
+    void despesasDevemSerGravadasComValorNegativo() {
+        // Act
+        List<JpaLancamentoFinanceiro> lancamentos = lancamentoRepository
+                .findByOrigemAndOrigemIdAndBarbeariaId(OrigemLancamento.DESPESA, 1L, BARBEARIA_ID);
+
+        // Assert
+        assertEquals(1, lancamentos.size());
+        assertEquals(0, new BigDecimal("-20.00").compareTo(lancamentos.get(0).getValor()));
+    }
+
+    @Test
+    @DisplayName("Demonstrativo deve somar meses inteiros e pontas parciais")
+    void demonstrativoDeveSomarMesesInteirosEPontas() {
+        // Act
+        DemonstrativoResultadoDto resultado = livroRazaoService.calcularResultado(BARBEARIA_ID,
+                LocalDate.parse("2025-01-10"), LocalDate.parse("2025-03-31"));
+
+        // Assert
+        assertValores(resultado, "90.00", "30.00", "20.00", "100.00");
+    }
+
+    @Test
+    @DisplayName("Demonstrativo deve ser igual antes e depois da consolidação, incluindo a cauda")
+    void demonstrativoDeveSerIgualAntesEDepoisDaConsolidacao() {
+        // Act
+        long consolidados = livroRazaoService.consolidarSaldos();
+        lancar(NaturezaLancamento.DESPESA, OrigemLancamento.DESPESA, 2L, "10.00", "2025-02-25");
+
+        // Assert
+        assertEquals(5, consolidados);
+        assertEquals(4, saldoMensalRepository.count());
+        assertValores(livroRazaoService.calcularResultado(BARBEARIA_ID,
+                LocalDate.parse("2025-01-10"), LocalDate.parse("2025-03-31")), "90.00", "30.00", "30.00", "90.00");
+        assertValores(livroRazaoService.calcularResultado(BARBEARIA_ID,
+                LocalDate.parse("2025-02-01"), LocalDate.parse("2025-02-28")), "0", "30.00", "30.00", "0");
+        assertValores(livroRazaoService.calcularResultado(BARBEARIA_ID,
+                LocalDate.parse("2025-02-15"), LocalDate.parse("2025-02-21")), "0", "0", "20.00", "-20.00");
+    }
+
+    @Test
+    @DisplayName("Consolidação sem lançamentos novos não deve alterar saldos")
+    void consolidacaoSemLancamentosNovosNaoDeveAlterarSaldos() {
+        // Act
+        livroRazaoService.consolidarSaldos();
+        long segunda = livroRazaoService.consolidarSaldos();
+
+        // Assert
+        assertEquals(0, segunda);
+        assertValores(livroRazaoService.calcularResultado(BARBEARIA_ID,
+                LocalDate.parse("2025-01-01"), LocalDate.parse("2025-03-31")), "90.00", "30.00", "20.00", "100.00");
+    }
+
+    @Test
+    @DisplayName("Lançamento gravado depois da consolidação com id abaixo da marca d'água deve entrar no saldo")
+    void lancamentoComCommitAtrasadoDeveEntrarNoSaldo() {
+        // Arrange: o id do atrasado foi reservado antes do seguinte, mas o
+        // commit só acontece depois da consolidação
+        JpaLancamentoFinanceiro atrasado = livroRazaoService.lancar(NaturezaLancamento.DESPESA,
+                OrigemLancamento.DESPESA, 3L, BARBEARIA_ID, new BigDecimal("15.00"), "OUTROS", null,
+                LocalDate.parse("2025-02-12"));
+        lancar(NaturezaLancamento.RECEITA_EXTRA, OrigemLancamento.RECEITA, 4L, "5.00", "2025-03-20");
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createNativeQuery("DELETE FROM lancamentos_financeiros WHERE id = :id")
+                .setParameter("id", atrasado.getId())
+                .executeUpdate();
+        entityManager.clear();
+
+        long antes = livroRazaoService.consolidarSaldos();
+        entityManager.getEntityManager()
+                .createNativeQuery("INSERT INTO lancamentos_financeiros (id, barbearia_id, natureza, origem, "
+                        + "origem_id, valor, categoria, data_competencia, data_criacao) "
+                        + "VALUES (:id, :barbeariaId, 'DESPESA', 'DESPESA', 3, -15.00, 'OUTROS', "
+                        + "DATE '2025-02-12', CURRENT_TIMESTAMP)")
+                .setParameter("id", atrasado.getId())
+                .setParameter("barbeariaId", BARBEARIA_ID)
+                .executeUpdate();
+
+        // Act
+        long depois = livroRazaoService.consolidarSaldos();
+
+        // Assert: o id do atrasado já estava abaixo da marca d'água, mas o mês é recalculado
+        assertEquals(6, antes);
+        assertEquals(0, depois);
+        assertValores(livroRazaoService.calcularResultado(BARBEARIA_ID,
+                LocalDate.parse("2025-02-01"), LocalDate.parse("2025-02-28")), "0", "30.00", "35.00", "-5.00");
+        assertValores(livroRazaoService.calcularResultado(BARBEARIA_ID,
+                LocalDate.parse("2025-01-01"), LocalDate.parse("2025-03-31")), "90.00", "35.00", "35.00", "90.00");
+    }
+
+    @Test
+    @DisplayName("Estorno deve zerar a participação do registro de origem")
+    void estornoDeveZerarParticipacaoDaOrigem() {
+        // Arrange
+        livroRazaoService.consolidarSaldos();
+
+        // Act
+        int estornos = livroRazaoService.estornar(OrigemLancamento.DESPESA, 1L, BARBEARIA_ID);
+        int repetido = livroRazaoService.estornar(OrigemLancamento.DESPESA, 1L, BARBEARIA_ID);
+
+        // Assert
+        assertEquals(1, estornos);
+        assertEquals(0, repetido);
+        assertValores(livroRazaoService.calcularResultado(BARBEARIA_ID,
+                LocalDate.parse("2025-01-01"), LocalDate.parse("2025-03-31")), "90.00", "30.00", "0", "120.00");
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando data inicial for posterior à final")
+    void deveLancarExcecaoQuandoDatasInvertidas() {
+        assertThrows(IllegalArgumentException.class, () -> livroRazaoService.calcularResultado(BARBEARIA_ID,
+                LocalDate.parse("2025-03-01"), LocalDate.parse("2025-02-01")));
+    }
+
+    private void lancar(NaturezaLancamento natureza, OrigemLancamento origem, Long origemId, String valor,
+            String data) {
+        livroRazaoService.lancar(natureza, origem, origemId, BARBEARIA_ID, new BigDecimal(valor), "OUTROS",
+                null, LocalDate.parse(data));
+    }
+
+    private static void assertValores(DemonstrativoResultadoDto resultado, String receitasServicos,
+            String receitasExtras, String despesas, String lucro) {
+        assertEquals(0, new BigDecimal(receitasServicos).compareTo(resultado.receitasServicos()), "receitasServicos");
+        assertEquals(0, new BigDecimal(receitasExtras).compareTo(resultado.receitasExtras()), "receitasExtras");
+        assertEquals(0, new BigDecimal(despesas).compareTo(resultado.despesas()), "despesas");
+        assertEquals(0, new BigDecimal(lucro).compareTo(resultado.resultado()), "resultado");
+    }
+}
@@ -10,6 +10,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -98,4 +100,108 @@ class ProfissionalLinkServiceTest {
         assertFalse(funcionario.getTokenAtivo());
         verify(funcionarioRepository).save(funcionario);
     }
+
+    @Test
+    @DisplayName("Deve reutilizar validação em cache para o mesmo token")
+    void deveReutilizarTokenEmCache() {
+        // Arrange
+        String token = "valid-token";
+        when(funcionarioRepository.findByTokenValidoComExpiracao(eq(token), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(funcionario));
+
+        // Act
+        service.validarToken(token);
+        service.validarToken(token);
+        JpaFuncionario resultado = service.validarToken(token);
+
+        // Assert
+        assertEquals(funcionario.getId(), resultado.getId());
+        verify(funcionarioRepository, times(1)).findByTokenValidoComExpiracao(eq(token), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Deve lembrar tokens inválidos sem consultar o banco novamente")
+    void deveLembrarTokenInvalido() {
+        // Arrange
+        String token = "invalid-token";
+        when(funcionarioRepository.findByTokenValidoComExpiracao(eq(token), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> service.validarToken(token));
+        assertThrows(IllegalArgumentException.class, () -> service.validarToken(token));
+        verify(funcionarioRepository, times(1)).findByTokenValidoComExpiracao(eq(token), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Varredura de tokens desconhecidos não deve tirar do cache os tokens válidos")
+    void varreduraNaoDeveDescartarTokensValidos() {
+        // Arrange
+        String token = "valid-token";
+        when(funcionarioRepository.findByTokenValidoComExpiracao(any(), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+        when(funcionarioRepository.findByTokenValidoComExpiracao(eq(token), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(funcionario));
+        service.validarToken(token);
+
+        // Act
+        for (int i = 0; i < 12_000; i++) {
+            String desconhecido = "desconhecido-" + i;
+            assertThrows(IllegalArgumentException.class, () -> service.validarToken(desconhecido));
+        }
+        JpaFuncionario resultado = service.validarToken(token);
+
+        // Assert
+        assertEquals(funcionario.getId(), resultado.getId());
+        verify(funcionarioRepository, times(1)).findByTokenValidoComExpiracao(eq(token), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Deve invalidar cache ao desativar link")
+    void deveInvalidarCacheAoDesativarLink() {
+        // Arrange
+        String token = "valid-token";
+        funcionario.setAccessToken(token);
+        when(funcionarioRepository.findByTokenValidoComExpiracao(eq(token), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(funcionario))
+                .thenReturn(Optional.empty());
+        when(funcionarioRepository.findById(1L)).thenReturn(Optional.of(funcionario));
+        service.validarToken(token);
+
+        // Act
+        service.desativarLink(1L, 1L);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> service.validarToken(token));
+        verify(funcionarioRepository, times(2)).findByTokenValidoComExpiracao(eq(token), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Deve invalidar de novo após o commit o token lido antes do commit")
+    void deveInvalidarCacheAposCommit() {
+        // Arrange
+        funcionario.setAccessToken("token-revogado");
+        funcionario.setTokenAtivo(true);
+        when(funcionarioRepository.findById(1L)).thenReturn(Optional.of(funcionario));
+        when(funcionarioRepository.findByTokenValidoComExpiracao(eq("token-revogado"), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(funcionario))
+                .thenReturn(Optional.empty());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act: desativa e, antes do commit, uma validação concorrente lê a linha antiga
+            service.desativarLink(1L, 1L);
+            assertNotNull(service.validarToken("token-revogado"));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert: após o commit o cache não serve mais o token revogado
+        assertThrows(IllegalArgumentException.class, () -> service.validarToken("token-revogado"));
+        verify(funcionarioRepository, times(2)).findByTokenValidoComExpiracao(eq("token-revogado"),
+                any(LocalDateTime.class));
+    }
 }
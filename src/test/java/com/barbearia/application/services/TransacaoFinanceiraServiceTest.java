@@ -0,0 +1,139 @@
+package com.barbearia.application.services;
+
+import com.barbearia.application.dto.CategoriaResumoDto;
+import com.barbearia.application.dto.DespesaRequestDto;
+import com.barbearia.application.dto.ListaDespesasDto;
+import com.barbearia.application.dto.ListaReceitasExtrasDto;
+import com.barbearia.application.dto.ReceitaExtraRequestDto;
+import com.barbearia.application.dto.TransacaoFinanceiraDto;
+import com.barbearia.domain.enums.CategoriaDespesa;
+import com.barbearia.domain.enums.CategoriaReceitaExtra;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TransacaoFinanceiraService.class, LivroRazaoService.class})
+@DisplayName("TransacaoFinanceiraService - Testes de Integração")
+class TransacaoFinanceiraServiceTest {
+
+    private static final Long BARBEARIA_ID = 3L;
+    private static final LocalDate INICIO = LocalDate.parse("2025-03-01");
+    private static final LocalDate FIM = LocalDate.parse("2025-03-31");
+
+    @Autowired
+    private TransacaoFinanceiraService service;
+
+    @BeforeEach
+    void setUp() {
+        despesa(BARBEARIA_ID, "1500.00", CategoriaDespesa.ALUGUEL, "2025-03-05");
+        despesa(BARBEARIA_ID, "100.00", CategoriaDespesa.ENERGIA, "2025-03-10");
+        despesa(BARBEARIA_ID, "150.00", CategoriaDespesa.ENERGIA, "2025-03-20");
+        despesa(BARBEARIA_ID, "250.00", CategoriaDespesa.PRODUTOS, "2025-03-25");
+        // Fora do período e de outra barbearia
+        despesa(BARBEARIA_ID, "999.00", CategoriaDespesa.ALUGUEL, "2025-04-01");
+        despesa(99L, "888.00", CategoriaDespesa.ALUGUEL, "2025-03-15");
+    }
+
+    @Test
+    @DisplayName("Deve paginar despesas mantendo totais e resumo do período inteiro")
+    void devePaginarDespesasMantendoTotaisDoPeriodo() {
+        // Act
+        ListaDespesasDto primeira = service.listarDespesas(BARBEARIA_ID, INICIO, FIM, null, 0, 3);
+        ListaDespesasDto segunda = service.listarDespesas(BARBEARIA_ID, INICIO, FIM, null, 1, 3);
+
+        // Assert
+        assertEquals(0, new BigDecimal("2000.00").compareTo(primeira.total()));
+        assertEquals(4L, primeira.quantidade());
+        assertEquals(2, primeira.totalPaginas());
+        assertEquals(3, primeira.despesas().size());
+        assertEquals(LocalDate.parse("2025-03-25"), primeira.despesas().get(0).dataTransacao());
+        assertNotNull(primeira.despesas().get(0).dataCriacao());
+
+        assertEquals(1, segunda.despesas().size());
+        assertEquals(LocalDate.parse("2025-03-05"), segunda.despesas().get(0).dataTransacao());
+        assertEquals(0, new BigDecimal("2000.00").compareTo(segunda.total()));
+
+        List<CategoriaResumoDto> resumo = primeira.resumoPorCategoria();
+        assertEquals(3, resumo.size());
+        assertEquals("ALUGUEL", resumo.get(0).categoria());
+        assertEquals(0, new BigDecimal("75.00").compareTo(resumo.get(0).percentual()));
+        assertEquals(2L, resumo.get(1).quantidade());
+    }
+
+    @Test
+    @DisplayName("Filtro de categoria deve restringir página e total, mas não o resumo")
+    void filtroDeCategoriaDeveRestringirPaginaETotal() {
+        // Act
+        ListaDespesasDto resultado = service.listarDespesas(BARBEARIA_ID, INICIO, FIM,
+                CategoriaDespesa.ENERGIA);
+
+        // Assert
+        assertEquals(0, new BigDecimal("250.00").compareTo(resultado.total()));
+        assertEquals(2L, resultado.quantidade());
+        assertEquals(2, resultado.despesas().size());
+        assertTrue(resultado.despesas().stream().allMatch(d -> "ENERGIA".equals(d.categoria())));
+        assertEquals(3, resultado.resumoPorCategoria().size());
+    }
+
+    @Test
+    @DisplayName("Período sem receitas extras deve retornar lista vazia e totais zerados")
+    void periodoSemReceitasDeveRetornarTotaisZerados() {
+        // Arrange
+        TransacaoFinanceiraDto receita = service.criarReceitaExtra(BARBEARIA_ID, new ReceitaExtraRequestDto(
+                new BigDecimal("80.00"), CategoriaReceitaExtra.VENDA_PRODUTO, null,
+                LocalDate.parse("2025-05-02")));
+
+        // Act
+        ListaReceitasExtrasDto resultado = service.listarReceitasExtras(BARBEARIA_ID, INICIO, FIM, null);
+
+        // Assert
+        assertNotNull(receita.id());
+        assertEquals(0, BigDecimal.ZERO.compareTo(resultado.total()));
+        assertEquals(0L, resultado.quantidade());
+        assertEquals(0, resultado.totalPaginas());
+        assertTrue(resultado.receitas().isEmpty());
+        assertTrue(resultado.resumoPorCategoria().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Listagem sem paginação deve devolver todas as despesas do período")
+    void listagemSemPaginacaoDeveDevolverTodasAsDespesas() {
+        // Arrange: além das 4 do setUp, mais que uma página padrão
+        for (int i = 0; i < 60; i++) {
+            despesa(BARBEARIA_ID, "10.00", CategoriaDespesa.OUTROS, "2025-03-15");
+        }
+
+        // Act
+        ListaDespesasDto resultado = service.listarDespesas(BARBEARIA_ID, INICIO, FIM, null);
+
+        // Assert
+        assertEquals(64L, resultado.quantidade());
+        assertEquals(64, resultado.despesas().size());
+        assertEquals(1, resultado.totalPaginas());
+        assertEquals(0, new BigDecimal("2600.00").compareTo(resultado.total()));
+    }
+
+    @Test
+    @DisplayName("Página negativa deve lançar exceção")
+    void paginaNegativaDeveLancarExcecao() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.listarDespesas(BARBEARIA_ID, INICIO, FIM, null, -1, 10));
+    }
+
+    private void despesa(Long barbeariaId, String valor, CategoriaDespesa categoria, String data) {
+        service.criarDespesa(barbeariaId, new DespesaRequestDto(new BigDecimal(valor), categoria, null,
+                LocalDate.parse(data)));
+    }
+}
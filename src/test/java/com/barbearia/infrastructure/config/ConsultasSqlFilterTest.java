@@ -0,0 +1,65 @@
+package com.barbearia.infrastructure.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConsultasSqlFilter - Testes")
+class ConsultasSqlFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final FilterChain controllerComDuasConsultas = (request, response) -> {
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/agendamentos/{id}");
+        MonitorConsultasSql.registrar(1_000_000);
+        MonitorConsultasSql.registrar(2_000_000);
+        response.getWriter().write("{}");
+    };
+
+    @Test
+    @DisplayName("Deve devolver headers e registrar métricas pelo padrão da rota")
+    void deveDevolverHeadersERegistrarMetricas() throws Exception {
+        // Arrange
+        ConsultasSqlFilter filter = new ConsultasSqlFilter(meterRegistry, true, 30);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/agendamentos/10");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, controllerComDuasConsultas);
+
+        // Assert
+        assertEquals("2", response.getHeader(ConsultasSqlFilter.HEADER_CONSULTAS));
+        assertEquals("3.0", response.getHeader(ConsultasSqlFilter.HEADER_TEMPO));
+
+        DistributionSummary consultas = meterRegistry.get(ConsultasSqlFilter.METRICA_CONSULTAS)
+                .tag("uri", "/api/agendamentos/{id}")
+                .tag("method", "GET")
+                .summary();
+        assertEquals(1, consultas.count());
+        assertEquals(2.0, consultas.totalAmount());
+        assertEquals(0, MonitorConsultasSql.parcial().consultas());
+    }
+
+    @Test
+    @DisplayName("Não deve devolver headers quando desabilitados (produção)")
+    void naoDeveDevolverHeadersQuandoDesabilitados() throws Exception {
+        // Arrange
+        ConsultasSqlFilter filter = new ConsultasSqlFilter(meterRegistry, false, 30);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/agendamentos/10"), response,
+                controllerComDuasConsultas);
+
+        // Assert
+        assertNull(response.getHeader(ConsultasSqlFilter.HEADER_CONSULTAS));
+        assertEquals(1, meterRegistry.get(ConsultasSqlFilter.METRICA_TEMPO).timer().count());
+    }
+}
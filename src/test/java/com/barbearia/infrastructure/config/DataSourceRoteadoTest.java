@@ -0,0 +1,143 @@
+package com.barbearia.infrastructure.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DataSourceRoteado - Testes")
+class DataSourceRoteadoTest {
+
+    private MonitorAtrasoReplica monitor;
+    private SimpleMeterRegistry meterRegistry;
+    private DataSourceRoteado dataSource;
+
+    @BeforeEach
+    void setUp() {
+        monitor = mock(MonitorAtrasoReplica.class);
+        when(monitor.isDisponivel()).thenReturn(true);
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new DataSourceRoteado(h2("primario"), h2("replica"), monitor, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    @DisplayName("Transação somente leitura de service deve usar a réplica")
+    void transacaoSomenteLeituraDeServiceDeveUsarReplica() throws Exception {
+        // Arrange
+        abrirTransacao("com.barbearia.application.services.RelatorioService.obterMetricasDashboard", true);
+
+        // Act & Assert
+        assertEquals("REPLICA", bancoUsado());
+        assertEquals(1.0, meterRegistry.get("banco.roteamento.conexoes").tag("destino", "replica")
+                .counter().count());
+    }
+
+    @Test
+    @DisplayName("Transação de escrita deve usar o primário")
+    void transacaoDeEscritaDeveUsarPrimario() throws Exception {
+        // Arrange
+        abrirTransacao("com.barbearia.application.services.AgendamentoService.criarAgendamento", false);
+
+        // Act & Assert
+        assertEquals("PRIMARIO", bancoUsado());
+    }
+
+    @Test
+    @DisplayName("Leitura aberta pelo Spring Data fora de um service deve usar o primário")
+    void leituraDoRepositorioDeveUsarPrimario() throws Exception {
+        // Arrange
+        abrirTransacao("org.springframework.data.jpa.repository.support.SimpleJpaRepository.findById", true);
+
+        // Act & Assert
+        assertEquals("PRIMARIO", bancoUsado());
+    }
+
+    @Test
+    @DisplayName("Sem transação deve usar o primário")
+    void semTransacaoDeveUsarPrimario() throws Exception {
+        assertEquals("PRIMARIO", bancoUsado());
+    }
+
+    @Test
+    @DisplayName("Réplica atrasada deve devolver as leituras ao primário")
+    void replicaAtrasadaDeveDevolverLeiturasAoPrimario() throws Exception {
+        // Arrange
+        when(monitor.isDisponivel()).thenReturn(false);
+        abrirTransacao("com.barbearia.application.services.FinanceiroService.gerarRelatorioFinanceiro", true);
+
+        // Act & Assert
+        assertEquals("PRIMARIO", bancoUsado());
+    }
+
+    @Test
+    @DisplayName("MonitorAtrasoReplica deve marcar a réplica conforme o atraso tolerado")
+    void monitorDeveMarcarReplicaConformeAtraso() throws Exception {
+        // Arrange
+        DataSource replica = mock(DataSource.class);
+        Connection conexao = mock(Connection.class);
+        Statement comando = mock(Statement.class);
+        ResultSet resultado = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(conexao);
+        when(conexao.createStatement()).thenReturn(comando);
+        when(comando.executeQuery(anyString())).thenReturn(resultado);
+        when(resultado.next()).thenReturn(true);
+        when(resultado.getDouble(1)).thenReturn(0.5, 12.0);
+        SimpleMeterRegistry registro = new SimpleMeterRegistry();
+        MonitorAtrasoReplica monitorReal = new MonitorAtrasoReplica(replica, Duration.ofSeconds(5),
+                Duration.ofSeconds(5), registro);
+
+        // Act & Assert
+        monitorReal.verificar();
+        assertTrue(monitorReal.isDisponivel());
+        assertEquals(0.5, registro.get("banco.replica.atraso").gauge().value());
+
+        monitorReal.verificar();
+        assertFalse(monitorReal.isDisponivel());
+        assertEquals(0.0, registro.get("banco.replica.disponivel").gauge().value());
+
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        monitorReal.verificar();
+        assertFalse(monitorReal.isDisponivel());
+        assertEquals(-1.0, monitorReal.getAtrasoSegundos());
+    }
+
+    private void abrirTransacao(String nome, boolean somenteLeitura) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(somenteLeitura);
+        TransactionSynchronizationManager.setCurrentTransactionName(nome);
+    }
+
+    private String bancoUsado() throws SQLException {
+        try (Connection conexao = dataSource.getConnection();
+                Statement comando = conexao.createStatement();
+                ResultSet resultado = comando.executeQuery("SELECT DATABASE()")) {
+            resultado.next();
+            return resultado.getString(1);
+        }
+    }
+
+    private static DataSource h2(String nome) {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:" + nome + ";DB_CLOSE_DELAY=-1");
+        return h2;
+    }
+}
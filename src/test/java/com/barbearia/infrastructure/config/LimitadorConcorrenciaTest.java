@@ -0,0 +1,95 @@
+package com.barbearia.infrastructure.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LimitadorConcorrencia - Testes")
+class LimitadorConcorrenciaTest {
+
+    @Test
+    @DisplayName("Não deve permitir mais chamadas simultâneas que o limite")
+    void naoDevePermitirMaisChamadasQueOLimite() throws Exception {
+        // Arrange
+        LimitadorConcorrencia limitador = new LimitadorConcorrencia("teste", 3, Duration.ofSeconds(10), null);
+        AtomicInteger emAndamento = new AtomicInteger();
+        AtomicInteger maximoObservado = new AtomicInteger();
+
+        // Act
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 50; i++) {
+                executor.submit(() -> limitador.executar(() -> {
+                    maximoObservado.accumulateAndGet(emAndamento.incrementAndGet(), Math::max);
+                    Thread.sleep(5);
+                    emAndamento.decrementAndGet();
+                    return null;
+                }));
+            }
+        }
+
+        // Assert
+        assertTrue(maximoObservado.get() <= 3);
+        assertEquals(0, emAndamento.get());
+    }
+
+    @Test
+    @DisplayName("Deve recusar após a espera máxima e contar a recusa")
+    void deveRecusarAposEsperaMaxima() throws Exception {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LimitadorConcorrencia limitador = new LimitadorConcorrencia("twilio", 1, Duration.ofMillis(50), meterRegistry);
+        CountDownLatch ocupado = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        Thread ocupante = Thread.ofVirtual().start(() -> {
+            try {
+                limitador.executar(() -> {
+                    ocupado.countDown();
+                    return liberar.await(5, TimeUnit.SECONDS);
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        ocupado.await();
+
+        // Act & Assert
+        assertThrows(LimitadorConcorrencia.LimiteExcedidoException.class, limitador::adquirir);
+        assertEquals(1.0, meterRegistry.get("limitador.concorrencia.recusas").tag("nome", "twilio").counter().count());
+        assertEquals(1.0, meterRegistry.get("limitador.concorrencia.em.uso").gauge().value());
+
+        liberar.countDown();
+        ocupante.join();
+        assertEquals(0.0, meterRegistry.get("limitador.concorrencia.em.uso").gauge().value());
+    }
+
+    @Test
+    @DisplayName("DataSourceLimitado deve devolver a permissão ao fechar a conexão")
+    void dataSourceLimitadoDeveDevolverPermissaoAoFechar() throws Exception {
+        // Arrange
+        org.h2.jdbcx.JdbcDataSource h2 = new org.h2.jdbcx.JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:limitador;DB_CLOSE_DELAY=-1");
+        LimitadorConcorrencia limitador = new LimitadorConcorrencia("banco", 1, Duration.ofMillis(50), null);
+        DataSourceLimitado dataSource = new DataSourceLimitado(h2, limitador);
+
+        // Act & Assert
+        var conexao = dataSource.getConnection();
+        assertThrows(java.sql.SQLTransientConnectionException.class, dataSource::getConnection);
+
+        conexao.close();
+        conexao.close(); // fechar de novo não devolve uma segunda permissão
+
+        try (var outra = dataSource.getConnection()) {
+            assertTrue(outra.isValid(1));
+            assertThrows(java.sql.SQLTransientConnectionException.class, dataSource::getConnection);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.barbearia.infrastructure.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LimitadorTaxa - Testes")
+class LimitadorTaxaTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("Deve liberar a rajada e depois espaçar as chamadas pela taxa")
+    void deveLiberarRajadaEDepoisEspacar() {
+        // Arrange: 10 por segundo, rajada de 2
+        AtomicLong relogio = new AtomicLong();
+        LimitadorTaxa limitador = new LimitadorTaxa("teste", 10, 2, relogio::get);
+
+        // Act & Assert
+        assertEquals(0, limitador.reservar());
+        assertEquals(0, limitador.reservar());
+        assertEquals(100 * MS, limitador.reservar());
+        assertEquals(200 * MS, limitador.reservar());
+    }
+
+    @Test
+    @DisplayName("Deve repor fichas com o tempo sem passar da capacidade")
+    void deveReporFichasAteACapacidade() {
+        // Arrange
+        AtomicLong relogio = new AtomicLong();
+        LimitadorTaxa limitador = new LimitadorTaxa("teste", 10, 2, relogio::get);
+        limitador.reservar();
+        limitador.reservar();
+
+        // Act: ocioso por 10 segundos
+        relogio.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        // Assert
+        assertEquals(0, limitador.reservar());
+        assertEquals(0, limitador.reservar());
+        assertEquals(100 * MS, limitador.reservar());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar taxa ou capacidade não positivas")
+    void deveRejeitarParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new LimitadorTaxa("teste", 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new LimitadorTaxa("teste", 1, 0));
+    }
+}
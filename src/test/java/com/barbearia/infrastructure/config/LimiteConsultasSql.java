@@ -0,0 +1,59 @@
+package com.barbearia.infrastructure.config;
+
+import com.barbearia.infrastructure.config.MonitorConsultasSql.Resumo;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Utilitário de teste para fixar o número máximo de comandos SQL de uma
+ * operação (endpoint via MockMvc, service ou repositório).
+ *
+ * Requer o DataSource monitorado: em testes de slice (@DataJpaTest,
+ * @WebMvcTest) importe MonitoramentoSqlConfig.
+ *
+ * Exemplo:
+ * <pre>
+ * LimiteConsultasSql.assertMaximoConsultas(3, () ->
+ *         mockMvc.perform(get("/api/agendamentos/1")).andExpect(status().isOk()));
+ * </pre>
+ */
+public final class LimiteConsultasSql {
+
+    private LimiteConsultasSql() {
+    }
+
+    @FunctionalInterface
+    public interface Operacao {
+        void executar() throws Exception;
+    }
+
+    /**
+     * Executa a operação e falha se ela gerar mais comandos SQL que o limite.
+     *
+     * @param maximo   Máximo de comandos SQL permitidos
+     * @param operacao Operação medida
+     * @return Resumo da contagem (para asserções adicionais)
+     */
+    public static Resumo assertMaximoConsultas(int maximo, Operacao operacao) throws Exception {
+        Resumo resumo = contarConsultas(operacao);
+        if (resumo.consultas() > maximo) {
+            fail(String.format("Esperado no máximo %d comando(s) SQL, mas foram executados %d",
+                    maximo, resumo.consultas()));
+        }
+        return resumo;
+    }
+
+    /**
+     * Executa a operação e devolve quantos comandos SQL ela gerou.
+     */
+    public static Resumo contarConsultas(Operacao operacao) throws Exception {
+        MonitorConsultasSql.iniciar();
+        try {
+            operacao.executar();
+        } catch (Exception | Error e) {
+            MonitorConsultasSql.finalizar();
+            throw e;
+        }
+        return MonitorConsultasSql.finalizar();
+    }
+}
@@ -0,0 +1,94 @@
+package com.barbearia.infrastructure.config;
+
+import com.barbearia.domain.enums.TipoDocumento;
+import com.barbearia.infrastructure.config.MonitorConsultasSql.Resumo;
+import com.barbearia.infrastructure.persistence.entities.JpaBarbearia;
+import com.barbearia.infrastructure.persistence.repositories.BarbeariaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração da contagem de SQL sobre o DataSource monitorado.
+ */
+@DataJpaTest
+@Import(MonitoramentoSqlConfig.class)
+@ActiveProfiles("test")
+@DisplayName("MonitorConsultasSql - Testes de Integração")
+class MonitorConsultasSqlTest {
+
+    @Autowired
+    private BarbeariaRepository barbeariaRepository;
+
+    @BeforeEach
+    void setUp() {
+        JpaBarbearia barbearia = new JpaBarbearia();
+        barbearia.setNome("Carlos Oliveira");
+        barbearia.setEmail("carlos.oliveira@email.com");
+        barbearia.setSenha("senhaHasheada456");
+        barbearia.setTelefone("21998765432");
+        barbearia.setNomeFantasia("Barbearia Premium");
+        barbearia.setTipoDocumento(TipoDocumento.CNPJ);
+        barbearia.setDocumento("11222333000181");
+        barbearia.setEndereco("Av. Principal, 500 - Rio de Janeiro/RJ");
+        barbearia.setAtivo(true);
+        barbearia.setRole("BARBEARIA");
+        barbeariaRepository.saveAndFlush(barbearia);
+    }
+
+    @Test
+    @DisplayName("Deve contar consultas e tempo de banco de uma operação")
+    void deveContarConsultasDeUmaOperacao() throws Exception {
+        // Act
+        Resumo resumo = LimiteConsultasSql.assertMaximoConsultas(1,
+                () -> assertTrue(barbeariaRepository.findByEmail("carlos.oliveira@email.com").isPresent()));
+
+        // Assert
+        assertEquals(1, resumo.consultas());
+        assertTrue(resumo.tempoNanos() > 0);
+    }
+
+    @Test
+    @DisplayName("Deve falhar quando a operação ultrapassa o limite de consultas")
+    void deveFalharQuandoUltrapassaLimite() {
+        AssertionFailedError erro = assertThrows(AssertionFailedError.class,
+                () -> LimiteConsultasSql.assertMaximoConsultas(1, () -> {
+                    barbeariaRepository.findByEmail("carlos.oliveira@email.com");
+                    barbeariaRepository.findByTelefone("21998765432");
+                }));
+
+        assertTrue(erro.getMessage().contains("foram executados 2"));
+    }
+
+    @Test
+    @DisplayName("Deve somar consultas de contagem aninhada na contagem externa")
+    void deveSomarContagemAninhadaNaExterna() throws Exception {
+        // Act
+        Resumo externa = LimiteConsultasSql.contarConsultas(() -> {
+            barbeariaRepository.findByAtivoTrue();
+            Resumo interna = LimiteConsultasSql.contarConsultas(
+                    () -> barbeariaRepository.findByEmail("carlos.oliveira@email.com"));
+            assertEquals(1, interna.consultas());
+        });
+
+        // Assert
+        assertEquals(2, externa.consultas());
+    }
+
+    @Test
+    @DisplayName("Não deve contar consultas sem contagem ativa")
+    void naoDeveContarSemContagemAtiva() {
+        // Act
+        barbeariaRepository.findByAtivoTrue();
+
+        // Assert
+        assertEquals(0, MonitorConsultasSql.parcial().consultas());
+    }
+}
@@ -0,0 +1,80 @@
+package com.barbearia.infrastructure.exportacao;
+
+import com.barbearia.domain.enums.FormatoExportacao;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EscritorPlanilha - Testes")
+class EscritorPlanilhaTest {
+
+    @Test
+    @DisplayName("CSV deve escapar aspas, vírgulas e quebras de linha e neutralizar fórmulas")
+    void csvDeveEscaparCamposENeutralizarFormulas() throws IOException {
+        // Arrange
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        EscritorPlanilha escritor = EscritorPlanilha.para(FormatoExportacao.CSV, saida, "Teste");
+
+        // Act
+        escritor.cabecalho(List.of("ID", "Cliente", "Valor", "Data"));
+        escritor.linha(1L, "Silva, João \"Jota\"", new BigDecimal("-20.50"), LocalDateTime.of(2025, 3, 1, 9, 30));
+        escritor.linha(2L, "=HYPERLINK(\"x\")", null, LocalDate.of(2025, 3, 2));
+        escritor.concluir();
+
+        // Assert
+        String csv = saida.toString(StandardCharsets.UTF_8);
+        assertEquals("\uFEFFID,Cliente,Valor,Data\r\n"
+                + "1,\"Silva, João \"\"Jota\"\"\",-20.50,2025-03-01 09:30:00\r\n"
+                + "2,\"'=HYPERLINK(\"\"x\"\")\",,2025-03-02\r\n", csv);
+    }
+
+    @Test
+    @DisplayName("XLSX deve gerar pacote válido com linhas inline e datas seriais")
+    void xlsxDeveGerarPacoteComLinhas() throws IOException {
+        // Arrange
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        EscritorPlanilha escritor = EscritorPlanilha.para(FormatoExportacao.XLSX, saida, "Agendamentos");
+
+        // Act
+        escritor.cabecalho(List.of("ID", "Cliente", "Data"));
+        escritor.linha(7L, "Ana & <Bia>", LocalDate.of(2025, 1, 1));
+        escritor.concluir();
+
+        // Assert
+        Map<String, String> partes = lerZip(saida.toByteArray());
+        assertTrue(partes.keySet().containsAll(List.of("[Content_Types].xml", "_rels/.rels", "xl/workbook.xml",
+                "xl/_rels/workbook.xml.rels", "xl/styles.xml", "xl/worksheets/sheet1.xml")));
+        assertTrue(partes.get("xl/workbook.xml").contains("name=\"Agendamentos\""));
+        String planilha = partes.get("xl/worksheets/sheet1.xml");
+        assertTrue(planilha.contains("<t xml:space=\"preserve\">Ana &amp; &lt;Bia&gt;</t>"));
+        // 2025-01-01 é o dia 45658 no calendário do Excel
+        assertTrue(planilha.contains("<c s=\"2\"><v>45658</v></c>"));
+        assertTrue(planilha.endsWith("</sheetData></worksheet>"));
+        assertEquals(2, planilha.split("<row>", -1).length - 1);
+    }
+
+    private static Map<String, String> lerZip(byte[] bytes) throws IOException {
+        Map<String, String> partes = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bytes))) {
+            ZipEntry entrada;
+            while ((entrada = zip.getNextEntry()) != null) {
+                partes.put(entrada.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return partes;
+    }
+}
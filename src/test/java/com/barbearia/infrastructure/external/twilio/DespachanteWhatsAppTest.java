@@ -0,0 +1,151 @@
+package com.barbearia.infrastructure.external.twilio;
+
+import com.barbearia.infrastructure.config.LimitadorConcorrencia.LimiteExcedidoException;
+import com.barbearia.infrastructure.metrics.MetricasNegocio;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DespachanteWhatsApp - Testes")
+class DespachanteWhatsAppTest {
+
+    private static final String REMETENTE = "+14155238886";
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MetricasNegocio metricas = new MetricasNegocio(meterRegistry, 16);
+    private DespachanteWhatsApp despachante;
+
+    @AfterEach
+    void tearDown() {
+        if (despachante != null) {
+            despachante.close();
+        }
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("Deve agrupar mensagens para o mesmo telefone dentro da janela")
+    void deveAgruparMensagensDoMesmoTelefone() throws Exception {
+        // Arrange
+        TwilioFalso twilio = new TwilioFalso(100);
+        despachante = criar(twilio, Duration.ofMillis(200), 10, 20);
+
+        // Act
+        List<CompletableFuture<Void>> envios = List.of(
+                despachante.enfileirar(REMETENTE, "5511911111111", "Agendamento das 09:00 cancelado"),
+                despachante.enfileirar(REMETENTE, "5511922222222", "Agendamento das 09:30 cancelado"),
+                despachante.enfileirar(REMETENTE, "5511911111111", "Agendamento das 10:00 cancelado"),
+                despachante.enfileirar(REMETENTE, "5511911111111", "Agendamento das 11:00 cancelado"));
+        CompletableFuture.allOf(envios.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(2, twilio.recebidas().size());
+        List<TwilioFalso.MensagemRecebida> agrupadas = twilio.recebidasPor("5511911111111");
+        assertEquals(1, agrupadas.size());
+        assertEquals(String.join(DespachanteWhatsApp.SEPARADOR,
+                "Agendamento das 09:00 cancelado", "Agendamento das 10:00 cancelado",
+                "Agendamento das 11:00 cancelado"), agrupadas.get(0).corpo());
+        assertEquals(2.0, meterRegistry.get("barbearia.notificacao.agrupadas").counter().count());
+        assertEquals(4, meterRegistry.get("barbearia.notificacao.envio").tag("resultado", "enviada").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite de mensagens por segundo do remetente")
+    void deveRespeitarLimiteDoRemetente() throws Exception {
+        // Arrange: Twilio aceita 20 mensagens/s por remetente
+        TwilioFalso twilio = new TwilioFalso(20);
+        despachante = criar(twilio, Duration.ofMillis(10), 100, 20);
+        List<CompletableFuture<Void>> envios = new ArrayList<>();
+
+        // Act: oito clientes diferentes de uma vez (dia cancelado)
+        long inicio = System.nanoTime();
+        for (int i = 0; i < 8; i++) {
+            envios.add(despachante.enfileirar(REMETENTE, "551190000000" + i, "Seu horário foi cancelado"));
+        }
+        CompletableFuture.allOf(envios.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        long duracaoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+
+        // Assert
+        assertEquals(8, twilio.recebidas().size());
+        assertEquals(0, twilio.recusadasPorTaxa());
+        assertTrue(duracaoMs >= 300, "8 mensagens a 20/s levam cerca de 350 ms, levou " + duracaoMs);
+    }
+
+    @Test
+    @DisplayName("Deve recusar mensagens com a fila cheia após a espera máxima")
+    void deveRecusarComFilaCheia() throws Exception {
+        // Arrange: sem limite de taxa no Twilio, os envios presos saem juntos
+        TwilioFalso twilio = new TwilioFalso(1_000_000);
+        twilio.bloquear();
+        despachante = new DespachanteWhatsApp(twilio, new DespachanteWhatsApp.Configuracao(
+                Duration.ofMillis(10), 2, Duration.ofMillis(50), 100, 10, 3, Duration.ofMillis(10)),
+                executor, null, metricas);
+
+        // Act
+        CompletableFuture<Void> primeira = despachante.enfileirar(REMETENTE, "5511911111111", "Primeira");
+        CompletableFuture<Void> segunda = despachante.enfileirar(REMETENTE, "5511922222222", "Segunda");
+        CompletableFuture<Void> terceira = despachante.enfileirar(REMETENTE, "5511933333333", "Terceira");
+
+        // Assert
+        ExecutionException erro = assertThrows(ExecutionException.class, () -> terceira.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(LimiteExcedidoException.class, erro.getCause());
+        assertEquals(2, despachante.pendentes());
+        assertEquals(2.0, meterRegistry.get("barbearia.notificacao.fila").gauge().value());
+
+        twilio.liberar();
+        CompletableFuture.allOf(primeira, segunda).get(5, TimeUnit.SECONDS);
+        assertEquals(0, despachante.pendentes());
+        assertEquals(2, twilio.recebidas().size());
+    }
+
+    @Test
+    @DisplayName("Deve tentar novamente quando o Twilio falhar")
+    void deveTentarNovamenteQuandoTwilioFalhar() throws Exception {
+        // Arrange
+        TwilioFalso twilio = new TwilioFalso(100);
+        twilio.falharProximas(2);
+        despachante = criar(twilio, Duration.ofMillis(10), 10, 100);
+
+        // Act
+        despachante.enfileirar(REMETENTE, "5511911111111", "Lembrete").get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(1, twilio.recebidas().size());
+        assertEquals(2.0, meterRegistry.get("barbearia.notificacao.retentativas").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve dividir grupos acima do limite de caracteres do WhatsApp sem quebrar mensagens")
+    void deveDividirGruposGrandes() {
+        // Arrange
+        List<DespachanteWhatsApp.Pedido> pedidos = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            pedidos.add(new DespachanteWhatsApp.Pedido("x".repeat(700), null));
+        }
+
+        // Act
+        List<List<DespachanteWhatsApp.Pedido>> partes = DespachanteWhatsApp.dividir(pedidos);
+
+        // Assert
+        assertEquals(List.of(2, 2, 1), partes.stream().map(List::size).toList());
+    }
+
+    private DespachanteWhatsApp criar(TwilioFalso twilio, Duration janela, int capacidade, double porSegundo) {
+        return new DespachanteWhatsApp(twilio, new DespachanteWhatsApp.Configuracao(
+                janela, capacidade, Duration.ofSeconds(1), porSegundo, 1, 3, Duration.ofMillis(10)),
+                executor, null, metricas);
+    }
+}
@@ -0,0 +1,97 @@
+package com.barbearia.infrastructure.external.twilio;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Twilio local para os testes: nenhuma mensagem sai da máquina.
+ *
+ * Como a API real, aceita no máximo mensagensPorSegundo mensagens por
+ * segundo por número remetente e responde 429 (código 20429) acima disso.
+ * Também permite simular falhas e envios lentos.
+ */
+class TwilioFalso implements EnvioTwilio {
+
+    /**
+     * Erro devolvido pela API (status HTTP e código Twilio)
+     */
+    static class ErroTwilio extends RuntimeException {
+
+        ErroTwilio(int status, int codigo, String mensagem) {
+            super(String.format("HTTP %d (%d): %s", status, codigo, mensagem));
+        }
+    }
+
+    record MensagemRecebida(String remetente, String destino, String corpo, long recebidaEmNanos) {
+    }
+
+    private final double mensagensPorSegundo;
+    private final List<MensagemRecebida> recebidas = new CopyOnWriteArrayList<>();
+    private final Map<String, Long> ultimoEnvioPorRemetente = new ConcurrentHashMap<>();
+    private final AtomicInteger recusadasPorTaxa = new AtomicInteger();
+    private final AtomicInteger falhasProgramadas = new AtomicInteger();
+    private volatile CountDownLatch bloqueio;
+
+    TwilioFalso(double mensagensPorSegundo) {
+        this.mensagensPorSegundo = mensagensPorSegundo;
+    }
+
+    @Override
+    public String enviar(String remetente, String destino, String corpo) throws Exception {
+        CountDownLatch bloqueioAtual = bloqueio;
+        if (bloqueioAtual != null && !bloqueioAtual.await(10, TimeUnit.SECONDS)) {
+            throw new ErroTwilio(504, 20504, "Tempo esgotado");
+        }
+        if (falhasProgramadas.getAndUpdate(restantes -> Math.max(0, restantes - 1)) > 0) {
+            throw new ErroTwilio(503, 20503, "Serviço indisponível");
+        }
+
+        long agora = System.nanoTime();
+        long intervaloMinimo = (long) (TimeUnit.SECONDS.toNanos(1) / mensagensPorSegundo);
+        // Tolerância de 10% para a imprecisão do relógio
+        long limite = agora - intervaloMinimo * 9 / 10;
+        Long anterior = ultimoEnvioPorRemetente.put(remetente, agora);
+        if (anterior != null && anterior > limite) {
+            recusadasPorTaxa.incrementAndGet();
+            throw new ErroTwilio(429, 20429, "Too Many Requests");
+        }
+
+        recebidas.add(new MensagemRecebida(remetente, destino, corpo, agora));
+        return "SM" + recebidas.size();
+    }
+
+    /**
+     * As próximas quantidade chamadas falham com 503.
+     */
+    void falharProximas(int quantidade) {
+        falhasProgramadas.set(quantidade);
+    }
+
+    /**
+     * Segura os envios até liberar() ser chamado.
+     */
+    void bloquear() {
+        bloqueio = new CountDownLatch(1);
+    }
+
+    void liberar() {
+        bloqueio.countDown();
+    }
+
+    List<MensagemRecebida> recebidas() {
+        return recebidas;
+    }
+
+    List<MensagemRecebida> recebidasPor(String destino) {
+        return recebidas.stream().filter(mensagem -> mensagem.destino().equals(destino)).toList();
+    }
+
+    int recusadasPorTaxa() {
+        return recusadasPorTaxa.get();
+    }
+}
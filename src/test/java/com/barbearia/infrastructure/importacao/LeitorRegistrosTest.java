@@ -0,0 +1,80 @@
+package com.barbearia.infrastructure.importacao;
+
+import com.barbearia.domain.enums.FormatoImportacao;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LeitorRegistros - Testes")
+class LeitorRegistrosTest {
+
+    @Test
+    @DisplayName("CSV com BOM e ponto e vírgula deve ler campos entre aspas com quebra de linha")
+    void csvDeveLerCamposEntreAspas() throws IOException {
+        // Arrange
+        String csv = "\uFEFFData_Hora;Cliente_Nome;Observacoes\r\n"
+                + "2024-03-10 14:30;\"Silva; João\";\"Prefere \"\"máquina 2\"\"\nna lateral\"\r\n"
+                + "\r\n"
+                + "2024-03-11 09:00;Maria;\r\n"
+                + "2024-03-12 10:00;Ana;x;y\r\n";
+        LeitorRegistros leitor = leitor(FormatoImportacao.CSV, csv);
+
+        // Act
+        RegistroImportacao primeiro = leitor.proximo();
+        RegistroImportacao segundo = leitor.proximo();
+        RegistroImportacao terceiro = leitor.proximo();
+
+        // Assert
+        assertEquals(2, primeiro.linha());
+        assertEquals("2024-03-10 14:30", primeiro.valor("data_hora"));
+        assertEquals("Silva; João", primeiro.valor("cliente_nome"));
+        assertEquals("Prefere \"máquina 2\"\nna lateral", primeiro.valor("observacoes"));
+
+        assertEquals(5, segundo.linha());
+        assertEquals("Maria", segundo.valor("cliente_nome"));
+        assertNull(segundo.valor("observacoes"));
+
+        assertEquals(6, terceiro.linha());
+        assertNotNull(terceiro.erro());
+        assertNull(leitor.proximo());
+    }
+
+    @Test
+    @DisplayName("NDJSON deve ler um objeto por linha e recusar linhas inválidas")
+    void ndjsonDeveLerUmObjetoPorLinha() throws IOException {
+        // Arrange
+        String ndjson = "{\"Valor\": 150.5, \"categoria\": \"ALUGUEL\", \"descricao\": null}\n"
+                + "\n"
+                + "{\"valor\": \n"
+                + "[1, 2]\n";
+        LeitorRegistros leitor = leitor(FormatoImportacao.NDJSON, ndjson);
+
+        // Act
+        RegistroImportacao primeiro = leitor.proximo();
+        RegistroImportacao segundo = leitor.proximo();
+        RegistroImportacao terceiro = leitor.proximo();
+
+        // Assert
+        assertEquals(1, primeiro.linha());
+        assertEquals("150.5", primeiro.valor("valor"));
+        assertEquals("ALUGUEL", primeiro.valor("categoria"));
+        assertNull(primeiro.valor("descricao"));
+
+        assertEquals(3, segundo.linha());
+        assertTrue(segundo.erro().startsWith("JSON inválido"));
+        assertEquals(4, terceiro.linha());
+        assertNotNull(terceiro.erro());
+        assertNull(leitor.proximo());
+    }
+
+    private static LeitorRegistros leitor(FormatoImportacao formato, String conteudo) {
+        return LeitorRegistros.para(formato,
+                new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8)), new ObjectMapper());
+    }
+}
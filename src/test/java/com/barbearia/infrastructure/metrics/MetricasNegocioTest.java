@@ -0,0 +1,95 @@
+package com.barbearia.infrastructure.metrics;
+
+import com.barbearia.infrastructure.metrics.MetricasNegocio.ResultadoAgendamento;
+import com.barbearia.infrastructure.metrics.MetricasNegocio.ResultadoNotificacao;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MetricasNegocio - Testes")
+class MetricasNegocioTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MetricasNegocio metricas;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metricas = new MetricasNegocio(meterRegistry, 16);
+    }
+
+    @Test
+    @DisplayName("Deve agrupar barbearias em faixas para manter a cardinalidade baixa")
+    void deveAgruparBarbeariasEmFaixas() {
+        // Act
+        for (long barbeariaId = 1; barbeariaId <= 1_000; barbeariaId++) {
+            metricas.registrarConflito(barbeariaId, "cliente");
+        }
+
+        // Assert
+        assertEquals(16, meterRegistry.find("barbearia.agendamento.conflitos").counters().size());
+        assertEquals("01", metricas.faixaBarbearia(17L));
+        assertEquals(MetricasNegocio.FAIXA_DESCONHECIDA, metricas.faixaBarbearia(null));
+    }
+
+    @Test
+    @DisplayName("Deve registrar agendamento com o resultado como tag")
+    void deveRegistrarAgendamentoComResultado() {
+        // Act
+        metricas.registrarAgendamento(metricas.iniciar(), 3L, ResultadoAgendamento.CRIADO);
+        metricas.registrarAgendamento(metricas.iniciar(), 3L, ResultadoAgendamento.CONFLITO);
+        metricas.registrarAgendamento(metricas.iniciar(), null, ResultadoAgendamento.REJEITADO);
+
+        // Assert
+        assertEquals(1, meterRegistry.get("barbearia.agendamento.criacao")
+                .tag("barbearia.faixa", "03").tag("resultado", "criado").timer().count());
+        assertEquals(1, meterRegistry.get("barbearia.agendamento.criacao")
+                .tag("resultado", "conflito").timer().count());
+        assertEquals(1, meterRegistry.get("barbearia.agendamento.criacao")
+                .tag("barbearia.faixa", "desconhecida").tag("resultado", "rejeitado").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve contar retentativas e falhas de notificação")
+    void deveContarRetentativasEFalhasDeNotificacao() {
+        // Act
+        metricas.registrarNotificacao(metricas.iniciar(), "whatsapp", ResultadoNotificacao.ENVIADA, 1);
+        metricas.registrarNotificacao(metricas.iniciar(), "whatsapp", ResultadoNotificacao.ENVIADA, 2);
+        metricas.registrarNotificacao(metricas.iniciar(), "whatsapp", ResultadoNotificacao.FALHA, 3);
+
+        // Assert
+        assertEquals(3, meterRegistry.get("barbearia.notificacao.envio").timers().stream()
+                .mapToLong(t -> t.count()).sum());
+        assertEquals(3.0, meterRegistry.get("barbearia.notificacao.retentativas").counter().count());
+        assertEquals(1.0, meterRegistry.get("barbearia.notificacao.falhas").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve separar acertos e faltas de cache")
+    void deveSepararAcertosEFaltasDeCache() {
+        // Act
+        metricas.registrarCache("catalogo", false);
+        metricas.registrarCache("catalogo", true);
+        metricas.registrarCache("catalogo", true);
+
+        // Assert
+        assertEquals(2.0, meterRegistry.get("barbearia.cache.consultas")
+                .tag("cache", "catalogo").tag("resultado", "acerto").counter().count());
+        assertEquals(1.0, meterRegistry.get("barbearia.cache.consultas")
+                .tag("cache", "catalogo").tag("resultado", "falta").counter().count());
+    }
+
+    @Test
+    @DisplayName("Instância desligada não deve falhar")
+    void instanciaDesligadaNaoDeveFalhar() {
+        MetricasNegocio desligadas = MetricasNegocio.desligadas();
+
+        assertDoesNotThrow(() -> {
+            desligadas.registrarDisponibilidade(desligadas.iniciar(), 1L, 10, 2);
+            desligadas.registrarCache("catalogo", true);
+        });
+    }
+}
@@ -0,0 +1,92 @@
+package com.barbearia.infrastructure.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ParticoesAgendamentoJob - Testes")
+class ParticoesAgendamentoJobTest {
+
+    private static final String CRIAR = "SELECT agendamentos_criar_particoes(?, ?)";
+    private static final String ARQUIVAR = "SELECT agendamentos_arquivar_particoes(?)";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(jdbcTemplate.execute(ArgumentMatchers.<ConnectionCallback<String>>any()))
+                .thenReturn("PostgreSQL");
+        lenient().when(jdbcTemplate.queryForObject(contains("advisory"), eq(Boolean.class))).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Deve criar as partições futuras e arquivar os meses fora do horizonte")
+    void deveCriarParticoesEArquivarMesesAntigos() {
+        // Arrange
+        ParticoesAgendamentoJob job = new ParticoesAgendamentoJob(jdbcTemplate, 3, 24);
+        when(jdbcTemplate.queryForObject(eq(CRIAR), eq(Integer.class), any(), any())).thenReturn(1);
+        when(jdbcTemplate.queryForObject(eq(ARQUIVAR), eq(Integer.class), any())).thenReturn(1);
+
+        // Act
+        job.executar(LocalDate.of(2026, 10, 18));
+
+        // Assert
+        verify(jdbcTemplate).queryForObject(CRIAR, Integer.class, LocalDate.of(2026, 10, 1), LocalDate.of(2027, 1, 1));
+        verify(jdbcTemplate).queryForObject(ARQUIVAR, Integer.class, LocalDate.of(2024, 10, 1));
+    }
+
+    @Test
+    @DisplayName("Horizonte zero não deve arquivar")
+    void horizonteZeroNaoDeveArquivar() {
+        // Arrange
+        ParticoesAgendamentoJob job = new ParticoesAgendamentoJob(jdbcTemplate, 3, 0);
+
+        // Act
+        job.executar(LocalDate.of(2026, 10, 18));
+
+        // Assert
+        verify(jdbcTemplate).queryForObject(eq(CRIAR), eq(Integer.class), any(), any());
+        verify(jdbcTemplate, never()).queryForObject(eq(ARQUIVAR), eq(Integer.class), any());
+    }
+
+    @Test
+    @DisplayName("Não deve executar quando outra instância tem a trava")
+    void naoDeveExecutarSemTrava() {
+        // Arrange
+        ParticoesAgendamentoJob job = new ParticoesAgendamentoJob(jdbcTemplate, 3, 24);
+        when(jdbcTemplate.queryForObject(contains("advisory"), eq(Boolean.class))).thenReturn(false);
+
+        // Act
+        job.executar(LocalDate.of(2026, 10, 18));
+
+        // Assert
+        verify(jdbcTemplate, never()).queryForObject(eq(CRIAR), eq(Integer.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("Fora do PostgreSQL não deve fazer nada")
+    void foraDoPostgresNaoDeveFazerNada() {
+        // Arrange
+        when(jdbcTemplate.execute(ArgumentMatchers.<ConnectionCallback<String>>any())).thenReturn("H2");
+        ParticoesAgendamentoJob job = new ParticoesAgendamentoJob(jdbcTemplate, 3, 24);
+
+        // Act
+        job.executar(LocalDate.of(2026, 10, 18));
+
+        // Assert
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Boolean.class));
+    }
+}